@@ -228,6 +228,32 @@ public class PythonDMLScript {
 		LOG.debug("Finished writing FrameBlock column #" + col + " to pipe #" + id + ". Total bytes: " + bytes);
 	}
 
+	public String getSharedMemoryDir() {
+		return UnixPipeUtils.getSharedMemoryDir();
+	}
+
+	public MatrixBlock startReadingMbFromSharedMemory(String path, int rlen, int clen, ValueType type) throws IOException {
+		LOG.debug("trying to read matrix from "+path+" with "+rlen+" rows and "+clen+" columns. Total size: "+((long) rlen * clen));
+		return UnixPipeUtils.readMatrixFromSharedMemory(path, rlen, clen, type);
+	}
+
+	public long startWritingMbToSharedMemory(String path, MatrixBlock mb) throws IOException {
+		long bytes = UnixPipeUtils.writeNumpyArrayToSharedMemory(path, ValueType.FP64, mb);
+		LOG.debug("Writing of " + bytes +" Bytes to Python ["+path+"] finished");
+		return bytes;
+	}
+
+	public void startReadingColFromSharedMemory(String path, FrameBlock fb, int rows, int totalBytes, int col, ValueType type) throws IOException {
+		Array<?> arr = UnixPipeUtils.readFrameColumnFromSharedMemory(path, rows, totalBytes, type);
+		fb.setColumn(col, arr);
+		// inplace update the schema for cases: int8 -> int32
+		fb.getSchema()[col] = arr.getValueType();
+	}
+
+	public long startWritingColToSharedMemory(String path, FrameBlock fb, int col) throws IOException {
+		return UnixPipeUtils.writeFrameColumnToSharedMemory(path, fb.getColumn(col), fb.getSchema()[col]);
+	}
+
 	public void closePipes() throws IOException {
 		LOG.debug("Closing all pipes in Java");
 		for (BufferedInputStream pipe : fromPython.values())
@@ -63,6 +63,7 @@ import org.apache.sysds.runtime.io.MatrixReaderFactory;
 import org.apache.sysds.runtime.lineage.Lineage;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.transform.TfUtils;
+import org.apache.sysds.runtime.transform.encode.EncoderCache;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
 import org.apache.sysds.runtime.util.CollectionUtils;
 import org.apache.sysds.runtime.util.DataConverter;
@@ -90,6 +91,8 @@ public class Connection implements Closeable
 {
 	private final DMLConfig _dmlconf;
 	private final CompilerConfig _cconf;
+	//transform encoders of pinned meta frames (if CACHE_TRANSFORM_ENCODERS is enabled)
+	private final EncoderCache _encoderCache = new EncoderCache();
 	private static FileSystem fs = null;
 	
 	/**
@@ -161,6 +164,16 @@ public class Connection implements Closeable
 		setLocalConfigs();
 	}
 
+	/**
+	 * Gets the cache of transform encoders shared by all prepared scripts of this connection,
+	 * which is only used if {@code CACHE_TRANSFORM_ENCODERS} is enabled and cleared on close.
+	 * 
+	 * @return the encoder cache
+	 */
+	public EncoderCache getEncoderCache() {
+		return _encoderCache;
+	}
+
 	/**
 	 * Sets compiler configs.
 	 * @param activate activate or disable
@@ -179,6 +192,24 @@ public class Connection implements Closeable
 	 */
 	public void setStatistics(boolean stats) { DMLScript.STATISTICS = stats; }
 
+	/**
+	 * Sets a boolean flag indicating if prepared scripts should be executed in
+	 * low-latency mode for repeated scoring of small inputs. In this mode, dynamically 
+	 * recompiled plans are reused if the input sizes match a previous call, and array 
+	 * inputs of {@link PreparedScript#executeScript(Map)} are converted into pooled 
+	 * blocks. The option is false by default and applies to all scripts of this connection.
+	 * 
+	 * Note that this mode does not add a separate buffer pool bypass, because JMLC connections
+	 * already disable caching of matrices and frames, and it does not pool intermediates or
+	 * inputs passed as {@link org.apache.sysds.runtime.matrix.data.MatrixBlock} (these are
+	 * bound as given); only array inputs are converted into pooled blocks.
+	 * 
+	 * @param flag boolean value with true indicating low-latency execution
+	 */
+	public void setLowLatency(boolean flag) {
+		_cconf.set(ConfigType.LOW_LATENCY_EXECUTION, flag);
+	}
+
 	/**
 	 * Sets a boolean flag indicating if lineage trace should be captured 
 	 * @param lt boolean value with true indicating lineage should be captured 
@@ -285,7 +316,7 @@ public class Connection implements Closeable
 		}
 		
 		//return newly create precompiled script 
-		return new PreparedScript(rtprog, inputs, outputs, _dmlconf, _cconf);
+		return new PreparedScript(rtprog, inputs, outputs, _dmlconf, _cconf, _encoderCache);
 	}
 	
 	/**
@@ -296,6 +327,8 @@ public class Connection implements Closeable
 	public void close() {
 		//clear thread-local configurations
 		ConfigurationManager.clearLocalConfigs();
+		//release the cached transform encoders and their meta frames
+		_encoderCache.clear();
 		if( ConfigurationManager.isCodegenEnabled() )
 			SpoofCompiler.cleanupCodeGenerator();
 	}
@@ -24,6 +24,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.ConfigurableAPI;
 import org.apache.sysds.api.DMLException;
+import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.CompilerConfig;
@@ -37,29 +38,37 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.FunctionProgramBlock;
 import org.apache.sysds.runtime.controlprogram.LocalVariableMap;
 import org.apache.sysds.runtime.controlprogram.Program;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.instructions.cp.BooleanObject;
 import org.apache.sysds.runtime.instructions.cp.Data;
 import org.apache.sysds.runtime.instructions.cp.DoubleObject;
 import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.runtime.instructions.cp.ListObject;
 import org.apache.sysds.runtime.instructions.cp.ScalarObject;
 import org.apache.sysds.runtime.instructions.cp.StringObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.transform.encode.EncoderCache;
 import org.apache.sysds.runtime.util.DataConverter;
 import org.apache.sysds.utils.Explain;
 import org.apache.sysds.utils.Statistics;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * Representation of a prepared (precompiled) DML/PyDML script.
@@ -80,6 +89,13 @@ public class PreparedScript implements ConfigurableAPI
 	private final CompilerConfig _cconf;
 	private HashMap<String, String> _outVarLineage;
 	
+	//pooled input blocks of low-latency execution (shared by clones)
+	private static final int MAX_POOLED_BLOCKS = 32;
+	private final ArrayBlockingQueue<MatrixBlock> _inBlockPool;
+	
+	//transform encoders of the connection (shared by clones)
+	private final EncoderCache _encoderCache;
+	
 	private PreparedScript(PreparedScript that) {
 		//shallow copy, except for a separate symbol table
 		//and related meta data of reused inputs
@@ -93,6 +109,8 @@ public class PreparedScript implements ConfigurableAPI
 		_inVarReuse = new LocalVariableMap(that._inVarReuse);
 		_dmlconf = that._dmlconf;
 		_cconf = that._cconf;
+		_inBlockPool = that._inBlockPool;
+		_encoderCache = that._encoderCache;
 	}
 	
 	/**
@@ -103,8 +121,10 @@ public class PreparedScript implements ConfigurableAPI
 	 * @param outputs output variables to register
 	 * @param dmlconf dml configuration 
 	 * @param cconf compiler configuration
+	 * @param encoderCache transform encoder cache of the connection
 	 */
-	protected PreparedScript( Program prog, String[] inputs, String[] outputs, DMLConfig dmlconf, CompilerConfig cconf ) {
+	protected PreparedScript( Program prog, String[] inputs, String[] outputs, DMLConfig dmlconf, CompilerConfig cconf,
+		EncoderCache encoderCache ) {
 		_prog = prog;
 		_vars = new LocalVariableMap();
 		_outVarLineage = new HashMap<>();
@@ -123,6 +143,8 @@ public class PreparedScript implements ConfigurableAPI
 		//on execute, which allows different threads creating/executing the script
 		_dmlconf = dmlconf;
 		_cconf = cconf;
+		_inBlockPool = new ArrayBlockingQueue<>(MAX_POOLED_BLOCKS);
+		_encoderCache = encoderCache;
 	}
 	
 	@Override
@@ -292,19 +314,14 @@ public class PreparedScript implements ConfigurableAPI
 		if( !_inVarnames.contains(varname) )
 			throw new DMLException("Unspecified input variable: "+varname);
 				
-		int blocksize = ConfigurationManager.getBlocksize();
-		
 		//create new matrix object
-		MatrixCharacteristics mc = new MatrixCharacteristics(matrix.getNumRows(), matrix.getNumColumns(), blocksize, blocksize);
-		MetaDataFormat meta = new MetaDataFormat(mc, FileFormat.BINARY);
-		MatrixObject mo = new MatrixObject(ValueType.FP64, OptimizerUtils.getUniqueTempFileName(), meta);
-		mo.acquireModify(matrix); 
-		mo.release();
+		MatrixObject mo = createMatrixObject(matrix);
 		
 		//put create matrix wrapper into symbol table
 		_vars.put(varname, mo);
 		if( reuse ) {
 			mo.enableCleanup(false); //prevent cleanup
+			invalidateEncoders(_inVarReuse.get(varname));
 			_inVarReuse.put(varname, mo);
 		}
 	}
@@ -393,16 +410,13 @@ public class PreparedScript implements ConfigurableAPI
 			throw new DMLException("Unspecified input variable: "+varname);
 		
 		//create new frame object
-		MatrixCharacteristics mc = new MatrixCharacteristics(frame.getNumRows(), frame.getNumColumns(), -1, -1);
-		MetaDataFormat meta = new MetaDataFormat(mc, FileFormat.BINARY);
-		FrameObject fo = new FrameObject(OptimizerUtils.getUniqueTempFileName(), meta);
-		fo.acquireModify(frame);
-		fo.release();
+		FrameObject fo = createFrameObject(frame);
 		
 		//put create matrix wrapper into symbol table
 		_vars.put(varname, fo);
 		if( reuse ) {
 			fo.enableCleanup(false); //prevent cleanup
+			invalidateEncoders(_inVarReuse.get(varname));
 			_inVarReuse.put(varname, fo);
 		}
 	}
@@ -422,8 +436,37 @@ public class PreparedScript implements ConfigurableAPI
 	 * useful if you want to maintain an independent cache of weights
 	 * and allow the JVM to garbage collect under memory pressure.
 	 */
-	public void clearPinnedData() { _inVarReuse.removeAll(); }
+	public void clearPinnedData() {
+		for( String varname : _inVarReuse.keySet() )
+			invalidateEncoders(_inVarReuse.get(varname));
+		_inVarReuse.removeAll();
+	}
+	
+	private void invalidateEncoders(Data pinned) {
+		//cached transform encoders reference the pinned meta frames by identity
+		if( _encoderCache != null && pinned instanceof CacheableData )
+			_encoderCache.invalidate(((CacheableData<?>) pinned).acquireReadAndRelease());
+	}
 
+	private static MatrixObject createMatrixObject(MatrixBlock matrix) {
+		int blocksize = ConfigurationManager.getBlocksize();
+		MatrixCharacteristics mc = new MatrixCharacteristics(matrix.getNumRows(), matrix.getNumColumns(), blocksize, blocksize);
+		MetaDataFormat meta = new MetaDataFormat(mc, FileFormat.BINARY);
+		MatrixObject mo = new MatrixObject(ValueType.FP64, OptimizerUtils.getUniqueTempFileName(), meta);
+		mo.acquireModify(matrix); 
+		mo.release();
+		return mo;
+	}
+	
+	private static FrameObject createFrameObject(FrameBlock frame) {
+		MatrixCharacteristics mc = new MatrixCharacteristics(frame.getNumRows(), frame.getNumColumns(), -1, -1);
+		MetaDataFormat meta = new MetaDataFormat(mc, FileFormat.BINARY);
+		FrameObject fo = new FrameObject(OptimizerUtils.getUniqueTempFileName(), meta);
+		fo.acquireModify(frame);
+		fo.release();
+		return fo;
+	}
+	
 	/**
 	 * Executes the prepared script over the bound inputs, creating the
 	 * result variables according to bound and registered outputs.
@@ -434,34 +477,141 @@ public class PreparedScript implements ConfigurableAPI
 		//add reused variables
 		_vars.putAll(_inVarReuse);
 		
+		return execute(_vars, _outVarLineage);
+	}
+	
+	/**
+	 * Executes the prepared script over the given inputs and the inputs bound
+	 * with reuse (e.g., model weights), creating the result variables according 
+	 * to registered outputs. In contrast to {@link #executeScript()}, this 
+	 * method does not modify the state of the prepared script but uses a 
+	 * separate symbol table per call. Hence, multiple threads can concurrently 
+	 * execute a single prepared script, sharing its compiled program and reused 
+	 * inputs, without the need for cloning. Reused inputs must not be rebound 
+	 * while such executions are running, and no lineage traces are kept.
+	 * 
+	 * @param inputs map of input variable names and values, which are either 
+	 *   data objects, {@code MatrixBlock}, {@code FrameBlock}, {@code double[][]}, 
+	 *   {@code String[][]}, or boxed scalars (boolean, int, long, double, string)
+	 * @return ResultVariables object encapsulating output results
+	 */
+	public ResultVariables executeScript(Map<String, ?> inputs) {
+		//create per-call symbol table of reused and given inputs
+		LocalVariableMap vars = new LocalVariableMap(_inVarReuse);
+		vars.setRegisteredOutputs(_outVarnames);
+		
+		//in low-latency mode, convert array inputs into pooled blocks
+		//(not with lineage, which might cache the blocks across calls)
+		List<MatrixBlock> pooled = _cconf.getBool(ConfigType.LOW_LATENCY_EXECUTION)
+			&& !DMLScript.LINEAGE ? new ArrayList<>() : null;
+		for( Entry<String, ?> e : inputs.entrySet() ) {
+			if( !_inVarnames.contains(e.getKey()) )
+				throw new DMLException("Unspecified input variable: "+e.getKey());
+			vars.put(e.getKey(), (pooled != null && e.getValue() instanceof double[][]) ?
+				createMatrixObject(createPooledBlock((double[][]) e.getValue(), pooled)) :
+				createData(e.getKey(), e.getValue()));
+		}
+		
+		ResultVariables ret = execute(vars, null);
+		if( pooled != null )
+			releasePooledBlocks(pooled, vars);
+		return ret;
+	}
+	
+	private MatrixBlock createPooledBlock(double[][] data, List<MatrixBlock> pooled) {
+		int rows = data.length;
+		int cols = (rows > 0) ? data[0].length : 0;
+		MatrixBlock mb = _inBlockPool.poll();
+		if( mb == null )
+			mb = new MatrixBlock(rows, cols, false);
+		else
+			mb.reset(rows, cols, false); //reuse dense allocation
+		mb.init(data, rows, cols);
+		mb.examSparsity();
+		pooled.add(mb);
+		return mb;
+	}
+	
+	private void releasePooledBlocks(List<MatrixBlock> pooled, LocalVariableMap outputs) {
+		//collect output blocks, which might alias the inputs (e.g., Y = X)
+		List<MatrixBlock> out = new ArrayList<>();
+		for( Entry<String, Data> e : outputs.entrySet() ) {
+			if( e.getValue() instanceof MatrixObject )
+				out.add(((MatrixObject) e.getValue()).acquireReadAndRelease());
+			else if( e.getValue() instanceof ListObject )
+				return; //conservatively keep all inputs
+		}
+		//return unreferenced blocks to the pool
+		for( MatrixBlock mb : pooled )
+			if( out.stream().noneMatch(o -> isShared(o, mb)) )
+				_inBlockPool.offer(mb);
+	}
+	
+	private static boolean isShared(MatrixBlock a, MatrixBlock b) {
+		DenseBlock da = a.getDenseBlock();
+		DenseBlock db = b.getDenseBlock();
+		//off-heap blocks do not expose their arrays, and are conservatively not pooled
+		if( da instanceof DenseBlockOffHeap || db instanceof DenseBlockOffHeap )
+			return true;
+		return a == b || (da != null && db != null
+			&& (da == db || da.values(0) == db.values(0)));
+	}
+	
+	private static Data createData(String varname, Object value) {
+		if( value instanceof Data )
+			return (Data) value;
+		else if( value instanceof MatrixBlock )
+			return createMatrixObject((MatrixBlock) value);
+		else if( value instanceof FrameBlock )
+			return createFrameObject((FrameBlock) value);
+		else if( value instanceof double[][] )
+			return createMatrixObject(DataConverter.convertToMatrixBlock((double[][]) value));
+		else if( value instanceof String[][] )
+			return createFrameObject(DataConverter.convertToFrameBlock((String[][]) value));
+		else if( value instanceof Boolean )
+			return new BooleanObject((Boolean) value);
+		else if( value instanceof Integer || value instanceof Long )
+			return new IntObject(((Number) value).longValue());
+		else if( value instanceof Double )
+			return new DoubleObject((Double) value);
+		else if( value instanceof String )
+			return new StringObject((String) value);
+		throw new DMLException("Unsupported input type for variable "+varname+": "
+			+ (value == null ? "null" : value.getClass().getSimpleName()));
+	}
+	
+	private ResultVariables execute(LocalVariableMap vars, HashMap<String, String> outVarLineage) {
 		//set thread-local configurations
 		ConfigurationManager.setLocalConfig(_dmlconf);
 		ConfigurationManager.setLocalConfig(_cconf);
 		
-		//create and populate execution context
-		ExecutionContext ec = ExecutionContextFactory.createContext(_vars, _prog);
-		
-		//core execute runtime program
-		_prog.execute(ec);
-		
-		//cleanup unnecessary outputs
-		_vars.removeAllNotIn(_outVarnames);
-		
-		//construct results
-		ResultVariables rvars = new ResultVariables();
-		for( String ovar : _outVarnames ) {
-			Data tmpVar = _vars.get(ovar);
-			if( tmpVar != null ) {
-				rvars.addResult(ovar, tmpVar);
-				if (ec.getLineage() != null)
-					_outVarLineage.put(ovar, Explain.explain(ec.getLineage().get(ovar)));
+		try {
+			//create and populate execution context
+			ExecutionContext ec = ExecutionContextFactory.createContext(vars, _prog);
+			ec.setEncoderCache(_encoderCache);
+			
+			//core execute runtime program
+			_prog.execute(ec);
+			
+			//cleanup unnecessary outputs
+			vars.removeAllNotIn(_outVarnames);
+			
+			//construct results
+			ResultVariables rvars = new ResultVariables();
+			for( String ovar : _outVarnames ) {
+				Data tmpVar = vars.get(ovar);
+				if( tmpVar != null ) {
+					rvars.addResult(ovar, tmpVar);
+					if (outVarLineage != null && ec.getLineage() != null)
+						outVarLineage.put(ovar, Explain.explain(ec.getLineage().get(ovar)));
+				}
 			}
+			return rvars;
+		}
+		finally {
+			//clear thread-local configurations
+			ConfigurationManager.clearLocalConfigs();
 		}
-		
-		//clear thread-local configurations
-		ConfigurationManager.clearLocalConfigs();
-
-		return rvars;
 	}
 	
 	/**
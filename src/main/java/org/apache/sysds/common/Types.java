@@ -877,6 +877,7 @@ public interface Types {
 		HDF5,   // Hierarchical Data Format (HDF)
 		COG,   // Cloud-optimized GeoTIFF
 		PARQUET, // parquet format for columnar data storage
+		NPY,    // NumPy binary format (.npy/.npz)
 		UNKNOWN;
 		
 		public boolean isIJV() {
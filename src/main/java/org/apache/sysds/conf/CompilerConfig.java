@@ -77,6 +77,14 @@ public class CompilerConfig
 		//code generation enabled 
 		CODEGEN_ENABLED,
 		
+		//Reuse built transformapply encoders across calls with the same meta 
+		//frame object (enabled by jmlc for repeated scoring of small batches)
+		CACHE_TRANSFORM_ENCODERS,
+		
+		//Low-latency execution of small inputs (set by jmlc on demand): reuse of 
+		//recompiled plans for matching input sizes and pooled input blocks
+		LOW_LATENCY_EXECUTION,
+		
 		//federated runtime conversion
 		FEDERATED_RUNTIME,
 		// resource optimization mode
@@ -109,6 +117,8 @@ public class CompilerConfig
 		_bmap.put(ConfigType.REJECT_READ_WRITE_UNKNOWNS, true);
 		_bmap.put(ConfigType.MLCONTEXT, false);
 		_bmap.put(ConfigType.CODEGEN_ENABLED, false);
+		_bmap.put(ConfigType.CACHE_TRANSFORM_ENCODERS, false);
+		_bmap.put(ConfigType.LOW_LATENCY_EXECUTION, false);
 		_bmap.put(ConfigType.RESOURCE_OPTIMIZATION, false);
 		
 		_imap = new HashMap<>();
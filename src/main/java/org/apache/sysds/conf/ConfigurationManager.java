@@ -200,6 +200,10 @@ public class ConfigurationManager{
 		return getCompilerConfigFlag(ConfigType.ALLOW_DYN_RECOMPILATION);
 	}
 	
+	public static boolean isLowLatencyExecution() {
+		return getCompilerConfigFlag(ConfigType.LOW_LATENCY_EXECUTION);
+	}
+	
 	public static boolean isParallelMatrixOperations() {
 		return getCompilerConfigFlag(ConfigType.PARALLEL_CP_MATRIX_OPERATIONS);
 	}
@@ -253,6 +257,26 @@ public class ConfigurationManager{
 	public static CompressConfig getCompressConfig(){
 		return CompressConfig.valueOf(getDMLConfig().getTextValue(DMLConfig.COMPRESSED_LINALG).toUpperCase());
 	}
+
+	public static boolean isOOCCompressionEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.OOC_COMPRESSION);
+	}
+
+	public static boolean isFrameUtf8StringsEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.FRAME_UTF8_STRINGS);
+	}
+
+	public static boolean isSpillCodecEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.CACHING_SPILL_CODEC);
+	}
+
+	public static String getOOCEvictionPolicy(){
+		return getDMLConfig().getTextValue(DMLConfig.OOC_EVICTION_POLICY);
+	}
+
+	public static int getOOCReadAhead(){
+		return getDMLConfig().getIntValue(DMLConfig.OOC_READAHEAD);
+	}
 	
 	public static int getFederatedTimeout(){
 		return getDMLConfig().getIntValue(DMLConfig.FEDERATED_TIMEOUT);
@@ -262,6 +286,14 @@ public class ConfigurationManager{
 		return getDMLConfig().getBooleanValue(DMLConfig.USE_SSL_FEDERATED_COMMUNICATION);
 	}
 	
+	public static boolean isFederatedPipelining(){
+		return getDMLConfig().getBooleanValue(DMLConfig.FEDERATED_PIPELINING);
+	}
+
+	public static long getFederatedChunkSize(){
+		return (long) (getDMLConfig().getDoubleValue(DMLConfig.FEDERATED_CHUNKSIZE) * 1024 * 1024);
+	}
+
 	public static boolean isFederatedReadCacheEnabled(){
 		return getDMLConfig().getBooleanValue(DMLConfig.FEDERATED_READCACHE);
 	}
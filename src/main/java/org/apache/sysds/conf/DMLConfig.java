@@ -98,6 +98,8 @@ public class DMLConfig
 	public static final String CODEGEN_OPTIMIZER    = "sysds.codegen.optimizer"; //see SpoofCompiler.PlanSelector
 	public static final String CODEGEN_PLANCACHE    = "sysds.codegen.plancache"; //boolean
 	public static final String CODEGEN_LITERALS     = "sysds.codegen.literals"; //1..heuristic, 2..always
+	public static final String CODEGEN_CLASSCACHE   = "sysds.codegen.classcache"; //local dir of compiled classes, none..disabled
+	public static final String CODEGEN_CLASSCACHE_SIZE = "sysds.codegen.classcache.size"; //max size in MB
 	public static final String STATS_MAX_WRAP_LEN   = "sysds.stats.maxWrapLength"; //int
 	public static final String AVAILABLE_GPUS       = "sysds.gpu.availableGPUs"; // String to specify which GPUs to use (a range, all GPUs, comma separated list or a specific GPU)
 	public static final String SYNCHRONIZE_GPU      = "sysds.gpu.sync.postProcess"; // boolean: whether to synchronize GPUs after every instruction
@@ -108,8 +110,17 @@ public class DMLConfig
 	public static final String LOCAL_SPARK_NUM_THREADS = "sysds.local.spark.number.threads"; // the number of threads allowed to be used in the local spark configuration, default is * to enable use of all threads.
 	public static final String LINEAGECACHESPILL    = "sysds.lineage.cachespill"; // boolean: whether to spill cache entries to disk
 	public static final String COMPILERASSISTED_RW  = "sysds.lineage.compilerassisted"; // boolean: whether to apply compiler assisted rewrites
+	public static final String LINEAGECACHE_PERSIST_DIR   = "sysds.lineage.persistdir"; // string: directory of the persistent lineage cache (disabled if empty)
+	public static final String LINEAGECACHE_PERSIST_LIMIT = "sysds.lineage.persistlimit"; // int: max size of the persistent lineage cache in MB
 	public static final String BUFFERPOOL_LIMIT     = "sysds.caching.bufferpoollimit"; // max buffer pool size in percentage
 	public static final String MEMORY_MANAGER       = "sysds.caching.memorymanager"; // static or unified memory manager
+	public static final String CACHING_OFFHEAP      = "sysds.caching.offheap"; // boolean: keep dense blocks of the buffer pool off-heap
+	public static final String CACHING_MMAP         = "sysds.caching.mmap"; // boolean: evict dense blocks in a memory-mappable layout
+	public static final String CACHING_SPILL_CODEC  = "sysds.caching.spillcodec"; // boolean: encode evicted and OOC-spilled blocks with the adaptive block codec
+	public static final String FRAME_UTF8_STRINGS   = "sysds.frame.utf8strings"; // boolean: store string columns of read frames as UTF-8 buffers
+	public static final String OOC_COMPRESSION      = "sysds.ooc.compression"; // boolean: keep compressible OOC stream blocks compressed in cache and spill
+	public static final String OOC_EVICTION_POLICY  = "sysds.ooc.eviction.policy"; // string: lru, scan, or cost
+	public static final String OOC_READAHEAD        = "sysds.ooc.readahead"; // int: number of cached stream blocks to prefetch ahead of sequential consumers
 	
 	// Fraction of available memory to use. The available memory is computer when the GPUContext is created
 	// to handle the tradeoff on calling cudaMemGetInfo too often.
@@ -127,6 +138,8 @@ public class DMLConfig
 	public static final String FEDERATED_PAR_CONN = "sysds.federated.par_conn";
 	public static final String FEDERATED_READCACHE = "sysds.federated.readcache";
 	public static final String FEDERATED_COMPRESSION = "sysds.federated.compression";
+	public static final String FEDERATED_PIPELINING = "sysds.federated.pipelining"; // boolean, pooled and pipelined connections
+	public static final String FEDERATED_CHUNKSIZE = "sysds.federated.chunksize"; // MB, streamed response chunks (<=0 disabled)
 	public static final String PRIVACY_CONSTRAINT_MOCK = "sysds.federated.priv_mock";
 	/** Trigger frequency of the collecting and parsing statistics process on registered workers for monitoring in seconds */
 	public static final String FEDERATED_MONITOR_FREQUENCY = "sysds.federated.monitorFreq";
@@ -181,12 +194,23 @@ public class DMLConfig
 		_defaultVals.put(CODEGEN_OPTIMIZER,      PlanSelector.FUSE_COST_BASED_V2.name());
 		_defaultVals.put(CODEGEN_PLANCACHE,      "true" );
 		_defaultVals.put(CODEGEN_LITERALS,       "1" );
+		_defaultVals.put(CODEGEN_CLASSCACHE,     "none" );
+		_defaultVals.put(CODEGEN_CLASSCACHE_SIZE, "128" );
 		_defaultVals.put(NATIVE_BLAS,            "none" );
 		_defaultVals.put(NATIVE_BLAS_DIR,        "none" );
 		_defaultVals.put(LINEAGECACHESPILL,      "true" );
 		_defaultVals.put(COMPILERASSISTED_RW,    "true" );
+		_defaultVals.put(LINEAGECACHE_PERSIST_DIR,   "" );
+		_defaultVals.put(LINEAGECACHE_PERSIST_LIMIT, "4096" );
 		_defaultVals.put(BUFFERPOOL_LIMIT,       "15"); // % of total heap
 		_defaultVals.put(MEMORY_MANAGER,         "static"); // static/unified partitioning of heap
+		_defaultVals.put(CACHING_OFFHEAP,        "false" );
+		_defaultVals.put(CACHING_MMAP,           "false" );
+		_defaultVals.put(CACHING_SPILL_CODEC,    "false" );
+		_defaultVals.put(OOC_COMPRESSION,        "false" );
+		_defaultVals.put(OOC_EVICTION_POLICY,    "lru" );
+		_defaultVals.put(FRAME_UTF8_STRINGS,     "false" );
+		_defaultVals.put(OOC_READAHEAD,          "4" );
 		_defaultVals.put(PRINT_GPU_MEMORY_INFO,  "false" );
 		_defaultVals.put(EVICTION_SHADOW_BUFFERSIZE,  "0.0" );
 		_defaultVals.put(STATS_MAX_WRAP_LEN,     "30" );
@@ -209,6 +233,8 @@ public class DMLConfig
 		_defaultVals.put(FEDERATED_READCACHE,    "true"); // vcores
 		_defaultVals.put(FEDERATED_MONITOR_FREQUENCY, "3");
 		_defaultVals.put(FEDERATED_COMPRESSION, "none");
+		_defaultVals.put(FEDERATED_PIPELINING,  "false");
+		_defaultVals.put(FEDERATED_CHUNKSIZE,   "64");
 		_defaultVals.put(PRIVACY_CONSTRAINT_MOCK, null);
 		_defaultVals.put(ASYNC_PREFETCH,   "false" );
 		_defaultVals.put(ASYNC_SPARK_BROADCAST,  "false" );
@@ -461,11 +487,13 @@ public class DMLConfig
 			COMPRESSED_SAMPLING_RATIO, COMPRESSED_SOFT_REFERENCE_COUNT,
 			COMPRESSED_COCODE, COMPRESSED_TRANSPOSE, COMPRESSED_TRANSFORMENCODE, DAG_LINEARIZATION,
 			CODEGEN, CODEGEN_API, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
+			CODEGEN_CLASSCACHE, CODEGEN_CLASSCACHE_SIZE,
 			STATS_MAX_WRAP_LEN, LINEAGECACHESPILL, COMPILERASSISTED_RW, BUFFERPOOL_LIMIT, MEMORY_MANAGER,
-			PRINT_GPU_MEMORY_INFO, AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, GPU_RULE_BASED_PLACEMENT,
+			OOC_COMPRESSION, OOC_EVICTION_POLICY, OOC_READAHEAD, FRAME_UTF8_STRINGS, PRINT_GPU_MEMORY_INFO, AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, GPU_RULE_BASED_PLACEMENT,
 			FLOATING_POINT_PRECISION, GPU_EVICTION_POLICY, LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE,
 			GPU_MEMORY_ALLOCATOR, GPU_MEMORY_UTILIZATION_FACTOR, USE_SSL_FEDERATED_COMMUNICATION,
 			DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT, FEDERATED_TIMEOUT, FEDERATED_MONITOR_FREQUENCY, FEDERATED_COMPRESSION,
+			FEDERATED_PIPELINING, FEDERATED_CHUNKSIZE,
 			ASYNC_PREFETCH, ASYNC_SPARK_BROADCAST, ASYNC_SPARK_CHECKPOINT, IO_COMPRESSION_CODEC
 		}; 
 		
@@ -230,6 +230,10 @@ public class DataOp extends Hop {
 		return _paramIndexMap.get(name);
 	}
 	
+	public boolean hasParameter(String name) {
+		return _paramIndexMap.containsKey(name);
+	}
+	
 	public void setOnlyRDD(boolean flag) {
 		_hasOnlyRDD = flag;
 	}
@@ -581,6 +585,19 @@ public class DataOp extends Hop {
 		return ret;
 	}
 
+	/**
+	 * Add a named input parameter, which is appended to the list of inputs
+	 * and registered in the parameter index map.
+	 * 
+	 * @param inputName The name of the input to add
+	 * @param input The input hop
+	 */
+	public void addInput(String inputName, Hop input) {
+		_paramIndexMap.put(inputName, _input.size());
+		_input.add(input);
+		input._parent.add(this);
+	}
+
 	/**
 	 * Remove an input from the list of inputs and from the parameter index map.
 	 * Parameter index map values higher than the index of the removed input
@@ -402,9 +402,12 @@ public class FunctionOp extends MultiThreadedHop
 			// check if there is sufficient memory to execute this function
 			double mem = getMemEstimate(); // obtain memory estimates for all (e.g., used in parfor)
 			if(isBuiltinFunction && getFunctionName().equalsIgnoreCase(Opcodes.TRANSFORMENCODE.toString()) ) {
-				_etype = ((_etypeForced==ExecType.SPARK 
-					|| (mem >= OptimizerUtils.getLocalMemBudget() && OptimizerUtils.isSparkExecutionMode())) ? 
-					ExecType.SPARK : ExecType.CP);
+				if(_etypeForced == ExecType.OOC)
+					_etype = ExecType.OOC;
+				else
+					_etype = ((_etypeForced==ExecType.SPARK 
+						|| (mem >= OptimizerUtils.getLocalMemBudget() && OptimizerUtils.isSparkExecutionMode())) ? 
+						ExecType.SPARK : ExecType.CP);
 			}
 			else if(isBuiltinFunction && (getFunctionName().equalsIgnoreCase(Opcodes.LSTM.toString()) || getFunctionName().equalsIgnoreCase(Opcodes.LSTM_BACKWARD.toString()))) {
 				_etype = DMLScript.USE_ACCELERATOR ? ExecType.GPU : ExecType.CP;
@@ -216,6 +216,12 @@ public class OptimizerUtils
 	 */
 	public static boolean ALLOW_SPLIT_HOP_DAGS = true;
 	
+	/**
+	 * Enables a specific hop dag rewrite that pushes constant column ranges of right indexing
+	 * into persistent parquet matrix reads, which then only decode the selected columns.
+	 */
+	public static boolean ALLOW_PARQUET_COLUMN_PROJECTION = true;
+	
 	/**
 	 * Enables a specific rewrite that enables update in place for loop variables that are
 	 * only read/updated via cp leftindexing.
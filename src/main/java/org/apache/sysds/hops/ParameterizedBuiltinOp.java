@@ -288,7 +288,7 @@ public class ParameterizedBuiltinOp extends MultiThreadedHop {
 		Hop marginHop = getParameterHop("margin");
 		Hop selectHop = getParameterHop("select");
 		
-		if( et == ExecType.CP )
+		if( et == ExecType.CP || et == ExecType.OOC )
 		{
 			ParameterizedBuiltin pbilop = new ParameterizedBuiltin(inputlops, _op, getDataType(), getValueType(), et);
 			setOutputDimensions(pbilop);
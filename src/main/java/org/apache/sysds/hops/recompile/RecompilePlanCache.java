@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.hops.recompile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.sysds.common.Types.Direction;
+import org.apache.sysds.common.Types.OpOp1;
+import org.apache.sysds.hops.AggUnaryOp;
+import org.apache.sysds.hops.Hop;
+import org.apache.sysds.hops.UnaryOp;
+import org.apache.sysds.parser.StatementBlock;
+import org.apache.sysds.runtime.controlprogram.LocalVariableMap;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.Data;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+
+/**
+ * Cache of dynamically recompiled instructions of a single statement block,
+ * keyed by the tid as well as the sizes, sparsity classes, and scalar values 
+ * of all live-in variables. In low-latency mode (e.g., JMLC scoring of small batches), this 
+ * cache allows skipping repeated recompilation if the input sizes match 
+ * a previously compiled plan.
+ * 
+ * Blocks with data-dependent literal replacement (as.scalar, full aggregates
+ * over matrix reads) are never cached because the plan would depend on the 
+ * cell values; the same applies for live-in variables other than matrices,
+ * frames, tensors and scalars (e.g., lists).
+ */
+public class RecompilePlanCache 
+{
+	//max number of plans per block (e.g., for loop-variant scalars)
+	private static final int MAX_ENTRIES = 16;
+	
+	private final StatementBlock _sb;
+	private final boolean _cacheable;
+	private final ConcurrentHashMap<String, ArrayList<Instruction>> _plans;
+	
+	public RecompilePlanCache(StatementBlock sb) {
+		_sb = sb;
+		_cacheable = isSizeOnlyRecompile(sb.getHops());
+		_plans = new ConcurrentHashMap<>();
+	}
+	
+	/**
+	 * Creates the cache key for the given live variables, or null if
+	 * the recompiled plan might depend on more than sizes and scalars.
+	 * 
+	 * @param vars live variables
+	 * @param tid thread id
+	 * @return key or null if not cacheable
+	 */
+	public String createKey(LocalVariableMap vars, long tid) {
+		if( !_cacheable )
+			return null;
+		StringBuilder sb = new StringBuilder();
+		sb.append(tid);
+		for( String varname : _sb.variablesRead().getVariableNames() ) {
+			Data dat = vars.get(varname);
+			sb.append('|');
+			if( dat == null )
+				continue;
+			else if( dat instanceof CacheableData ) {
+				DataCharacteristics dc = ((CacheableData<?>) dat).getDataCharacteristics();
+				sb.append(dc.getRows()).append('x').append(dc.getCols())
+					.append('x').append(getSparsityClass(dc));
+			}
+			else if( dat instanceof ScalarObject ) {
+				ScalarObject so = (ScalarObject) dat;
+				sb.append(so.getValueType().ordinal())
+					.append(':').append(so.getStringValue());
+			}
+			else
+				return null;
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Obtains a coarse sparsity class instead of the exact number of non-zeros,
+	 * which covers all nnz-dependent decisions of the dynamic rewrites and 
+	 * operator selection (unknown, empty, fully dense, sparse or dense format).
+	 * Note that rewrites on the exact nnz (e.g., sum(X!=0)) rely on full 
+	 * aggregates and are hence excluded from caching in general.
+	 * 
+	 * @param dc data characteristics
+	 * @return sparsity class
+	 */
+	private static char getSparsityClass(DataCharacteristics dc) {
+		long nnz = dc.getNonZeros();
+		if( nnz < 0 )
+			return 'u';
+		else if( nnz == 0 )
+			return 'e';
+		else if( nnz == dc.getLength() )
+			return 'f';
+		return MatrixBlock.evalSparseFormatInMemory(
+			dc.getRows(), dc.getCols(), nnz) ? 's' : 'd';
+	}
+	
+	public ArrayList<Instruction> get(String key) {
+		return (key != null) ? _plans.get(key) : null;
+	}
+	
+	public void put(String key, ArrayList<Instruction> inst) {
+		if( key != null && _plans.size() < MAX_ENTRIES )
+			_plans.putIfAbsent(key, inst);
+	}
+	
+	public int size() {
+		return _plans.size();
+	}
+	
+	private static boolean isSizeOnlyRecompile(ArrayList<Hop> hops) {
+		if( hops == null )
+			return false;
+		HashSet<Long> memo = new HashSet<>();
+		for( Hop hop : hops )
+			if( !rIsSizeOnlyRecompile(hop, memo) )
+				return false;
+		return true;
+	}
+	
+	private static boolean rIsSizeOnlyRecompile(Hop hop, HashSet<Long> memo) {
+		if( !memo.add(hop.getHopID()) )
+			return true;
+		//literal replacement of matrix values (see LiteralReplacement)
+		if( hop instanceof UnaryOp && ((UnaryOp)hop).getOp() == OpOp1.CAST_AS_SCALAR
+			&& hop.getInput().get(0).getDataType().isMatrix() )
+			return false;
+		if( hop instanceof AggUnaryOp && ((AggUnaryOp)hop).getDirection() == Direction.RowCol
+			&& hop.getInput().get(0).getDataType().isMatrix() )
+			return false;
+		for( Hop c : hop.getInput() )
+			if( !rIsSizeOnlyRecompile(c, memo) )
+				return false;
+		return true;
+	}
+}
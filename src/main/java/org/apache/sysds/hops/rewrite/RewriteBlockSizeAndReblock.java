@@ -81,7 +81,7 @@ public class RewriteBlockSizeAndReblock extends HopRewriteRule
 		{
 			DataOp dop = (DataOp) hop;
 			
-			if( DMLScript.USE_OOC && dop.getOp() == OpOpData.PERSISTENTREAD ) {
+			if( DMLScript.USE_OOC && dop.getOp() == OpOpData.PERSISTENTREAD && dop.getDataType() == DataType.MATRIX ) {
 				dop.setRequiresReblock(true);
 				dop.setBlocksize(blocksize);
 			}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.hops.rewrite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.OpOp1;
+import org.apache.sysds.common.Types.OpOpData;
+import org.apache.sysds.hops.DataOp;
+import org.apache.sysds.hops.Hop;
+import org.apache.sysds.hops.IndexingOp;
+import org.apache.sysds.hops.LiteralOp;
+import org.apache.sysds.parser.DataExpression;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
+
+/**
+ * Rule: InjectParquetColumnProjection. If a persistent parquet matrix read is only
+ * consumed by right indexing operations with constant column ranges (and nrow), we
+ * push the union of these column ranges into the read, which then only decodes the
+ * selected column chunks, and shift the column ranges of all indexing operations
+ * accordingly. For example, X = read(f, format="parquet"); Y = X[,2:4] reads only
+ * the three columns 2-4 of the input file.
+ */
+public class RewriteInjectParquetColumnProjection extends HopRewriteRule
+{
+	@Override
+	public ArrayList<Hop> rewriteHopDAGs(ArrayList<Hop> roots, ProgramRewriteStatus state) {
+		if( roots == null )
+			return null;
+
+		//collect all candidate persistent reads
+		List<DataOp> reads = new ArrayList<>();
+		for( Hop h : roots )
+			collectParquetMatrixReads(h, reads);
+		Hop.resetVisitStatus(roots);
+
+		//inject column projections where applicable
+		for( DataOp read : reads )
+			injectColumnProjection(read);
+
+		return roots;
+	}
+
+	@Override
+	public Hop rewriteHopDAG(Hop root, ProgramRewriteStatus state) {
+		//do nothing, persistent reads do not occur in predicates
+		return root;
+	}
+
+	private static void collectParquetMatrixReads(Hop hop, List<DataOp> reads) {
+		if( hop.isVisited() )
+			return;
+
+		//process children
+		for( Hop c : hop.getInput() )
+			collectParquetMatrixReads(c, reads);
+
+		//process current hop
+		if( HopRewriteUtils.isData(hop, OpOpData.PERSISTENTREAD) && hop.getDataType().isMatrix()
+			&& ((DataOp)hop).getFileFormat() == FileFormat.PARQUET && hop.dimsKnown()
+			&& !((DataOp)hop).hasParameter(DataExpression.PARQUET_COLUMNS) )
+		{
+			reads.add((DataOp)hop);
+		}
+
+		hop.setVisited();
+	}
+
+	private static void injectColumnProjection(DataOp read) {
+		//check that all consumers are right indexing w/ constant column ranges or nrow
+		List<IndexingOp> ixops = new ArrayList<>();
+		long lower = Long.MAX_VALUE, upper = Long.MIN_VALUE;
+		for( Hop p : read.getParent() ) {
+			if( HopRewriteUtils.isUnary(p, OpOp1.NROW) )
+				continue;
+			if( !(p instanceof IndexingOp) || p.getInput(0) != read
+				|| !(p.getInput(3) instanceof LiteralOp) || !(p.getInput(4) instanceof LiteralOp) )
+				return;
+			for( int i = 1; i < 5; i++ )
+				if( p.getInput(i) == read )
+					return;
+			long cl = HopRewriteUtils.getIntValueSafe(p.getInput(3));
+			long cu = HopRewriteUtils.getIntValueSafe(p.getInput(4));
+			if( cl < 1 || cu < cl || cu > read.getDim2() )
+				return;
+			ixops.add((IndexingOp) p);
+			lower = Math.min(lower, cl);
+			upper = Math.max(upper, cu);
+		}
+		if( ixops.isEmpty() || (lower == 1 && upper == read.getDim2()) )
+			return;
+
+		//inject column projection into the persistent read
+		read.addInput(DataExpression.PARQUET_COLUMNS,
+			new LiteralOp(FileFormatPropertiesParquet.toProjectionString(lower, upper)));
+		read.setDim2(upper - lower + 1);
+		read.setNnz(-1);
+
+		//shift column ranges of all right indexing operations
+		for( IndexingOp ix : ixops ) {
+			Hop cl = ix.getInput(3), cu = ix.getInput(4);
+			HopRewriteUtils.replaceChildReference(ix, cl,
+				new LiteralOp(HopRewriteUtils.getIntValueSafe(cl) - lower + 1), 3, false);
+			HopRewriteUtils.replaceChildReference(ix, cu,
+				new LiteralOp(HopRewriteUtils.getIntValueSafe(cu) - lower + 1), 4, true);
+			HopRewriteUtils.cleanupUnreferenced(cl, cu);
+		}
+
+		LOG.debug("Applied injectParquetColumnProjection (line " + read.getBeginLine() + "): "
+			+ read.getFileName() + " columns " + lower + ":" + upper);
+	}
+}
@@ -29,6 +29,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.common.Types.ExecType;
 import org.apache.sysds.parser.DataExpression;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
 
 /**
  * Lop to represent data objects. Data objects represent matrices, vectors, 
@@ -448,6 +449,13 @@ public class Data extends Lop
 				sb.append( createVarHDF5Helper() );
 			}
 
+			// Format-specific properties (column projection of matrix reads)
+			if ( oparams.getFormat() == FileFormat.PARQUET && getDataType() == DataType.MATRIX ) {
+				Data columns = (Data) getNamedInputLop(DataExpression.PARQUET_COLUMNS);
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( (columns != null) ? columns.getStringValue() : FileFormatPropertiesParquet.NO_PROJECTION );
+			}
+
 			// Frame-specific properties
 			if( getDataType()==DataType.FRAME ) {
 				Data schema = (Data) getNamedInputLop(DataExpression.SCHEMAPARAM);
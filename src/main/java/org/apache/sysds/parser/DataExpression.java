@@ -19,6 +19,7 @@
 
 package org.apache.sysds.parser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -46,6 +47,7 @@ import org.apache.sysds.parser.dml.CustomErrorListener;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.io.FileFormatPropertiesMM;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.NpyHeader;
 import org.apache.sysds.runtime.meta.MetaDataAll;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
@@ -114,6 +116,9 @@ public class DataExpression extends DataIdentifier
 
 	// Parameter names relevant to reading/writing dataset name/hdf5 files
 	public static final String HDF5_DATASET_NAME = "dataset";
+
+	// Parameter name of column projections into parquet matrix reads (injected by rewrite)
+	public static final String PARQUET_COLUMNS = "columns";
 	
 	public static final String DELIM_SPARSE = "sparse";  // applicable only for write
 	
@@ -1031,6 +1036,34 @@ public class DataExpression extends DataIdentifier
 					shouldReadMTD = false;
 				}
 			}
+
+			// check if file is NPY format (by file extension)
+			if (formatTypeString == null && shouldReadMTD) {
+				formatTypeString = MetaDataAll.checkHasNPYFormat(inputFileName);
+				if (formatTypeString != null) {
+					addVarParam(FORMAT_TYPE, new StringIdentifier(formatTypeString, this));
+					configObj.setFormatTypeString(formatTypeString);
+					inferredFormatType = true;
+				}
+			}
+
+			if (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.NPY.toString())
+				&& HDFSTool.existsFileOnHDFS(inputFileName)) {
+				// get size information from the self-describing npy header (no metadata file required)
+				shouldReadMTD = false;
+				try {
+					NpyHeader header = NpyHeader.read(inputFileName);
+					if( (getVarParam(READROWPARAM) != null && Long.parseLong(getVarParam(READROWPARAM).toString()) != header.getNumRows())
+						|| (getVarParam(READCOLPARAM) != null && Long.parseLong(getVarParam(READCOLPARAM).toString()) != header.getNumColumns()) )
+						raiseValidateError("NPY file: invalid specified dimensions vs " + header, conditional);
+					addVarParam(READROWPARAM, new IntIdentifier(header.getNumRows(), this));
+					addVarParam(READCOLPARAM, new IntIdentifier(header.getNumColumns(), this));
+					configObj.setDimensions(header.getNumRows(), header.getNumColumns());
+				}
+				catch(IOException ex) {
+					raiseValidateError("Failed to read npy header of " + inputFileName + ": " + ex.getMessage(), conditional);
+				}
+			}
 			
 			if (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.MM.toString())){
 				/*
@@ -1178,6 +1211,10 @@ public class DataExpression extends DataIdentifier
 
 			boolean isCOG = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.COG.toString()));
 
+			boolean isParquet = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.PARQUET.toString()));
+
+			boolean isNPY = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.NPY.toString()));
+
 			dataTypeString = (getVarParam(DATATYPEPARAM) == null) ? null : getVarParam(DATATYPEPARAM).toString();
 			
 			if ( dataTypeString == null || dataTypeString.equalsIgnoreCase(Statement.MATRIX_DATA_TYPE) 
@@ -1202,7 +1239,7 @@ public class DataExpression extends DataIdentifier
 				// initialize size of target data identifier to UNKNOWN
 				getOutput().setDimensions(-1, -1);
 				
-				if (!isCSV && !isLIBSVM && !isHDF5 && !isCOG && ConfigurationManager.getCompilerConfig()
+				if (!isCSV && !isLIBSVM && !isHDF5 && !isCOG && !isParquet && !isNPY && ConfigurationManager.getCompilerConfig()
 						.getBool(ConfigType.REJECT_READ_WRITE_UNKNOWNS) //skip check for csv/libsvm format / jmlc api
 					&& (getVarParam(READROWPARAM) == null || getVarParam(READCOLPARAM) == null) ) {
 						raiseValidateError("Missing or incomplete dimension information in read statement: "
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.codegen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.api.mlcontext.ProjectInfo;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.utils.stats.CodegenStatistics;
+
+/**
+ * Persistent (on-disk) cache of compiled codegen classes, which allows
+ * reusing the class bytes of fused operators across JVM invocations.
+ * 
+ * Generated sources are normalized by renaming all generated variables
+ * (including the class name) in order of appearance, which makes them 
+ * independent of the global variable ID sequence. Cache entries are keyed 
+ * by a hash of the normalized source and the SystemDS build, and compiled
+ * with a deterministic class name derived from this key. The cache directory
+ * is bounded by a max size with eviction of least-recently-used entries.
+ */
+public class CodegenClassCache
+{
+	private static final Log LOG = LogFactory.getLog(CodegenClassCache.class.getName());
+	
+	private static final String CLASS_PREFIX = "TMPC";
+	private static final String FILE_SUFFIX = ".cls";
+	private static final int MAGIC = 0x53504F46;
+	private static final Pattern VARNAMES = Pattern.compile("\\bS?TMP(\\d+)\\b");
+	
+	private static String _buildId = null;
+	
+	/**
+	 * Normalized generated source code with its deterministic class name.
+	 */
+	public static class NormalizedClass {
+		public final String name;
+		public final String src;
+		public final String key;
+		
+		private NormalizedClass(String name, String src, String key) {
+			this.name = name;
+			this.src = src;
+			this.key = key;
+		}
+	}
+	
+	public static boolean isEnabled() {
+		return getCacheDir() != null;
+	}
+	
+	public static NormalizedClass normalize(String name, String src) {
+		//rename generated variables in order of appearance
+		HashMap<String, String> ids = new HashMap<>();
+		Matcher m = VARNAMES.matcher(src);
+		StringBuffer sb = new StringBuffer();
+		while( m.find() ) {
+			String id = ids.computeIfAbsent(m.group(1), k -> String.valueOf(ids.size()));
+			String prefix = m.group().substring(0, m.group().length()-m.group(1).length());
+			m.appendReplacement(sb, prefix + id);
+		}
+		m.appendTail(sb);
+		
+		//derive key and class name, and replace the normalized class name
+		int pos = name.lastIndexOf('.');
+		String cname = name.substring(pos+1);
+		String cid = ids.get(cname.substring(3));
+		if( !cname.startsWith("TMP") || cid == null )
+			throw new DMLRuntimeException("Invalid generated class name: "+name);
+		String nsrc = sb.toString();
+		String key = hash(getBuildId() + "\n" + nsrc);
+		String stable = CLASS_PREFIX + key;
+		nsrc = nsrc.replaceAll("\\bTMP"+cid+"\\b", stable);
+		return new NormalizedClass(name.substring(0, pos+1) + stable, nsrc, key);
+	}
+	
+	/**
+	 * Reads the class bytes of the given key from the cache directory.
+	 * 
+	 * @param key normalized source key
+	 * @return class bytes or null if not existing
+	 */
+	public static byte[] get(String key) {
+		File f = new File(getCacheDir(), key + FILE_SUFFIX);
+		if( DMLScript.STATISTICS )
+			CodegenStatistics.incrementClassCacheTotal();
+		if( !f.exists() )
+			return null;
+		try( DataInputStream in = new DataInputStream(
+			new BufferedInputStream(new FileInputStream(f))) )
+		{
+			if( in.readInt() != MAGIC )
+				return null;
+			long compileTime = in.readLong();
+			byte[] ret = new byte[in.readInt()];
+			in.readFully(ret);
+			//maintain recency for lru eviction
+			f.setLastModified(System.currentTimeMillis());
+			if( DMLScript.STATISTICS )
+				CodegenStatistics.incrementClassCacheHits(compileTime);
+			return ret;
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read cached class "+f.getName()+": "+ex.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Writes the class bytes of the given key into the cache directory,
+	 * and evicts least-recently-used entries if the max size is exceeded.
+	 * 
+	 * @param key normalized source key
+	 * @param classBytes class bytes
+	 * @param compileTime compile time in nano seconds
+	 */
+	public static void put(String key, byte[] classBytes, long compileTime) {
+		File dir = new File(getCacheDir());
+		try {
+			if( !dir.exists() )
+				dir.mkdirs();
+			//write to temporary file and atomically rename
+			//(which allows concurrent processes sharing the cache)
+			File tmp = File.createTempFile(key, ".tmp", dir);
+			try( DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp))) )
+			{
+				out.writeInt(MAGIC);
+				out.writeLong(compileTime);
+				out.writeInt(classBytes.length);
+				out.write(classBytes);
+			}
+			Files.move(tmp.toPath(), new File(dir, key + FILE_SUFFIX).toPath(),
+				StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			evict(dir);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write cached class "+key+": "+ex.getMessage());
+		}
+	}
+	
+	private static void evict(File dir) {
+		long maxSize = ConfigurationManager.getDMLConfig()
+			.getIntValue(DMLConfig.CODEGEN_CLASSCACHE_SIZE) * 1024L * 1024L;
+		File[] files = dir.listFiles((d, fname) -> fname.endsWith(FILE_SUFFIX));
+		if( files == null )
+			return;
+		long size = Arrays.stream(files).mapToLong(File::length).sum();
+		if( size <= maxSize )
+			return;
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for( int i=0; i<files.length && size > maxSize; i++ ) {
+			long len = files[i].length();
+			if( files[i].delete() )
+				size -= len;
+		}
+	}
+	
+	private static String getCacheDir() {
+		String dir = ConfigurationManager.getDMLConfig().getTextValue(DMLConfig.CODEGEN_CLASSCACHE);
+		return (dir == null || dir.isBlank() || dir.equalsIgnoreCase("none")) ? null : dir;
+	}
+	
+	private static String getBuildId() {
+		if( _buildId == null ) {
+			String id = null;
+			try {
+				ProjectInfo pi = ProjectInfo.getProjectInfo();
+				id = pi.version() + "-" + pi.buildTime();
+			}
+			catch(Exception ex) {
+				//not running from a jar, use modification time of runtime classes
+				try {
+					URL url = SpoofOperator.class.getResource("SpoofOperator.class");
+					id = "dev-" + url.openConnection().getLastModified();
+				}
+				catch(Exception ex2) {
+					id = "dev";
+				}
+			}
+			_buildId = id + "-" + System.getProperty("java.specification.version");
+		}
+		return _buildId;
+	}
+	
+	private static String hash(String str) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(str.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for( int i=0; i<16; i++ )
+				sb.append(String.format("%02x", digest[i]));
+			return sb.toString();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+}
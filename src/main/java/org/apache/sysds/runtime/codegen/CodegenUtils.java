@@ -25,6 +25,8 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.hops.codegen.SpoofCompiler;
 import org.apache.sysds.hops.codegen.SpoofCompiler.CompilerType;
+import org.apache.sysds.hops.codegen.SpoofCompiler.GeneratorAPI;
+import org.apache.sysds.runtime.codegen.CodegenClassCache.NormalizedClass;
 import org.apache.sysds.runtime.codegen.SpoofOperator.SideInput;
 import org.apache.sysds.runtime.codegen.SpoofOperator.SideInputSparseCell;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -65,6 +67,9 @@ public class CodegenUtils
 	//janino-specific map of source code transfer/recompile on-demand
 	private static ConcurrentHashMap<String, String> _src = new ConcurrentHashMap<>();
 
+	//javac-specific map of class bytes loaded from the persistent class cache
+	private static ConcurrentHashMap<String, byte[]> _bytes = new ConcurrentHashMap<>();
+
 	private static ConcurrentHashMap<String, Integer> _CUDA_op_IDs = new ConcurrentHashMap<>();
 	private static ConcurrentHashMap<Integer, String> _CUDA_op_src = new ConcurrentHashMap<>();
 
@@ -90,6 +95,8 @@ public class CodegenUtils
 		//compile java source w/ specific compiler
 		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			ret = compileClassJanino(name, src);
+		else if( SpoofCompiler.API == GeneratorAPI.JAVA && CodegenClassCache.isEnabled() )
+			return compileClassJavacCached(name, src);
 		else
 			ret = compileClassJavac(name, src);
 
@@ -140,12 +147,13 @@ public class CodegenUtils
 		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			return _src.get(name).getBytes();
 		else
-			return getClassAsByteArray(name);
+			return _bytes.containsKey(name) ? _bytes.get(name) : getClassAsByteArray(name);
 	}
 
 	public static void clearClassCache() {
 		_cache.clear();
 		_src.clear();
+		_bytes.clear();
 	}
 
 	public static void clearClassCache(Class<?> cla) {
@@ -273,6 +281,42 @@ public class CodegenUtils
 		}
 	}
 
+	private static Class<?> compileClassJavacCached(String name, String src) {
+		//normalize source code and obtain deterministic class name
+		NormalizedClass nc = CodegenClassCache.normalize(name, src);
+		Class<?> ret = _cache.get(nc.name);
+		if( ret == null ) {
+			//probe persistent cache, otherwise compile and persist
+			byte[] classBytes = CodegenClassCache.get(nc.key);
+			if( classBytes != null ) {
+				ret = loadFromClassFile(nc.name, classBytes);
+				_bytes.put(nc.name, classBytes);
+			}
+			else {
+				long t0 = System.nanoTime();
+				ret = compileClassJavac(nc.name, nc.src);
+				long t1 = System.nanoTime();
+				if( DMLScript.STATISTICS ) {
+					CodegenStatistics.incrementClassCompile();
+					CodegenStatistics.incrementClassCompileTime(t1-t0);
+				}
+				if( !hasInnerClasses(nc.name) )
+					CodegenClassCache.put(nc.key, getClassAsByteArray(nc.name), t1-t0);
+			}
+			_cache.put(nc.name, ret);
+		}
+		//keep class under both the generated and deterministic name
+		_cache.put(name, ret);
+		return ret;
+	}
+
+	private static boolean hasInnerClasses(String name) {
+		File fclass = new File(_workingDir+"/"+name.replace(".", "/")+".class");
+		String prefix = fclass.getName().replace(".class", "$");
+		String[] inner = fclass.getParentFile().list((d, fname) -> fname.startsWith(prefix));
+		return inner != null && inner.length > 0;
+	}
+
 	private static Class<?> loadFromClassFile(String name, byte[] classBytes) {
 		if(classBytes != null) {
 			//load from byte representation of class file
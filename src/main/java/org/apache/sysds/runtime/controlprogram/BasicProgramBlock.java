@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.recompile.RecompilePlanCache;
 import org.apache.sysds.hops.recompile.Recompiler;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
@@ -38,6 +39,9 @@ import org.apache.sysds.utils.stats.RecompileStatistics;
 public class BasicProgramBlock extends ProgramBlock 
 {
 	protected ArrayList<Instruction> _inst;
+	
+	//recompiled plans by live-in sizes (low-latency mode only)
+	private volatile RecompilePlanCache _planCache = null;
 
 	public BasicProgramBlock(Program prog) {
 		super(prog);
@@ -68,6 +72,16 @@ public class BasicProgramBlock extends ProgramBlock
 		return _inst.size();
 	}
 	
+	private RecompilePlanCache getPlanCache() {
+		if( _planCache == null ) {
+			synchronized( this ) {
+				if( _planCache == null )
+					_planCache = new RecompilePlanCache(_sb);
+			}
+		}
+		return _planCache;
+	}
+	
 	@Override
 	public ArrayList<ProgramBlock> getChildBlocks() {
 		return null;
@@ -91,15 +105,27 @@ public class BasicProgramBlock extends ProgramBlock
 				&& _sb != null
 				&& _sb.requiresRecompilation() )
 			{
-				tmp = Recompiler.recompileHopsDag(
-					_sb, _sb.getHops(), ec, null, false, true, _tid);
-			}
-			if( DMLScript.STATISTICS ){
-				long t1 = System.nanoTime();
-				RecompileStatistics.incrementRecompileTime(t1-t0);
-				if( tmp!=_inst )
-					RecompileStatistics.incrementRecompileSB();
+				//reuse plans of previous recompilations w/ equal input sizes
+				RecompilePlanCache cache = ConfigurationManager.isLowLatencyExecution() ?
+					getPlanCache() : null;
+				String key = (cache != null) ? cache.createKey(ec.getVariables(), _tid) : null;
+				ArrayList<Instruction> plan = (cache != null) ? cache.get(key) : null;
+				if( plan != null ) {
+					tmp = plan;
+					if( DMLScript.STATISTICS )
+						RecompileStatistics.incrementReusedSB();
+				}
+				else {
+					tmp = Recompiler.recompileHopsDag(
+						_sb, _sb.getHops(), ec, null, false, true, _tid);
+					if( cache != null )
+						cache.put(key, tmp);
+					if( DMLScript.STATISTICS && tmp != _inst )
+						RecompileStatistics.incrementRecompileSB();
+				}
 			}
+			if( DMLScript.STATISTICS )
+				RecompileStatistics.incrementRecompileTime(System.nanoTime()-t0);
 		}
 		catch(Exception ex) {
 			if( _sb != null )
@@ -77,6 +77,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.ResultMergeRemoteSpark;
 import org.apache.sysds.runtime.controlprogram.parfor.Task;
 import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitioner;
 import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerFactory;
+import org.apache.sysds.runtime.controlprogram.parfor.WorkStealingTaskQueue;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptTreeConverter;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptimizationWrapper;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptimizerRuleBased;
@@ -134,6 +135,7 @@ public class ParForProgramBlock extends ForProgramBlock {
 		FACTORING,      //factoring task partitioner  
 		FACTORING_CMIN, //constrained factoring task partitioner, uses tasksize as min constraint
 		FACTORING_CMAX, //constrained factoring task partitioner, uses tasksize as max constraint
+		WORK_STEALING,  //per-worker ranges w/ cost-based splitting and stealing (local only, otherwise static)
 		UNSPECIFIED
 	}
 	
@@ -727,7 +729,8 @@ public class ParForProgramBlock extends ForProgramBlock {
 		//restrict recompilation to thread local memory
 		setMemoryBudget();
 		
-		final LocalTaskQueue<Task> queue = new LocalTaskQueue<>();
+		final LocalTaskQueue<Task> queue = (_taskPartitioner == PTaskPartitioner.WORK_STEALING) ?
+			new WorkStealingTaskQueue(_numThreads) : new LocalTaskQueue<>();
 		final Thread[] threads         = new Thread[_numThreads];
 		final LocalParWorker[] workers = new LocalParWorker[_numThreads];
 		@SuppressWarnings("unchecked")
@@ -760,7 +763,7 @@ public class ParForProgramBlock extends ForProgramBlock {
 			TaskPartitioner partitioner = createTaskPartitioner(from, to, incr);
 			long numIterations = partitioner.getNumIterations();
 			long numCreatedTasks = -1;
-			if( USE_STREAMING_TASK_CREATION )
+			if( USE_STREAMING_TASK_CREATION || queue instanceof WorkStealingTaskQueue )
 			{
 				//put tasks into queue (parworker start work on first tasks while creating tasks) 
 				numCreatedTasks = partitioner.createTasks(queue);
@@ -783,6 +786,12 @@ public class ParForProgramBlock extends ForProgramBlock {
 			for( Thread thread : threads )
 				thread.join();
 			
+			//tasks of work-stealing queues are created during execution
+			if( queue instanceof WorkStealingTaskQueue )
+				numCreatedTasks = ((WorkStealingTaskQueue)queue).getNumCreatedTasks();
+			if( DMLScript.STATISTICS )
+				maintainTailStatistics(workers, queue);
+			
 			// Step 4) collecting results from each parallel worker
 			//obtain results and cleanup other intermediates before result merge
 			Set<String> resultVarNames = _resultVars.stream()
@@ -1215,7 +1224,7 @@ public class ParForProgramBlock extends ForProgramBlock {
 			
 			//create the actual parallel worker
 			ParForBody body = new ParForBody( cpChildBlocks, _resultVars, cpEc );
-			pw = new LocalParWorker( pwID, queue, body, cconf, MAX_RETRYS_ON_ERROR );
+			pw = new LocalParWorker( pwID, index, queue, body, cconf, MAX_RETRYS_ON_ERROR );
 			pw.setFunctionNames(fnNames);
 		}
 		catch(Exception ex) {
@@ -1225,6 +1234,20 @@ public class ParForProgramBlock extends ForProgramBlock {
 		return pw;
 	}
 	
+	private static void maintainTailStatistics(LocalParWorker[] workers, LocalTaskQueue<Task> queue) {
+		//tail: time between the first and last worker running out of tasks
+		long minFinish = Long.MAX_VALUE, maxFinish = Long.MIN_VALUE;
+		for( LocalParWorker w : workers ) {
+			minFinish = Math.min(minFinish, w.getFinishTime());
+			maxFinish = Math.max(maxFinish, w.getFinishTime());
+		}
+		ParForStatistics.incrementTailTime(maxFinish - minFinish);
+		if( queue instanceof WorkStealingTaskQueue ) {
+			WorkStealingTaskQueue wsq = (WorkStealingTaskQueue) queue;
+			ParForStatistics.incrementSteals(wsq.getNumSteals(), wsq.getNumStolenIterations());
+		}
+	}
+	
 	/**
 	 * Creates a new task partitioner according to the specified runtime parameter.
 	 * 
@@ -25,8 +25,13 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.DenseBlockLDRB;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.LocalFileUtils;
@@ -42,12 +47,25 @@ public class ByteBuffer
 	private volatile boolean _shallow;
 	private volatile boolean _matrix;
 	private final long _size;
+	private final boolean _offHeap;
 	
 	protected byte[]     _bdata = null; //sparse matrix
 	protected CacheBlock<?> _cdata = null; //dense matrix/frame
 	
 	public ByteBuffer( long size ) {
+		this(size, false);
+	}
+	
+	/**
+	 * Creates a byte buffer handle, which optionally stages the block in
+	 * off-heap memory (see {@link #isOffHeapCandidate(CacheBlock)}).
+	 * 
+	 * @param size size in bytes
+	 * @param offHeap if true, move the dense block off-heap on serialization
+	 */
+	public ByteBuffer( long size, boolean offHeap ) {
 		_size = size;
+		_offHeap = offHeap;
 		_serialized = false;
 	}
 
@@ -72,8 +90,8 @@ public class ByteBuffer
 				if( !cb.isShallowSerialize() )
 					cb.toShallowSerializeBlock();
 				
-				//shallow serialize
-				_cdata = cb;
+				//shallow serialize (optionally moving dense blocks off-heap)
+				_cdata = _offHeap ? toOffHeap(cb) : cb;
 			}
 		}
 		catch(Exception ex) {
@@ -95,7 +113,7 @@ public class ByteBuffer
 			ret.readFields(din);
 		}
 		else { //dense matrix/frame
-			ret = _cdata;
+			ret = isOffHeap(_cdata) ? toHeap((MatrixBlock) _cdata) : _cdata;
 		}
 		
 		return ret;
@@ -105,8 +123,8 @@ public class ByteBuffer
 		throws IOException
 	{
 		if( !_shallow ) {
-			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+			//write out byte serialized array (optionally encoded)
+			LocalFileUtils.writeSerializedBlockToLocal(fname, _bdata);
 		}
 		else {
 			//serialize cache block to output stream
@@ -150,6 +168,56 @@ public class ByteBuffer
 		}
 	}
 	
+	/**
+	 * Indicates if the given block is staged off-heap when requested, i.e., if it is an
+	 * uncompressed, dense FP64 matrix block that is not yet off-heap.
+	 * 
+	 * @param cb cache block
+	 * @return true if the block can be moved off-heap
+	 */
+	public static boolean isOffHeapCandidate(CacheBlock<?> cb) {
+		if( !(cb instanceof MatrixBlock) || cb instanceof CompressedMatrixBlock )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		return !mb.isInSparseFormat() && mb.getDenseBlock() != null && !isOffHeap(mb)
+			&& mb.getDenseBlock().isNumeric(ValueType.FP64);
+	}
+	
+	/**
+	 * Indicates if this buffer stages its block off-heap, which is accounted
+	 * separately from the heap memory of the buffer pool.
+	 * 
+	 * @return true if the block is staged off-heap
+	 */
+	public boolean isOffHeap() {
+		return _offHeap;
+	}
+	
+	private static CacheBlock<?> toOffHeap(CacheBlock<?> cb) {
+		if( !isOffHeapCandidate(cb) )
+			return cb;
+		MatrixBlock mb = (MatrixBlock) cb;
+		DenseBlock off = DenseBlockFactory.createDenseBlock(ValueType.FP64,
+			DenseBlock.Type.OFFHEAP, new int[] {mb.getNumRows(), mb.getNumColumns()}, false)
+			.set(mb.getDenseBlock());
+		MatrixBlock ret = new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), off);
+		ret.setNonZeros(mb.getNonZeros());
+		return ret;
+	}
+	
+	private static MatrixBlock toHeap(MatrixBlock mb) {
+		MatrixBlock ret = new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), false);
+		ret.allocateDenseBlock();
+		((DenseBlockOffHeap) mb.getDenseBlock()).copyTo(ret.getDenseBlock());
+		ret.setNonZeros(mb.getNonZeros());
+		return ret;
+	}
+	
+	private static boolean isOffHeap(CacheBlock<?> cb) {
+		return cb instanceof MatrixBlock && !((MatrixBlock) cb).isInSparseFormat()
+			&& ((MatrixBlock) cb).getDenseBlock() instanceof DenseBlockOffHeap;
+	}
+	
 	/**
 	 * Determines if byte buffer can hold the given size given this specific cache block.
 	 * This call is consistent with 'serializeBlock' and allows for internal optimization
@@ -37,6 +37,7 @@ import org.apache.sysds.common.Types.ExecMode;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.hops.fedplanner.FTypes.FType;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -96,6 +97,9 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
 	public static final boolean CACHING_ASYNC_FILECLEANUP = true;
 	public static boolean CACHING_ASYNC_SERIALIZE = false;
+	public static boolean CACHING_OFFHEAP_DENSE = false;
+	public static boolean CACHING_MMAP_DENSE = false;
+	public static boolean CACHING_SPILL_CODEC = false;
 	
 	//NOTE CACHING_ASYNC_SERIALIZE:
 	// The serialization of matrices and frames (ultra-sparse matrices or 
@@ -1536,6 +1540,17 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		{
 			throw new IOException(e);
 		}
+		
+		//keep dense blocks in the buffer pool outside the heap if configured
+		CACHING_OFFHEAP_DENSE = ConfigurationManager.getDMLConfig()
+			.getBooleanValue(DMLConfig.CACHING_OFFHEAP);
+		
+		//evict dense blocks in a memory-mappable layout if configured
+		CACHING_MMAP_DENSE = ConfigurationManager.getDMLConfig()
+			.getBooleanValue(DMLConfig.CACHING_MMAP);
+		
+		//encode evicted blocks with the adaptive block codec if configured
+		CACHING_SPILL_CODEC = ConfigurationManager.isSpillCodecEnabled();
 	
 		if (OptimizerUtils.isUMMEnabled())
 			//init unified memory manager
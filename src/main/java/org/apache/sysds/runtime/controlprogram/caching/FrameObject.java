@@ -26,6 +26,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.parser.DataExpression;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -38,6 +39,7 @@ import org.apache.sysds.runtime.instructions.ooc.OOCStream;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
 import org.apache.sysds.runtime.instructions.spark.data.RDDObject;
 import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.FrameReader;
 import org.apache.sysds.runtime.io.FrameReaderFactory;
 import org.apache.sysds.runtime.io.FrameWriter;
 import org.apache.sysds.runtime.io.FrameWriterFactory;
@@ -210,6 +212,11 @@ public class FrameObject extends CacheableData<FrameBlock>
 		// sanity check correct output
 		if(data == null)
 			throw new IOException("Unable to load frame from file: " + fname);
+
+		// dictionary-encode the UTF-8 string columns (or convert the string columns of
+		// readers without UTF-8 output) if configured
+		if(!isFederated() && ConfigurationManager.isFrameUtf8StringsEnabled())
+			FrameReader.encodeStringColumns(data);
 		return data;
 	}
 
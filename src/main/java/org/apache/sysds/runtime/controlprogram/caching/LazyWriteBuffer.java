@@ -20,6 +20,7 @@
 package org.apache.sysds.runtime.controlprogram.caching;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutorService;
 
@@ -43,6 +44,11 @@ public class LazyWriteBuffer {
 	//current size in bytes
 	private static long _size;
 	
+	//size limit and current size in bytes of blocks staged off-heap,
+	//which are accounted separately from the heap buffer limit
+	private static long _offHeapLimit;
+	private static long _offHeapSize;
+	
 	//eviction queue of <filename,buffer> pairs (implemented via linked hash map
 	//for (1) queue semantics and (2) constant time get/insert/delete operations)
 	private static CacheEvictionQueue _mQueue;
@@ -65,17 +71,27 @@ public class LazyWriteBuffer {
 		
 		//handle caching/eviction if it fits in the write buffer
 		if(!requiresWrite) {
-			//create byte buffer handle (no block allocation yet)
-			ByteBuffer bbuff = new ByteBuffer( lSize );
+			ByteBuffer bbuff = null;
 			
 			// modify buffer pool
 			synchronized(_mQueue) {
+				//stage dense blocks off-heap (at the cost of a copy in and out) only
+				//if they would otherwise force evictions of heap-buffered blocks
+				boolean offHeap = CacheableData.CACHING_OFFHEAP_DENSE && _size + lSize > _limit
+					&& lSize <= _offHeapLimit && ByteBuffer.isOffHeapCandidate(cb);
+				
+				//create byte buffer handle (no block allocation yet)
+				bbuff = new ByteBuffer( lSize, offHeap );
+				
 				// evict matrices to make room (by default FIFO)
-				numEvicted += evict(lSize);
+				numEvicted += evict(lSize, offHeap);
 				
 				//put placeholder into buffer pool (reserve mem)
 				_mQueue.addLast(fname, bbuff);
-				_size += lSize;
+				if( offHeap )
+					_offHeapSize += lSize;
+				else
+					_size += lSize;
 			}
 			
 			//serialize matrix (outside synchronized critical path)
@@ -98,13 +114,17 @@ public class LazyWriteBuffer {
 		return numEvicted;
 	}
 
-	private static int evict(long lSize) throws IOException {
+	private static int evict(long lSize, boolean offHeap) throws IOException {
 		int numEvicted = 0;
-		while(_size + lSize > _limit && !_mQueue.isEmpty()) {
-			// remove first entry from eviction queue
-			Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
+		Iterator<Entry<String, ByteBuffer>> iter = _mQueue.entrySet().iterator();
+		while((offHeap ? _offHeapSize + lSize > _offHeapLimit : _size + lSize > _limit) && iter.hasNext()) {
+			// evict entries of the same memory (heap or off-heap) in queue order
+			Entry<String, ByteBuffer> entry = iter.next();
 			String ftmp = entry.getKey();
 			ByteBuffer tmp = entry.getValue();
+			if(tmp != null && tmp.isOffHeap() != offHeap)
+				continue;
+			iter.remove();
 
 			if(tmp != null) {
 				// wait for pending serialization
@@ -113,12 +133,19 @@ public class LazyWriteBuffer {
 				// evict matrix
 				tmp.evictBuffer(ftmp);
 				tmp.freeMemory();
-				_size -= tmp.getSize();
+				release(tmp);
 				numEvicted++;
 			}
 		}
 		return numEvicted;
 	}
+	
+	private static void release(ByteBuffer bbuff) {
+		if( bbuff.isOffHeap() )
+			_offHeapSize -= bbuff.getSize();
+		else
+			_size -= bbuff.getSize();
+	}
 
 	public static void deleteBlock(String fname)
 	{
@@ -129,7 +156,7 @@ public class LazyWriteBuffer {
 			//remove queue entry 
 			ByteBuffer ldata = _mQueue.remove(fname);
 			if( ldata != null ) {
-				_size -= ldata.getSize();
+				release(ldata);
 				requiresDelete = false;
 				ldata.freeMemory(); //cleanup
 			}
@@ -183,6 +210,9 @@ public class LazyWriteBuffer {
 		_fClean = new CacheMaintenanceService();
 		_limit = OptimizerUtils.getBufferPoolLimit();
 		_size = 0;
+		//separate off-heap budget of the same size as the heap buffer
+		_offHeapLimit = CacheableData.CACHING_OFFHEAP_DENSE ? _limit : 0;
+		_offHeapSize = 0;
 	}
 
 	public static void cleanup() {
@@ -207,6 +237,11 @@ public class LazyWriteBuffer {
 			return _size; }
 	}
 	
+	public static long getOffHeapBufferSize() {
+		synchronized( _mQueue ) {
+			return _offHeapSize; }
+	}
+	
 	public static long getWriteBufferFree() {
 		synchronized( _mQueue ) {
 			return _limit - _size; }
@@ -236,6 +271,7 @@ public class LazyWriteBuffer {
 			System.out.println("\tWB: Buffer Meta Data: " +
 				"limit="+_limit+", " +
 				"size[bytes]="+_size+", " +
+				"offheap[bytes]="+_offHeapSize+"/"+_offHeapLimit+", " +
 				"size[elements]="+_mQueue.size()+"/"+_mQueue.size());
 			
 			//print current buffer entries
@@ -274,6 +310,7 @@ public class LazyWriteBuffer {
 				//evict matrix
 				tmp.evictBuffer(entry.getKey());
 				tmp.freeMemory();
+				release(tmp);
 			}
 		}
 	}
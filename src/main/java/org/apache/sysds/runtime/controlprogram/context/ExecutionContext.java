@@ -61,6 +61,7 @@ import org.apache.sysds.runtime.meta.DataCharacteristics;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
 import org.apache.sysds.runtime.meta.MetaData;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.transform.encode.EncoderCache;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.utils.Statistics;
 
@@ -90,6 +91,9 @@ public class ExecutionContext {
 
 	protected SEALClient _seal_client;
 
+	//cache of transform encoders of the embedding JMLC connection, if any
+	protected EncoderCache _encoderCache;
+
 	//parfor temporary functions (created by eval)
 	protected Set<String> _fnNames;
 
@@ -168,6 +172,14 @@ public class ExecutionContext {
 		return _seal_client;
 	}
 
+	public void setEncoderCache(EncoderCache cache) {
+		_encoderCache = cache;
+	}
+
+	public EncoderCache getEncoderCache() {
+		return _encoderCache;
+	}
+
 	/**
 	 *
 	 * Get the i-th GPUContext
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Pool of persistent coordinator-side channels, one per federated worker. In contrast
+ * to the default of a new connection per request batch, all batches to a worker are
+ * pipelined over the pooled channel with multiple in-flight requests, which the worker
+ * executes concurrently and answers out-of-order. Cleanup requests without data
+ * dependencies are deferred and sent as a single batch with the next request to the
+ * worker, which avoids a round trip per removed intermediate.
+ */
+public class FederatedChannelPool {
+	private static final Log LOG = LogFactory.getLog(FederatedChannelPool.class.getName());
+
+	/** Max number of deferred cleanup requests per worker before an eager flush */
+	private static final int MAX_DEFERRED = 64;
+
+	private static final AtomicLong _seq = new AtomicLong(0);
+	private static final Map<InetSocketAddress, Channel> _channels = new ConcurrentHashMap<>();
+	private static final Map<InetSocketAddress, List<FederatedRequest>> _deferred = new ConcurrentHashMap<>();
+
+	/**
+	 * Executes a batch of federated requests over the pooled channel of the given worker.
+	 *
+	 * @param address socket address (incl host and port)
+	 * @param request the requested operations
+	 * @return the future response
+	 */
+	public static Future<FederatedResponse> execute(InetSocketAddress address, FederatedRequest... request) {
+		Channel ch = getChannel(address);
+		flushDeferred(address, ch);
+		return send(ch, request);
+	}
+
+	/**
+	 * Defers a cleanup request (e.g., rmvar of an intermediate) until the next request
+	 * to the given worker, or until enough cleanups are collected for a batch.
+	 *
+	 * @param address socket address (incl host and port)
+	 * @param request the cleanup request
+	 */
+	public static void deferCleanup(InetSocketAddress address, FederatedRequest request) {
+		List<FederatedRequest> list = _deferred.computeIfAbsent(address, k -> new ArrayList<>());
+		boolean flush = false;
+		synchronized(list) {
+			list.add(request);
+			flush = list.size() >= MAX_DEFERRED;
+		}
+		if(flush)
+			flushDeferred(address, getChannel(address));
+	}
+
+	public static void dropDeferred() {
+		_deferred.clear();
+	}
+
+	public static void close() {
+		for(Channel ch : _channels.values())
+			ch.close();
+		_channels.clear();
+		_deferred.clear();
+	}
+
+	private static Channel getChannel(InetSocketAddress address) {
+		Channel ch = _channels.get(address);
+		if(ch != null && ch.isActive())
+			return ch;
+		synchronized(_channels) {
+			ch = _channels.get(address);
+			if(ch == null || !ch.isActive()) {
+				ch = connect(address, 1);
+				_channels.put(address, ch);
+			}
+			return ch;
+		}
+	}
+
+	private static Channel connect(InetSocketAddress address, int retry) {
+		try {
+			final Bootstrap b = new Bootstrap();
+			b.group(FederatedData.getWorkGroup());
+			b.channel(NioSocketChannel.class);
+			b.handler(FederatedData.createChannel(address, new PipelinedResponseHandler()));
+			Channel ch = b.connect(address).sync().channel();
+			if(DMLScript.STATISTICS)
+				FederatedStatistics.incPooledConnections();
+			return ch;
+		}
+		catch(Exception e) {
+			if(e instanceof ConnectException && retry < 5) {
+				try {
+					// Increasing retry timeout
+					Thread.sleep(200 * retry);
+				}
+				catch(Exception e2) {
+					throw new DMLRuntimeException(e);
+				}
+				return connect(address, retry + 1);
+			}
+			throw new DMLRuntimeException("Failed connecting to federated worker " + address, e);
+		}
+	}
+
+	private static Promise<FederatedResponse> send(Channel ch, FederatedRequest[] request) {
+		final PipelinedResponseHandler handler = ch.pipeline().get(PipelinedResponseHandler.class);
+		final long seq = _seq.incrementAndGet();
+		final Promise<FederatedResponse> prom = ch.eventLoop().newPromise();
+		handler.register(seq, prom);
+		ch.writeAndFlush(new FederatedPipelinedMessage(seq, request)).addListener(f -> {
+			if(!f.isSuccess())
+				handler.fail(seq, f.cause());
+		});
+		if(DMLScript.STATISTICS)
+			FederatedStatistics.incPipelinedRequests();
+		return prom;
+	}
+
+	private static void flushDeferred(InetSocketAddress address, Channel ch) {
+		List<FederatedRequest> list = _deferred.get(address);
+		if(list == null)
+			return;
+		FederatedRequest[] batch = null;
+		synchronized(list) {
+			if(list.isEmpty())
+				return;
+			batch = list.toArray(new FederatedRequest[0]);
+			list.clear();
+		}
+		if(DMLScript.STATISTICS)
+			FederatedStatistics.incBatchedCleanups(batch.length);
+		// fire and forget, similar to the default asynchronous cleanup
+		send(ch, batch).addListener(f -> {
+			if(!f.isSuccess())
+				LOG.warn("Failed batched cleanup at federated worker " + address, f.cause());
+		});
+	}
+
+	private static class PipelinedResponseHandler extends ChannelInboundHandlerAdapter {
+		private final Map<Long, InFlight> _inflight = new ConcurrentHashMap<>();
+
+		public void register(long seq, Promise<FederatedResponse> prom) {
+			_inflight.put(seq, new InFlight(prom, System.nanoTime()));
+		}
+
+		public void fail(long seq, Throwable cause) {
+			InFlight f = _inflight.remove(seq);
+			if(f != null)
+				f._prom.tryFailure(cause);
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			if(!(msg instanceof FederatedPipelinedMessage)) {
+				LOG.error("Received unexpected message on pipelined federated channel: " + msg);
+				return;
+			}
+			FederatedPipelinedMessage res = (FederatedPipelinedMessage) msg;
+			InFlight f = _inflight.remove(res.getSeq());
+			if(f == null) {
+				LOG.error("Received response for unknown federated request " + res.getSeq());
+				return;
+			}
+			if(DMLScript.STATISTICS)
+				FederatedStatistics.addRequestLatency(System.nanoTime() - f._t0);
+			f._prom.trySuccess((FederatedResponse) res.getPayload());
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+			failAll(new DMLRuntimeException("Federated channel closed: " + ctx.channel().remoteAddress()));
+			super.channelInactive(ctx);
+		}
+
+		@Override
+		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			failAll(cause);
+			ctx.close();
+		}
+
+		private void failAll(Throwable cause) {
+			for(Long seq : new ArrayList<>(_inflight.keySet()))
+				fail(seq, cause);
+		}
+	}
+
+	private static class InFlight {
+		private final Promise<FederatedResponse> _prom;
+		private final long _t0;
+
+		private InFlight(Promise<FederatedResponse> prom, long t0) {
+			_prom = prom;
+			_t0 = t0;
+		}
+	}
+}
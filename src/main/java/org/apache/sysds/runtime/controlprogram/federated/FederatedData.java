@@ -46,6 +46,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.common.Types;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.parser.DataExpression;
@@ -64,7 +65,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ObjectEncoder;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.concurrent.Promise;
 
@@ -185,6 +185,8 @@ public class FederatedData {
 	 */
 	public static Future<FederatedResponse> executeFederatedOperation(InetSocketAddress address,
 		FederatedRequest... request) {
+		if(ConfigurationManager.isFederatedPipelining())
+			return FederatedChannelPool.execute(address, request);
 		return executeFederatedOperation(address, 1, request);
 	}
 
@@ -200,9 +202,7 @@ public class FederatedData {
 		FederatedRequest... request) {
 		try {
 			final Bootstrap b = new Bootstrap();
-			if(workerGroup == null)
-				createWorkGroup();
-			b.group(workerGroup);
+			b.group(getWorkGroup());
 			b.channel(NioSocketChannel.class);
 			final DataRequestHandler handler = new DataRequestHandler();
 			// Client Netty
@@ -237,8 +237,8 @@ public class FederatedData {
 		}
 	}
 
-	private static ChannelInitializer<SocketChannel> createChannel(InetSocketAddress address,
-		DataRequestHandler handler) {
+	static ChannelInitializer<SocketChannel> createChannel(InetSocketAddress address,
+		ChannelInboundHandlerAdapter handler) {
 		final int timeout = ConfigurationManager.getFederatedTimeout();
 		final boolean ssl = ConfigurationManager.isFederatedSSL();
 
@@ -256,6 +256,7 @@ public class FederatedData {
 
 				compressionStrategy.ifPresent(strategy -> cp.addLast(strategy.left));
 				cp.addLast(FederationUtils.decoder());
+				cp.addLast(new FederatedResponseAssembler());
 				compressionStrategy.ifPresent(strategy -> cp.addLast(strategy.right));
 				cp.addLast(new FederatedRequestEncoder());
 				cp.addLast(handler);
@@ -264,6 +265,8 @@ public class FederatedData {
 	}
 
 	public static void clearFederatedWorkers() {
+		// pending cleanups are subsumed by the CLEAR requests
+		FederatedChannelPool.dropDeferred();
 		if(_allFedSites.isEmpty())
 			return;
 
@@ -292,6 +295,7 @@ public class FederatedData {
 	}
 
 	public static void clearWorkGroup() {
+		FederatedChannelPool.close();
 		if(workerGroup != null)
 			workerGroup.shutdownGracefully();
 		workerGroup = null;
@@ -302,18 +306,28 @@ public class FederatedData {
 			workerGroup = new NioEventLoopGroup(DMLConfig.DEFAULT_NUMBER_OF_FEDERATED_WORKER_THREADS);
 	}
 
+	static EventLoopGroup getWorkGroup() {
+		if(workerGroup == null)
+			createWorkGroup();
+		return workerGroup;
+	}
+
 	private static class DataRequestHandler extends ChannelInboundHandlerAdapter {
 		private Promise<FederatedResponse> _prom;
+		private long _t0;
 
 		public DataRequestHandler() {
 		}
 
 		public void setPromise(Promise<FederatedResponse> prom) {
 			_prom = prom;
+			_t0 = System.nanoTime();
 		}
 
 		@Override
 		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			if(DMLScript.STATISTICS)
+				FederatedStatistics.addRequestLatency(System.nanoTime() - _t0);
 			_prom.setSuccess((FederatedResponse) msg);
 			ctx.close();
 		}
@@ -334,11 +348,13 @@ public class FederatedData {
 		return sb.toString();
 	}
 
-	public static class FederatedRequestEncoder extends ObjectEncoder {
+	public static class FederatedRequestEncoder extends FederatedObjectEncoder {
 		@Override
 		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Serializable msg, boolean preferDirect)
 			throws Exception {
 			int initCapacity = 256; // default initial capacity
+			if(msg instanceof FederatedPipelinedMessage)
+				msg = ((FederatedPipelinedMessage) msg).getPayload();
 			if(msg instanceof FederatedRequest[]) {
 				initCapacity = 0;
 				try {
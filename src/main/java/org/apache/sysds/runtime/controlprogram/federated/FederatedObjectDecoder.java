@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+import org.apache.sysds.runtime.controlprogram.federated.FederatedObjectEncoder.BlockRef;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufDataInput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+
+/**
+ * Decoder of federated messages written by {@link FederatedObjectEncoder}. Incoming chunks are
+ * accumulated as composite buffer (to avoid repeated reallocations and copies of the cumulation
+ * for large frames), and each frame is made contiguous once, from which the matrix blocks are
+ * read directly into their dense/sparse arrays.
+ */
+public class FederatedObjectDecoder extends LengthFieldBasedFrameDecoder {
+
+	public FederatedObjectDecoder() {
+		super(Integer.MAX_VALUE, 0, 4, 0, 4);
+		setCumulator(COMPOSITE_CUMULATOR);
+	}
+
+	@Override
+	protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+		ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+		if(frame == null)
+			return null;
+		try {
+			final int hlen = frame.readInt();
+			ByteBuf header = frame.readSlice(hlen);
+			try(ObjectInputStream ois = new BlockResolvingInputStream(
+				new ByteBufInputStream(header), new ByteBufDataInput(frame))) {
+				return ois.readObject();
+			}
+		}
+		finally {
+			frame.release();
+		}
+	}
+
+	@Override
+	protected ByteBuf extractFrame(ChannelHandlerContext ctx, ByteBuf buffer, int index, int length) {
+		if(buffer.nioBufferCount() == 1 || length == 0)
+			return buffer.retainedSlice(index, length);
+		// single copy of frames spanning multiple received chunks into contiguous memory
+		return ctx.alloc().ioBuffer(length).writeBytes(buffer, index, length);
+	}
+
+	private static class BlockResolvingInputStream extends ObjectInputStream {
+		private final ByteBufDataInput _blocks;
+		private int _next = 0;
+
+		protected BlockResolvingInputStream(InputStream in, ByteBufDataInput blocks) throws IOException {
+			super(in);
+			_blocks = blocks;
+			enableResolveObject(true);
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if(obj instanceof BlockRef) {
+				// placeholders are resolved in the same order as they were replaced
+				if(((BlockRef) obj)._idx != _next++)
+					throw new IOException("Invalid block reference: " + ((BlockRef) obj)._idx);
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(_blocks);
+				return mb;
+			}
+			return obj;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, ClassLoader.getSystemClassLoader());
+			}
+			catch(ClassNotFoundException ex) {
+				return super.resolveClass(desc);
+			}
+		}
+	}
+}
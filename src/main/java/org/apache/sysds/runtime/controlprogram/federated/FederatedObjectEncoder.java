@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufDataOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Encoder of federated messages (requests, responses, and pipelined envelopes), which replaces
+ * the generic netty object encoder. Messages are written as frames of the following layout:
+ * <pre>| frame length | header length | header (java serialization) | block 1 | ... | block n |</pre>
+ * Uncompressed matrix blocks anywhere in the message are replaced by placeholders in the
+ * header and appended in binary format after the header, where their dense/sparse arrays
+ * are copied directly into the (pooled, direct) output buffer. This avoids the chain of
+ * intermediate copies through the object and buffered streams for large payloads.
+ */
+public class FederatedObjectEncoder extends MessageToByteEncoder<Serializable> {
+
+	@Override
+	protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+		writeFrame(msg, out);
+	}
+
+	/**
+	 * Writes the given message as a single frame into the output buffer.
+	 * 
+	 * @param msg federated message
+	 * @param out output buffer
+	 * @throws IOException if the serialization fails
+	 */
+	protected static void writeFrame(Serializable msg, ByteBuf out) throws IOException {
+		final int start = out.writerIndex();
+		out.writeInt(0); // frame length, filled after serialization
+		out.writeInt(0); // header length
+
+		// serialize header with block placeholders
+		List<MatrixBlock> blocks = new ArrayList<>();
+		try(BlockReplacingOutputStream oos = new BlockReplacingOutputStream(new ByteBufOutputStream(out), blocks)) {
+			oos.writeObject(msg);
+			oos.flush();
+		}
+		final int hlen = out.writerIndex() - start - 8;
+
+		// serialize blocks directly into the output buffer
+		if(!blocks.isEmpty()) {
+			long size = 0;
+			for(MatrixBlock mb : blocks)
+				size += mb.getExactSizeOnDisk();
+			if(size > Integer.MAX_VALUE - out.writerIndex())
+				throw new DMLRuntimeException("Federated message size (" + size + ") exceeds Integer.MAX_VALUE.");
+			out.ensureWritable((int) size);
+			ByteBufDataOutput bout = new ByteBufDataOutput(out);
+			for(MatrixBlock mb : blocks)
+				mb.write(bout);
+			if(DMLScript.STATISTICS)
+				FederatedStatistics.incZeroCopyBlocks(blocks.size(), size);
+		}
+
+		out.setInt(start, out.writerIndex() - start - 4);
+		out.setInt(start + 4, hlen);
+	}
+
+	/**
+	 * Placeholder of a matrix block in the serialized message header, referring to the n-th
+	 * block in the binary payload of the frame.
+	 */
+	protected static class BlockRef implements Serializable {
+		private static final long serialVersionUID = -4286370254431254578L;
+		protected final int _idx;
+
+		protected BlockRef(int idx) {
+			_idx = idx;
+		}
+	}
+
+	private static class BlockReplacingOutputStream extends ObjectOutputStream {
+		private final List<MatrixBlock> _blocks;
+
+		protected BlockReplacingOutputStream(OutputStream out, List<MatrixBlock> blocks) throws IOException {
+			super(out);
+			_blocks = blocks;
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			// exact class check to keep compressed and other specialized blocks on the default path
+			if(obj != null && obj.getClass() == MatrixBlock.class) {
+				_blocks.add((MatrixBlock) obj);
+				return new BlockRef(_blocks.size() - 1);
+			}
+			return obj;
+		}
+	}
+}
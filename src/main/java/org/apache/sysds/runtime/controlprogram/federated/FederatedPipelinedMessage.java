@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.Serializable;
+
+/**
+ * Envelope of requests and responses on pooled federated channels. The sequence
+ * number allows multiple in-flight request batches per channel, whose responses
+ * are matched to their requests independent of the order of completion.
+ */
+public class FederatedPipelinedMessage implements Serializable {
+	private static final long serialVersionUID = -2604316925178264207L;
+
+	private final long _seq;
+	private final Serializable _payload;
+
+	public FederatedPipelinedMessage(long seq, Serializable payload) {
+		_seq = seq;
+		_payload = payload;
+	}
+
+	public long getSeq() {
+		return _seq;
+	}
+
+	public Serializable getPayload() {
+		return _payload;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " seq:" + _seq + " " + _payload;
+	}
+}
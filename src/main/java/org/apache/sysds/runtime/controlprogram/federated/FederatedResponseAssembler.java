@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponseStream.Chunk;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * Coordinator-side handler that incrementally assembles the row-block chunks of streamed
+ * federated responses (see {@link FederatedResponseStream}) into the output matrix block. Each
+ * decoded chunk is copied into the output and released right away, such that the coordinator
+ * never holds the serialized response in addition to the output. All other messages are passed
+ * through unchanged.
+ * 
+ * Note that the complete output block is still materialized on the coordinator, because all consumers
+ * of federated responses expect complete blocks. Streaming bounds the size of individual messages and
+ * serialization buffers, but not the memory of the assembled output.
+ */
+public class FederatedResponseAssembler extends ChannelInboundHandlerAdapter {
+
+	// partial outputs by sequence number (-1 for non-pipelined responses)
+	private final Map<Long, MatrixBlock> _partial = new HashMap<>();
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) {
+		if(msg instanceof Chunk) {
+			MatrixBlock out = append(-1, (Chunk) msg);
+			if(out != null)
+				ctx.fireChannelRead(new FederatedResponse(ResponseType.SUCCESS, out));
+		}
+		else if(msg instanceof FederatedPipelinedMessage
+			&& ((FederatedPipelinedMessage) msg).getPayload() instanceof Chunk) {
+			final long seq = ((FederatedPipelinedMessage) msg).getSeq();
+			MatrixBlock out = append(seq, (Chunk) ((FederatedPipelinedMessage) msg).getPayload());
+			if(out != null)
+				ctx.fireChannelRead(new FederatedPipelinedMessage(seq, new FederatedResponse(ResponseType.SUCCESS, out)));
+		}
+		else
+			ctx.fireChannelRead(msg);
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+		_partial.clear();
+		super.channelInactive(ctx);
+	}
+
+	/**
+	 * Appends the given chunk to the partial output of the respective response.
+	 * 
+	 * @param seq   sequence number of the response
+	 * @param chunk row-block chunk
+	 * @return the assembled output if the chunk was the last one, otherwise null
+	 */
+	private MatrixBlock append(long seq, Chunk chunk) {
+		MatrixBlock out = _partial.get(seq);
+		if(out == null || chunk.isFirst()) {
+			final boolean sparse = MatrixBlock.evalSparseFormatInMemory(
+				chunk.getNumRows(), chunk.getNumColumns(), chunk.getNonZeros());
+			out = new MatrixBlock(chunk.getNumRows(), chunk.getNumColumns(), sparse, chunk.getNonZeros());
+			out.allocateBlock();
+			_partial.put(seq, out);
+		}
+		out.copy(chunk.getRowLower(), chunk.getRowUpper(), 0, chunk.getNumColumns() - 1, chunk.getBlock(), false);
+		if(!chunk.isLast())
+			return null;
+		_partial.remove(seq);
+		out.setNonZeros(chunk.getNonZeros());
+		out.examSparsity();
+		return out;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.Serializable;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+/**
+ * Chunked input for streaming a large matrix response of a federated worker in row-block chunks.
+ * Each chunk is sliced from the response block and encoded as a separate frame only when the
+ * channel is writable again (backpressure via netty's chunked write handler), which bounds the
+ * additional memory at the worker to a few chunks instead of a second full-size buffer. The
+ * coordinator reassembles the chunks via {@link FederatedResponseAssembler}.
+ */
+public class FederatedResponseStream implements ChunkedInput<ByteBuf> {
+
+	private final long _seq; // -1 for non-pipelined responses
+	private final MatrixBlock _mb;
+	private final int _rowsPerChunk;
+	private int _rl = 0;
+	private long _bytes = 0;
+
+	public FederatedResponseStream(long seq, FederatedResponse response, long chunkSize) throws Exception {
+		_seq = seq;
+		_mb = (MatrixBlock) response.getData()[0];
+		long rowSize = Math.max(_mb.getExactSizeOnDisk() / _mb.getNumRows(), 1);
+		_rowsPerChunk = (int) Math.max(Math.min(chunkSize / rowSize, _mb.getNumRows()), 1);
+	}
+
+	/**
+	 * Indicates if the given response is streamed in chunks, i.e., a successful response with a
+	 * single uncompressed matrix block larger than the configured chunk size.
+	 * 
+	 * @param response federated response
+	 * @return true if the response should be streamed
+	 */
+	public static boolean isStreamable(FederatedResponse response) {
+		final long chunkSize = ConfigurationManager.getFederatedChunkSize();
+		if(chunkSize <= 0 || !response.isSuccessful())
+			return false;
+		try {
+			Object[] data = response.getData();
+			return data != null && data.length == 1 && data[0] != null
+				&& data[0].getClass() == MatrixBlock.class
+				&& ((MatrixBlock) data[0]).getNumRows() > 1
+				&& ((MatrixBlock) data[0]).getExactSizeOnDisk() > chunkSize;
+		}
+		catch(Exception ex) {
+			return false;
+		}
+	}
+
+	public int getRowsPerChunk() {
+		return _rowsPerChunk;
+	}
+
+	@Override
+	public boolean isEndOfInput() {
+		return _rl >= _mb.getNumRows();
+	}
+
+	@Override
+	public void close() {
+		// nothing to release, chunks are sliced on demand
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+		return readChunk(ctx.alloc());
+	}
+
+	@Override
+	public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+		if(isEndOfInput())
+			return null;
+		final int rlen = _mb.getNumRows();
+		final int ru = Math.min(_rl + _rowsPerChunk, rlen);
+		final Chunk chunk = new Chunk(_rl, rlen, _mb.getNumColumns(), _mb.getNonZeros(),
+			_mb.slice(_rl, ru - 1, 0, _mb.getNumColumns() - 1, false, new MatrixBlock()));
+		final Serializable msg = (_seq < 0) ? chunk : new FederatedPipelinedMessage(_seq, chunk);
+		ByteBuf buf = allocator.ioBuffer((int) Math.min(chunk.getBlock().getExactSizeOnDisk() + 512, Integer.MAX_VALUE));
+		try {
+			FederatedObjectEncoder.writeFrame(msg, buf);
+		}
+		catch(Exception ex) {
+			buf.release();
+			throw ex;
+		}
+		_bytes += buf.readableBytes();
+		_rl = ru;
+		if(isEndOfInput() && DMLScript.STATISTICS)
+			FederatedStatistics.incStreamedResponses(numChunks(), _bytes);
+		return buf;
+	}
+
+	@Override
+	public long length() {
+		return -1;
+	}
+
+	@Override
+	public long progress() {
+		return _rl;
+	}
+
+	private int numChunks() {
+		return (int) Math.ceil((double) _mb.getNumRows() / _rowsPerChunk);
+	}
+
+	/**
+	 * Row-block chunk of a streamed matrix response, carrying the meta data of the full block.
+	 */
+	public static class Chunk implements Serializable {
+		private static final long serialVersionUID = 6375271346123953478L;
+
+		private final int _rl;
+		private final int _rlen;
+		private final int _clen;
+		private final long _nnz;
+		private final MatrixBlock _block;
+
+		public Chunk(int rl, int rlen, int clen, long nnz, MatrixBlock block) {
+			_rl = rl;
+			_rlen = rlen;
+			_clen = clen;
+			_nnz = nnz;
+			_block = block;
+		}
+
+		public int getRowLower() {
+			return _rl;
+		}
+
+		public int getRowUpper() {
+			return _rl + _block.getNumRows() - 1;
+		}
+
+		public int getNumRows() {
+			return _rlen;
+		}
+
+		public int getNumColumns() {
+			return _clen;
+		}
+
+		public long getNonZeros() {
+			return _nnz;
+		}
+
+		public MatrixBlock getBlock() {
+			return _block;
+		}
+
+		public boolean isFirst() {
+			return _rl == 0;
+		}
+
+		public boolean isLast() {
+			return getRowUpper() == _rlen - 1;
+		}
+
+		@Override
+		public String toString() {
+			return "Chunk[" + _rl + ":" + getRowUpper() + " of " + _rlen + "x" + _clen + "]";
+		}
+	}
+}
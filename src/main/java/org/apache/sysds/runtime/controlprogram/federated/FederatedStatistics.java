@@ -35,6 +35,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -104,6 +105,17 @@ public class FederatedStatistics {
 	private static final LongAdder fedPutLineageItems = new LongAdder();
 	private static final LongAdder fedSerializationReuseCount = new LongAdder();
 	private static final LongAdder fedSerializationReuseBytes = new LongAdder();
+	// round-trip latencies of request batches in log2 buckets of microseconds
+	private static final LongAdder[] requestLatency = createLatencyBuckets(32);
+	private static final LongAccumulator requestLatencyMax = new LongAccumulator(Long::max, 0);
+	private static final LongAdder pooledConnections = new LongAdder();
+	private static final LongAdder pipelinedRequests = new LongAdder();
+	private static final LongAdder batchedCleanups = new LongAdder();
+	private static final LongAdder zeroCopyBlocks = new LongAdder();
+	private static final LongAdder zeroCopyBytes = new LongAdder();
+	private static final LongAdder streamedResponses = new LongAdder();
+	private static final LongAdder streamedChunks = new LongAdder();
+	private static final LongAdder streamedBytes = new LongAdder();
 	private static final List<TrafficModel> coordinatorsTrafficBytes = new ArrayList<>();
 	private static final List<EventModel> workerEvents = new ArrayList<>();
 	private static final Map<String, DataObjectModel> workerDataObjects = new HashMap<>();
@@ -189,6 +201,87 @@ public class FederatedStatistics {
 		}
 	}
 
+	private static LongAdder[] createLatencyBuckets(int n) {
+		LongAdder[] ret = new LongAdder[n];
+		for(int i = 0; i < n; i++)
+			ret[i] = new LongAdder();
+		return ret;
+	}
+
+	public static void addRequestLatency(long nanos) {
+		long micros = Math.max(nanos / 1000, 1);
+		int bucket = Math.min(63 - Long.numberOfLeadingZeros(micros), requestLatency.length - 1);
+		requestLatency[bucket].increment();
+		requestLatencyMax.accumulate(nanos);
+	}
+
+	public static long[] getRequestLatencyHistogram() {
+		return Arrays.stream(requestLatency).mapToLong(LongAdder::longValue).toArray();
+	}
+
+	/**
+	 * Estimates a percentile of the request latencies as the upper bound of the
+	 * histogram bucket the percentile falls into.
+	 * 
+	 * @param p percentile in (0,1]
+	 * @return latency in milliseconds, or 0 if no requests were recorded
+	 */
+	public static double getRequestLatencyPercentile(double p) {
+		long[] hist = getRequestLatencyHistogram();
+		long total = Arrays.stream(hist).sum();
+		long target = (long) Math.ceil(p * total);
+		long cum = 0;
+		for(int i = 0; i < hist.length && total > 0; i++) {
+			cum += hist[i];
+			if(cum >= target)
+				return (double) (1L << (i + 1)) / 1000;
+		}
+		return 0;
+	}
+
+	public static void incPooledConnections() {
+		pooledConnections.increment();
+	}
+
+	public static void incPipelinedRequests() {
+		pipelinedRequests.increment();
+	}
+
+	public static void incBatchedCleanups(long c) {
+		batchedCleanups.add(c);
+	}
+
+	public static void incZeroCopyBlocks(long c, long bytes) {
+		zeroCopyBlocks.add(c);
+		zeroCopyBytes.add(bytes);
+	}
+
+	public static void incStreamedResponses(long chunks, long bytes) {
+		streamedResponses.increment();
+		streamedChunks.add(chunks);
+		streamedBytes.add(bytes);
+	}
+
+	public static long getStreamedResponses() {
+		return streamedResponses.longValue();
+	}
+
+	public static long getStreamedChunks() {
+		return streamedChunks.longValue();
+	}
+
+	public static long getZeroCopyBlocks() {
+		return zeroCopyBlocks.longValue();
+	}
+
+	public static long getPipelinedRequests() {
+		return pipelinedRequests.longValue();
+	}
+
+	public static long getBatchedCleanups() {
+		return batchedCleanups.longValue();
+	}
+
 	public static void incAsyncPrefetchCount(long c) {
 		asyncPrefetchCount.add(c);
 	}
@@ -222,6 +315,17 @@ public class FederatedStatistics {
 		fedPutLineageItems.reset();
 		fedSerializationReuseCount.reset();
 		fedSerializationReuseBytes.reset();
+		for(LongAdder bucket : requestLatency)
+			bucket.reset();
+		requestLatencyMax.reset();
+		pooledConnections.reset();
+		pipelinedRequests.reset();
+		batchedCleanups.reset();
+		zeroCopyBlocks.reset();
+		zeroCopyBytes.reset();
+		streamedResponses.reset();
+		streamedChunks.reset();
+		streamedBytes.reset();
 		bytesSent.reset();
 		bytesReceived.reset();
 		fedBytesSent.reset();
@@ -255,11 +359,42 @@ public class FederatedStatistics {
 					transferredFrameBytes.longValue() + " Bytes.\n");
 			sb.append("Federated prefetch count:\t" +
 				asyncPrefetchCount.longValue() + ".\n");
+			sb.append(displayFedRequestLatency());
+			if(pooledConnections.longValue() > 0)
+				sb.append("Fed pipelining (Conn/Req/Cln):\t" +
+					pooledConnections.longValue() + "/" +
+					pipelinedRequests.longValue() + "/" +
+					batchedCleanups.longValue() + ".\n");
+			if(zeroCopyBlocks.longValue() > 0)
+				sb.append("Fed block encode (Num/Bytes):\t" +
+					zeroCopyBlocks.longValue() + "/" +
+					zeroCopyBytes.longValue() + " Bytes.\n");
+			if(streamedResponses.longValue() > 0)
+				sb.append("Fed streamed (Resp/Chunks/Bytes):\t" +
+					streamedResponses.longValue() + "/" +
+					streamedChunks.longValue() + "/" +
+					streamedBytes.longValue() + " Bytes.\n");
 			return sb.toString();
 		}
 		return "";
 	}
 
+	public static String displayFedRequestLatency() {
+		long[] hist = getRequestLatencyHistogram();
+		if(Arrays.stream(hist).sum() == 0)
+			return "";
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Fed latency (p50/p90/p99/max):\t%.3f/%.3f/%.3f/%.3f ms.\n",
+			getRequestLatencyPercentile(0.5), getRequestLatencyPercentile(0.9),
+			getRequestLatencyPercentile(0.99), ((double) requestLatencyMax.get()) / 1000000));
+		sb.append("Fed latency histogram:\t\t");
+		for(int i = 0; i < hist.length; i++)
+			if(hist[i] > 0)
+				sb.append(String.format("<%.3f:%d ", (double) (1L << (i + 1)) / 1000, hist[i]));
+		sb.append("ms.\n");
+		return sb.toString();
+	}
+
 	public static String displayNetworkTrafficStatistics() {
 		return "Server I/O bytes (read/written):\t" +
 				bytesReceived.longValue() +
@@ -22,6 +22,8 @@ package org.apache.sysds.runtime.controlprogram.federated;
 import java.io.Serializable;
 import java.security.cert.CertificateException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -59,12 +61,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ObjectEncoder;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.handler.stream.ChunkedWriteHandler;
 
 @SuppressWarnings("deprecation")
 public class FederatedWorker {
@@ -103,13 +103,22 @@ public class FederatedWorker {
 		ThreadPoolExecutor workerTPE = new ThreadPoolExecutor(1, Integer.MAX_VALUE, 10, TimeUnit.SECONDS,
 			new SynchronousQueue<Runnable>(true));
 		NioEventLoopGroup workerGroup = new NioEventLoopGroup(EVENT_LOOP_THREADS, workerTPE);
+		// bounded pool for pipelined requests, where the event loop runs requests itself
+		// if the queue is full, which stops reading from the channel (backpressure)
+		final int PIPELINE_THREADS = InfrastructureAnalyzer.getLocalParallelism();
+		ExecutorService pipelinePool = new ThreadPoolExecutor(PIPELINE_THREADS, PIPELINE_THREADS, 10,
+			TimeUnit.SECONDS, new LinkedBlockingQueue<>(4 * PIPELINE_THREADS), r -> {
+				Thread t = new Thread(r, "FedPipeline");
+				t.setDaemon(true);
+				return t;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
 
 		final boolean ssl = ConfigurationManager.isFederatedSSL();
 		try {
 			final ServerBootstrap b = new ServerBootstrap();
 			b.group(bossGroup, workerGroup);
 			b.channel(NioServerSocketChannel.class);
-			b.childHandler(createChannel(ssl));
+			b.childHandler(createChannel(ssl, pipelinePool));
 			b.option(ChannelOption.SO_BACKLOG, 128);
 			b.childOption(ChannelOption.SO_KEEPALIVE, true);
 
@@ -129,15 +138,17 @@ public class FederatedWorker {
 			LOG.info("Federated Worker Shutting down.");
 			workerGroup.shutdownGracefully();
 			bossGroup.shutdownGracefully();
-			
+			pipelinePool.shutdown();
 		}
 	}
 
-	public static class FederatedResponseEncoder extends ObjectEncoder {
+	public static class FederatedResponseEncoder extends FederatedObjectEncoder {
 		@Override
 		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Serializable msg, boolean preferDirect)
 			throws Exception {
 			int initCapacity = 256; // default initial capacity
+			if(msg instanceof FederatedPipelinedMessage)
+				msg = ((FederatedPipelinedMessage) msg).getPayload();
 			if(msg instanceof FederatedResponse) {
 				FederatedResponse response = (FederatedResponse) msg;
 				try {
@@ -188,7 +199,7 @@ public class FederatedWorker {
 		}
 	}
 
-	private ChannelInitializer<SocketChannel> createChannel(boolean ssl) {
+	private ChannelInitializer<SocketChannel> createChannel(boolean ssl, ExecutorService pipelinePool) {
 		try {
 			// TODO add ability to use real ssl files, not self signed certificates.
 			final SelfSignedCertificate cert;
@@ -216,15 +227,13 @@ public class FederatedWorker {
 					cp.addLast("CompressionDecodingStartStatistics", new CompressionDecoderStartStatisticsHandler());
 					compressionStrategy.ifPresent(strategy -> cp.addLast("CompressionDecoder", strategy.left));
 					cp.addLast("CompressionDecoderEndStatistics", new CompressionDecoderEndStatisticsHandler());
-					cp.addLast("ObjectDecoder",
-						new ObjectDecoder(Integer.MAX_VALUE,
-							ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
+					cp.addLast("ObjectDecoder", FederationUtils.decoder());
 					cp.addLast("CompressionEncodingEndStatistics", new CompressionEncoderEndStatisticsHandler());
 					compressionStrategy.ifPresent(strategy -> cp.addLast("CompressionEncoder", strategy.right));
 					cp.addLast("CompressionEncodingStartStatistics", new CompressionEncoderStartStatisticsHandler());
-					cp.addLast("ObjectEncoder", new ObjectEncoder());
-					cp.addLast(FederationUtils.decoder(), new FederatedResponseEncoder());
-					cp.addLast(new FederatedWorkerHandler(_flt, _frc, _fan, networkTimer));
+					cp.addLast("ChunkedWriter", new ChunkedWriteHandler());
+					cp.addLast("ObjectEncoder", new FederatedResponseEncoder());
+					cp.addLast(new FederatedWorkerHandler(_flt, _frc, _fan, networkTimer, pipelinePool));
 				}
 			};
 		}
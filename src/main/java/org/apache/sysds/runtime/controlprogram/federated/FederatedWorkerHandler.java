@@ -26,6 +26,7 @@ import java.net.SocketAddress;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -102,7 +103,8 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 	/** Federated workload analyzer */
 	private final FederatedWorkloadAnalyzer _fan;
 
-	private String _remoteAddress = FederatedLookupTable.NOHOST;
+	/** Bounded pool of the worker for the concurrent execution of pipelined requests (or null) */
+	private ExecutorService _pipelinePool = null;
 
 	/**
 	 * Create a Federated Worker Handler.
@@ -132,20 +134,63 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		this(flt, frc, fan);
 		_timing = timing;
 	}
+
+	/**
+	 * Create a Federated Worker Handler that executes pipelined requests in the given pool.
+	 * 
+	 * @param flt          The Federated Lookup Table of the current Federated Worker.
+	 * @param frc          Read cache shared by all worker handlers.
+	 * @param fan          A Workload analyzer object (should be null if not used).
+	 * @param timing       Network timer of the worker.
+	 * @param pipelinePool Bounded thread pool of the worker, shut down with the worker.
+	 */
+	public FederatedWorkerHandler(FederatedLookupTable flt, FederatedReadCache frc, FederatedWorkloadAnalyzer fan,
+		Timing timing, ExecutorService pipelinePool) {
+		this(flt, frc, fan, timing);
+		_pipelinePool = pipelinePool;
+	}
 	
 	@Override
 	public void channelRead(ChannelHandlerContext ctx, Object msg) {
-		ctx.writeAndFlush(createResponse(msg, ctx.channel().remoteAddress()))
+		if(msg instanceof FederatedPipelinedMessage) {
+			// pipelined request on a pooled channel: execute concurrently to other in-flight
+			// requests and respond (potentially out-of-order) w/o closing the channel; the
+			// network timer is not maintained as it assumes one request at a time
+			final FederatedPipelinedMessage req = (FederatedPipelinedMessage) msg;
+			final SocketAddress remoteAddress = ctx.channel().remoteAddress();
+			final Runnable task = () -> ctx.writeAndFlush(toOutput(req.getSeq(),
+				createResponse(req.getPayload(), remoteAddress, false)))
+				.addListener(new PipelinedErrorListener(req.getSeq()));
+			if(_pipelinePool != null)
+				_pipelinePool.execute(task);
+			else
+				task.run();
+			return;
+		}
+		ctx.writeAndFlush(toOutput(-1, createResponse(msg, ctx.channel().remoteAddress(), true)))
 			.addListener(new CloseListener());
 	}
 
+	private static Object toOutput(long seq, FederatedResponse response) {
+		// large matrix responses are streamed in row-block chunks
+		if(FederatedResponseStream.isStreamable(response)) {
+			try {
+				return new FederatedResponseStream(seq, response, ConfigurationManager.getFederatedChunkSize());
+			}
+			catch(Exception ex) {
+				LOG.warn("Failed to create streamed response, falling back to single message.", ex);
+			}
+		}
+		return (seq < 0) ? response : new FederatedPipelinedMessage(seq, response);
+	}
+
 	protected FederatedResponse createResponse(Object msg) {
-		return createResponse(msg, FederatedLookupTable.NOHOST);
+		return createResponse(msg, FederatedLookupTable.NOHOST, FederatedLookupTable.NOHOST);
 	}
 
-	private FederatedResponse createResponse(Object msg, SocketAddress remoteAddress) {
+	private FederatedResponse createResponse(Object msg, SocketAddress remoteAddress, boolean timed) {
 		try {
-			if (_timing != null) {
+			if (timed && _timing != null) {
 				ParamServStatistics.accFedNetworkTime((long) _timing.stop());
 			}
 		} catch (RuntimeException ignored) {
@@ -153,6 +198,7 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		}
 		
 		String host;
+		String address = FederatedLookupTable.NOHOST;
 		if(remoteAddress == null) {
 			LOG.warn("Given remote address of coordinator is null. Continuing with "
 				+ FederatedLookupTable.NOHOST + " as host identifier.");
@@ -160,28 +206,28 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		}
 		else if(remoteAddress instanceof InetSocketAddress) {
 			host = ((InetSocketAddress) remoteAddress).getHostString();
-			_remoteAddress = remoteAddress.toString();
+			address = remoteAddress.toString();
 		}
 		else {
 			host = remoteAddress.toString().split(":")[0].split("/")[1];
-			_remoteAddress = remoteAddress.toString();
+			address = remoteAddress.toString();
 		}
 		
 
-		FederatedResponse res = createResponse(msg, host);
-		if (_timing != null) {
+		FederatedResponse res = createResponse(msg, host, address);
+		if (timed && _timing != null) {
 			_timing.start();
 		}
 		return res;
 	}
 
-	private FederatedResponse createResponse(Object msg, String remoteHost) {
+	private FederatedResponse createResponse(Object msg, String remoteHost, String remoteAddress) {
 		if(!(msg instanceof FederatedRequest[]))
 			return new FederatedResponse(ResponseType.ERROR,
 				new FederatedWorkerHandlerException("Received object of wrong instance 'FederatedRequest[]'."));
 		final FederatedRequest[] requests = (FederatedRequest[]) msg;
 		try {
-			return createResponse(requests, remoteHost);
+			return createResponse(requests, remoteHost, remoteAddress);
 		}
 		catch(FederatedWorkerHandlerException ex) {
 			// Here we control the error message, therefore it is allowed to send the stack trace with the response
@@ -197,7 +243,7 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		}
 	}
 
-	private FederatedResponse createResponse(FederatedRequest[] requests, String remoteHost)
+	private FederatedResponse createResponse(FederatedRequest[] requests, String remoteHost, String remoteAddress)
 		throws FederatedWorkerHandlerException, Exception {
 			
 		FederatedResponse response = null; // last response
@@ -256,12 +302,12 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 			if (DMLScript.STATISTICS) {
 				if(t == RequestType.PUT_VAR || t == RequestType.EXEC_UDF) {
 					for (int paramIndex = 0; paramIndex < request.getNumParams(); paramIndex++)
-						FederatedStatistics.incFedTransfer(request.getParam(paramIndex), _remoteAddress, request.getPID());
+						FederatedStatistics.incFedTransfer(request.getParam(paramIndex), remoteAddress, request.getPID());
 				}
 				if(t == RequestType.GET_VAR) {
 					var data = response.getData();
 					for (int dataObjIndex = 0; dataObjIndex < Arrays.stream(data).count(); dataObjIndex++)
-						FederatedStatistics.incFedTransfer(data[dataObjIndex], _remoteAddress, request.getPID());
+						FederatedStatistics.incFedTransfer(data[dataObjIndex], remoteAddress, request.getPID());
 				}
 			}
 
@@ -732,6 +778,24 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		return CompressConfig.valueOf(conf.getTextValue(DMLConfig.COMPRESSED_LINALG).toUpperCase()) == CompressConfig.TRUE;
 	}
 
+	private static class PipelinedErrorListener implements ChannelFutureListener {
+		private final long _seq;
+
+		public PipelinedErrorListener(long seq) {
+			_seq = seq;
+		}
+
+		@Override
+		public void operationComplete(ChannelFuture channelFuture) {
+			if(!channelFuture.isSuccess()) {
+				LOG.error("Federated Worker Write failed", channelFuture.cause());
+				channelFuture.channel().writeAndFlush(new FederatedPipelinedMessage(_seq,
+					new FederatedResponse(ResponseType.ERROR,
+					new FederatedWorkerHandlerException("Error while sending response."))));
+			}
+		}
+	}
+
 	private static class CloseListener implements ChannelFutureListener {
 		@Override
 		public void operationComplete(ChannelFuture channelFuture) throws InterruptedException {
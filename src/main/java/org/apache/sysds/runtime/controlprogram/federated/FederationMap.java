@@ -456,9 +456,14 @@ public class FederationMap {
 		FederatedRequest request = new FederatedRequest(RequestType.EXEC_INST, -1,
 			VariableCPInstruction.prepareRemoveInstruction(id).toString());
 		request.setTID(tid);
+		final boolean defer = ConfigurationManager.isFederatedPipelining();
 		List<Future<FederatedResponse>> tmp = new ArrayList<>();
-		for(Pair<FederatedRange, FederatedData> fd : _fedMap)
-			tmp.add(fd.getValue().executeFederatedOperation(request));
+		for(Pair<FederatedRange, FederatedData> fd : _fedMap) {
+			if(defer && fd.getValue().getAddress() != null) // batched with subsequent requests
+				FederatedChannelPool.deferCleanup(fd.getValue().getAddress(), request);
+			else
+				tmp.add(fd.getValue().executeFederatedOperation(request));
+		}
 		// This cleaning is allowed to go in a separate thread, and finish on its own.
 		// The benefit is that the program is able to continue working on other things.
 		// The downside is that at the end of execution these threads can have executed
@@ -73,8 +73,6 @@ import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.SimpleOperator;
 
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
 
 @SuppressWarnings("deprecation")
 public class FederationUtils {
@@ -610,9 +608,8 @@ public class FederationUtils {
 		return FederationUtils.aggAdd(dataParts.toArray(new Future[0]));
 	}
 
-	public static ObjectDecoder decoder() {
-		return new ObjectDecoder(Integer.MAX_VALUE,
-			ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader()));
+	public static FederatedObjectDecoder decoder() {
+		return new FederatedObjectDecoder();
 	}
 
 	public static Optional<ChannelOutboundHandlerAdapter> compressionEncoder() {
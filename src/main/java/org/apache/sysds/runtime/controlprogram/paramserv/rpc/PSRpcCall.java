@@ -23,8 +23,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.apache.sysds.runtime.DMLRuntimeException;
-import org.apache.sysds.runtime.controlprogram.caching.CacheDataOutput;
 import org.apache.sysds.runtime.instructions.cp.ListObject;
+import org.apache.sysds.runtime.util.ByteBufDataOutput;
 import org.apache.sysds.runtime.util.ByteBufferDataInput;
 
 public class PSRpcCall extends PSRpcObject {
@@ -68,12 +68,12 @@ public class PSRpcCall extends PSRpcObject {
 	@Override
 	public ByteBuffer serialize() throws IOException {
 		int len = 8 + getExactSerializedSize(_data);
-		CacheDataOutput dos = new CacheDataOutput(len);
+		ByteBufDataOutput dos = createOutput(len);
 		dos.writeInt(_method);
 		dos.writeInt(_workerID);
 		if (_data != null)
 			serializeAndWriteListObject(_data, dos);
-		return ByteBuffer.wrap(dos.getBytes());
+		return dos.buffer().nioBuffer();
 	}
 	
 	private static void validateMethod(int method) {
@@ -33,6 +33,9 @@ import org.apache.sysds.runtime.instructions.cp.Data;
 import org.apache.sysds.runtime.instructions.cp.ListObject;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufDataOutput;
+
+import io.netty.buffer.Unpooled;
 
 public abstract class PSRpcObject {
 
@@ -43,6 +46,18 @@ public abstract class PSRpcObject {
 
 	public abstract ByteBuffer serialize() throws IOException;
 
+	/**
+	 * Creates a data output over an exact-size buffer, into which the dense/sparse
+	 * arrays of matrices are copied in bulk. The written buffer is handed to the
+	 * transport without further copies.
+	 * 
+	 * @param len exact serialized size
+	 * @return data output
+	 */
+	protected static ByteBufDataOutput createOutput(int len) {
+		return new ByteBufDataOutput(Unpooled.wrappedBuffer(new byte[len]).clear());
+	}
+
 	/**
 	 * Deep serialize and write of a list object (currently only support list containing matrices)
 	 * @param lo a list object containing only matrices
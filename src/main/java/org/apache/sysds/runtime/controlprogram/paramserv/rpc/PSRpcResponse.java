@@ -22,9 +22,9 @@ package org.apache.sysds.runtime.controlprogram.paramserv.rpc;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
-import org.apache.sysds.runtime.controlprogram.caching.CacheDataOutput;
 import org.apache.sysds.runtime.instructions.cp.ListObject;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.util.ByteBufDataOutput;
 import org.apache.sysds.runtime.util.ByteBufferDataInput;
 
 public class PSRpcResponse extends PSRpcObject {
@@ -84,7 +84,7 @@ public class PSRpcResponse extends PSRpcObject {
 	public ByteBuffer serialize() throws IOException {
 		int len = 4 + (_status==Type.SUCCESS ? getExactSerializedSize((ListObject)_data) :
 			_status==Type.SUCCESS_EMPTY ? 0 : IOUtilFunctions.getUTFSize((String)_data));
-		CacheDataOutput dos = new CacheDataOutput(len);
+		ByteBufDataOutput dos = createOutput(len);
 		dos.writeInt(_status.ordinal());
 		switch (_status) {
 			case SUCCESS:
@@ -96,6 +96,6 @@ public class PSRpcResponse extends PSRpcObject {
 				dos.writeUTF(_data.toString());
 				break;
 		}
-		return ByteBuffer.wrap(dos.getBytes());
+		return dos.buffer().nioBuffer();
 	}
 }
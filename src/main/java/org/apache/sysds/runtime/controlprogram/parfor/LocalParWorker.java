@@ -42,10 +42,13 @@ public class LocalParWorker extends ParWorker implements Runnable
 	protected final CompilerConfig _cconf;
 	protected final boolean _stopped;
 	protected final int _max_retry;
+	protected final int _index;
 	protected Collection<String> _fnNames = null;
+	protected long _finishTime = -1;
 	
-	public LocalParWorker( long ID, LocalTaskQueue<Task> q, ParForBody body, CompilerConfig cconf, int max_retry ) {
+	public LocalParWorker( long ID, int index, LocalTaskQueue<Task> q, ParForBody body, CompilerConfig cconf, int max_retry ) {
 		super(ID, body);
+		_index = index;
 		_taskQueue = q;
 		_cconf = cconf;
 		_stopped   = false;
@@ -60,6 +63,16 @@ public class LocalParWorker extends ParWorker implements Runnable
 		return _fnNames;
 	}
 	
+	/**
+	 * Returns the time (System.nanoTime) when this worker ran out
+	 * of tasks, or -1 if it did not terminate yet.
+	 * 
+	 * @return finish time in nanos
+	 */
+	public long getFinishTime() {
+		return _finishTime;
+	}
+	
 	@Override
 	public void run() 
 	{
@@ -92,7 +105,7 @@ public class LocalParWorker extends ParWorker implements Runnable
 			while( !_stopped ) {
 				//dequeue the next task (abort on NO_MORE_TASKS or error)
 				try {
-					lTask = _taskQueue.dequeueTask();
+					lTask = _taskQueue.dequeueTask(_index);
 					
 					if( lTask == LocalTaskQueue.NO_MORE_TASKS ) // task queue closed (no more tasks)
 						break; //normal end of parallel worker
@@ -131,6 +144,8 @@ public class LocalParWorker extends ParWorker implements Runnable
 			}
 		}
 		finally {
+			_finishTime = System.nanoTime();
+			
 			//cleanup fair scheduler pool for worker thread
 			if( OptimizerUtils.isSparkExecutionMode() && pool != -1 ) {
 				SparkExecutionContext sec = (SparkExecutionContext)_ec;
@@ -103,6 +103,21 @@ public class LocalTaskQueue<T>
 		return t;
 	}
 
+	/**
+	 * Read of the next task on behalf of the given worker, which allows queues
+	 * with per-worker state (e.g., work stealing) to serve worker-local tasks.
+	 * By default, all workers share the FIFO queue.
+	 * 
+	 * @param worker index of the requesting worker
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	public T dequeueTask( int worker )
+		throws InterruptedException
+	{
+		return dequeueTask();
+	}
+
 	public synchronized boolean hasNext() {
 		return !_data.isEmpty() || _closedInput;
 	}
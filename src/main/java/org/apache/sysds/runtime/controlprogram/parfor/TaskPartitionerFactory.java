@@ -43,6 +43,8 @@ public class TaskPartitionerFactory
 			case FACTORING_CMAX:
 				return new TaskPartitionerFactoringCmax(taskSize,
 					numThreads, taskSize, iterPredVar, from, to, incr);
+			case WORK_STEALING:
+				return new TaskPartitionerWorkStealing(taskSize, numThreads, iterPredVar, from, to, incr);
 			default:
 				throw new DMLRuntimeException("Undefined task partitioner: '"+type+"'.");
 		}
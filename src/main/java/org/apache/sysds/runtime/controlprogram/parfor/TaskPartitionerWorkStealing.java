@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+
+/**
+ * This work-stealing task partitioner assigns one contiguous iteration range per worker
+ * to a {@link WorkStealingTaskQueue}, which then dynamically splits these ranges into tasks
+ * and rebalances them via stealing according to the observed iteration costs. For full task
+ * creation (e.g., remote execution) and regular task queues, it falls back to static
+ * partitioning, which yields the same initial assignment of iterations.
+ * 
+ */
+public class TaskPartitionerWorkStealing extends TaskPartitionerStatic
+{
+	public TaskPartitionerWorkStealing( long taskSize, int numThreads,
+		String iterVarName, IntObject fromVal, IntObject toVal, IntObject incrVal ) 
+	{
+		super(taskSize, numThreads, iterVarName, fromVal, toVal, incrVal);
+	}
+
+	@Override
+	public long createTasks(LocalTaskQueue<Task> queue) {
+		if( !(queue instanceof WorkStealingTaskQueue) )
+			return super.createTasks(queue);
+		
+		//tasks are created on dequeue, the final number of
+		//tasks is available via the queue after execution
+		((WorkStealingTaskQueue)queue).initRanges(_iterVarName,
+			_fromVal.getLongValue(), _incrVal.getLongValue(), _numIter);
+		return -1;
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+
+/**
+ * Task queue for local parfor execution with adaptive work stealing. Instead of a shared
+ * FIFO of pre-created tasks, every worker owns a contiguous range of iterations that is
+ * used as a deque: the owner takes tasks from the front, while idle workers steal the back
+ * half of the range with the largest estimated remaining cost.
+ * 
+ * The size of tasks taken by the owner is derived from the observed per-iteration cost
+ * of this worker (exponentially weighted moving average over the time between dequeues),
+ * such that cheap iterations are batched into larger tasks while expensive iterations are
+ * handed out individually and remain available for stealing. A thief inherits the cost
+ * estimate of its victim because neighboring iterations tend to have similar costs.
+ */
+public class WorkStealingTaskQueue extends LocalTaskQueue<Task>
+{
+	//target execution time per task (nanos), amortizes the dequeue overhead
+	//while keeping the remaining work fine-grained enough for stealing
+	public static final long TARGET_TASK_TIME = 10_000_000;
+	//weight of the latest observation in the per-iteration cost estimate
+	private static final double COST_ALPHA = 0.5;
+	
+	private final WorkerRange[] _workers;
+	private String _iterVarName = null;
+	private long _fromVal = -1;
+	private long _incrVal = -1;
+	
+	private final LongAdder _numTasks = new LongAdder();
+	private final LongAdder _numSteals = new LongAdder();
+	private final LongAdder _numStolenIters = new LongAdder();
+	
+	public WorkStealingTaskQueue(int numWorkers) {
+		_workers = new WorkerRange[numWorkers];
+		for( int i=0; i<numWorkers; i++ )
+			_workers[i] = new WorkerRange();
+	}
+	
+	/**
+	 * Assigns equally-sized contiguous iteration ranges to all workers
+	 * and marks the end of the task input stream.
+	 * 
+	 * @param iterVarName name of the iteration variable
+	 * @param from first iteration value
+	 * @param incr positive increment
+	 * @param numIter total number of iterations
+	 */
+	public synchronized void initRanges(String iterVarName, long from, long incr, long numIter) {
+		_iterVarName = iterVarName;
+		_fromVal = from;
+		_incrVal = incr;
+		int k = _workers.length;
+		long len = numIter / k, rem = numIter % k, pos = 0;
+		for( int i=0; i<k; i++ ) {
+			long end = pos + len + ((i < rem) ? 1 : 0);
+			_workers[i].reset(pos, end, 0);
+			pos = end;
+		}
+		closeInput();
+	}
+	
+	@Override
+	public synchronized void enqueueTask(Task t) {
+		throw new DMLRuntimeException("Work-stealing task queue does not support explicit task enqueue.");
+	}
+	
+	/**
+	 * Dequeue on behalf of the first worker, for single consumers
+	 * without worker index.
+	 */
+	@Override
+	public Task dequeueTask() throws InterruptedException {
+		return dequeueTask(0);
+	}
+	
+	@Override
+	public Task dequeueTask(int worker) throws InterruptedException {
+		awaitInput();
+		WorkerRange self = _workers[worker % _workers.length];
+		
+		//runtime feedback: the previous task of this worker finished now
+		self.updateCost(System.nanoTime());
+		
+		//take from own range, otherwise steal from others
+		long[] range = self.take();
+		if( range == null )
+			range = steal(self);
+		if( range == null )
+			return null; //NO_MORE_TASKS
+		
+		self.start(System.nanoTime(), range[1] - range[0]);
+		_numTasks.increment();
+		
+		Task task = new Task(_iterVarName, TaskType.RANGE);
+		task.addIteration(new IntObject(_fromVal + range[0] * _incrVal));
+		task.addIteration(new IntObject(_fromVal + (range[1] - 1) * _incrVal));
+		task.addIteration(new IntObject(_incrVal));
+		return task;
+	}
+	
+	private synchronized void awaitInput() throws InterruptedException {
+		while( !_closedInput && _failure == null )
+			wait();
+		if( _failure != null )
+			throw _failure;
+	}
+	
+	private long[] steal(WorkerRange self) {
+		while( true ) {
+			//select victim w/ largest estimated remaining cost (unknown costs
+			//default to the mean of known costs, or plain remaining iterations)
+			double defaultCost = getMeanCost();
+			WorkerRange victim = null;
+			double maxCost = 0;
+			for( WorkerRange w : _workers ) {
+				long rem = w._remaining;
+				double cost = rem * ((w._cost > 0) ? w._cost : defaultCost);
+				if( w != self && rem > 0 && (victim == null || cost > maxCost) ) {
+					victim = w;
+					maxCost = cost;
+				}
+			}
+			if( victim == null )
+				return null;
+			
+			long[] stolen = victim.stealHalf();
+			if( stolen == null )
+				continue; //victim drained concurrently
+			_numSteals.increment();
+			_numStolenIters.add(stolen[1] - stolen[0]);
+			
+			//install stolen range as own deque and take the first task
+			self.reset(stolen[0], stolen[1], victim._cost);
+			long[] ret = self.take();
+			if( ret != null )
+				return ret;
+		}
+	}
+	
+	private double getMeanCost() {
+		double sum = 0;
+		int cnt = 0;
+		for( WorkerRange w : _workers ) {
+			double cost = w._cost;
+			if( cost > 0 ) {
+				sum += cost;
+				cnt++;
+			}
+		}
+		return (cnt > 0) ? sum / cnt : 1;
+	}
+	
+	@Override
+	public synchronized boolean isProcessed() {
+		if( !_closedInput )
+			return false;
+		for( WorkerRange w : _workers )
+			if( w._remaining > 0 )
+				return false;
+		return true;
+	}
+	
+	public long getNumCreatedTasks() {
+		return _numTasks.longValue();
+	}
+	
+	public long getNumSteals() {
+		return _numSteals.longValue();
+	}
+	
+	public long getNumStolenIterations() {
+		return _numStolenIters.longValue();
+	}
+	
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("WORK-STEALING TASK QUEUE (workers=");
+		sb.append(_workers.length);
+		sb.append(",close=");
+		sb.append(_closedInput);
+		sb.append(")\n");
+		for( int i=0; i<_workers.length; i++ ) {
+			sb.append("  WORKER #");
+			sb.append(i);
+			sb.append(": ");
+			sb.append(_workers[i].toString());
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Iteration range [lo, hi) owned by a single worker, where the owner takes
+	 * from the front and thieves from the back. Mutations are guarded by the
+	 * range object; the remaining size and cost are readable without lock
+	 * for victim selection.
+	 */
+	private static class WorkerRange {
+		private long _lo = 0;
+		private long _hi = 0;
+		private volatile long _remaining = 0;
+		private volatile double _cost = 0; //nanos per iteration, 0 if unknown
+		//owner-local state of the last task
+		private long _lastStart = -1;
+		private long _lastIters = 0;
+		
+		private synchronized void reset(long lo, long hi, double cost) {
+			_lo = lo;
+			_hi = hi;
+			_remaining = hi - lo;
+			if( cost > 0 )
+				_cost = cost;
+		}
+		
+		private synchronized long[] take() {
+			long rem = _hi - _lo;
+			if( rem <= 0 )
+				return null;
+			//cost-based task size, but at most half the remaining work
+			long n = (_cost > 0) ? (long) (TARGET_TASK_TIME / _cost) : 1;
+			n = Math.max(1, Math.min(n, (rem + 1) / 2));
+			long[] ret = new long[] {_lo, _lo + n};
+			_lo += n;
+			_remaining = _hi - _lo;
+			return ret;
+		}
+		
+		private synchronized long[] stealHalf() {
+			long rem = _hi - _lo;
+			if( rem <= 0 )
+				return null;
+			long mid = _hi - (rem + 1) / 2;
+			long[] ret = new long[] {mid, _hi};
+			_hi = mid;
+			_remaining = _hi - _lo;
+			return ret;
+		}
+		
+		private void start(long time, long iters) {
+			_lastStart = time;
+			_lastIters = iters;
+		}
+		
+		private void updateCost(long time) {
+			if( _lastIters <= 0 )
+				return;
+			double cost = (double) (time - _lastStart) / _lastIters;
+			_cost = (_cost > 0) ? COST_ALPHA * cost + (1 - COST_ALPHA) * _cost : cost;
+			_lastIters = 0;
+		}
+		
+		@Override
+		public synchronized String toString() {
+			return "[" + _lo + ", " + _hi + "), cost=" + String.format("%.0f", _cost) + "ns";
+		}
+	}
+}
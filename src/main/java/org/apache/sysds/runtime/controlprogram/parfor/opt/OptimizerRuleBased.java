@@ -1333,7 +1333,16 @@ public class OptimizerRuleBased extends Optimizer {
 			LOG.warn(getOptMode()+" OPT: Task partitioner decision has conflicting input from rewrites 'nested parallelism' and 'result partitioning'.");
 		
 		//set task partitioner
-		if( flagNested )
+		if( PTaskPartitioner.WORK_STEALING.name().equals(pn.getParam(ParamType.TASK_PARTITIONER))
+			&& pn.getExecType()==ExecType.CP && !flagLIX )
+		{
+			//keep explicitly requested work stealing for local execution, which
+			//is never chosen by default and self-balances skewed iterations
+			setTaskPartitioner( pn, PTaskPartitioner.WORK_STEALING );
+			if( flagNested )
+				setTaskPartitioner( pn.getChilds().get(0), PTaskPartitioner.FACTORING );
+		}
+		else if( flagNested )
 		{
 			setTaskPartitioner( pn, PTaskPartitioner.STATIC );
 			setTaskPartitioner( pn.getChilds().get(0), PTaskPartitioner.FACTORING );
@@ -44,6 +44,7 @@ public abstract class DenseBlock implements Serializable, Block
 	public enum Type {
 		DRB, //dense row block
 		LDRB, //large dense row block
+		OFFHEAP, //off-heap dense row block
 	}
 	
 	//NOTE: for a MxNxPxQ tensor the dimensions are given as
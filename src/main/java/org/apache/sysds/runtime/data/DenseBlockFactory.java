@@ -135,6 +135,13 @@ public abstract class DenseBlockFactory
 					default:
 						throw new NotImplementedException();
 				}
+			case OFFHEAP:
+				switch(vt) {
+					case FP32: return new DenseBlockOffHeapFP32(dims);
+					case FP64: return new DenseBlockOffHeapFP64(dims);
+					default:
+						throw new DMLRuntimeException("Unsupported off-heap dense block value type: "+vt.name());
+				}
 			default:
 				throw new DMLRuntimeException("Unexpected dense block type: "+type.name());
 		}
@@ -145,7 +152,8 @@ public abstract class DenseBlockFactory
 	}
 
 	public static DenseBlock.Type getDenseBlockType(DenseBlock dblock) {
-		return (dblock instanceof DenseBlockDRB) ? DenseBlock.Type.DRB :
+		return (dblock instanceof DenseBlockOffHeap) ? DenseBlock.Type.OFFHEAP :
+			(dblock instanceof DenseBlockDRB) ? DenseBlock.Type.DRB :
 			(dblock instanceof DenseBlockLDRB) ? DenseBlock.Type.LDRB : null;
 	}
 
@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Off-heap dense row blocks store the values outside the GC-managed heap in one or many direct byte buffers, each of
+ * which contains complete rows. Only the small buffer handles live on the heap, which avoids long GC pauses for huge
+ * blocks that are held for a long time (e.g., in the buffer pool).
+ * 
+ * Off-heap blocks are a storage representation of the buffer pool and are not handed to operations, which access
+ * dense blocks through their double[] arrays. Since there are no such arrays, {@link #values(int)} and
+ * {@link #valuesAt(int)} fail instead of returning copies, whose updates would be silently lost. Reads go through
+ * get, {@link #copyRow(int, double[], int)}, or {@link #copyTo(DenseBlock)}, and updates through the set methods.
+ */
+public abstract class DenseBlockOffHeap extends DenseBlockLDRB
+{
+	private static final long serialVersionUID = 2795467519183765212L;
+
+	//direct buffers, released by their cleaner once unreachable
+	protected transient ByteBuffer[] _blocks;
+
+	protected DenseBlockOffHeap(int[] dims) {
+		super(dims);
+	}
+
+	protected DenseBlockOffHeap(int[] dims, ByteBuffer[] blocks) {
+		super(dims);
+		//wrap existing buffers (e.g., memory-mapped files) without copying,
+		//which are expected to follow the layout of computeBlockSize
+		_blocks = blocks;
+		_blen = computeBlockSize(_rlen, _odims[0], elementSize());
+	}
+
+	/**
+	 * Get the number of rows per block of an off-heap dense block with the given dimensions, where each block is
+	 * limited by the max number of bytes per direct buffer.
+	 * 
+	 * @param rlen     number of rows
+	 * @param clen     number of columns (or cells per row)
+	 * @param elemSize size of a value in bytes
+	 * @return number of rows per block
+	 */
+	public static int computeBlockSize(int rlen, int clen, int elemSize) {
+		int maxRows = Math.max(1, (MAX_ALLOC / elemSize) / Math.max(clen, 1));
+		return Math.max(1, Math.min(rlen, maxRows));
+	}
+
+	/**
+	 * Get the number of bytes per cell.
+	 * 
+	 * @return size of a value in bytes
+	 */
+	protected abstract int elementSize();
+
+	/**
+	 * Get the value of the cell at the given position in the given block.
+	 * 
+	 * @param bix block index
+	 * @param ix  position within the block
+	 * @return value
+	 */
+	protected abstract double getInternal(int bix, int ix);
+
+	/**
+	 * Bulk copy of a contiguous range of a block into a double array.
+	 * 
+	 * @param bix block index
+	 * @param ix  start position within the block
+	 * @param dst destination array
+	 * @param off offset in the destination array
+	 * @param len number of values
+	 */
+	protected abstract void getInternal(int bix, int ix, double[] dst, int off, int len);
+
+	/**
+	 * Bulk copy of a double array into a contiguous range of a block.
+	 * 
+	 * @param bix block index
+	 * @param ix  start position within the block
+	 * @param src source array
+	 * @param off offset in the source array
+	 * @param len number of values
+	 */
+	protected abstract void setInternal(int bix, int ix, double[] src, int off, int len);
+
+	@Override
+	protected void allocateBlocks(int numBlocks) {
+		_blocks = new ByteBuffer[numBlocks];
+	}
+
+	@Override
+	protected void allocateBlock(int bix, int length) {
+		//direct buffers are zero-initialized
+		_blocks[bix] = ByteBuffer.allocateDirect(length * elementSize())
+			.order(ByteOrder.nativeOrder());
+	}
+
+	@Override
+	public void reset(int rlen, int[] odims, double v) {
+		//same as the large dense row block, but with a block size
+		//limited by the max number of bytes per direct buffer
+		long dataLength = (long) rlen * odims[0];
+		int newBlockSize = computeBlockSize(rlen, odims[0], elementSize());
+		int numBlocks = Math.max(1, UtilFunctions.toInt(Math.ceil((double) rlen / newBlockSize)));
+		if( _blocks != null && _blen == newBlockSize && dataLength <= capacity() ) {
+			_rlen = rlen;
+			_odims = odims;
+			for( int bi = 0; bi < numBlocks; bi++ )
+				fillBlock(bi, 0, (int) Math.min(newBlockSize, rlen - (long) bi * newBlockSize) * odims[0], v);
+		}
+		else {
+			allocateBlocks(numBlocks);
+			for( int bi = 0; bi < numBlocks; bi++ ) {
+				int length = (int) Math.min(newBlockSize, rlen - (long) bi * newBlockSize) * odims[0];
+				allocateBlock(bi, length);
+				if( v != 0 )
+					fillBlock(bi, 0, length, v);
+			}
+		}
+		_blen = newBlockSize;
+		_rlen = rlen;
+		_odims = odims;
+	}
+
+	@Override
+	public boolean isNumeric() {
+		return true;
+	}
+
+	@Override
+	public boolean isContiguous() {
+		return _blocks.length == 1;
+	}
+
+	@Override
+	public int numBlocks() {
+		return _blocks.length;
+	}
+
+	@Override
+	public long capacity() {
+		if( _blocks == null )
+			return -1;
+		long cap = 0;
+		for( ByteBuffer b : _blocks )
+			cap += b.capacity() / elementSize();
+		return cap;
+	}
+
+	@Override
+	protected long computeNnz(int bix, int start, int length) {
+		long nnz = 0;
+		for( int i = start; i < start + length; i++ )
+			nnz += (getInternal(bix, i) != 0) ? 1 : 0;
+		return nnz;
+	}
+
+	@Override
+	public double[] values(int r) {
+		throw new DMLRuntimeException("Off-heap dense blocks do not expose their rows as arrays, use get or copyRow.");
+	}
+
+	@Override
+	public double[] valuesAt(int bix) {
+		throw new DMLRuntimeException("Off-heap dense blocks do not expose their blocks as arrays, use copyTo.");
+	}
+
+	/**
+	 * Copies the values of the given row into the given array.
+	 * 
+	 * @param r   row index
+	 * @param dst destination array
+	 * @param off offset in the destination array
+	 * @return the destination array
+	 */
+	public double[] copyRow(int r, double[] dst, int off) {
+		getInternal(index(r), pos(r), dst, off, _odims[0]);
+		return dst;
+	}
+
+	@Override
+	public void incr(int r, int c) {
+		incr(r, c, 1);
+	}
+
+	@Override
+	public void incr(int r, int c, double delta) {
+		int bix = index(r);
+		int ix = pos(r, c);
+		setInternal(bix, ix, getInternal(bix, ix) + delta);
+	}
+
+	@Override
+	public void fillBlock(int bix, int fromIndex, int toIndex, double v) {
+		for( int i = fromIndex; i < toIndex; i++ )
+			setInternal(bix, i, v);
+	}
+
+	@Override
+	public void fillRow(int r, double v) {
+		int start = pos(r);
+		fillBlock(index(r), start, start + _odims[0], v);
+	}
+
+	@Override
+	public DenseBlock set(int r, int c, double v) {
+		setInternal(index(r), pos(r, c), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int r, double[] v) {
+		setInternal(index(r), pos(r), v, 0, _odims[0]);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, double v) {
+		setInternal(index(ix[0]), pos(ix), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, long v) {
+		setInternal(index(ix[0]), pos(ix), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, String v) {
+		setInternal(index(ix[0]), pos(ix), Double.parseDouble(v));
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(DenseBlock db) {
+		if( isHeapFP64(db) ) {
+			//bulk copy along the row-major linearized cells
+			transfer(db, true);
+			return this;
+		}
+		if( db instanceof DenseBlockOffHeap ) {
+			double[] row = new double[_odims[0]];
+			for( int r = 0; r < _rlen; r++ )
+				setInternal(index(r), pos(r), ((DenseBlockOffHeap) db).copyRow(r, row, 0), 0, _odims[0]);
+			return this;
+		}
+		for( int r = 0; r < _rlen; r++ )
+			setInternal(index(r), pos(r), db.values(r), db.pos(r), _odims[0]);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		if( !db.isNumeric() )
+			return super.set(rl, ru, cl, cu, db);
+		//row-wise copy as valuesAt does not expose the underlying data
+		int len = cu - cl;
+		if( db instanceof DenseBlockOffHeap ) {
+			double[] row = new double[db._odims[0]];
+			for( int r = rl, r2 = 0; r < ru; r++, r2++ )
+				setInternal(index(r), pos(r) + cl, ((DenseBlockOffHeap) db).copyRow(r2, row, 0), 0, len);
+			return this;
+		}
+		for( int r = rl, r2 = 0; r < ru; r++, r2++ )
+			setInternal(index(r), pos(r) + cl, db.values(r2), db.pos(r2), len);
+		return this;
+	}
+
+	/**
+	 * Copies all values of this off-heap block into the given on-heap FP64 dense block of equal dimensions, using bulk
+	 * transfers and without materializing temporary copies.
+	 * 
+	 * @param db target dense block
+	 * @return the target dense block
+	 */
+	public DenseBlock copyTo(DenseBlock db) {
+		if( isHeapFP64(db) )
+			transfer(db, false);
+		else {
+			double[] row = new double[_odims[0]];
+			for( int r = 0; r < _rlen; r++ )
+				db.set(r, copyRow(r, row, 0));
+		}
+		return db;
+	}
+
+	@Override
+	public boolean contains(double pattern, int rl, int ru) {
+		boolean nanPattern = Double.isNaN(pattern);
+		for( int r = rl; r < ru; r++ )
+			for( int c = 0; c < _odims[0]; c++ ) {
+				double v = get(r, c);
+				if( v == pattern || (nanPattern && Double.isNaN(v)) )
+					return true;
+			}
+		return false;
+	}
+
+	@Override
+	public boolean contains(double pattern) {
+		return contains(pattern, 0, _rlen);
+	}
+
+	@Override
+	public List<Integer> contains(double[] pattern, boolean earlyAbort) {
+		List<Integer> ret = new ArrayList<>();
+		double[] row = new double[_odims[0]];
+		for( int r = 0; r < _rlen; r++ ) {
+			//safe comparison on long representations, incl NaN
+			if( Arrays.equals(copyRow(r, row, 0), pattern) )
+				ret.add(r);
+			if( earlyAbort && ret.size() > 0 )
+				return ret;
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean equals(DenseBlock o, double eps) {
+		for( int r = 0; r < _rlen; r++ )
+			for( int c = 0; c < _odims[0]; c++ )
+				if( Math.abs(get(r, c) - o.get(r, c)) > eps )
+					return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for( int r = 0; r < _rlen; r++ ) {
+			for( int c = 0; c < _odims[0]; c++ ) {
+				sb.append(get(r, c));
+				sb.append("\t");
+			}
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public double get(int r, int c) {
+		return getInternal(index(r), pos(r, c));
+	}
+
+	@Override
+	public double get(int[] ix) {
+		return getInternal(index(ix[0]), pos(ix));
+	}
+
+	@Override
+	public String getString(int[] ix) {
+		return String.valueOf(get(ix));
+	}
+
+	@Override
+	public long getLong(int[] ix) {
+		return UtilFunctions.toLong(get(ix));
+	}
+
+	private static boolean isHeapFP64(DenseBlock db) {
+		return !(db instanceof DenseBlockOffHeap) && db.isNumeric(ValueType.FP64)
+			&& !(db instanceof DenseBlockFP64DEDUP) && !(db instanceof DenseBlockLFP64DEDUP);
+	}
+
+	private void transfer(DenseBlock db, boolean toOffHeap) {
+		//merge-walk over the blocks of both representations, which
+		//are aligned by their row-major linearized cell positions
+		int bix1 = 0, ix1 = 0, bix2 = 0, ix2 = 0;
+		long remaining = (long) _rlen * _odims[0];
+		while( remaining > 0 ) {
+			int len = (int) Math.min(remaining, Math.min(size(bix1) - ix1, db.size(bix2) - ix2));
+			if( toOffHeap )
+				setInternal(bix1, ix1, db.valuesAt(bix2), ix2, len);
+			else
+				getInternal(bix1, ix1, db.valuesAt(bix2), ix2, len);
+			ix1 += len;
+			ix2 += len;
+			remaining -= len;
+			if( ix1 == size(bix1) ) {
+				bix1++;
+				ix1 = 0;
+			}
+			if( ix2 == db.size(bix2) ) {
+				bix2++;
+				ix2 = 0;
+			}
+		}
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(numBlocks());
+		for( int bi = 0; bi < numBlocks(); bi++ ) {
+			int len = size(bi);
+			out.writeInt(len);
+			for( int i = 0; i < len; i++ )
+				out.writeDouble(getInternal(bi, i));
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		allocateBlocks(in.readInt());
+		for( int bi = 0; bi < _blocks.length; bi++ ) {
+			int len = in.readInt();
+			allocateBlock(bi, len);
+			for( int i = 0; i < len; i++ )
+				setInternal(bi, i, in.readDouble());
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.data;
+
+import java.nio.FloatBuffer;
+
+import org.apache.sysds.common.Types.ValueType;
+
+public class DenseBlockOffHeapFP32 extends DenseBlockOffHeap
+{
+	private static final long serialVersionUID = 6127604838392671035L;
+
+	public DenseBlockOffHeapFP32(int[] dims) {
+		super(dims);
+		reset(_rlen, _odims, 0);
+	}
+
+	@Override
+	protected int elementSize() {
+		return Float.BYTES;
+	}
+
+	@Override
+	public boolean isNumeric(ValueType vt) {
+		return ValueType.FP32 == vt;
+	}
+
+	@Override
+	protected double getInternal(int bix, int ix) {
+		return _blocks[bix].getFloat(ix << 2);
+	}
+
+	@Override
+	protected void getInternal(int bix, int ix, double[] dst, int off, int len) {
+		FloatBuffer buff = _blocks[bix].asFloatBuffer();
+		for( int i = 0; i < len; i++ )
+			dst[off + i] = buff.get(ix + i);
+	}
+
+	@Override
+	protected void setInternal(int bix, int ix, double v) {
+		_blocks[bix].putFloat(ix << 2, (float) v);
+	}
+
+	@Override
+	protected void setInternal(int bix, int ix, double[] src, int off, int len) {
+		FloatBuffer buff = _blocks[bix].asFloatBuffer();
+		for( int i = 0; i < len; i++ )
+			buff.put(ix + i, (float) src[off + i]);
+	}
+}
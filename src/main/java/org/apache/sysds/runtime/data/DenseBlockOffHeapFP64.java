@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.data;
+
+import java.nio.ByteBuffer;
+
+import org.apache.sysds.common.Types.ValueType;
+
+public class DenseBlockOffHeapFP64 extends DenseBlockOffHeap
+{
+	private static final long serialVersionUID = -3209853628215713012L;
+
+	public DenseBlockOffHeapFP64(int[] dims) {
+		super(dims);
+		reset(_rlen, _odims, 0);
+	}
+
+	/**
+	 * Creates an off-heap dense block over existing native-order buffers, each of which holds the row-major values
+	 * of a block of rows as defined by {@link #computeBlockSize(int, int, int)}.
+	 * 
+	 * @param dims   dimensions
+	 * @param blocks direct or memory-mapped buffers
+	 */
+	public DenseBlockOffHeapFP64(int[] dims, ByteBuffer[] blocks) {
+		super(dims, blocks);
+	}
+
+	@Override
+	protected int elementSize() {
+		return Double.BYTES;
+	}
+
+	@Override
+	public boolean isNumeric(ValueType vt) {
+		return ValueType.FP64 == vt;
+	}
+
+	@Override
+	protected double getInternal(int bix, int ix) {
+		return _blocks[bix].getDouble(ix << 3);
+	}
+
+	@Override
+	protected void getInternal(int bix, int ix, double[] dst, int off, int len) {
+		_blocks[bix].asDoubleBuffer().get(ix, dst, off, len);
+	}
+
+	@Override
+	protected void setInternal(int bix, int ix, double v) {
+		_blocks[bix].putDouble(ix << 3, v);
+	}
+
+	@Override
+	protected void setInternal(int bix, int ix, double[] src, int off, int len) {
+		_blocks[bix].asDoubleBuffer().put(ix, src, off, len);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+
+/**
+ * Insertion-ordered open-addressing map from the native values of a frame column to dense 1-based codes. In contrast
+ * to a {@link HashMapToInt}, neither the cells nor the codes are boxed, and partial maps of parallel builds are merged
+ * over the native keys. String keys are only materialized once per distinct value via {@link #getKeyString(int)}.
+ */
+public abstract class ARecodeMap {
+	protected static final float LOAD_FACTOR = 0.5f;
+
+	/** Hash slots holding the 1-based code of the key, 0 for empty slots */
+	protected int[] _slots;
+	protected int _size;
+
+	protected ARecodeMap(int capacity) {
+		_slots = new int[slotsFor(capacity)];
+	}
+
+	/**
+	 * Get the number of distinct keys, which is also the largest assigned code.
+	 * 
+	 * @return the number of distinct keys
+	 */
+	public final int size() {
+		return _size;
+	}
+
+	/**
+	 * Get the string representation of the key with the given code, equal to the frame's
+	 * <code>getString</code> of the original cell.
+	 * 
+	 * @param code the 1-based code
+	 * @return the key as string
+	 */
+	public abstract String getKeyString(int code);
+
+	/**
+	 * Add all keys of the given map that are not yet contained, in the code order of the given map.
+	 * 
+	 * @param that a map of the same key type
+	 */
+	public abstract void merge(ARecodeMap that);
+
+	/**
+	 * Indicates if the given map can be merged into this map without materializing keys.
+	 * 
+	 * @param that the other map
+	 * @return true if both maps share the same key type
+	 */
+	public abstract boolean isMergeable(ARecodeMap that);
+
+	protected abstract void rehash(int[] slots);
+
+	protected final void grow() {
+		if(_size + 1 > _slots.length * LOAD_FACTOR)
+			rehash(new int[_slots.length * 2]);
+	}
+
+	protected static int slotsFor(int capacity) {
+		int n = Integer.highestOneBit(Math.max((int) (capacity / LOAD_FACTOR), 16) - 1) << 1;
+		return Math.max(n, 16);
+	}
+
+	protected static int mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	/**
+	 * Create a recode map over the rows [rl, ru) of the given column, or null if the column type is not supported, in
+	 * which case the caller falls back to the generic string-based build. Null and empty strings are not recoded.
+	 * 
+	 * @param a  the frame column
+	 * @param rl the row lower bound (inclusive)
+	 * @param ru the row upper bound (exclusive)
+	 * @return the recode map, or null for unsupported column types
+	 */
+	public static ARecodeMap create(Array<?> a, int rl, int ru) {
+		if(a instanceof DDCArray) {
+			// recode the dictionary entries in order of their first occurrence
+			final DDCArray<?> ddc = (DDCArray<?>) a;
+			final Array<?> dict = ddc.getDict();
+			final ARecodeMap map = allocate(dict, dict == null ? 0 : Math.min(dict.size(), ru - rl));
+			if(map == null)
+				return null;
+			final AMapToData data = ddc.getMap();
+			final boolean[] seen = new boolean[dict.size()];
+			for(int i = rl; i < ru; i++) {
+				final int c = data.getIndex(i);
+				if(!seen[c]) {
+					seen[c] = true;
+					map.add(dict, c, c + 1);
+				}
+			}
+			return map;
+		}
+		final ARecodeMap map = allocate(a, Math.min(ru - rl, 1024));
+		if(map != null)
+			map.add(a, rl, ru);
+		return map;
+	}
+
+	private static ARecodeMap allocate(Array<?> a, int capacity) {
+		if(a instanceof DoubleArray || a instanceof FloatArray || a instanceof LongArray || a instanceof IntegerArray)
+			return new LongRecodeMap(capacity, a.getValueType());
+		else if(a instanceof StringArray || a instanceof Utf8StringArray)
+			return new StringRecodeMap(capacity);
+		return null;
+	}
+
+	/**
+	 * Add the cells [rl, ru) of the given column of the supported type.
+	 * 
+	 * @param a  the column
+	 * @param rl the row lower bound (inclusive)
+	 * @param ru the row upper bound (exclusive)
+	 */
+	protected abstract void add(Array<?> a, int rl, int ru);
+}
@@ -36,13 +36,17 @@ public interface ArrayFactory {
 	public final static int bitSetSwitchPoint = 64;
 
 	public enum FrameArrayType {
-		STRING, BOOLEAN, BITSET, INT32, INT64, FP32, FP64, CHARACTER, RAGGED, OPTIONAL, DDC, HASH64, HASH32;
+		STRING, BOOLEAN, BITSET, INT32, INT64, FP32, FP64, CHARACTER, RAGGED, OPTIONAL, DDC, HASH64, HASH32, UTF8;
 	}
 
 	public static StringArray create(String[] col) {
 		return new StringArray(col);
 	}
 
+	public static Utf8StringArray createUtf8(String[] col) {
+		return Utf8StringArray.create(col);
+	}
+
 	public static HashLongArray createHash64I(long[] col) {
 		return new HashLongArray(col);
 	}
@@ -272,6 +276,8 @@ public interface ArrayFactory {
 				return HashIntegerArray.read(in, nRow);
 			case HASH64:
 				return HashLongArray.read(in, nRow);
+			case UTF8:
+				return Utf8StringArray.read(in, nRow);
 			case STRING:
 			default:
 				return StringArray.read(in, nRow);
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.Arrays;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * Recode map over integer and floating point columns, keyed by the long value or the canonical bit pattern of the
+ * floating point value (which distinguishes exactly the values with distinct string representations).
+ */
+public class LongRecodeMap extends ARecodeMap {
+	private final ValueType _vt;
+	/** Keys in code order, i.e., the key of code c is at position c-1 */
+	private long[] _keys;
+
+	public LongRecodeMap(int capacity, ValueType vt) {
+		super(capacity);
+		_vt = vt;
+		_keys = new long[Math.max(capacity, 16)];
+	}
+
+	/**
+	 * Get the code of the given key and assign the next code if the key is not yet contained.
+	 * 
+	 * @param key the long key
+	 * @return the 1-based code
+	 */
+	public int add(long key) {
+		final int mask = _slots.length - 1;
+		int ix = mix(key) & mask;
+		int c;
+		while((c = _slots[ix]) != 0) {
+			if(_keys[c - 1] == key)
+				return c;
+			ix = (ix + 1) & mask;
+		}
+		if(_size == _keys.length)
+			_keys = Arrays.copyOf(_keys, _keys.length * 2);
+		_keys[_size++] = key;
+		_slots[ix] = _size;
+		grow();
+		return _size;
+	}
+
+	/**
+	 * Get the code of the given key.
+	 * 
+	 * @param key the long key
+	 * @return the 1-based code, or -1 if not contained
+	 */
+	public int get(long key) {
+		final int mask = _slots.length - 1;
+		int ix = mix(key) & mask;
+		int c;
+		while((c = _slots[ix]) != 0) {
+			if(_keys[c - 1] == key)
+				return c;
+			ix = (ix + 1) & mask;
+		}
+		return -1;
+	}
+
+	public long getKey(int code) {
+		return _keys[code - 1];
+	}
+
+	@Override
+	protected void add(Array<?> a, int rl, int ru) {
+		if(a instanceof DoubleArray) {
+			final double[] v = ((DoubleArray) a).get();
+			for(int i = rl; i < ru; i++)
+				add(Double.doubleToLongBits(v[i]));
+		}
+		else if(a instanceof FloatArray) {
+			final float[] v = ((FloatArray) a).get();
+			for(int i = rl; i < ru; i++)
+				add(Float.floatToIntBits(v[i]));
+		}
+		else if(a instanceof LongArray) {
+			final long[] v = ((LongArray) a).get();
+			for(int i = rl; i < ru; i++)
+				add(v[i]);
+		}
+		else if(a instanceof IntegerArray) {
+			final int[] v = ((IntegerArray) a).get();
+			for(int i = rl; i < ru; i++)
+				add(v[i]);
+		}
+		else
+			throw new DMLRuntimeException("Unsupported column type for long recode map: " + a.getClass().getSimpleName());
+	}
+
+	@Override
+	public String getKeyString(int code) {
+		final long key = _keys[code - 1];
+		switch(_vt) {
+			case FP64:
+				return Double.toString(Double.longBitsToDouble(key));
+			case FP32:
+				return Float.toString(Float.intBitsToFloat((int) key));
+			default:
+				return Long.toString(key);
+		}
+	}
+
+	@Override
+	public boolean isMergeable(ARecodeMap that) {
+		return that instanceof LongRecodeMap && ((LongRecodeMap) that)._vt == _vt;
+	}
+
+	@Override
+	public void merge(ARecodeMap that) {
+		final LongRecodeMap other = (LongRecodeMap) that;
+		for(int i = 0; i < other._size; i++)
+			add(other._keys[i]);
+	}
+
+	@Override
+	protected void rehash(int[] slots) {
+		final int mask = slots.length - 1;
+		for(int c = 1; c <= _size; c++) {
+			int ix = mix(_keys[c - 1]) & mask;
+			while(slots[ix] != 0)
+				ix = (ix + 1) & mask;
+			slots[ix] = c;
+		}
+		_slots = slots;
+	}
+}
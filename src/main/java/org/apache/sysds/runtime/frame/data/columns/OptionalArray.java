@@ -79,7 +79,7 @@ public class OptionalArray<T> extends Array<T> {
 		super(a.size());
 		if(a instanceof OptionalArray)
 			throw new DMLRuntimeException("Not allowed optional optional array");
-		else if(a instanceof StringArray)
+		else if(a instanceof StringArray || a instanceof Utf8StringArray)
 			throw new DMLRuntimeException("Not allowed StringArray in OptionalArray");
 		_a = a;
 		_n = ArrayFactory.allocateBoolean(a.size());
@@ -91,7 +91,7 @@ public class OptionalArray<T> extends Array<T> {
 		super(a.size());
 		if(a instanceof OptionalArray)
 			throw new DMLRuntimeException("Not allowed optional optional array");
-		else if(a instanceof StringArray)
+		else if(a instanceof StringArray || a instanceof Utf8StringArray)
 			throw new DMLRuntimeException("Not allowed StringArray in OptionalArray");
 		if(n.size() != a.size())
 			throw new DMLRuntimeException("Incompatible sizes of arrays for optional array");
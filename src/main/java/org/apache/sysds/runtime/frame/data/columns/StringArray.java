@@ -105,6 +105,10 @@ public class StringArray extends Array<String> {
 
 	@Override
 	public void setNz(int rl, int ru, Array<String> value) {
+		if(!(value instanceof StringArray)) {
+			setFromOtherTypeNz(rl, ru, value);
+			return;
+		}
 		String[] data2 = ((StringArray) value)._data;
 		for(int i = rl; i <= ru; i++)
 			if(data2[i] != null)
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * Recode map over string columns that hashes the string contents directly and keeps the keys and their hashes in
+ * code order, so merging partial maps never recomputes hashes or allocates entry objects.
+ */
+public class StringRecodeMap extends ARecodeMap {
+	/** Keys and their hashes in code order, i.e., the key of code c is at position c-1 */
+	private String[] _keys;
+	private int[] _hashes;
+
+	public StringRecodeMap(int capacity) {
+		super(capacity);
+		_keys = new String[Math.max(capacity, 16)];
+		_hashes = new int[_keys.length];
+	}
+
+	/**
+	 * Get the code of the given key and assign the next code if the key is not yet contained.
+	 * 
+	 * @param key the non-null string key
+	 * @return the 1-based code
+	 */
+	public int add(String key) {
+		return add(key, key.hashCode());
+	}
+
+	private int add(String key, int hash) {
+		final int mask = _slots.length - 1;
+		int ix = mix(hash) & mask;
+		int c;
+		while((c = _slots[ix]) != 0) {
+			if(_hashes[c - 1] == hash && _keys[c - 1].equals(key))
+				return c;
+			ix = (ix + 1) & mask;
+		}
+		return insert(ix, key, hash);
+	}
+
+	/**
+	 * Get the code of the given UTF-8 cell, hashed and compared over its bytes, and only decode the key if it is not
+	 * yet contained.
+	 */
+	private int add(Utf8StringArray a, int row) {
+		final int hash = a.stringHash(row);
+		final int mask = _slots.length - 1;
+		int ix = mix(hash) & mask;
+		int c;
+		while((c = _slots[ix]) != 0) {
+			if(_hashes[c - 1] == hash && a.contentEquals(row, _keys[c - 1]))
+				return c;
+			ix = (ix + 1) & mask;
+		}
+		return insert(ix, a.get(row), hash);
+	}
+
+	private int insert(int ix, String key, int hash) {
+		if(_size == _keys.length) {
+			_keys = Arrays.copyOf(_keys, _keys.length * 2);
+			_hashes = Arrays.copyOf(_hashes, _keys.length);
+		}
+		_keys[_size] = key;
+		_hashes[_size++] = hash;
+		_slots[ix] = _size;
+		grow();
+		return _size;
+	}
+
+	/**
+	 * Get the code of the given key.
+	 * 
+	 * @param key the string key
+	 * @return the 1-based code, or -1 if not contained
+	 */
+	public int get(String key) {
+		final int hash = key.hashCode();
+		final int mask = _slots.length - 1;
+		int ix = mix(hash) & mask;
+		int c;
+		while((c = _slots[ix]) != 0) {
+			if(_hashes[c - 1] == hash && _keys[c - 1].equals(key))
+				return c;
+			ix = (ix + 1) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	protected void add(Array<?> a, int rl, int ru) {
+		if(a instanceof Utf8StringArray) {
+			final Utf8StringArray u = (Utf8StringArray) a;
+			for(int i = rl; i < ru; i++)
+				if(u.getByteLength(i) > 0)
+					add(u, i);
+			return;
+		}
+		if(!(a instanceof StringArray))
+			throw new DMLRuntimeException("Unsupported column type for string recode map: " + a.getClass().getSimpleName());
+		final String[] v = ((StringArray) a).get();
+		for(int i = rl; i < ru; i++)
+			if(v[i] != null && !v[i].isEmpty())
+				add(v[i]);
+	}
+
+	@Override
+	public String getKeyString(int code) {
+		return _keys[code - 1];
+	}
+
+	@Override
+	public boolean isMergeable(ARecodeMap that) {
+		return that instanceof StringRecodeMap;
+	}
+
+	@Override
+	public void merge(ARecodeMap that) {
+		final StringRecodeMap other = (StringRecodeMap) that;
+		for(int i = 0; i < other._size; i++)
+			add(other._keys[i], other._hashes[i]);
+	}
+
+	@Override
+	protected void rehash(int[] slots) {
+		final int mask = slots.length - 1;
+		for(int c = 1; c <= _size; c++) {
+			int ix = mix(_hashes[c - 1]) & mask;
+			while(slots[ix] != 0)
+				ix = (ix + 1) & mask;
+			slots[ix] = c;
+		}
+		_slots = slots;
+	}
+}
@@ -0,0 +1,752 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apache.commons.lang3.NotImplementedException;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
+import org.apache.sysds.runtime.matrix.data.Pair;
+import org.apache.sysds.utils.MemoryEstimates;
+
+/**
+ * String array that stores the UTF-8 encoded values of all cells in one contiguous byte buffer, addressed by an offset
+ * and a length per cell. Compared to a StringArray this avoids the object header, char array and reference of every
+ * cell, which dominate the memory of columns with many short strings.
+ * 
+ * Updates of cells append the new value to the end of the buffer, and the buffer is compacted once more than half of
+ * it is unreferenced. Concurrent updates of disjoint rows are therefore synchronized, while reads are lock-free and
+ * only retried if they overlap with a compaction, which moves the bytes of all cells. The buffer is addressed by int
+ * offsets and hence limited to 2GB per array.
+ */
+public class Utf8StringArray extends Array<String> {
+	/** Length marker of null cells */
+	private static final int NULL = -1;
+	/** Maximum buffer length in bytes */
+	private static final int MAX_BUFFER = Integer.MAX_VALUE - 8;
+
+	/** The UTF-8 bytes of all cells */
+	private byte[] _buf;
+	/** The number of used bytes in the buffer, including unreferenced bytes of overwritten cells */
+	private int _bufLen;
+	/** The number of unreferenced bytes in the buffer */
+	private int _garbage;
+	/** The start offset of every cell in the buffer */
+	private int[] _off;
+	/** The length in bytes of every cell, or NULL */
+	private int[] _len;
+	/** Guards lock-free reads against concurrent compactions */
+	private final StampedLock _lock = new StampedLock();
+
+	private Utf8StringArray(int nRow) {
+		super(nRow);
+		_buf = new byte[Math.max(nRow, 16)];
+		_off = new int[nRow];
+		_len = new int[nRow];
+		Arrays.fill(_len, NULL);
+	}
+
+	private Utf8StringArray(byte[] buf, int bufLen, int[] off, int[] len) {
+		super(off.length);
+		_buf = buf;
+		_bufLen = bufLen;
+		_off = off;
+		_len = len;
+	}
+
+	/**
+	 * Create an UTF-8 string array with the values of the given string array.
+	 * 
+	 * @param a the array to encode
+	 * @return the UTF-8 encoded array
+	 */
+	public static Utf8StringArray create(Array<String> a) {
+		if(a instanceof Utf8StringArray)
+			return (Utf8StringArray) a;
+		return create(a, 0, a.size());
+	}
+
+	/**
+	 * Allocate an UTF-8 string array of null cells, which is filled by setting values.
+	 * 
+	 * @param nRow the number of rows
+	 * @return the empty array
+	 */
+	public static Utf8StringArray allocate(int nRow) {
+		return new Utf8StringArray(nRow);
+	}
+
+	/**
+	 * Create an UTF-8 string array with the values of the given string array.
+	 * 
+	 * @param a the array to encode
+	 * @return the UTF-8 encoded array
+	 */
+	public static Utf8StringArray create(String[] a) {
+		return create(new StringArray(a));
+	}
+
+	private static Utf8StringArray create(Array<String> a, int rl, int ru) {
+		final int n = ru - rl;
+		final int[] off = new int[n];
+		final int[] len = new int[n];
+		final byte[][] enc = new byte[n][];
+		int bufLen = 0;
+		for(int i = 0; i < n; i++) {
+			final String s = a.get(rl + i);
+			if(s == null)
+				len[i] = NULL;
+			else {
+				enc[i] = s.getBytes(StandardCharsets.UTF_8);
+				off[i] = bufLen;
+				len[i] = enc[i].length;
+				bufLen = checkBufferLength((long) bufLen + len[i]);
+			}
+		}
+		final byte[] buf = new byte[bufLen];
+		for(int i = 0; i < n; i++)
+			if(enc[i] != null)
+				System.arraycopy(enc[i], 0, buf, off[i], len[i]);
+		return new Utf8StringArray(buf, bufLen, off, len);
+	}
+
+	/**
+	 * Get the decoded values of this array. Note that this allocates a String per non-null cell.
+	 * 
+	 * @return The decoded strings
+	 */
+	@Override
+	public String[] get() {
+		final String[] ret = new String[_size];
+		for(int i = 0; i < _size; i++)
+			ret[i] = get(i);
+		return ret;
+	}
+
+	@Override
+	public String get(int index) {
+		final long stamp = _lock.tryOptimisticRead();
+		byte[] buf = _buf;
+		int o = _off[index];
+		int l = _len[index];
+		if(!_lock.validate(stamp)) {
+			final long rstamp = _lock.readLock();
+			try {
+				buf = _buf;
+				o = _off[index];
+				l = _len[index];
+			}
+			finally {
+				_lock.unlockRead(rstamp);
+			}
+		}
+		return l == NULL ? null : new String(buf, o, l, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Get the UTF-8 encoded bytes of a cell without decoding.
+	 * 
+	 * @param index the index to get
+	 * @return a copy of the encoded bytes, or null
+	 */
+	public byte[] getIndexAsBytes(int index) {
+		final long stamp = _lock.readLock();
+		try {
+			final int l = _len[index];
+			return l == NULL ? null : Arrays.copyOfRange(_buf, _off[index], _off[index] + l);
+		}
+		finally {
+			_lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Get the hash code of a cell, equal to the hash code of the decoded string, but computed directly over the UTF-8
+	 * bytes without decoding. Not safe against concurrent updates.
+	 * 
+	 * @param index the non-null index to hash
+	 * @return the string hash code
+	 */
+	public int stringHash(int index) {
+		final byte[] buf = _buf;
+		final int end = _off[index] + _len[index];
+		int h = 0;
+		for(int p = _off[index]; p < end;) {
+			final int b = buf[p];
+			if(b >= 0) { // ASCII
+				h = 31 * h + b;
+				p++;
+			}
+			else {
+				final int cp = codePoint(buf, p);
+				p += utf8Length(b);
+				if(Character.isBmpCodePoint(cp))
+					h = 31 * h + cp;
+				else
+					h = 31 * (31 * h + Character.highSurrogate(cp)) + Character.lowSurrogate(cp);
+			}
+		}
+		return h;
+	}
+
+	/**
+	 * Indicates if a cell equals the given string, compared directly over the UTF-8 bytes without decoding. Not safe
+	 * against concurrent updates.
+	 * 
+	 * @param index the non-null index to compare
+	 * @param str   the string to compare with
+	 * @return true if the decoded cell equals the string
+	 */
+	public boolean contentEquals(int index, String str) {
+		final byte[] buf = _buf;
+		final int end = _off[index] + _len[index];
+		final int n = str.length();
+		int k = 0;
+		for(int p = _off[index]; p < end; k++) {
+			if(k >= n)
+				return false;
+			final int b = buf[p];
+			if(b >= 0) { // ASCII
+				if(str.charAt(k) != b)
+					return false;
+				p++;
+			}
+			else {
+				final int cp = codePoint(buf, p);
+				p += utf8Length(b);
+				if(Character.isBmpCodePoint(cp)) {
+					if(str.charAt(k) != cp)
+						return false;
+				}
+				else if(k + 1 >= n || str.charAt(k) != Character.highSurrogate(cp)
+					|| str.charAt(++k) != Character.lowSurrogate(cp))
+					return false;
+			}
+		}
+		return k == n;
+	}
+
+	/** Decode the code point of the multi-byte sequence starting at p */
+	private static int codePoint(byte[] buf, int p) {
+		final int b = buf[p];
+		if((b & 0xE0) == 0xC0)
+			return ((b & 0x1F) << 6) | (buf[p + 1] & 0x3F);
+		if((b & 0xF0) == 0xE0)
+			return ((b & 0x0F) << 12) | ((buf[p + 1] & 0x3F) << 6) | (buf[p + 2] & 0x3F);
+		return ((b & 0x07) << 18) | ((buf[p + 1] & 0x3F) << 12) | ((buf[p + 2] & 0x3F) << 6) | (buf[p + 3] & 0x3F);
+	}
+
+	private static int utf8Length(int b) {
+		return (b & 0xE0) == 0xC0 ? 2 : (b & 0xF0) == 0xE0 ? 3 : 4;
+	}
+
+	private static int checkBufferLength(long len) {
+		if(len > MAX_BUFFER)
+			throw new DMLRuntimeException("UTF-8 string array exceeds the maximum buffer size of 2GB: " + len);
+		return (int) len;
+	}
+
+	/**
+	 * Get the length in UTF-8 bytes of a cell.
+	 * 
+	 * @param index the index to get
+	 * @return the length in bytes, or -1 for null
+	 */
+	public int getByteLength(int index) {
+		return _len[index];
+	}
+
+	@Override
+	public synchronized void set(int index, String value) {
+		final int old = _len[index];
+		if(value == null) {
+			_len[index] = NULL;
+			_garbage += Math.max(old, 0);
+			return;
+		}
+		final byte[] b = value.getBytes(StandardCharsets.UTF_8);
+		if(old >= b.length) { // reuse the old bytes
+			System.arraycopy(b, 0, _buf, _off[index], b.length);
+			_garbage += old - b.length;
+		}
+		else {
+			_garbage += Math.max(old, 0);
+			_len[index] = NULL; // exclude the old bytes from compaction
+			ensureCapacity(b.length);
+			System.arraycopy(b, 0, _buf, _bufLen, b.length);
+			_off[index] = _bufLen;
+			_bufLen += b.length;
+		}
+		_len[index] = b.length;
+	}
+
+	private void ensureCapacity(int add) {
+		if(_garbage > 1024 && _garbage > _bufLen / 2)
+			compact();
+		final int need = checkBufferLength((long) _bufLen + add);
+		if(need > _buf.length)
+			_buf = Arrays.copyOf(_buf, Math.max(need, (int) Math.min(MAX_BUFFER, _buf.length * 2L)));
+	}
+
+	/** Rewrite the buffer in row order without unreferenced bytes. */
+	private void compact() {
+		final long stamp = _lock.writeLock();
+		try {
+			final byte[] buf = new byte[Math.max(_bufLen - _garbage, 16)];
+			int p = 0;
+			for(int i = 0; i < _size; i++) {
+				final int l = _len[i];
+				if(l > 0) {
+					System.arraycopy(_buf, _off[i], buf, p, l);
+					_off[i] = p;
+					p += l;
+				}
+			}
+			_buf = buf;
+			_bufLen = p;
+			_garbage = 0;
+		}
+		finally {
+			_lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void set(int index, double value) {
+		set(index, Double.toString(value));
+	}
+
+	@Override
+	public void setFromOtherType(int rl, int ru, Array<?> value) {
+		for(int i = rl; i <= ru; i++) {
+			final Object v = value.get(i);
+			set(i, v != null ? v.toString() : null);
+		}
+	}
+
+	@Override
+	public void set(int rl, int ru, Array<String> value, int rlSrc) {
+		if(value instanceof Utf8StringArray) {
+			final Utf8StringArray that = (Utf8StringArray) value;
+			synchronized(this) {
+				for(int i = rl, j = rlSrc; i <= ru; i++, j++)
+					setBytes(i, that._buf, that._off[j], that._len[j]);
+			}
+		}
+		else
+			super.set(rl, ru, value, rlSrc);
+	}
+
+	private void setBytes(int index, byte[] src, int off, int len) {
+		final int old = _len[index];
+		if(len == NULL) {
+			_garbage += Math.max(old, 0);
+		}
+		else if(old >= len) {
+			System.arraycopy(src, off, _buf, _off[index], len);
+			_garbage += old - len;
+		}
+		else {
+			_garbage += Math.max(old, 0);
+			_len[index] = NULL; // exclude the old bytes from compaction
+			ensureCapacity(len);
+			System.arraycopy(src, off, _buf, _bufLen, len);
+			_off[index] = _bufLen;
+			_bufLen += len;
+		}
+		_len[index] = len;
+	}
+
+	@Override
+	public void setNz(int rl, int ru, Array<String> value) {
+		for(int i = rl; i <= ru; i++) {
+			final String v = value.get(i);
+			if(v != null)
+				set(i, v);
+		}
+	}
+
+	@Override
+	public void setFromOtherTypeNz(int rl, int ru, Array<?> value) {
+		for(int i = rl; i <= ru; i++) {
+			final Object v = value.get(i);
+			if(v != null)
+				set(i, v.toString());
+		}
+	}
+
+	@Override
+	public synchronized void append(String value) {
+		if(_off.length <= _size) {
+			final int newSize = newSize();
+			_off = Arrays.copyOf(_off, newSize);
+			_len = Arrays.copyOf(_len, newSize);
+		}
+		_len[_size++] = NULL;
+		set(_size - 1, value);
+	}
+
+	@Override
+	public Array<String> append(Array<String> other) {
+		final Utf8StringArray that = create(other);
+		final int n = _size + that._size;
+		final byte[] buf = Arrays.copyOf(compacted()._buf, checkBufferLength((long) _bufLen + that._bufLen));
+		final int[] off = Arrays.copyOf(_off, n);
+		final int[] len = Arrays.copyOf(_len, n);
+		for(int i = 0; i < that._size; i++) {
+			off[_size + i] = that._off[i] + _bufLen;
+			len[_size + i] = that._len[i];
+		}
+		System.arraycopy(that._buf, 0, buf, _bufLen, that._bufLen);
+		return new Utf8StringArray(buf, _bufLen + that._bufLen, off, len);
+	}
+
+	private synchronized Utf8StringArray compacted() {
+		if(_garbage > 0)
+			compact();
+		return this;
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		compacted();
+		out.writeByte(FrameArrayType.UTF8.ordinal());
+		for(int i = 0; i < _size; i++)
+			out.writeInt(_len[i]);
+		int p = 0;
+		for(int i = 0; i < _size; i++) { // buffer in row order
+			final int l = _len[i];
+			if(l > 0) {
+				out.write(_buf, _off[i], l);
+				p += l;
+			}
+		}
+		if(p != _bufLen)
+			throw new IOException("Invalid UTF-8 buffer length " + p + " vs " + _bufLen);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		int p = 0;
+		for(int i = 0; i < _size; i++) {
+			final int l = in.readInt();
+			_len[i] = l;
+			_off[i] = p;
+			p = checkBufferLength((long) p + Math.max(l, 0));
+		}
+		_buf = new byte[p];
+		in.readFully(_buf);
+		_bufLen = p;
+		_garbage = 0;
+	}
+
+	protected static Utf8StringArray read(DataInput in, int nRow) throws IOException {
+		final Utf8StringArray arr = new Utf8StringArray(nRow);
+		arr.readFields(in);
+		return arr;
+	}
+
+	@Override
+	public synchronized Array<String> clone() {
+		return slice(0, _size);
+	}
+
+	@Override
+	public synchronized Array<String> slice(int rl, int ru) {
+		final int n = ru - rl;
+		int bufLen = 0;
+		for(int i = rl; i < ru; i++)
+			bufLen += Math.max(_len[i], 0);
+		final byte[] buf = new byte[bufLen];
+		final int[] off = new int[n];
+		final int[] len = Arrays.copyOfRange(_len, rl, ru);
+		int p = 0;
+		for(int i = 0; i < n; i++) {
+			off[i] = p;
+			if(len[i] > 0) {
+				System.arraycopy(_buf, _off[rl + i], buf, p, len[i]);
+				p += len[i];
+			}
+		}
+		return new Utf8StringArray(buf, bufLen, off, len);
+	}
+
+	@Override
+	public synchronized void reset(int size) {
+		if(_off.length < size || _off.length > 2 * size) {
+			_off = new int[size];
+			_len = new int[size];
+		}
+		Arrays.fill(_len, 0, size, NULL);
+		_size = size;
+		_bufLen = 0;
+		_garbage = 0;
+	}
+
+	@Override
+	public byte[] getAsByteArray() {
+		throw new NotImplementedException("Not Implemented getAsByte for string");
+	}
+
+	@Override
+	public ValueType getValueType() {
+		return ValueType.STRING;
+	}
+
+	@Override
+	public Pair<ValueType, Boolean> analyzeValueType(int maxCells) {
+		return decode(0, Math.min(maxCells, _size)).analyzeValueType(maxCells);
+	}
+
+	@Override
+	public FrameArrayType getFrameArrayType() {
+		return FrameArrayType.UTF8;
+	}
+
+	@Override
+	public BitSetArray getNulls() {
+		BitSetArray n = new BitSetArray(_size);
+		for(int i = 0; i < _size; i++)
+			if(_len[i] != NULL)
+				n.set(i, true);
+		return n;
+	}
+
+	@Override
+	public long getInMemorySize() {
+		long size = super.getInMemorySize(); // object header + object reference
+		size += MemoryEstimates.byteArrayCost(_buf.length);
+		size += 2 * MemoryEstimates.intArrayCost(_off.length);
+		size += 12; // buffer length and garbage counters
+		return size;
+	}
+
+	@Override
+	public long getExactSerializedSize() {
+		return 1 + 4L * _size + _bufLen - _garbage;
+	}
+
+	/**
+	 * Decode the cells [l, u) into a string array of the full size, used to reuse the type conversions of StringArray.
+	 */
+	private StringArray decode(int l, int u) {
+		final String[] ret = new String[_size];
+		for(int i = l; i < u; i++)
+			ret[i] = get(i);
+		return new StringArray(ret);
+	}
+
+	@Override
+	protected Array<Boolean> changeTypeBitSet(Array<Boolean> ret, int l, int u) {
+		return decode(l, u).changeTypeBitSet(ret, l, u);
+	}
+
+	@Override
+	protected Array<Boolean> changeTypeBoolean(Array<Boolean> ret, int l, int u) {
+		return decode(l, u).changeTypeBoolean(ret, l, u);
+	}
+
+	@Override
+	protected Array<Double> changeTypeDouble(Array<Double> ret, int l, int u) {
+		return decode(l, u).changeTypeDouble(ret, l, u);
+	}
+
+	@Override
+	protected Array<Float> changeTypeFloat(Array<Float> ret, int l, int u) {
+		return decode(l, u).changeTypeFloat(ret, l, u);
+	}
+
+	@Override
+	protected Array<Integer> changeTypeInteger(Array<Integer> ret, int l, int u) {
+		return decode(l, u).changeTypeInteger(ret, l, u);
+	}
+
+	@Override
+	protected Array<Long> changeTypeLong(Array<Long> ret, int l, int u) {
+		return decode(l, u).changeTypeLong(ret, l, u);
+	}
+
+	@Override
+	protected Array<Object> changeTypeHash64(Array<Object> ret, int l, int u) {
+		for(int i = l; i < u; i++)
+			ret.set(i, get(i));
+		return ret;
+	}
+
+	@Override
+	protected Array<Object> changeTypeHash32(Array<Object> ret, int l, int u) {
+		for(int i = l; i < u; i++)
+			ret.set(i, get(i));
+		return ret;
+	}
+
+	@Override
+	protected Array<Character> changeTypeCharacter(Array<Character> ret, int l, int u) {
+		return decode(l, u).changeTypeCharacter(ret, l, u);
+	}
+
+	@Override
+	protected Array<String> changeTypeString(Array<String> ret, int l, int u) {
+		ret.set(l, u - 1, this, l);
+		return ret;
+	}
+
+	@Override
+	public Pair<Integer, Integer> getMinMaxLength() {
+		int minLength = Integer.MAX_VALUE;
+		int maxLength = 0;
+		for(int i = 0; i < _size; i++) {
+			if(_len[i] == NULL)
+				continue;
+			final int l = isAscii(i) ? _len[i] : get(i).length();
+			minLength = minLength < l ? minLength : l;
+			maxLength = maxLength > l ? maxLength : l;
+		}
+		return new Pair<>(minLength, maxLength);
+	}
+
+	private boolean isAscii(int i) {
+		for(int j = _off[i]; j < _off[i] + _len[i]; j++)
+			if(_buf[j] < 0)
+				return false;
+		return true;
+	}
+
+	@Override
+	public synchronized void fill(String value) {
+		if(value == null) {
+			Arrays.fill(_len, 0, _size, NULL);
+			_bufLen = 0;
+			_garbage = 0;
+			return;
+		}
+		final byte[] b = value.getBytes(StandardCharsets.UTF_8);
+		_bufLen = checkBufferLength((long) b.length * _size);
+		_buf = new byte[Math.max(_bufLen, 16)];
+		for(int i = 0; i < _size; i++) {
+			System.arraycopy(b, 0, _buf, i * b.length, b.length);
+			_off[i] = i * b.length;
+			_len[i] = b.length;
+		}
+		_garbage = 0;
+	}
+
+	@Override
+	public double getAsDouble(int i) {
+		return _len[i] > 0 ? getAsDouble(get(i)) : 0.0;
+	}
+
+	@Override
+	public double getAsNaNDouble(int i) {
+		return _len[i] > 0 ? getAsDouble(get(i)) : Double.NaN;
+	}
+
+	private static double getAsDouble(String s) {
+		return new StringArray(new String[] {s}).getAsDouble(0);
+	}
+
+	@Override
+	public boolean isShallowSerialize() {
+		return true;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for(int i = 0; i < _size; i++)
+			if(isNotEmpty(i))
+				return false;
+		return true;
+	}
+
+	@Override
+	public boolean containsNull() {
+		for(int i = 0; i < _size; i++)
+			if(_len[i] == NULL)
+				return true;
+		return false;
+	}
+
+	@Override
+	public Array<String> select(int[] indices) {
+		final Utf8StringArray ret = new Utf8StringArray(indices.length);
+		for(int i = 0; i < indices.length; i++)
+			ret.setBytes(i, _buf, _off[indices[i]], _len[indices[i]]);
+		return ret;
+	}
+
+	@Override
+	public Array<String> select(boolean[] select, int nTrue) {
+		final Utf8StringArray ret = new Utf8StringArray(nTrue);
+		int k = 0;
+		for(int i = 0; i < select.length; i++)
+			if(select[i])
+				ret.setBytes(k++, _buf, _off[i], _len[i]);
+		return ret;
+	}
+
+	@Override
+	public final boolean isNotEmpty(int i) {
+		final int l = _len[i];
+		return l != NULL && !(l == 1 && _buf[_off[i]] == '0');
+	}
+
+	@Override
+	public double hashDouble(int idx) {
+		return _len[idx] != NULL ? stringHash(idx) : Double.NaN;
+	}
+
+	@Override
+	public boolean equals(Array<String> other) {
+		if(!(other instanceof Utf8StringArray) || other.size() != _size)
+			return false;
+		final Utf8StringArray that = (Utf8StringArray) other;
+		for(int i = 0; i < _size; i++) {
+			final int l = _len[i];
+			if(l != that._len[i] || (l > 0 && !Arrays.equals(//
+				_buf, _off[i], _off[i] + l, that._buf, that._off[i], that._off[i] + l)))
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean possiblyContainsNaN() {
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(_size * 5 + 2);
+		sb.append(super.toString() + ":[");
+		for(int i = 0; i < _size - 1; i++)
+			sb.append(get(i) + ",");
+		sb.append(get(_size - 1));
+		sb.append("]");
+		return sb.toString();
+	}
+}
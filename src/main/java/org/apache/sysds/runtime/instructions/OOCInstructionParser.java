@@ -32,6 +32,7 @@ import org.apache.sysds.runtime.instructions.ooc.CentralMomentOOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.CtableOOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.IndexingOOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.DataGenOOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.MultiReturnParameterizedBuiltinOOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.OOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.ParameterizedBuiltinOOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.ReblockOOCInstruction;
@@ -106,6 +107,8 @@ public class OOCInstructionParser extends InstructionParser {
 				return CtableOOCInstruction.parseInstruction(str);
 			case ParameterizedBuiltin:
 				return ParameterizedBuiltinOOCInstruction.parseInstruction(str);
+			case MultiReturnParameterizedBuiltin:
+				return MultiReturnParameterizedBuiltinOOCInstruction.parseInstruction(str);
 			case MatrixIndexing:
 				return IndexingOOCInstruction.parseInstruction(str);
 			case Rand:
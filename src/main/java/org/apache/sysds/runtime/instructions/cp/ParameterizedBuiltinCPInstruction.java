@@ -34,6 +34,8 @@ import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.common.Opcodes;
 import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.parser.ParameterizedBuiltinFunctionExpression;
@@ -59,6 +61,7 @@ import org.apache.sysds.runtime.matrix.operators.SimpleOperator;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.transform.decode.Decoder;
 import org.apache.sysds.runtime.transform.decode.DecoderFactory;
+import org.apache.sysds.runtime.transform.encode.EncoderCache;
 import org.apache.sysds.runtime.transform.encode.EncoderFactory;
 import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
@@ -331,10 +334,18 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			MatrixBlock embeddings = params.get("embedding") != null ? ec.getMatrixInput(params.get("embedding")) : null;
 			String[] colNames = data.getColumnNames();
 
-			// compute transformapply
-			MultiColumnEncoder encoder = EncoderFactory
-				.createEncoder(params.get("spec"), colNames, data.getNumColumns(), meta, embeddings);
-			MatrixBlock mbout = encoder.apply(data, OptimizerUtils.getTransformNumThreads());
+			// compute transformapply (with encoders of pinned meta frames reused across calls if enabled)
+			MatrixBlock mbout;
+			EncoderCache cache = ec.getEncoderCache();
+			if(cache != null && ConfigurationManager.getCompilerConfigFlag(ConfigType.CACHE_TRANSFORM_ENCODERS)
+				&& !ec.getFrameObject(params.get("meta")).isCleanupEnabled())
+				mbout = cache.apply(params.get("spec"), data, meta, embeddings,
+					OptimizerUtils.getTransformNumThreads());
+			else {
+				MultiColumnEncoder encoder = EncoderFactory
+					.createEncoder(params.get("spec"), colNames, data.getNumColumns(), meta, embeddings);
+				mbout = encoder.apply(data, OptimizerUtils.getTransformNumThreads());
+			}
 
 			// release locks
 			ec.setMatrixOutput(output.getName(), mbout);
@@ -19,17 +19,18 @@
 
 package org.apache.sysds.runtime.instructions.ooc;
 
+import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
-import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.meta.DataCharacteristics;
 import org.apache.sysds.runtime.ooc.cache.BlockKey;
 import org.apache.sysds.runtime.ooc.cache.GroupedBlockKey;
 import org.apache.sysds.runtime.ooc.cache.OOCIOHandler;
 import org.apache.sysds.runtime.ooc.cache.OOCCacheManager;
+import org.apache.sysds.runtime.ooc.cache.OOCBlockCompressor;
 import org.apache.sysds.runtime.ooc.stream.SourceOOCStream;
 import org.apache.sysds.runtime.ooc.stream.message.OOCGetStreamTypeMessage;
 import org.apache.sysds.runtime.ooc.stream.message.OOCStreamMessage;
@@ -70,6 +71,12 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 	// stream identifier
 	private final long _streamId;
 
+	// per-stream compression of cached blocks (null if disabled)
+	private final OOCBlockCompressor _compressor;
+
+	// number of cached blocks to prefetch ahead of sequential consumers
+	private final int _readAhead;
+
 	// block counter
 	private int _numBlocks = 0;
 
@@ -94,6 +101,9 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 		_source = source;
 		_source.setDownstreamMessageRelay(this::messageDownstream);
 		_streamId = streamId;
+		// source-backed blocks are re-read from their source and thus kept uncompressed
+		_compressor = source instanceof SourceOOCStream ? null : OOCBlockCompressor.create();
+		_readAhead = ConfigurationManager.getOOCReadAhead();
 		if(OOCWatchdog.WATCH) {
 			_watchdogId = "CS-" + hashCode();
 			// Capture a short context to help identify origin
@@ -107,6 +117,13 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 				Consumer<OOCStream.QueueCallback<IndexedMatrixValue>>[] mSubscribers;
 				OOCStream.QueueCallback<IndexedMatrixValue> mCallback = null;
 
+				// compress new blocks outside the lock to not serialize concurrent producers
+				IndexedMatrixValue cvalue = null;
+				if(_compressor != null && !tmp.isEos() && !(tmp instanceof OOCStream.GroupQueueCallback<?>)
+					&& !(tmp instanceof OOCCacheManager.CachedQueueCallback<?>)
+					&& !(tmp instanceof OOCCacheManager.CachedSubCallback<?>))
+					cvalue = _compressor.compress(tmp.get());
+
 				synchronized(this) {
 					mSubscribers = _subscribers;
 					if(!tmp.isEos()) {
@@ -143,7 +160,7 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 									try(sub) {
 										IndexedMatrixValue imv = sub.get();
 										values.add(imv);
-										totalSize += ((MatrixBlock) imv.getValue()).getExactSerializedSize();
+										totalSize += OOCBlockCompressor.getCacheSize(imv.getValue());
 									}
 								}
 
@@ -207,10 +224,11 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 								ownsEntry = true;
 								blockKey = new BlockKey(_streamId, _numBlocks);
 								if(descriptor == null) {
+									IndexedMatrixValue value = cvalue != null ? cvalue : task;
 									if(mSubscribers == null || mSubscribers.length == 0)
-										OOCCacheManager.put(_streamId, _numBlocks, task);
+										OOCCacheManager.put(_streamId, _numBlocks, value);
 									else
-										mCallback = OOCCacheManager.putAndPin(_streamId, _numBlocks, task);
+										mCallback = OOCCacheManager.putAndPin(_streamId, _numBlocks, value);
 								}
 								else {
 									if(mSubscribers == null || mSubscribers.length == 0)
@@ -307,7 +325,7 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 		}
 		catch(IllegalArgumentException ex) {
 			try {
-				OOCCacheManager.putRaw(key, value, ((MatrixBlock) value.getValue()).getExactSerializedSize());
+				OOCCacheManager.putRaw(key, value, OOCBlockCompressor.getCacheSize(value.getValue()));
 			}
 			catch(IllegalStateException putEx) {
 				// Another downstream stream may have re-materialized the same entry first.
@@ -331,7 +349,7 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 					try(sub) {
 						IndexedMatrixValue imv = sub.get();
 						values.add(imv);
-						totalSize += ((MatrixBlock) imv.getValue()).getExactSerializedSize();
+						totalSize += OOCBlockCompressor.getCacheSize(imv.getValue());
 					}
 				}
 				OOCCacheManager.putRaw(key, values, totalSize);
@@ -434,6 +452,7 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 			if(_failure != null)
 				throw _failure;
 			else if(idx < _numBlocks) {
+				readAhead(idx);
 				return OOCCacheManager.requestBlock(getBlockKey(idx))
 					.thenApply(cb -> {
 						synchronized(this) {
@@ -459,6 +478,26 @@ public class CachingStream implements OOCStreamable<IndexedMatrixValue> {
 		}
 	}
 
+	/**
+	 * Hints the cache to read back the blocks following idx, as sequential
+	 * consumers request them next. Requires the stream lock.
+	 */
+	private void readAhead(int idx) {
+		int end = Math.min(_numBlocks, idx + 1 + _readAhead);
+		if(idx + 1 >= end)
+			return;
+		List<BlockKey> keys = new ArrayList<>(end - idx - 1);
+		for(int i = idx + 1; i < end; i++) {
+			if(_deletable && _consumptionCounts.getInt(i) >= _maxConsumptionCount)
+				continue; // already released
+			BlockKey key = getEntryBlockKey(i);
+			if(keys.isEmpty() || !keys.get(keys.size() - 1).equals(key))
+				keys.add(key);
+		}
+		if(!keys.isEmpty())
+			OOCCacheManager.prefetch(keys);
+	}
+
 	public int findCachedIndex(MatrixIndexes idx) {
 		return _index.get(idx);
 	}
@@ -24,6 +24,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.sysds.common.Opcodes;
 import org.apache.sysds.lops.MapMultChain.ChainType;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.data.DenseBlock;
@@ -224,6 +225,8 @@ public class MapMMChainOOCInstruction extends ComputationOOCInstruction {
 	}
 
 	private static MatrixBlock multTransposeVector(MatrixBlock x, MatrixBlock u) {
+		x = CompressedMatrixBlock.getUncompressed(x);
+		u = CompressedMatrixBlock.getUncompressed(u);
 		int rows = x.getNumRows();
 		int cols = x.getNumColumns();
 		MatrixBlock out = new MatrixBlock(cols, 1, false);
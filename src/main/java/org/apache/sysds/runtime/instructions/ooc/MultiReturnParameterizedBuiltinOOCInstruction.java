@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+
+/**
+ * Out-of-core transformencode in two passes over row-block chunks of the input frame: the first pass
+ * incrementally builds the encoder meta data, the second pass applies the encoder per chunk and emits
+ * the encoded matrix as a stream of blocks. Only a single frame chunk and its encoded blocks are held
+ * in memory at a time. Encoders that require the entire column (e.g., equi-height binning) are rejected,
+ * as they cannot be built without materializing the input.
+ */
+public class MultiReturnParameterizedBuiltinOOCInstruction extends ComputationOOCInstruction {
+	protected final ArrayList<CPOperand> _outputs;
+
+	private MultiReturnParameterizedBuiltinOOCInstruction(Operator op, CPOperand input1, CPOperand input2,
+		ArrayList<CPOperand> outputs, String opcode, String istr) {
+		super(OOCType.MultiReturnParameterizedBuiltin, op, input1, input2, outputs.get(0), opcode, istr);
+		_outputs = outputs;
+	}
+
+	public CPOperand getOutput(int i) {
+		return _outputs.get(i);
+	}
+
+	public static MultiReturnParameterizedBuiltinOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		String opcode = parts[0];
+		if(!opcode.equalsIgnoreCase(Opcodes.TRANSFORMENCODE.toString()))
+			throw new DMLRuntimeException("Invalid opcode in MultiReturnParameterizedBuiltinOOCInstruction: " + opcode);
+
+		// one input and two outputs
+		CPOperand in1 = new CPOperand(parts[1]);
+		CPOperand in2 = new CPOperand(parts[2]);
+		ArrayList<CPOperand> outputs = new ArrayList<>();
+		outputs.add(new CPOperand(parts[3], ValueType.FP64, DataType.MATRIX));
+		outputs.add(new CPOperand(parts[4], ValueType.STRING, DataType.FRAME));
+		return new MultiReturnParameterizedBuiltinOOCInstruction(null, in1, in2, outputs, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		FrameObject fo = ec.getFrameObject(input1);
+		String spec = ec.getScalarInput(input2).getStringValue();
+		int blen = ConfigurationManager.getBlocksize();
+		int k = OptimizerUtils.getTransformNumThreads();
+
+		// first pass: incremental build over row-block chunks, encoder created from first chunk's column names
+		final MultiColumnEncoder[] encoder = new MultiColumnEncoder[1];
+		final String[][] colnames = new String[1][];
+		final long[] nrow = new long[1];
+		try {
+			streamFrameOOC(fo, blen, chunk -> {
+				FrameBlock fb = chunk.getValue();
+				if(encoder[0] == null) {
+					colnames[0] = fb.getColumnNames();
+					encoder[0] = EncoderFactory.createEncoder(spec, colnames[0], fb.getNumColumns(), null);
+				}
+				// unsupported encoders are rejected after the pass
+				if(encoder[0].supportsIncrementalBuild())
+					encoder[0].buildIncremental(fb);
+				nrow[0] = chunk.getKey() + fb.getNumRows();
+			}).get();
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw DMLRuntimeException.of(e);
+		}
+		if(encoder[0] == null)
+			throw new DMLRuntimeException("Invalid input with wrong number of rows");
+
+		MultiColumnEncoder enc = encoder[0];
+		if(!enc.supportsIncrementalBuild())
+			throw new DMLRuntimeException("Out-of-core transformencode does not support encoders "
+				+ "that require the entire column (e.g., equi-height binning): " + spec);
+		enc.finalizeIncrementalBuild();
+
+		// meta data output
+		int ncol = (int) fo.getNumColumns();
+		FrameBlock meta = enc.getMetaData(new FrameBlock(ncol, ValueType.STRING), k);
+		meta.setColumnNames(colnames[0]);
+		ec.setFrameOutput(getOutput(1).getName(), meta);
+
+		// second pass: apply per chunk and emit encoded blocks
+		OOCStream<IndexedMatrixValue> qOut = encodeFrameOOC(fo, enc, blen, k);
+		String outName = getOutput(0).getName();
+		if(!ec.containsVariable(outName))
+			ec.setVariable(outName, ExecutionContext.createMatrixObject(
+				new MatrixCharacteristics(nrow[0], enc.getNumOutCols(), blen)));
+		DataCharacteristics dc = ec.getDataCharacteristics(outName);
+		dc.set(nrow[0], enc.getNumOutCols(), blen);
+		ec.getMatrixObject(outName).setStreamHandle(qOut);
+	}
+}
@@ -23,15 +23,27 @@ import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.instructions.Instruction;
 import org.apache.sysds.runtime.instructions.OOCInstructionParser;
 import org.apache.sysds.runtime.instructions.cp.CPInstruction;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.matrix.operators.Operator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.runtime.ooc.cache.BlockEntry;
 import org.apache.sysds.runtime.ooc.cache.BlockKey;
 import org.apache.sysds.runtime.ooc.cache.OOCCacheManager;
@@ -41,6 +53,7 @@ import org.apache.sysds.runtime.ooc.stream.MergedOOCStream;
 import org.apache.sysds.runtime.ooc.stream.SplittingOOCStream;
 import org.apache.sysds.runtime.ooc.stream.StreamContext;
 import org.apache.sysds.runtime.ooc.stream.TaskContext;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.utils.Statistics;
 import scala.Tuple2;
@@ -48,6 +61,7 @@ import scala.Tuple4;
 import scala.Tuple5;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -64,6 +78,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -80,7 +95,8 @@ public abstract class OOCInstruction extends Instruction {
 
 	public enum OOCType {
 		Reblock, Tee, Binary, Ternary, Unary, AggregateUnary, AggregateBinary, AggregateTernary, MAPMM, MMTSJ,
-		MAPMMCHAIN, Reorg, CM, Ctable, MatrixIndexing, ParameterizedBuiltin, Rand, Append, Quaternary
+		MAPMMCHAIN, Reorg, CM, Ctable, MatrixIndexing, ParameterizedBuiltin, MultiReturnParameterizedBuiltin,
+		Rand, Append, Quaternary
 	}
 
 	protected final OOCInstruction.OOCType _ooctype;
@@ -717,6 +733,14 @@ public abstract class OOCInstruction extends Instruction {
 	}
 
 	protected CompletableFuture<Void> groupedReduceOOC(OOCStream<IndexedMatrixValue> qIn, OOCStream<IndexedMatrixValue> qOut, BiFunction<IndexedMatrixValue, IndexedMatrixValue, IndexedMatrixValue> reduce, int emitCount) {
+		return groupedReduceOOC(qIn, qOut, reduce, ix -> emitCount);
+	}
+
+	/**
+	 * Grouped reduce with a per-key number of expected partials, e.g., for scattered rows where
+	 * the number of contributing input blocks differs across output blocks.
+	 */
+	protected CompletableFuture<Void> groupedReduceOOC(OOCStream<IndexedMatrixValue> qIn, OOCStream<IndexedMatrixValue> qOut, BiFunction<IndexedMatrixValue, IndexedMatrixValue, IndexedMatrixValue> reduce, Function<MatrixIndexes, Integer> emitCountFn) {
 		addInStream(qIn);
 		addOutStream(qOut);
 
@@ -730,7 +754,7 @@ public abstract class OOCInstruction extends Instruction {
 			try(cb) {
 				Aggregator agg = aggregators.compute(cb.get().getIndexes(), (k, v) -> {
 					if(v == null) {
-						v = new Aggregator(reduce, emitCount);
+						v = new Aggregator(reduce, emitCountFn.apply(k));
 						busyCtr.incrementAndGet();
 						v.getFuture().thenApply(imv -> {
 							qOut.enqueue(imv);
@@ -754,6 +778,58 @@ public abstract class OOCInstruction extends Instruction {
 		return outFuture.thenRun(qOut::closeInput);
 	}
 
+	/**
+	 * Scatters the rows (or columns) of a blocked input to the 1-based target positions of an in-memory
+	 * offset vector (0 drops the row/column), similar to the distributed removeEmpty. Each input block
+	 * produces disjoint partial output blocks, which are merged via the cache-backed grouped reduce and
+	 * hence may be spilled while other partials are still outstanding.
+	 *
+	 * @param qIn the input stream
+	 * @param qOut the output stream
+	 * @param offsets the target positions as n x 1 (rows) or 1 x m (columns) vector
+	 * @param rows true for scattering rows, false for scattering columns
+	 * @param len the output length along the scattered dimension
+	 * @param blen the block size
+	 * @return the future of the merged output
+	 */
+	protected CompletableFuture<Void> scatterOOC(OOCStream<IndexedMatrixValue> qIn, OOCStream<IndexedMatrixValue> qOut,
+		MatrixBlock offsets, boolean rows, long len, int blen) {
+		// determine the number of contributing input blocks per output block
+		int inLen = rows ? offsets.getNumRows() : offsets.getNumColumns();
+		int[] counts = new int[(int) Math.ceil((double) len / blen)];
+		BitSet seen = new BitSet(counts.length);
+		for(int bix = 0; bix < inLen; bix += blen) {
+			seen.clear();
+			for(int i = bix; i < Math.min(bix + blen, inLen); i++) {
+				long pos = (long) (rows ? offsets.get(i, 0) : offsets.get(0, i));
+				if(pos > 0 && !seen.get((int) ((pos - 1) / blen))) {
+					seen.set((int) ((pos - 1) / blen));
+					counts[(int) ((pos - 1) / blen)]++;
+				}
+			}
+		}
+
+		OOCStream<IndexedMatrixValue> qPartial = createWritableStream();
+		expandOOC(qIn, qPartial, tmp -> {
+			MatrixIndexes ix = tmp.getIndexes();
+			int off = (int) (((rows ? ix.getRowIndex() : ix.getColumnIndex()) - 1) * blen);
+			MatrixBlock in = CompressedMatrixBlock.getUncompressed(tmp.getValue());
+			MatrixBlock slice = rows ? offsets.slice(off, off + in.getNumRows() - 1, 0, 0) :
+				offsets.slice(0, 0, off, off + in.getNumColumns() - 1);
+			ArrayList<IndexedMatrixValue> out = new ArrayList<>();
+			LibMatrixReorg.rmempty(new IndexedMatrixValue(ix, in), new IndexedMatrixValue(ix, slice),
+				rows, len, blen, out);
+			return out;
+		});
+
+		return groupedReduceOOC(qPartial, qOut, (left, right) -> {
+			MatrixBlock mb = (MatrixBlock) left.getValue();
+			mb.merge((MatrixBlock) right.getValue(), false);
+			mb.examSparsity();
+			return left;
+		}, ix -> counts[(int) ((rows ? ix.getRowIndex() : ix.getColumnIndex()) - 1)]);
+	}
+
 	private static class Aggregator {
 		private final long _streamId;
 		private final BiFunction<IndexedMatrixValue, IndexedMatrixValue, IndexedMatrixValue> _aggFn;
@@ -1227,6 +1303,107 @@ public abstract class OOCInstruction extends Instruction {
 		return future;
 	}
 
+	/**
+	 * Streams the given frame as row-block chunks of at most blen rows, paired with the 0-based row offset
+	 * of their first row. The consumer is invoked sequentially and in row order from the producing task,
+	 * which waits for backpressure before each chunk. Unmodified csv files are read incrementally, other
+	 * frames are sliced from the in-memory block.
+	 *
+	 * @param fo         frame object
+	 * @param blen       number of rows per chunk
+	 * @param consumer   chunk consumer
+	 * @param outStreams output streams to fail on errors
+	 * @return future that completes after all chunks have been consumed
+	 */
+	protected CompletableFuture<Void> streamFrameOOC(FrameObject fo, int blen, Consumer<Pair<Long, FrameBlock>> consumer,
+		OOCStream<?>... outStreams) {
+		OOCStream<Pair<Long, FrameBlock>> qFrame = createWritableStream();
+		qFrame.setSubscriber(cb -> {
+			if(cb.isEos() || cb.isFailure())
+				return;
+			waitForBackpressure();
+			consumer.accept(cb.get());
+		});
+
+		DataCharacteristics dc = fo.getDataCharacteristics();
+		// unmodified csv and binary inputs are read incrementally, while intermediates
+		// (already materialized in memory or the buffer pool) are sliced from memory
+		boolean fromFile = !fo.isDirty() && !fo.isCached(true) && fo.getFileName() != null;
+		FileFormat fmt = (fo.getMetaData() instanceof MetaDataFormat) ?
+			((MetaDataFormat) fo.getMetaData()).getFileFormat() : null;
+		if(fromFile && fmt != FileFormat.CSV && fmt != FileFormat.BINARY)
+			throw new DMLRuntimeException("Out-of-core frame streams only support csv and binary inputs: "
+				+ fo.getFileName() + " (" + fmt + ")");
+		FileFormatProperties props = fo.getFileFormatProperties();
+
+		return submitOOCTask(() -> {
+			if(fromFile) {
+				try {
+					if(fmt == FileFormat.CSV) {
+						FrameReaderTextCSV reader = new FrameReaderTextCSV(
+							props instanceof FileFormatPropertiesCSV ? (FileFormatPropertiesCSV) props : null);
+						reader.readFrameAsStream(qFrame, fo.getFileName(), fo.getSchema(),
+							FrameBlock.createColNames((int) dc.getCols()), dc.getRows(), dc.getCols(), blen);
+					}
+					else
+						new FrameReaderBinaryBlock()
+							.readFrameAsStream(qFrame, fo.getFileName(), dc.getRows(), dc.getCols(), blen);
+				}
+				catch(Exception ex) {
+					throw DMLRuntimeException.of(ex);
+				}
+			}
+			else {
+				FrameBlock fb = fo.acquireRead();
+				try {
+					for(int rl = 0; rl < fb.getNumRows(); rl += blen) {
+						int ru = Math.min(rl + blen, fb.getNumRows()) - 1;
+						qFrame.enqueue(new Pair<>((long) rl, fb.slice(rl, ru, 0, fb.getNumColumns() - 1, false, null)));
+					}
+				}
+				finally {
+					fo.release();
+					qFrame.closeInput();
+				}
+			}
+		}, new StreamContext().addOutStream(qFrame).addOutStream(outStreams));
+	}
+
+	/**
+	 * Applies a built encoder to all row-block chunks of the given frame and emits the encoded
+	 * matrix as blen x blen blocks into a new output stream.
+	 *
+	 * @param fo   input frame
+	 * @param enc  built encoder
+	 * @param blen block size of frame chunks and output blocks
+	 * @param k    degree of parallelism per chunk
+	 * @return stream of encoded matrix blocks
+	 */
+	protected OOCStream<IndexedMatrixValue> encodeFrameOOC(FrameObject fo, MultiColumnEncoder enc, int blen, int k) {
+		OOCStream<IndexedMatrixValue> qOut = createWritableStream();
+		addOutStream(qOut);
+		streamFrameOOC(fo, blen, chunk -> {
+			MatrixBlock out = enc.apply(chunk.getValue(), k);
+			long brix = chunk.getKey() / blen + 1;
+			for(int cl = 0, bcix = 1; cl < out.getNumColumns(); cl += blen, bcix++) {
+				int cu = Math.min(cl + blen, out.getNumColumns()) - 1;
+				MatrixBlock blk = out.slice(0, out.getNumRows() - 1, cl, cu, new MatrixBlock());
+				qOut.enqueue(new IndexedMatrixValue(new MatrixIndexes(brix, bcix), blk));
+			}
+		}, qOut).thenRun(qOut::closeInput);
+		return qOut;
+	}
+
+	private static void waitForBackpressure() {
+		long parkNanos = 1_000_000L;
+		while(!OOCCacheManager.canClaimMemory()) {
+			LockSupport.parkNanos(parkNanos);
+			if(Thread.interrupted())
+				throw new DMLRuntimeException(new InterruptedException());
+			parkNanos = Math.min(parkNanos * 2, 200_000_000L);
+		}
+	}
+
 	private Runnable oocTask(Runnable r, CompletableFuture<Void> future,  StreamContext ctx) {
 		return () -> {
 			boolean setContext = TaskContext.getContext() == null;
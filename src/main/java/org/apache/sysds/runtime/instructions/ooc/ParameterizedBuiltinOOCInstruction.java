@@ -22,10 +22,16 @@ package org.apache.sysds.runtime.instructions.ooc;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.sysds.common.Opcodes;
 import org.apache.sysds.common.Types;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.functionobjects.ParameterizedBuiltin;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
@@ -38,12 +44,18 @@ import org.apache.sysds.runtime.instructions.cp.ScalarObjectFactory;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
 import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.SimpleOperator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.runtime.util.DataConverter;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -81,6 +93,10 @@ public class ParameterizedBuiltinOOCInstruction extends ComputationOOCInstructio
 			func = ParameterizedBuiltin.getParameterizedBuiltinFnObject(opcode);
 			return new ParameterizedBuiltinOOCInstruction(new SimpleOperator(func), paramsMap, out, opcode, str);
 		}
+		else if(opcode.equalsIgnoreCase(Opcodes.TRANSFORMAPPLY.toString())
+			|| opcode.equalsIgnoreCase(Opcodes.RMEMPTY.toString())) {
+			return new ParameterizedBuiltinOOCInstruction(null, paramsMap, out, opcode, str);
+		}
 		else
 			throw new NotImplementedException(); // TODO
 	}
@@ -161,11 +177,162 @@ public class ParameterizedBuiltinOOCInstruction extends ComputationOOCInstructio
 
 				expandOOC(qIn, qOut, tmp -> {
 					ArrayList<IndexedMatrixValue> out = new ArrayList<>();
-					LibMatrixReorg.rexpand(tmp, lmaxVal, dirRows, cast, ignore, blen, out);
+					LibMatrixReorg.rexpand(new IndexedMatrixValue(tmp.getIndexes(),
+						CompressedMatrixBlock.getUncompressed(tmp.getValue())), lmaxVal, dirRows, cast, ignore, blen, out);
 					return out;
 				});
 			}
+			else if(instOpcode.equalsIgnoreCase(Opcodes.TRANSFORMAPPLY.toString())) {
+				// meta data and embeddings are small, the target is streamed in row-block chunks
+				FrameObject targetObj = ec.getFrameObject(params.get("target"));
+				FrameBlock meta = ec.getFrameInput(params.get("meta"));
+				MatrixBlock embeddings = params.get("embedding") != null ?
+					ec.getMatrixInput(params.get("embedding")) : null;
+				MultiColumnEncoder encoder = EncoderFactory.createEncoder(params.get("spec"),
+					meta.getColumnNames(), (int) targetObj.getNumColumns(), meta, embeddings);
+				encoder.updateAllDCEncoders();
+				ec.releaseFrameInput(params.get("meta"));
+				if(params.get("embedding") != null)
+					ec.releaseMatrixInput(params.get("embedding"));
+
+				int blen = ConfigurationManager.getBlocksize();
+				OOCStream<IndexedMatrixValue> qOut = encodeFrameOOC(targetObj, encoder, blen,
+					OptimizerUtils.getTransformNumThreads());
+				ec.getDataCharacteristics(output.getName())
+					.set(targetObj.getNumRows(), encoder.getNumOutCols(), blen);
+				ec.getMatrixObject(output).setStreamHandle(qOut);
+			}
+			else if(instOpcode.equalsIgnoreCase(Opcodes.RMEMPTY.toString())) {
+				processRemoveEmpty(ec);
+			}
 			else
 				throw new NotImplementedException();
 		}
+
+	private void processRemoveEmpty(ExecutionContext ec) {
+		String margin = params.get("margin");
+		if(!(margin.equals("rows") || margin.equals("cols")))
+			throw new DMLRuntimeException("Unsupported margin identifier '" + margin + "'.");
+		boolean rows = margin.equals("rows");
+		boolean emptyReturn = Boolean.parseBoolean(params.get("empty.return").toLowerCase());
+		MatrixObject targetObj = ec.getMatrixObject(params.get("target"));
+		DataCharacteristics dc = targetObj.getDataCharacteristics();
+		int blen = targetObj.getBlocksize();
+		//the non-empty indicators are materialized as double[]
+		long llen = rows ? dc.getRows() : dc.getCols();
+		if(llen > Integer.MAX_VALUE)
+			throw new DMLRuntimeException("OOC removeEmpty does not support more than "
+				+ Integer.MAX_VALUE + " " + margin + " (" + llen + " " + margin + ").");
+		int len = (int) llen;
+
+		// the selection vector is small, without it the non-empty indicators are
+		// computed in a first pass over the (cached) target
+		OOCStreamable<IndexedMatrixValue> streamable = targetObj.getStreamable();
+		boolean createdCache = false;
+		CachingStream cache = null;
+		OOCStream<IndexedMatrixValue> qIn;
+		double[] select;
+		if(params.containsKey("select")) {
+			MatrixBlock sel = ec.getMatrixInput(params.get("select"));
+			select = DataConverter.convertToDoubleVector(sel, false);
+			ec.releaseMatrixInput(params.get("select"));
+			if(select.length != len)
+				throw new DMLRuntimeException("Dimension mismatch between target and select vector: "
+					+ select.length + " vs " + len + ".");
+			qIn = targetObj.getStreamHandle();
+		}
+		else {
+			createdCache = !streamable.hasStreamCache();
+			cache = createdCache ? new CachingStream(targetObj.getStreamHandle()) : streamable.getStreamCache();
+			select = computeNonEmptyIndicators(cache.getReadStream(), rows, len, blen);
+			qIn = cache.getReadStream();
+		}
+
+		// compute the 1-based target positions of retained rows/columns
+		MatrixBlock offsets = rows ? new MatrixBlock(len, 1, false) : new MatrixBlock(1, len, false);
+		offsets.allocateDenseBlock();
+		double[] off = offsets.getDenseBlockValues();
+		int kept = 0;
+		for(int i = 0; i < len; i++)
+			if(select[i] != 0)
+				off[i] = ++kept;
+		offsets.setNonZeros(kept);
+
+		long outLen = (kept == 0) ? (emptyReturn ? 1 : 0) : kept;
+		ec.getDataCharacteristics(output.getName())
+			.set(rows ? outLen : dc.getRows(), rows ? dc.getCols() : outLen, blen, -1);
+		OOCStream<IndexedMatrixValue> qOut = createWritableStream();
+		ec.getMatrixObject(output).setStreamHandle(qOut);
+
+		CompletableFuture<Void> future;
+		if(kept == 0) {
+			// consume the target and emit empty 1 x n (m x 1) blocks if requested
+			future = expandOOC(qIn, qOut, tmp -> {
+				MatrixIndexes ix = tmp.getIndexes();
+				if(!emptyReturn || (rows ? ix.getRowIndex() : ix.getColumnIndex()) != 1)
+					return List.of();
+				MatrixBlock blk = (MatrixBlock) tmp.getValue();
+				return List.of(new IndexedMatrixValue(
+					new MatrixIndexes(rows ? 1 : ix.getRowIndex(), rows ? ix.getColumnIndex() : 1),
+					new MatrixBlock(rows ? 1 : blk.getNumRows(), rows ? blk.getNumColumns() : 1, true)));
+			});
+		}
+		else {
+			future = scatterOOC(qIn, qOut, offsets, rows, kept, blen);
+		}
+
+		final boolean deleteCache = createdCache;
+		final CachingStream fCache = cache;
+		future.whenComplete((r, err) -> {
+			if(deleteCache)
+				fCache.scheduleDeletion();
+			if(err != null)
+				qOut.propagateFailure(DMLRuntimeException.of(err));
+		});
+	}
+
+	private double[] computeNonEmptyIndicators(OOCStream<IndexedMatrixValue> qIn, boolean rows, int len, int blen) {
+		double[] ret = new double[len];
+		addInStream(qIn);
+		addOutStream(); // the indicators are collected in memory
+		CompletableFuture<Void> future = pipeOOC(qIn, cb -> {
+			try(cb) {
+				MatrixBlock blk = CompressedMatrixBlock.getUncompressed(cb.get().getValue());
+				MatrixIndexes ix = cb.get().getIndexes();
+				int off = (int) (((rows ? ix.getRowIndex() : ix.getColumnIndex()) - 1) * blen);
+				if(blk.isEmptyBlock(false))
+					return;
+				// disjoint ranges for rows, idempotent writes of 1 for columns
+				if(blk.isInSparseFormat()) {
+					SparseBlock sb = blk.getSparseBlock();
+					for(int i = 0; i < blk.getNumRows(); i++) {
+						if(sb.isEmpty(i))
+							continue;
+						if(rows)
+							ret[off + i] = 1;
+						else {
+							int apos = sb.pos(i);
+							int[] aix = sb.indexes(i);
+							for(int k = apos; k < apos + sb.size(i); k++)
+								ret[off + aix[k]] = 1;
+						}
+					}
+				}
+				else {
+					for(int i = 0; i < blk.getNumRows(); i++)
+						for(int j = 0; j < blk.getNumColumns(); j++)
+							if(blk.get(i, j) != 0)
+								ret[off + (rows ? i : j)] = 1;
+				}
+			}
+		});
+
+		try {
+			future.get();
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+		return ret;
 	}
+}
@@ -22,6 +22,7 @@ package org.apache.sysds.runtime.instructions.ooc;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.sysds.common.Opcodes;
 import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.functionobjects.SortIndex;
@@ -33,10 +34,24 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.ooc.cache.OOCCacheManager;
 import org.apache.sysds.runtime.util.DataConverter;
 import org.apache.sysds.runtime.util.IndexRange;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
 public class ReorgOOCInstruction extends ComputationOOCInstruction {
+	// maximum number of sorted runs merged at once
+	private static final int SORT_MERGE_FANIN = 16;
+
 	// sort-specific attributes (to enable variable attributes)
 	private final CPOperand _col;
 	private final CPOperand _desc;
@@ -131,16 +146,9 @@ public class ReorgOOCInstruction extends ComputationOOCInstruction {
 				new int[]{(int)ec.getScalarInput(_col).getLongValue()};
 			boolean desc = ec.getScalarInput(_desc).getBooleanValue();
 			boolean ixret = ec.getScalarInput(_ixret).getBooleanValue();
-			r_op = r_op.setFn(new SortIndex(cols, desc, ixret));
-
-			// For now, we reuse the CP instruction
-			// In future, we could optimize by building the permutation and streaming blocks column by column
-			MatrixBlock matBlock = min.acquireRead();
-			MatrixBlock soresBlock = matBlock.reorgOperations(r_op, new MatrixBlock(), 0, 0, 0);
 			if (_col.getDataType().isMatrix())
 				ec.releaseMatrixInput(_col.getName());
-			ec.releaseMatrixInput(input1.getName());
-			ec.setMatrixOutput(output.getName(), soresBlock);
+			processSort(ec, min, cols, desc, ixret);
 		} else if(r_op.fn instanceof SwapIndex) {
 			OOCStream<IndexedMatrixValue> qIn = min.getStreamHandle();
 			OOCStream<IndexedMatrixValue> qOut = createWritableStream();
@@ -162,4 +170,274 @@ public class ReorgOOCInstruction extends ComputationOOCInstruction {
 			});
 		}
 	}
+
+	private void processSort(ExecutionContext ec, MatrixObject min, int[] by, boolean desc, boolean ixret) {
+		DataCharacteristics dc = min.getDataCharacteristics();
+		if(!dc.dimsKnown())
+			throw new DMLRuntimeException("OOC sort requires known dimensions.");
+		for(int c : by)
+			if(c < 1 || c > dc.getCols())
+				throw new DMLRuntimeException("Sort configuration issue: invalid orderby columns: "
+					+ Arrays.toString(by) + " (" + dc.getRows() + "x" + dc.getCols() + " input).");
+		//the sort permutation is materialized as int[]
+		if(dc.getRows() > Integer.MAX_VALUE)
+			throw new DMLRuntimeException("OOC sort does not support more than "
+				+ Integer.MAX_VALUE + " rows (" + dc.getRows() + " rows).");
+		int rlen = (int) dc.getRows();
+		int blen = min.getBlocksize();
+
+		// the data is streamed twice (sort keys, scatter of rows), except for index returns
+		OOCStreamable<IndexedMatrixValue> streamable = min.getStreamable();
+		boolean createdCache = !ixret && !streamable.hasStreamCache();
+		CachingStream cache = ixret ? null :
+			createdCache ? new CachingStream(min.getStreamHandle()) : streamable.getStreamCache();
+		int[] perm = computeSortPermutation(ixret ? min.getStreamHandle() : cache.getReadStream(),
+			dc, blen, by, desc);
+
+		if(ixret) {
+			MatrixBlock ret = new MatrixBlock(rlen, 1, false);
+			ret.allocateDenseBlock();
+			double[] c = ret.getDenseBlockValues();
+			for(int i = 0; i < rlen; i++)
+				c[i] = perm[i] + 1;
+			ret.setNonZeros(rlen);
+			ec.setMatrixOutput(output.getName(), ret);
+			return;
+		}
+
+		// scatter the input rows to their sorted positions
+		MatrixBlock offsets = new MatrixBlock(rlen, 1, false);
+		offsets.allocateDenseBlock();
+		double[] off = offsets.getDenseBlockValues();
+		for(int i = 0; i < rlen; i++)
+			off[perm[i]] = i + 1;
+		offsets.setNonZeros(rlen);
+
+		ec.getDataCharacteristics(output.getName()).set(dc.getRows(), dc.getCols(), blen, dc.getNonZeros());
+		OOCStream<IndexedMatrixValue> qOut = createWritableStream();
+		ec.getMatrixObject(output).setStreamHandle(qOut);
+		scatterOOC(cache.getReadStream(), qOut, offsets, true, rlen, blen).whenComplete((r, err) -> {
+			if(createdCache)
+				cache.scheduleDeletion();
+			if(err != null)
+				qOut.propagateFailure(DMLRuntimeException.of(err));
+		});
+	}
+
+	/**
+	 * Computes the sort permutation by an external merge sort: the key columns of each row block form
+	 * a sorted run as soon as all its key blocks arrived, which is spilled through the OOC cache as
+	 * pages of (keys, row index) rows. The runs are merged in cascaded k-way merges of bounded fan-in,
+	 * which only pin the current page of each merged run. Only the final permutation is kept in memory.
+	 */
+	private int[] computeSortPermutation(OOCStream<IndexedMatrixValue> qIn, DataCharacteristics dc, int blen,
+		int[] by, boolean desc) {
+		if(dc.getRows() > Integer.MAX_VALUE)
+			throw new DMLRuntimeException("OOC sort does not support more than "
+				+ Integer.MAX_VALUE + " rows (" + dc.getRows() + " rows).");
+		int rlen = (int) dc.getRows();
+		int nrb = (int) dc.getNumRowBlocks();
+		int nk = by.length;
+		int numKeyBlocks = (int) Arrays.stream(by).map(c -> (c - 1) / blen).distinct().count();
+		MatrixBlock[] keys = new MatrixBlock[nrb];
+		int[] pending = new int[nrb];
+		Arrays.fill(pending, numKeyBlocks);
+		List<SortRun> runs = new ArrayList<>(nrb);
+		SortIndex sfn = new SortIndex(IntStream.rangeClosed(1, nk).toArray(), desc, true);
+
+		addInStream(qIn);
+		addOutStream(); // the sort runs are spilled through the cache
+		CompletableFuture<Void> future = pipeOOC(qIn, cb -> {
+			try(cb) {
+				MatrixIndexes ix = cb.get().getIndexes();
+				int cl = (int) (ix.getColumnIndex() - 1) * blen;
+				if(Arrays.stream(by).noneMatch(c -> c - 1 >= cl && c - 1 < cl + blen))
+					return;
+				MatrixBlock blk = (MatrixBlock) cb.get().getValue();
+				int bi = (int) ix.getRowIndex() - 1;
+				int nrows = blk.getNumRows();
+				MatrixBlock k;
+				synchronized(keys) {
+					if(keys[bi] == null) {
+						keys[bi] = new MatrixBlock(nrows, nk, false);
+						keys[bi].allocateDenseBlock();
+					}
+					k = keys[bi];
+				}
+				double[] kv = k.getDenseBlockValues();
+				for(int j = 0; j < nk; j++)
+					if(by[j] - 1 >= cl && by[j] - 1 < cl + blen)
+						for(int i = 0; i < nrows; i++)
+							kv[i * nk + j] = blk.get(i, by[j] - 1 - cl);
+				boolean complete;
+				synchronized(keys) {
+					complete = --pending[bi] == 0;
+					if(complete)
+						keys[bi] = null;
+				}
+				if(complete) {
+					SortRun run = SortRun.create(k, bi * blen, sfn, blen);
+					synchronized(runs) {
+						runs.add(run);
+					}
+				}
+			}
+		});
+
+		try {
+			future.get();
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+
+		// cascaded merges of bounded fan-in (ties are broken by row index, hence independent of the run order)
+		List<SortRun> current = runs;
+		while(current.size() > SORT_MERGE_FANIN) {
+			List<SortRun> next = new ArrayList<>();
+			for(int i = 0; i < current.size(); i += SORT_MERGE_FANIN) {
+				List<SortRun> group = current.subList(i, Math.min(i + SORT_MERGE_FANIN, current.size()));
+				SortRun out = new SortRun(nk + 1, blen, group.stream().mapToInt(r -> r._length).sum());
+				mergeSortRuns(group, nk, desc, out::append);
+				next.add(out);
+			}
+			current = next;
+		}
+		int[] perm = new int[rlen];
+		int[] pos = new int[1];
+		mergeSortRuns(current, nk, desc, (row, off) -> perm[pos[0]++] = (int) row[off + nk]);
+		return perm;
+	}
+
+	private static void mergeSortRuns(List<SortRun> runs, int nk, boolean desc, ObjIntConsumer<double[]> sink) {
+		PriorityQueue<SortRunCursor> heads = new PriorityQueue<>(Math.max(runs.size(), 1),
+			(a, b) -> compareSortRows(a._vals, a._off, b._vals, b._off, nk, desc));
+		for(SortRun run : runs) {
+			SortRunCursor cursor = new SortRunCursor(run);
+			if(cursor.next())
+				heads.add(cursor);
+		}
+		while(!heads.isEmpty()) {
+			SortRunCursor head = heads.poll();
+			sink.accept(head._vals, head._off);
+			if(head.next())
+				heads.add(head);
+		}
+	}
+
+	private static int compareSortRows(double[] a, int aoff, double[] b, int boff, int nk, boolean desc) {
+		for(int j = 0; j < nk; j++) {
+			int ret = Double.compare(a[aoff + j], b[boff + j]);
+			if(ret != 0)
+				return desc ? -ret : ret;
+		}
+		return Double.compare(a[aoff + nk], b[boff + nk]); // stable
+	}
+
+	/**
+	 * Sorted run of (keys, row index) rows, stored as cached pages of up to blen rows.
+	 */
+	private static class SortRun {
+		private final long _streamId;
+		private final int _width;
+		private final int _blen;
+		private final int _length;
+		private int _numPages;
+		private int _written;
+		private MatrixBlock _page;
+
+		private SortRun(int width, int blen, int length) {
+			_streamId = CachingStream._streamSeq.getNextID();
+			_width = width;
+			_blen = blen;
+			_length = length;
+		}
+
+		private static SortRun create(MatrixBlock keys, int rowOffset, SortIndex sfn, int blen) {
+			int nrows = keys.getNumRows();
+			int nk = keys.getNumColumns();
+			keys.recomputeNonZeros();
+			MatrixBlock ix = keys.reorgOperations(new ReorgOperator(sfn), new MatrixBlock(), -1, -1, -1);
+			double[] kv = keys.getDenseBlockValues();
+			SortRun run = new SortRun(nk + 1, blen, nrows);
+			MatrixBlock page = new MatrixBlock(nrows, nk + 1, false);
+			page.allocateDenseBlock();
+			double[] c = page.getDenseBlockValues();
+			for(int i = 0; i < nrows; i++) {
+				int r = (int) ix.get(i, 0) - 1;
+				System.arraycopy(kv, r * nk, c, i * (nk + 1), nk);
+				c[i * (nk + 1) + nk] = rowOffset + r;
+			}
+			run.addPage(page);
+			return run;
+		}
+
+		private void append(double[] row, int off) {
+			if(_page == null) {
+				_page = new MatrixBlock(Math.min(_blen, _length - _written), _width, false);
+				_page.allocateDenseBlock();
+			}
+			System.arraycopy(row, off, _page.getDenseBlockValues(), (_written % _blen) * _width, _width);
+			if(++_written % _blen == 0 || _written == _length)
+				addPage(_page);
+		}
+
+		private void addPage(MatrixBlock page) {
+			page.recomputeNonZeros();
+			OOCCacheManager.put(_streamId, _numPages, new IndexedMatrixValue(new MatrixIndexes(_numPages + 1, 1), page));
+			_numPages++;
+			_page = null;
+		}
+	}
+
+	/**
+	 * Read cursor over a sorted run, which pins one page at a time and drops consumed pages.
+	 */
+	private static class SortRunCursor {
+		private final SortRun _run;
+		private OOCStream.QueueCallback<IndexedMatrixValue> _cb;
+		private int _pageIx = -1;
+		private int _rows;
+		private int _pos;
+		private double[] _vals;
+		private int _off;
+
+		private SortRunCursor(SortRun run) {
+			_run = run;
+		}
+
+		private boolean next() {
+			if(_cb != null && ++_pos < _rows) {
+				_off += _run._width;
+				return true;
+			}
+			release();
+			if(++_pageIx >= _run._numPages)
+				return false;
+			try {
+				_cb = OOCCacheManager.requestBlock(_run._streamId, _pageIx).get();
+			}
+			catch(InterruptedException | ExecutionException e) {
+				throw new DMLRuntimeException(e);
+			}
+			MatrixBlock page = (MatrixBlock) _cb.get().getValue();
+			if(page.isInSparseFormat()) { // pages might be spilled in sparse format
+				page = new MatrixBlock(page);
+				page.sparseToDense();
+			}
+			_rows = page.getNumRows();
+			_vals = page.getDenseBlock() != null ? page.getDenseBlockValues() : new double[_rows * _run._width];
+			_pos = 0;
+			_off = 0;
+			return true;
+		}
+
+		private void release() {
+			if(_cb == null)
+				return;
+			_cb.close();
+			OOCCacheManager.forget(_run._streamId, _pageIx);
+			_cb = null;
+		}
+	}
 }
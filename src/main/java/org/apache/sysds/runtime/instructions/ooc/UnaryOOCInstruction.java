@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.functionobjects.Builtin;
@@ -128,7 +129,7 @@ public class UnaryOOCInstruction extends ComputationOOCInstruction {
 
 			this.<IndexedMatrixValue, double[]>scanOOC(splitInputs.get(i), partOut,
 				imv -> rowCum ? imv.getIndexes().getColumnIndex() : imv.getIndexes().getRowIndex(), (imv, agg) -> {
-					MatrixBlock inBlk = (MatrixBlock) imv.getValue();
+					MatrixBlock inBlk = CompressedMatrixBlock.getUncompressed(imv.getValue());
 					int outRows = inBlk.getNumRows();
 					int outCols = sumProd ? 1 : inBlk.getNumColumns();
 					MatrixBlock outBlk = LibMatrixAgg.cumaggregateUnaryMatrix(inBlk,
@@ -0,0 +1,504 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.util.FastBufferedDataOutputStream;
+
+/**
+ * Lightweight, pure-Java codec for serialized matrix and frame blocks, which is applied
+ * per block to binary-block files and local spill files. Each block is stored as a frame
+ * of a one-byte codec type, the raw and encoded lengths, and the payload. The payload is
+ * compressed with a simple LZ77 variant (in the spirit of the LZ4 block format), optionally
+ * after a byte shuffle of 8-byte words that groups the sign/exponent and mantissa bytes of
+ * doubles. The codec is chosen adaptively: we compress a sample of the block with and
+ * without shuffle, and store the block raw if the compression ratio does not pay off.
+ * 
+ * Blocks of binary-block records and spill files are written by writeBlock as their raw
+ * length followed by frames of independently encoded chunks of at most CHUNK_SIZE bytes,
+ * which are encoded while the block is serialized, with scratch buffers of the chunk size
+ * instead of copies of the entire block.
+ */
+public class BlockCodec
+{
+	public static final byte RAW = 0;
+	public static final byte LZ = 1;
+	public static final byte SHUFFLE_LZ = 2;
+
+	public static final int HEADER_SIZE = 9;
+	//max raw size of a frame of an encoded block
+	public static final int CHUNK_SIZE = 1024 * 1024;
+	//blocks smaller than this are always stored raw
+	public static final int MIN_SIZE = 4 * 1024;
+	//minimum compression ratio for storing a block encoded
+	public static final double MIN_RATIO = 1.25;
+
+	private static final int SAMPLE_SIZE = 64 * 1024;
+	private static final int HASH_LOG = 14;
+	private static final int MIN_MATCH = 4;
+	private static final int MAX_OFFSET = 65535;
+	private static final int LAST_LITERALS = 5;
+	private static final int MF_LIMIT = 12;
+	private static final int SKIP_TRIGGER = 6;
+
+	private BlockCodec() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Indicates if a block of the given serialized size is a candidate for encoding.
+	 * 
+	 * @param size serialized size in bytes
+	 * @return true if the block should be encoded
+	 */
+	public static boolean isApplicable(long size) {
+		return size >= MIN_SIZE && size <= Integer.MAX_VALUE - HEADER_SIZE;
+	}
+
+	/**
+	 * Serializes the given cache block and writes it as its raw length followed by
+	 * the encoded frames of its chunks, which are encoded during serialization.
+	 * 
+	 * @param out data output
+	 * @param cb matrix or frame block, with a serialized size that satisfies isApplicable
+	 * @return number of written bytes
+	 * @throws IOException if IOException occurs
+	 */
+	public static long writeBlock(DataOutput out, CacheBlock<?> cb) throws IOException {
+		long len = cb.getExactSerializedSize();
+		out.writeInt((int) len);
+		ChunkEncoder enc = new ChunkEncoder(out, (int) len);
+		FastBufferedDataOutputStream dout = new FastBufferedDataOutputStream(enc);
+		cb.write(dout);
+		dout.flush();
+		enc.finish();
+		if( enc._rawLen != len )
+			throw new IOException("Serialized size mismatch: "+enc._rawLen+" (expected "+len+").");
+		return Integer.BYTES + enc._encLen;
+	}
+
+	/**
+	 * Writes the first len bytes of the given buffer as its raw length followed by
+	 * the encoded frames of its chunks.
+	 * 
+	 * @param out data output
+	 * @param src source buffer
+	 * @param len number of bytes to encode
+	 * @return number of written bytes
+	 * @throws IOException if IOException occurs
+	 */
+	public static long writeBlock(DataOutput out, byte[] src, int len) throws IOException {
+		out.writeInt(len);
+		ChunkEncoder enc = new ChunkEncoder(out, 0);
+		enc.write(src, 0, len);
+		return Integer.BYTES + enc._encLen;
+	}
+
+	/**
+	 * Reads a block written by writeBlock and returns the decoded bytes.
+	 * 
+	 * @param in data input
+	 * @return decoded buffer of the raw length
+	 * @throws IOException if IOException occurs
+	 */
+	public static byte[] readBlock(DataInput in) throws IOException {
+		int len = in.readInt();
+		if( len < 0 )
+			throw new IOException("Invalid block codec length: "+len+".");
+		byte[] ret = new byte[len];
+		Buffers buffs = new Buffers();
+		for( int pos = 0; pos < len; )
+			pos += read(in, ret, pos, len - pos, buffs);
+		return ret;
+	}
+
+	/**
+	 * Encodes the first len bytes of the given buffer and writes them as a single frame.
+	 * 
+	 * @param out data output
+	 * @param src source buffer
+	 * @param len number of bytes to encode
+	 * @return number of written bytes (including the frame header)
+	 * @throws IOException if IOException occurs
+	 */
+	public static int write(DataOutput out, byte[] src, int len) throws IOException {
+		return write(out, src, 0, len, new Buffers());
+	}
+
+	private static int write(DataOutput out, byte[] src, int off, int len, Buffers buffs) throws IOException {
+		byte type = (len >= MIN_SIZE) ? selectCodec(src, off, len, buffs) : RAW;
+		byte[] data = src;
+		int doff = off;
+		int dlen = len;
+		if( type != RAW ) {
+			byte[] in = src;
+			int ioff = off;
+			if( type == SHUFFLE_LZ ) {
+				in = buffs.tmp(len);
+				shuffle(src, off, len, in);
+				ioff = 0;
+			}
+			byte[] dst = buffs.dst((int) (len / MIN_RATIO));
+			dlen = compress(in, ioff, len, dst, (int) (len / MIN_RATIO), buffs.table());
+			if( dlen >= 0 ) {
+				data = dst;
+				doff = 0;
+			}
+			else { //fallback if the sample was not representative
+				type = RAW;
+				dlen = len;
+			}
+		}
+		out.writeByte(type);
+		out.writeInt(len);
+		out.writeInt(dlen);
+		out.write(data, doff, dlen);
+		return HEADER_SIZE + dlen;
+	}
+
+	/**
+	 * Reads a single frame and returns the decoded bytes.
+	 * 
+	 * @param in data input
+	 * @return decoded buffer of the raw length
+	 * @throws IOException if IOException occurs
+	 */
+	public static byte[] read(DataInput in) throws IOException {
+		byte type = in.readByte();
+		int len = in.readInt();
+		int dlen = in.readInt();
+		checkHeader(type, len, dlen, Integer.MAX_VALUE);
+		byte[] data = new byte[dlen];
+		in.readFully(data);
+		if( type == RAW )
+			return data;
+		byte[] ret = new byte[len];
+		decompress(data, 0, dlen, ret, 0, len);
+		if( type == SHUFFLE_LZ ) {
+			byte[] tmp = new byte[len];
+			unshuffle(ret, 0, len, tmp, 0);
+			ret = tmp;
+		}
+		return ret;
+	}
+
+	private static int read(DataInput in, byte[] dst, int off, int maxLen, Buffers buffs) throws IOException {
+		byte type = in.readByte();
+		int len = in.readInt();
+		int dlen = in.readInt();
+		checkHeader(type, len, dlen, maxLen);
+		if( type == RAW ) {
+			if( dlen != len )
+				throw new IOException("Invalid raw frame: len="+len+", dlen="+dlen+".");
+			in.readFully(dst, off, len);
+			return len;
+		}
+		byte[] data = buffs.dst(dlen);
+		in.readFully(data, 0, dlen);
+		if( type == SHUFFLE_LZ ) {
+			byte[] tmp = buffs.tmp(len);
+			decompress(data, 0, dlen, tmp, 0, len);
+			unshuffle(tmp, 0, len, dst, off);
+		}
+		else
+			decompress(data, 0, dlen, dst, off, len);
+		return len;
+	}
+
+	private static void checkHeader(byte type, int len, int dlen, int maxLen) throws IOException {
+		if( len < 0 || dlen < 0 || dlen > len || len > maxLen || type < RAW || type > SHUFFLE_LZ )
+			throw new IOException("Invalid block codec header: type="+type+", len="+len+", dlen="+dlen+".");
+	}
+
+	private static byte selectCodec(byte[] src, int off, int len, Buffers buffs) {
+		//compress a sample from the middle of the block (aligned to the 8-byte words)
+		//with and without shuffle, and early abort if the ratio does not pay off
+		int slen = Math.min(len, SAMPLE_SIZE) & ~7;
+		int soff = off + (((len - slen) / 2) & ~7);
+		int maxLen = (int) (slen / MIN_RATIO);
+		byte[] dst = buffs.dst(maxLen);
+		int lz = compress(src, soff, slen, dst, maxLen, buffs.table());
+		byte[] tmp = buffs.tmp(slen);
+		shuffle(src, soff, slen, tmp);
+		int slz = compress(tmp, 0, slen, dst, maxLen, buffs.table());
+		if( lz < 0 && slz < 0 )
+			return RAW;
+		return (slz >= 0 && (lz < 0 || slz < lz)) ? SHUFFLE_LZ : LZ;
+	}
+
+	/**
+	 * Transposes the bytes of the 8-byte words in src[off, off+len) into dst, such that
+	 * the i-th bytes of all words are stored contiguously. Trailing bytes are copied as is.
+	 * 
+	 * @param src source buffer
+	 * @param off offset in source buffer
+	 * @param len number of bytes
+	 * @param dst destination buffer, starting at position 0
+	 */
+	public static void shuffle(byte[] src, int off, int len, byte[] dst) {
+		int n = len / 8;
+		for( int i = 0, ix = off; i < n; i++, ix += 8 )
+			for( int k = 0; k < 8; k++ )
+				dst[k * n + i] = src[ix + k];
+		System.arraycopy(src, off + n * 8, dst, n * 8, len - n * 8);
+	}
+
+	/**
+	 * Inverse of shuffle, i.e., restores the 8-byte words from src[off, off+len) into dst.
+	 * 
+	 * @param src source buffer
+	 * @param off offset in source buffer
+	 * @param len number of bytes
+	 * @param dst destination buffer
+	 * @param doff offset in destination buffer
+	 */
+	public static void unshuffle(byte[] src, int off, int len, byte[] dst, int doff) {
+		int n = len / 8;
+		for( int k = 0; k < 8; k++ ) {
+			int ix = off + k * n;
+			for( int i = 0; i < n; i++ )
+				dst[doff + i * 8 + k] = src[ix + i];
+		}
+		System.arraycopy(src, off + n * 8, dst, doff + n * 8, len - n * 8);
+	}
+
+	/**
+	 * Compresses src[off, off+len) into dst as a sequence of literal runs and back
+	 * references (token, literal length, literals, 2-byte offset, match length).
+	 * 
+	 * @param src source buffer
+	 * @param off offset in source buffer
+	 * @param len number of bytes
+	 * @param dst destination buffer, starting at position 0
+	 * @param maxLen maximum encoded length
+	 * @return encoded length, or -1 if the encoded length would exceed maxLen
+	 */
+	public static int compress(byte[] src, int off, int len, byte[] dst, int maxLen) {
+		return compress(src, off, len, dst, maxLen, new int[1 << HASH_LOG]);
+	}
+
+	private static int compress(byte[] src, int off, int len, byte[] dst, int maxLen, int[] table) {
+		int end = off + len;
+		int limit = end - MF_LIMIT;
+		int mlimit = end - LAST_LITERALS;
+		int ip = off, anchor = off, op = 0;
+		while( ip < limit ) {
+			int seq = getInt(src, ip);
+			int h = (seq * -1640531535) >>> (32 - HASH_LOG);
+			int ref = table[h] - 1; //0 marks empty slots
+			table[h] = ip + 1;
+			if( ref < off || ip - ref > MAX_OFFSET || getInt(src, ref) != seq ) {
+				//skip faster over incompressible regions
+				ip += 1 + ((ip - anchor) >>> SKIP_TRIGGER);
+				continue;
+			}
+			int mlen = MIN_MATCH;
+			while( ip + mlen < mlimit && src[ref + mlen] == src[ip + mlen] )
+				mlen++;
+			op = writeSequence(src, anchor, ip - anchor, ip - ref, mlen, dst, op, maxLen);
+			if( op < 0 )
+				return -1;
+			ip += mlen;
+			anchor = ip;
+		}
+		//trailing literals without match
+		return writeSequence(src, anchor, end - anchor, 0, 0, dst, op, maxLen);
+	}
+
+	/**
+	 * Decompresses the encoded src[off, off+len) into dst.
+	 * 
+	 * @param src encoded buffer
+	 * @param off offset in encoded buffer
+	 * @param len encoded length
+	 * @param dst destination buffer
+	 * @param doff offset in destination buffer
+	 * @param rawLen expected decoded length
+	 * @throws IOException if the encoded data is corrupted
+	 */
+	public static void decompress(byte[] src, int off, int len, byte[] dst, int doff, int rawLen) throws IOException {
+		int ip = off, end = off + len, op = doff;
+		try {
+			while( ip < end ) {
+				int token = src[ip++] & 0xFF;
+				int llen = token >>> 4;
+				if( llen == 15 ) {
+					int b;
+					do { b = src[ip++] & 0xFF; llen += b; } while( b == 255 );
+				}
+				if( op + llen > doff + rawLen )
+					throw new IOException("Invalid literal length: "+llen+" at position "+(op-doff)+".");
+				System.arraycopy(src, ip, dst, op, llen);
+				ip += llen;
+				op += llen;
+				if( ip >= end ) //last sequence
+					break;
+				int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+				ip += 2;
+				int mlen = token & 0x0F;
+				if( mlen == 15 ) {
+					int b;
+					do { b = src[ip++] & 0xFF; mlen += b; } while( b == 255 );
+				}
+				mlen += MIN_MATCH;
+				int ref = op - offset;
+				if( offset == 0 || ref < doff || op + mlen > doff + rawLen )
+					throw new IOException("Invalid back reference: offset="+offset+" at position "+(op-doff)+".");
+				if( offset >= mlen )
+					System.arraycopy(dst, ref, dst, op, mlen);
+				else //overlapping copy of repeated patterns
+					for( int i = 0; i < mlen; i++ )
+						dst[op + i] = dst[ref + i];
+				op += mlen;
+			}
+		}
+		catch(IndexOutOfBoundsException ex) {
+			throw new IOException("Corrupted encoded block.", ex);
+		}
+		if( op - doff != rawLen )
+			throw new IOException("Invalid decoded length: "+(op-doff)+" (expected "+rawLen+").");
+	}
+
+	private static int writeSequence(byte[] src, int anchor, int llen, int offset, int mlen, byte[] dst, int op, int maxLen) {
+		if( op + llen + llen / 255 + mlen / 255 + 8 > maxLen )
+			return -1;
+		int token = op++;
+		int t = Math.min(llen, 15) << 4;
+		if( llen >= 15 )
+			op = writeLength(dst, op, llen - 15);
+		System.arraycopy(src, anchor, dst, op, llen);
+		op += llen;
+		if( mlen > 0 ) {
+			dst[op++] = (byte) offset;
+			dst[op++] = (byte) (offset >>> 8);
+			int ml = mlen - MIN_MATCH;
+			t |= Math.min(ml, 15);
+			if( ml >= 15 )
+				op = writeLength(dst, op, ml - 15);
+		}
+		dst[token] = (byte) t;
+		return op;
+	}
+
+	private static int writeLength(byte[] dst, int op, int len) {
+		while( len >= 255 ) {
+			dst[op++] = (byte) 255;
+			len -= 255;
+		}
+		dst[op++] = (byte) len;
+		return op;
+	}
+
+	/**
+	 * Scratch buffers of the encoder and decoder, which are reused across the
+	 * frames of a block and grown on demand up to the chunk size.
+	 */
+	private static class Buffers {
+		private byte[] _tmp;
+		private byte[] _dst;
+		private int[] _table;
+
+		private byte[] tmp(int len) {
+			if( _tmp == null || _tmp.length < len )
+				_tmp = new byte[len];
+			return _tmp;
+		}
+
+		private byte[] dst(int len) {
+			if( _dst == null || _dst.length < len )
+				_dst = new byte[len];
+			return _dst;
+		}
+
+		private int[] table() {
+			if( _table == null )
+				_table = new int[1 << HASH_LOG];
+			else
+				Arrays.fill(_table, 0);
+			return _table;
+		}
+	}
+
+	/**
+	 * Output stream that collects the serialized bytes of a block into chunks
+	 * and writes each full chunk as an encoded frame.
+	 */
+	private static class ChunkEncoder extends OutputStream {
+		private final DataOutput _out;
+		private final Buffers _buffs = new Buffers();
+		private final byte[] _chunk;
+		private int _count = 0;
+		private long _rawLen = 0;
+		private long _encLen = 0;
+
+		private ChunkEncoder(DataOutput out, int len) {
+			_out = out;
+			//no chunk buffer needed for writes of serialized blocks
+			_chunk = (len > 0) ? new byte[Math.min(len, CHUNK_SIZE)] : null;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if( _count == _chunk.length )
+				finish();
+			_chunk[_count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if( _chunk == null ) { //encode directly from the source buffer
+				for( int pos = 0; pos < len; pos += CHUNK_SIZE ) {
+					int clen = Math.min(CHUNK_SIZE, len - pos);
+					_encLen += BlockCodec.write(_out, b, off + pos, clen, _buffs);
+					_rawLen += clen;
+				}
+				return;
+			}
+			while( len > 0 ) {
+				if( _count == _chunk.length )
+					finish();
+				int n = Math.min(len, _chunk.length - _count);
+				System.arraycopy(b, off, _chunk, _count, n);
+				_count += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		private void finish() throws IOException {
+			if( _count > 0 ) {
+				_encLen += BlockCodec.write(_out, _chunk, 0, _count, _buffs);
+				_rawLen += _count;
+				_count = 0;
+			}
+		}
+	}
+
+	private static int getInt(byte[] buf, int pos) {
+		return (buf[pos] & 0xFF) | (buf[pos + 1] & 0xFF) << 8
+			| (buf[pos + 2] & 0xFF) << 16 | (buf[pos + 3] & 0xFF) << 24;
+	}
+}
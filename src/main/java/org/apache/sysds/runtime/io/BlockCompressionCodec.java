@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionInputStream;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
+
+/**
+ * Hadoop compression codec that applies the adaptive {@link BlockCodec} to the records of
+ * record-compressed sequence files, i.e., per matrix/frame block of binary-block files.
+ * Each finished record is written as one length-prefixed encoded block, and the input
+ * stream decodes exactly one such block after every reset, i.e., at the record boundary.
+ * The codec class name is stored in the sequence file header, which makes the encoding
+ * transparent to all readers. The codec works without (pooled) compressors.
+ */
+public class BlockCompressionCodec implements CompressionCodec
+{
+	private static final int INIT_BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public CompressionOutputStream createOutputStream(OutputStream out) throws IOException {
+		return new BlockCompressionOutputStream(out);
+	}
+
+	@Override
+	public CompressionOutputStream createOutputStream(OutputStream out, Compressor compressor) throws IOException {
+		return new BlockCompressionOutputStream(out);
+	}
+
+	@Override
+	public Class<? extends Compressor> getCompressorType() {
+		return null;
+	}
+
+	@Override
+	public Compressor createCompressor() {
+		return null;
+	}
+
+	@Override
+	public CompressionInputStream createInputStream(InputStream in) throws IOException {
+		return new BlockCompressionInputStream(in);
+	}
+
+	@Override
+	public CompressionInputStream createInputStream(InputStream in, Decompressor decompressor) throws IOException {
+		return new BlockCompressionInputStream(in);
+	}
+
+	@Override
+	public Class<? extends Decompressor> getDecompressorType() {
+		return null;
+	}
+
+	@Override
+	public Decompressor createDecompressor() {
+		return null;
+	}
+
+	@Override
+	public String getDefaultExtension() {
+		return ".blk";
+	}
+
+	private static class BlockCompressionOutputStream extends CompressionOutputStream {
+		private final DataOutputStream _dout;
+		private byte[] _buff = new byte[INIT_BUFFER_SIZE];
+		private int _count = 0;
+		private boolean _finished = false;
+
+		protected BlockCompressionOutputStream(OutputStream out) {
+			super(out);
+			_dout = new DataOutputStream(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			ensureCapacity(_count + 1);
+			_buff[_count++] = (byte) b;
+			_finished = false;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ensureCapacity(_count + len);
+			System.arraycopy(b, off, _buff, _count, len);
+			_count += len;
+			_finished = false;
+		}
+
+		@Override
+		public void finish() throws IOException {
+			//encode the buffered record as a single block (also if empty,
+			//because the reader expects exactly one block per record)
+			if( !_finished ) {
+				BlockCodec.writeBlock(_dout, _buff, _count);
+				_dout.flush();
+			}
+			_count = 0;
+			_finished = true;
+		}
+
+		@Override
+		public void resetState() throws IOException {
+			_count = 0;
+			_finished = false;
+		}
+
+		private void ensureCapacity(int len) {
+			if( len > _buff.length )
+				_buff = Arrays.copyOf(_buff, Math.max(len, 2 * _buff.length));
+		}
+	}
+
+	private static class BlockCompressionInputStream extends CompressionInputStream {
+		private final DataInputStream _din;
+		private byte[] _buff = null;
+		private int _pos = 0;
+
+		protected BlockCompressionInputStream(InputStream in) throws IOException {
+			super(in);
+			_din = new DataInputStream(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			if( !fill() )
+				return -1;
+			return _buff[_pos++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if( len == 0 )
+				return 0;
+			if( !fill() )
+				return -1;
+			int n = Math.min(len, _buff.length - _pos);
+			System.arraycopy(_buff, _pos, b, off, n);
+			_pos += n;
+			return n;
+		}
+
+		@Override
+		public void resetState() throws IOException {
+			_buff = null;
+			_pos = 0;
+		}
+
+		private boolean fill() throws IOException {
+			//decode the length-prefixed block of the record on first access,
+			//and signal end of stream once it is consumed (until the next reset)
+			if( _buff == null ) {
+				_buff = BlockCodec.readBlock(_din);
+				_pos = 0;
+			}
+			return _pos < _buff.length;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.Serializable;
+
+public class FileFormatPropertiesParquet extends FileFormatProperties implements Serializable {
+	private static final long serialVersionUID = 3176498410825603261L;
+
+	/** Marker of reads without column projection. */
+	public static final String NO_PROJECTION = "*";
+
+	// 1-based, inclusive range of projected columns (-1 if all columns)
+	private final long colLower;
+	private final long colUpper;
+
+	public FileFormatPropertiesParquet() {
+		this(-1, -1);
+	}
+
+	public FileFormatPropertiesParquet(long colLower, long colUpper) {
+		this.colLower = colLower;
+		this.colUpper = colUpper;
+	}
+
+	/**
+	 * Parses a column projection as serialized into createvar instructions,
+	 * i.e., either "lower:upper" or "*" for reading all columns.
+	 * 
+	 * @param projection serialized column projection
+	 * @return format properties
+	 */
+	public static FileFormatPropertiesParquet parse(String projection) {
+		if(projection == null || projection.equals(NO_PROJECTION))
+			return new FileFormatPropertiesParquet();
+		String[] parts = projection.split(":");
+		return new FileFormatPropertiesParquet(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+	}
+
+	public boolean hasColumnProjection() {
+		return colLower > 0 && colUpper >= colLower;
+	}
+
+	public long getColumnLower() {
+		return colLower;
+	}
+
+	public long getColumnUpper() {
+		return colUpper;
+	}
+
+	public static String toProjectionString(long colLower, long colUpper) {
+		return colLower + ":" + colUpper;
+	}
+
+	@Override
+	public String toString() {
+		return " columns " + (hasColumnProjection() ?
+			toProjectionString(colLower, colUpper) : NO_PROJECTION);
+	}
+}
@@ -28,9 +28,14 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.frame.data.columns.Utf8StringArray;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
@@ -101,9 +106,39 @@ public abstract class FrameReader {
 		// prepare result frame block
 		FrameBlock ret = new FrameBlock(schema, names);
 		ret.ensureAllocatedColumns((int) nrow);
+
+		// parse string cells directly into UTF-8 buffers if configured
+		if(nrow > 0 && ConfigurationManager.isFrameUtf8StringsEnabled())
+			for(int j = 0; j < schema.length; j++)
+				if(schema[j] == ValueType.STRING)
+					ret.setColumn(j, Utf8StringArray.allocate((int) nrow));
 		return ret;
 	}
 
+	/**
+	 * Re-encode all string columns of the given frame block into a dictionary-encoded (DDC) column if it contains few
+	 * distinct values, or otherwise into a contiguous UTF-8 buffer, in both cases without per-cell String objects.
+	 * Columns that were already read into UTF-8 buffers (see {@link #createOutputFrameBlock}) are only
+	 * dictionary-encoded.
+	 * 
+	 * @param fb the frame block to modify in place
+	 * @return the given frame block
+	 */
+	@SuppressWarnings("unchecked")
+	public static FrameBlock encodeStringColumns(FrameBlock fb) {
+		for(int j = 0; j < fb.getNumColumns(); j++) {
+			final Array<?> col = fb.getColumn(j);
+			if(!(col instanceof StringArray || col instanceof Utf8StringArray))
+				continue;
+			final Array<String> ddc = DDCArray.compressToDDC((Array<String>) col);
+			if(ddc instanceof DDCArray)
+				fb.setColumn(j, ((DDCArray<String>) ddc).setDict(Utf8StringArray.create(((DDCArray<String>) ddc).getDict())));
+			else if(col instanceof StringArray)
+				fb.setColumn(j, Utf8StringArray.create((Array<String>) col));
+		}
+		return fb;
+	}
+
 	protected static ValueType[] createOutputSchema(ValueType[] schema, long ncol) {
 		if(schema.length == 1 && ncol > 1)
 			return UtilFunctions.nCopies((int) ncol, schema[0]);
@@ -21,6 +21,7 @@ package org.apache.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -33,6 +34,8 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.frame.data.columns.ArrayWrapper;
 import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.instructions.ooc.OOCStream;
+import org.apache.sysds.runtime.matrix.data.Pair;
 
 /**
  * Single-threaded frame binary block reader.
@@ -72,6 +75,83 @@ public class FrameReaderBinaryBlock extends FrameReader {
 		throw new DMLRuntimeException("Not implemented yet.");
 	}
 
+	/**
+	 * Reads the given binary block file as a stream of row-block chunks of at most blen rows, where each
+	 * chunk is paired with the 0-based row offset of its first row. The stored blocks are regrouped into
+	 * chunks of blen rows, and chunks are emitted in row order, which requires the part files to hold
+	 * contiguous row ranges. Frames with separately stored dictionaries are not supported. The output
+	 * stream is closed after the last chunk.
+	 *
+	 * @param outStream output stream of (row offset, frame chunk) pairs
+	 * @param fname     file name
+	 * @param rlen      number of rows
+	 * @param clen      number of columns
+	 * @param blen      number of rows per chunk
+	 * @throws IOException if the file cannot be read
+	 */
+	public void readFrameAsStream(OOCStream<Pair<Long, FrameBlock>> outStream, String fname, long rlen, long clen,
+		int blen) throws IOException
+	{
+		try {
+			// prepare file access
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+			checkValidInputFile(fs, path);
+			if(fs.exists(new Path(fname + ".dict")))
+				throw new DMLRuntimeException("Streaming reads of frames with dictionaries are not supported: " + fname);
+
+			Path[] paths = IOUtilFunctions.getSequenceFilePaths(fs, path);
+			Arrays.sort(paths);
+			long rpos = 0;
+			FrameBlock chunk = null;
+			FrameBlock first = null;
+			for(Path lpath : paths) {
+				SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(lpath));
+				LongWritable key = new LongWritable(-1L);
+				FrameBlock value = new FrameBlock();
+				try {
+					while(reader.next(key, value)) {
+						final int rows = value.getNumRows();
+						if(rows == 0 || value.getNumColumns() == 0)
+							continue;
+						if(key.get() - 1 != rpos)
+							throw new IOException("Non-contiguous frame block at row " + key.get()
+								+ " (expected " + (rpos + 1) + ") in " + lpath + ".");
+						if(first == null)
+							first = value.slice(0, 0, 0, value.getNumColumns() - 1, true, null);
+						// regroup stored blocks into chunks of blen rows
+						for(int r = 0; r < rows;) {
+							if(chunk == null) {
+								chunk = new FrameBlock(first.getSchema(), first.getColumnNames(),
+									(int) Math.min(blen, rlen - rpos));
+								chunk.setColumnMetadata(first.getColumnMetadata());
+							}
+							int crow = (int) (rpos % blen);
+							int len = Math.min(rows - r, chunk.getNumRows() - crow);
+							chunk.copy(crow, crow + len - 1, 0, (int) clen - 1,
+								value.slice(r, r + len - 1, 0, (int) clen - 1, false, null));
+							r += len;
+							rpos += len;
+							if(crow + len == chunk.getNumRows()) {
+								outStream.enqueue(new Pair<>(rpos - chunk.getNumRows(), chunk));
+								chunk = null;
+							}
+						}
+					}
+				}
+				finally {
+					IOUtilFunctions.closeSilently(reader);
+				}
+			}
+			if(chunk != null || rpos != rlen)
+				throw new DMLRuntimeException("Mismatching number of rows: " + rpos + " vs " + rlen);
+		}
+		finally {
+			outStream.closeInput();
+		}
+	}
+
 	protected void readBinaryBlockFrameFromHDFS(Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen,
 		long clen) throws IOException, DMLRuntimeException {
 		// sequential read from sequence files
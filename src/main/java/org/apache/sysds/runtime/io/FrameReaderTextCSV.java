@@ -39,6 +39,7 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.instructions.ooc.OOCStream;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.util.HDFSTool;
@@ -103,6 +104,99 @@ public class FrameReaderTextCSV extends FrameReader {
 		return ret;
 	}
 
+	/**
+	 * Reads the given csv file as a stream of row-block chunks of at most blen rows, where each
+	 * chunk is paired with the 0-based row offset of its first row. Chunks are emitted in row order
+	 * and the output stream is closed after the last chunk.
+	 *
+	 * @param outStream output stream of (row offset, frame chunk) pairs
+	 * @param fname     file name
+	 * @param schema    value types of the columns
+	 * @param names     column names
+	 * @param rlen      number of rows, or -1 if unknown
+	 * @param clen      number of columns, or -1 if unknown
+	 * @param blen      number of rows per chunk
+	 * @throws IOException if the file cannot be read
+	 */
+	public void readFrameAsStream(OOCStream<Pair<Long, FrameBlock>> outStream, String fname, ValueType[] schema,
+		String[] names, long rlen, long clen, int blen) throws IOException
+	{
+		try {
+			// prepare file access
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+			FileInputFormat.addInputPath(job, path);
+			checkValidInputFile(fs, path);
+
+			if(rlen <= 0 || clen <= 0) {
+				Pair<Integer, Integer> size = computeCSVSize(path, job, fs);
+				rlen = size.getKey();
+				clen = size.getValue();
+			}
+
+			ValueType[] lschema = createOutputSchema(schema, clen);
+			String[] lnames = createOutputNames(names, clen);
+			// empty block to collect column names and meta data shared by all chunks
+			FrameBlock meta = createOutputFrameBlock(lschema, lnames, 0);
+
+			TextInputFormat informat = new TextInputFormat();
+			informat.configure(job);
+			InputSplit[] splits = IOUtilFunctions.sortInputSplits(informat.getSplits(job, 1));
+
+			final String delim = _props.getDelim();
+			final double dfillValue = _props.getFillValue();
+			final String sfillValue = String.valueOf(dfillValue);
+			final Set<String> naValues = _props.getNAStrings();
+			final CellAssigner f;
+			if(naValues != null)
+				f = FrameReaderTextCSV::assignCellGeneric;
+			else if(_props.isFill() && dfillValue != 0)
+				f = FrameReaderTextCSV::assignCellFill;
+			else
+				f = FrameReaderTextCSV::assignCellNoFill;
+
+			long rpos = 0;
+			FrameBlock chunk = null;
+			for(int i = 0; i < splits.length; i++) {
+				RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[i], job, Reporter.NULL);
+				LongWritable key = new LongWritable();
+				Text value = new Text();
+				try {
+					if(i == 0 && _props.hasHeader() && reader.next(key, value))
+						meta.setColumnNames(value.toString().split(delim));
+					while(reader.next(key, value)) {
+						String line = value.toString();
+						if(isMetaStart(line)) {
+							parseMeta(line, delim, meta);
+							continue;
+						}
+						if(chunk == null) {
+							chunk = createOutputFrameBlock(lschema, meta.getColumnNames(), Math.min(blen, rlen - rpos));
+							chunk.setColumnMetadata(meta.getColumnMetadata());
+						}
+						int row = (int) (rpos % blen);
+						parseLine(line, delim, chunk.getColumns(), row, (int) clen, dfillValue, sfillValue,
+							_props.isFill(), naValues, f);
+						rpos++;
+						if(row + 1 == chunk.getNumRows()) {
+							outStream.enqueue(new Pair<>(rpos - chunk.getNumRows(), chunk));
+							chunk = null;
+						}
+					}
+				}
+				finally {
+					IOUtilFunctions.closeSilently(reader);
+				}
+			}
+			if(chunk != null)
+				throw new DMLRuntimeException("Mismatching number of rows: " + rpos + " vs " + rlen);
+		}
+		finally {
+			outStream.closeInput();
+		}
+	}
+
 	protected void readCSVFrameFromHDFS(Path path, JobConf job, FileSystem fs, FrameBlock dest, ValueType[] schema,
 		String[] names, long rlen, long clen) throws IOException
 	{
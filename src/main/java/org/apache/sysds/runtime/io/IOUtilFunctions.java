@@ -992,6 +992,8 @@ public class IOUtilFunctions {
 				return new PassthroughCodec();
 			case "Zstd":
 				return new ZStandardCodec();
+			case "Adaptive":
+				return new BlockCompressionCodec();
 			case "none":
 				return null;
 			case "default":
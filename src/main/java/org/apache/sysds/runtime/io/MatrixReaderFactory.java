@@ -75,6 +75,17 @@ public class MatrixReaderFactory {
 					new ReaderCOG(new FileFormatPropertiesCOG());
 				break;
 
+			case PARQUET:
+				reader = (par & mcsr) ?
+					new ReaderParquetParallel(new FileFormatPropertiesParquet()) :
+					new ReaderParquet(new FileFormatPropertiesParquet());
+				break;
+
+			case NPY:
+				reader = (par & mcsr) ?
+					new ReaderNPYParallel() : new ReaderNPY();
+				break;
+
 			case COMPRESSED:
 				reader = ReaderCompressed.create();
 				break;
@@ -137,6 +148,17 @@ public class MatrixReaderFactory {
 						new ReaderCOGParallel(fileFormatPropertiesCOG) : new ReaderCOG(fileFormatPropertiesCOG);
 				break;
 
+			case PARQUET:
+				FileFormatPropertiesParquet fileFormatPropertiesParquet = props.formatProperties != null ? (FileFormatPropertiesParquet) props.formatProperties : new FileFormatPropertiesParquet();
+				reader = (par & mcsr) ?
+					new ReaderParquetParallel(fileFormatPropertiesParquet) : new ReaderParquet(fileFormatPropertiesParquet);
+				break;
+
+			case NPY:
+				reader = (par & mcsr) ?
+					new ReaderNPYParallel() : new ReaderNPY();
+				break;
+
 			case COMPRESSED:
 				reader = new ReaderCompressed();
 				break;
@@ -91,6 +91,16 @@ public class MatrixWriterFactory{
 				else
 					return new WriterHDF5((FileFormatPropertiesHDF5) props);
 
+			case PARQUET:
+				//note: column projections of reads do not apply to writes
+				if( ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS) )
+					return new WriterParquetParallel();
+				else
+					return new WriterParquet();
+
+			case NPY:
+				return new WriterNPY();
+
 			case COMPRESSED:
 				return WriterCompressed.create(props);
 
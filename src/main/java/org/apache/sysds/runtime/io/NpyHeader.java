@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipInputStream;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.conf.ConfigurationManager;
+
+/**
+ * Header of the NumPy binary format (.npy), which describes the data type, memory
+ * layout, and shape of the array payload that follows the header. Besides plain .npy
+ * files, we support .npz archives (as written by numpy.savez/savez_compressed), where
+ * we read the first array of the archive. Arrays of up to two dimensions are mapped to
+ * matrices, where 1-d arrays are interpreted as column vectors.
+ */
+public class NpyHeader {
+	private static final byte[] NPY_MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+	private static final int ZIP_LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int ZIP_LOCAL_HEADER_LEN = 30;
+	private static final int ZIP_METHOD_STORED = 0;
+	private static final int NPY_HEADER_ALIGN = 64;
+
+	private static final Pattern DESCR = Pattern.compile("'descr'\\s*:\\s*'([<>|=])([fiub])(\\d+)'");
+	private static final Pattern FORTRAN = Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+	private static final Pattern SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(([^)]*)\\)");
+
+	private final char _type;
+	private final int _itemSize;
+	private final ByteOrder _order;
+	private final boolean _fortran;
+	private final long _rows;
+	private final long _cols;
+	private final long _dataOffset;
+	private final boolean _compressed;
+
+	private NpyHeader(char type, int itemSize, ByteOrder order, boolean fortran, long rows, long cols,
+		long dataOffset, boolean compressed)
+	{
+		_type = type;
+		_itemSize = itemSize;
+		_order = order;
+		_fortran = fortran;
+		_rows = rows;
+		_cols = cols;
+		_dataOffset = dataOffset;
+		_compressed = compressed;
+	}
+
+	/** @return value type code of the payload, i.e., 'f' (float), 'i' (int), 'u' (uint), or 'b' (bool) */
+	public char getType() {
+		return _type;
+	}
+
+	public int getItemSize() {
+		return _itemSize;
+	}
+
+	public ByteOrder getByteOrder() {
+		return _order;
+	}
+
+	public boolean isFortranOrder() {
+		return _fortran;
+	}
+
+	public long getNumRows() {
+		return _rows;
+	}
+
+	public long getNumColumns() {
+		return _cols;
+	}
+
+	/** @return number of rows of the payload in its storage order */
+	public long getStoredRows() {
+		return _fortran ? _cols : _rows;
+	}
+
+	/** @return number of columns of the payload in its storage order */
+	public long getStoredColumns() {
+		return _fortran ? _rows : _cols;
+	}
+
+	/** @return absolute file offset of the payload, or -1 for compressed npz entries */
+	public long getDataOffset() {
+		return _dataOffset;
+	}
+
+	/** @return true if the payload is a deflated npz entry, which can only be read sequentially */
+	public boolean isCompressed() {
+		return _compressed;
+	}
+
+	public static NpyHeader read(String fname) throws IOException {
+		Path path = new Path(fname);
+		return read(IOUtilFunctions.getFileSystem(path, ConfigurationManager.getCachedJobConf()), path);
+	}
+
+	public static NpyHeader read(FileSystem fs, Path path) throws IOException {
+		try(FSDataInputStream in = fs.open(path)) {
+			if(Integer.reverseBytes(in.readInt()) != ZIP_LOCAL_HEADER_SIG) {
+				in.seek(0);
+				return parse(in, 0, false);
+			}
+			//npz archive: parse local header of first entry
+			in.seek(8);
+			int method = Short.toUnsignedInt(Short.reverseBytes(in.readShort()));
+			in.seek(26);
+			int nameLen = Short.toUnsignedInt(Short.reverseBytes(in.readShort()));
+			int extraLen = Short.toUnsignedInt(Short.reverseBytes(in.readShort()));
+			if(method == ZIP_METHOD_STORED) {
+				long offset = ZIP_LOCAL_HEADER_LEN + nameLen + extraLen;
+				in.seek(offset);
+				return parse(in, offset, false);
+			}
+		}
+		//compressed npz entry: parse header from inflated stream
+		try(InputStream in = openPayload(fs, path, null)) {
+			return parse(in, -1, true);
+		}
+	}
+
+	/**
+	 * Parses the npy header from the given input stream, which is afterwards
+	 * positioned at the beginning of the payload.
+	 * 
+	 * @param is         input stream positioned at the npy magic string
+	 * @param offset     absolute file offset of the stream position (or -1)
+	 * @param compressed true if the stream is an inflated npz entry
+	 * @return npy header
+	 * @throws IOException if the header is invalid or unsupported
+	 */
+	public static NpyHeader parse(InputStream is, long offset, boolean compressed) throws IOException {
+		DataInputStream in = new DataInputStream(is);
+		byte[] magic = new byte[NPY_MAGIC.length];
+		in.readFully(magic);
+		for(int i = 0; i < magic.length; i++)
+			if(magic[i] != NPY_MAGIC[i])
+				throw new IOException("Invalid npy file: missing magic string.");
+		int major = in.readUnsignedByte();
+		in.readUnsignedByte(); //minor version
+		int hlen = (major == 1) ?
+			Short.toUnsignedInt(Short.reverseBytes(in.readShort())) :
+			Integer.reverseBytes(in.readInt());
+		byte[] hbytes = new byte[hlen];
+		in.readFully(hbytes);
+		String header = new String(hbytes, StandardCharsets.ISO_8859_1);
+		long dataOffset = (offset < 0) ? -1 :
+			offset + NPY_MAGIC.length + 2 + (major == 1 ? 2 : 4) + hlen;
+
+		//parse data type, memory layout, and shape
+		Matcher descr = DESCR.matcher(header);
+		Matcher fortran = FORTRAN.matcher(header);
+		Matcher shape = SHAPE.matcher(header);
+		if(!descr.find() || !fortran.find() || !shape.find())
+			throw new IOException("Invalid or unsupported npy header: " + header.trim());
+		char type = descr.group(2).charAt(0);
+		int itemSize = Integer.parseInt(descr.group(3));
+		if(!isSupportedType(type, itemSize))
+			throw new IOException("Unsupported npy data type: " + descr.group(2) + itemSize);
+		ByteOrder order = descr.group(1).equals(">") ? ByteOrder.BIG_ENDIAN :
+			descr.group(1).equals("=") ? ByteOrder.nativeOrder() : ByteOrder.LITTLE_ENDIAN;
+		String[] dims = shape.group(1).trim().split("\\s*,\\s*");
+		long rows = 1, cols = 1;
+		if(dims.length > 2)
+			throw new IOException("Unsupported npy array of more than two dimensions: (" + shape.group(1) + ")");
+		if(!dims[0].isEmpty())
+			rows = Long.parseLong(dims[0]);
+		if(dims.length == 2)
+			cols = Long.parseLong(dims[1]);
+		return new NpyHeader(type, itemSize, order, fortran.group(1).equals("True"),
+			rows, cols, dataOffset, compressed);
+	}
+
+	/**
+	 * Opens an input stream over the payload of the given npy or npz file, where
+	 * the stream is positioned at the first value.
+	 * 
+	 * @param fs     file system
+	 * @param path   file path
+	 * @param header npy header, or null to position the stream at the header
+	 * @return input stream
+	 * @throws IOException if the file cannot be opened
+	 */
+	public static InputStream openPayload(FileSystem fs, Path path, NpyHeader header) throws IOException {
+		if(header != null && !header.isCompressed()) {
+			FSDataInputStream in = fs.open(path);
+			in.seek(header.getDataOffset());
+			return in;
+		}
+		ZipInputStream in = new ZipInputStream(fs.open(path));
+		if(in.getNextEntry() == null) {
+			in.close();
+			throw new IOException("Empty npz archive: " + path);
+		}
+		if(header != null)
+			parse(in, -1, true);
+		return in;
+	}
+
+	/**
+	 * Creates a version 1.0 npy header for a little-endian double matrix in C order,
+	 * padded such that the payload is aligned to 64 bytes.
+	 * 
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @return serialized npy header
+	 */
+	public static byte[] create(long rows, long cols) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{'descr': '<f8', 'fortran_order': False, 'shape': (");
+		sb.append(rows).append(", ").append(cols).append("), }");
+		int prefix = NPY_MAGIC.length + 4;
+		int pad = NPY_HEADER_ALIGN - (prefix + sb.length() + 1) % NPY_HEADER_ALIGN;
+		for(int i = 0; i < pad % NPY_HEADER_ALIGN; i++)
+			sb.append(' ');
+		sb.append('\n');
+		byte[] ret = new byte[prefix + sb.length()];
+		System.arraycopy(NPY_MAGIC, 0, ret, 0, NPY_MAGIC.length);
+		ret[6] = 1; //major version
+		ret[7] = 0; //minor version
+		ret[8] = (byte) (sb.length() & 0xFF);
+		ret[9] = (byte) ((sb.length() >> 8) & 0xFF);
+		byte[] hbytes = sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+		System.arraycopy(hbytes, 0, ret, prefix, hbytes.length);
+		return ret;
+	}
+
+	private static boolean isSupportedType(char type, int itemSize) {
+		switch(type) {
+			case 'f': return itemSize == 4 || itemSize == 8;
+			case 'i': return itemSize == 1 || itemSize == 2 || itemSize == 4 || itemSize == 8;
+			case 'u': return itemSize == 1 || itemSize == 2 || itemSize == 4;
+			case 'b': return itemSize == 1;
+			default:  return false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "npy " + _type + _itemSize + " (" + _rows + ", " + _cols + ")"
+			+ (_fortran ? " fortran" : "") + (_compressed ? " compressed" : "");
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Single-threaded matrix reader for the NumPy binary format (.npy and .npz). On local
+ * file systems, the payload is memory-mapped and bulk-copied into the dense output
+ * block; otherwise, it is read in chunks from an input stream. Arrays in Fortran order
+ * are read in their storage order and transposed afterwards.
+ */
+public class ReaderNPY extends MatrixReader {
+	protected static final int NPY_READ_MAP_BYTES = 1 << 30; // max mmap window (1 GiB)
+	protected static final int NPY_READ_BUFFER_BYTES = 8 * 1024 * 1024; // stream read chunk (8 MiB)
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		//read header and allocate dense output block in storage order
+		NpyHeader header = NpyHeader.read(fs, path);
+		checkDimensions(header, rlen, clen);
+		MatrixBlock ret = createOutputMatrixBlock(header.getStoredRows(), header.getStoredColumns(),
+			blen, header.getStoredRows() * header.getStoredColumns(), true, false);
+
+		//core read
+		long lnnz = readNpyPayload(path, fs, header, ret.getDenseBlock());
+		ret.setNonZeros(lnnz);
+		if(header.isFortranOrder())
+			ret = LibMatrixReorg.transpose(ret, new MatrixBlock(
+				(int) header.getNumRows(), (int) header.getNumColumns(), false));
+
+		//finally check if change of sparse/dense block representation required
+		ret.examSparsity();
+		return ret;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		NpyHeader header = NpyHeader.parse(is, -1, false);
+		checkDimensions(header, rlen, clen);
+		MatrixBlock ret = createOutputMatrixBlock(header.getStoredRows(), header.getStoredColumns(),
+			blen, header.getStoredRows() * header.getStoredColumns(), true, false);
+		long lnnz = readRowsFromStream(is, header, ret.getDenseBlock(), 0, (int) header.getStoredRows());
+		ret.setNonZeros(lnnz);
+		if(header.isFortranOrder())
+			ret = LibMatrixReorg.transpose(ret, new MatrixBlock(
+				(int) header.getNumRows(), (int) header.getNumColumns(), false));
+		ret.examSparsity();
+		return ret;
+	}
+
+	protected long readNpyPayload(Path path, FileSystem fs, NpyHeader header, DenseBlock dest)
+		throws IOException
+	{
+		return readNpyRows(path, fs, header, dest, 0, (int) header.getStoredRows());
+	}
+
+	/**
+	 * Reads the rows [rl, ru) of the payload (in storage order) into the dense output block.
+	 * 
+	 * @param path   file path
+	 * @param fs     file system
+	 * @param header npy header
+	 * @param dest   dense output block
+	 * @param rl     row lower bound (inclusive)
+	 * @param ru     row upper bound (exclusive)
+	 * @return number of non-zeros read
+	 * @throws IOException if the payload cannot be read
+	 */
+	protected static long readNpyRows(Path path, FileSystem fs, NpyHeader header, DenseBlock dest, int rl, int ru)
+		throws IOException
+	{
+		if(!header.isCompressed() && ReaderHDF5.isLocalFileSystem(fs)) {
+			try(FileChannel channel = FileChannel.open(
+				ReaderHDF5.getLocalFile(path).toPath(), StandardOpenOption.READ)) {
+				return readRowsFromChannel(channel, header, dest, rl, ru);
+			}
+		}
+		try(InputStream is = NpyHeader.openPayload(fs, path, header)) {
+			if(rl > 0)
+				is.skipNBytes(getRowBytes(header) * rl);
+			return readRowsFromStream(is, header, dest, rl, ru);
+		}
+	}
+
+	private static long readRowsFromChannel(FileChannel channel, NpyHeader header, DenseBlock dest, int rl, int ru)
+		throws IOException
+	{
+		long rowBytes = getRowBytes(header);
+		int rowsPerMap = (int) Math.max(1, NPY_READ_MAP_BYTES / Math.max(rowBytes, 1));
+		long lnnz = 0;
+		for(int i = rl; i < ru; i += rowsPerMap) {
+			int iu = Math.min(ru, i + rowsPerMap);
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY,
+				header.getDataOffset() + rowBytes * i, rowBytes * (iu - i));
+			lnnz += decodeRows(buf, header, dest, i, iu);
+		}
+		return lnnz;
+	}
+
+	protected static long readRowsFromStream(InputStream is, NpyHeader header, DenseBlock dest, int rl, int ru)
+		throws IOException
+	{
+		DataInputStream in = new DataInputStream(is);
+		long rowBytes = getRowBytes(header);
+		int rowsPerChunk = (int) Math.max(1, NPY_READ_BUFFER_BYTES / Math.max(rowBytes, 1));
+		byte[] buff = new byte[(int) (rowBytes * Math.min(rowsPerChunk, Math.max(ru - rl, 1)))];
+		long lnnz = 0;
+		for(int i = rl; i < ru; i += rowsPerChunk) {
+			int iu = Math.min(ru, i + rowsPerChunk);
+			int len = (int) (rowBytes * (iu - i));
+			in.readFully(buff, 0, len);
+			lnnz += decodeRows(ByteBuffer.wrap(buff, 0, len), header, dest, i, iu);
+		}
+		return lnnz;
+	}
+
+	private static long decodeRows(ByteBuffer buf, NpyHeader header, DenseBlock dest, int rl, int ru) {
+		buf.order(header.getByteOrder());
+		int clen = (int) header.getStoredColumns();
+		long lnnz = 0;
+		//decode contiguous row segments per (potentially large) dense block
+		for(int i = rl; i < ru; ) {
+			int bix = dest.index(i);
+			int iu = (int) Math.min(ru, (long) (bix + 1) * dest.blockSize());
+			double[] a = dest.valuesAt(bix);
+			int apos = dest.pos(i);
+			int len = (iu - i) * clen;
+			decodeValues(buf, header, a, apos, len);
+			lnnz += UtilFunctions.computeNnz(a, apos, len);
+			i = iu;
+		}
+		return lnnz;
+	}
+
+	private static void decodeValues(ByteBuffer buf, NpyHeader header, double[] a, int apos, int len) {
+		int off = buf.position();
+		switch(header.getType() + "" + header.getItemSize()) {
+			case "f8": buf.asDoubleBuffer().get(a, apos, len); break;
+			case "f4": {
+				FloatBuffer fb = buf.asFloatBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = fb.get(j);
+				break;
+			}
+			case "i8": {
+				LongBuffer lb = buf.asLongBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = lb.get(j);
+				break;
+			}
+			case "i4": {
+				IntBuffer ib = buf.asIntBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = ib.get(j);
+				break;
+			}
+			case "u4": {
+				IntBuffer ib = buf.asIntBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = Integer.toUnsignedLong(ib.get(j));
+				break;
+			}
+			case "i2": {
+				ShortBuffer sb = buf.asShortBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = sb.get(j);
+				break;
+			}
+			case "u2": {
+				ShortBuffer sb = buf.asShortBuffer();
+				for(int j = 0; j < len; j++)
+					a[apos + j] = Short.toUnsignedInt(sb.get(j));
+				break;
+			}
+			case "i1":
+				for(int j = 0; j < len; j++)
+					a[apos + j] = buf.get(off + j);
+				break;
+			case "u1":
+			case "b1":
+				for(int j = 0; j < len; j++)
+					a[apos + j] = Byte.toUnsignedInt(buf.get(off + j));
+				break;
+			default:
+				throw new DMLRuntimeException("Unsupported npy data type: " + header);
+		}
+		buf.position(off + len * header.getItemSize());
+	}
+
+	protected static long getRowBytes(NpyHeader header) {
+		return header.getStoredColumns() * header.getItemSize();
+	}
+
+	private static void checkDimensions(NpyHeader header, long rlen, long clen) throws IOException {
+		if((rlen >= 0 && rlen != header.getNumRows()) || (clen >= 0 && clen != header.getNumColumns()))
+			throw new IOException("Matrix dimensions mismatch with metadata: " + header.getNumRows() + "x"
+				+ header.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+	}
+}
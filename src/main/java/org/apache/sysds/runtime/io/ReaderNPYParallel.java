@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded matrix reader for the NumPy binary format, which reads disjoint
+ * row slices of the payload (via separate memory mappings or positioned streams)
+ * in parallel. Deflated npz entries are read sequentially.
+ */
+public class ReaderNPYParallel extends ReaderNPY {
+	private static final long NPY_READ_PARALLEL_MIN_BYTES = 16 * 1024 * 1024; // min bytes per thread
+	private final int _numThreads;
+
+	public ReaderNPYParallel() {
+		_numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+	}
+
+	@Override
+	protected long readNpyPayload(Path path, FileSystem fs, NpyHeader header, DenseBlock dest)
+		throws IOException
+	{
+		int rlen = (int) header.getStoredRows();
+		long bytes = getRowBytes(header) * rlen;
+		int numThreads = (int) Math.min(Math.min(_numThreads, rlen),
+			Math.max(bytes / NPY_READ_PARALLEL_MIN_BYTES, 1));
+		if(header.isCompressed() || numThreads <= 1)
+			return super.readNpyPayload(path, fs, header, dest);
+
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try {
+			List<Callable<Long>> tasks = new ArrayList<>();
+			int blklen = (int) Math.ceil((double) rlen / numThreads);
+			for(int i = 0; i < numThreads & i * blklen < rlen; i++) {
+				int rl = i * blklen;
+				int ru = Math.min((i + 1) * blklen, rlen);
+				tasks.add(() -> readNpyRows(path, fs, header, dest, rl, ru));
+			}
+			long lnnz = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				lnnz += task.get();
+			return lnnz;
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of npy input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Single-threaded matrix parquet reader. Numeric columns are decoded column-wise
+ * per row group directly into the dense or sparse output block, and only the
+ * column chunks of an optional column projection are read from the file.
+ */
+public class ReaderParquet extends MatrixReader {
+	protected final FileFormatPropertiesParquet _props;
+
+	public ReaderParquet(FileFormatPropertiesParquet props) {
+		_props = props != null ? props : new FileFormatPropertiesParquet();
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		//collect row groups of all part files and the projected schema
+		Path[] files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		Arrays.sort(files);
+		List<ParquetRowGroup> rowGroups = new ArrayList<>();
+		MessageType schema = null;
+		long nrow = 0;
+		for(Path file : files) {
+			try(ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(file, job))) {
+				if(schema == null)
+					schema = reader.getFooter().getFileMetaData().getSchema();
+				List<BlockMetaData> blocks = reader.getRowGroups();
+				for(int i = 0; i < blocks.size(); i++) {
+					rowGroups.add(new ParquetRowGroup(file, i, nrow, blocks.get(i).getRowCount()));
+					nrow += blocks.get(i).getRowCount();
+				}
+			}
+		}
+		if(schema == null)
+			throw new IOException("No parquet files found at " + fname);
+		MessageType projected = createProjectedSchema(schema, _props);
+		long ncol = projected.getFieldCount();
+
+		//check dimensions against meta data (if known)
+		if((rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol))
+			throw new IOException("Matrix dimensions mismatch with metadata: "
+				+ nrow + "x" + ncol + " vs " + rlen + "x" + clen + ".");
+
+		//allocate output matrix block and core read
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen, estnnz, true, true);
+		long lnnz = readParquetRowGroups(job, rowGroups, projected, ret);
+
+		//finally check if change of sparse/dense block representation required
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		return ret;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		throw new UnsupportedOperationException("Reading parquet matrices from input streams is not supported.");
+	}
+
+	protected long readParquetRowGroups(JobConf job, List<ParquetRowGroup> rowGroups, MessageType schema, MatrixBlock dest)
+		throws IOException
+	{
+		long lnnz = 0;
+		for(List<ParquetRowGroup> rgs : groupRowGroupsByFile(rowGroups, Integer.MAX_VALUE))
+			lnnz += readParquetFileRowGroups(job, rgs, schema, dest);
+		return lnnz;
+	}
+
+	/**
+	 * Groups the row groups (ordered by file) into consecutive lists of the same
+	 * file with at most the given number of row groups, which allows opening each
+	 * file once per read task.
+	 * 
+	 * @param rowGroups row groups of all files
+	 * @param maxSize   max number of row groups per list
+	 * @return lists of row groups of the same file
+	 */
+	protected static List<List<ParquetRowGroup>> groupRowGroupsByFile(List<ParquetRowGroup> rowGroups, int maxSize) {
+		List<List<ParquetRowGroup>> ret = new ArrayList<>();
+		List<ParquetRowGroup> current = null;
+		for(ParquetRowGroup rg : rowGroups) {
+			if(current == null || current.size() >= maxSize || !current.get(0).file.equals(rg.file)) {
+				current = new ArrayList<>();
+				ret.add(current);
+			}
+			current.add(rg);
+		}
+		return ret;
+	}
+
+	/**
+	 * Reads the given row groups of a single file, which is opened once, into the rows
+	 * [rowOffset, rowOffset+rowCount) of the output block. Columns are processed in
+	 * increasing order, which keeps appends to sparse rows sorted.
+	 * 
+	 * @param job       job configuration
+	 * @param rowGroups row group descriptors of the same file
+	 * @param schema    projected parquet schema
+	 * @param dest      output matrix block
+	 * @return number of non-zeros read
+	 * @throws IOException if the row groups cannot be read
+	 */
+	protected static long readParquetFileRowGroups(JobConf job, List<ParquetRowGroup> rowGroups, MessageType schema,
+		MatrixBlock dest) throws IOException
+	{
+		long lnnz = 0;
+		try(ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(rowGroups.get(0).file, job))) {
+			reader.setRequestedSchema(schema);
+			String createdBy = reader.getFooter().getFileMetaData().getCreatedBy();
+			List<ColumnDescriptor> columns = schema.getColumns();
+			boolean sparse = dest.isInSparseFormat();
+			SparseBlock sblock = sparse ? dest.getSparseBlock() : null;
+			DenseBlock dblock = sparse ? null : dest.getDenseBlock();
+			for(ParquetRowGroup rg : rowGroups) {
+				PageReadStore pages = reader.readRowGroup(rg.index);
+				ColumnReadStoreImpl store = new ColumnReadStoreImpl(pages,
+					new GroupRecordConverter(schema).getRootConverter(), schema, createdBy);
+				int rl = (int) rg.rowOffset;
+				int ru = (int) (rg.rowOffset + rg.rowCount);
+				for(int j = 0; j < columns.size(); j++) {
+					ColumnDescriptor cd = columns.get(j);
+					ColumnReader cr = store.getColumnReader(cd);
+					int maxDef = cd.getMaxDefinitionLevel();
+					for(int i = rl; i < ru; i++) {
+						//nulls are read as zeros
+						double v = (cr.getCurrentDefinitionLevel() == maxDef) ? readValue(cr, cd) : 0;
+						cr.consume();
+						if(v != 0) {
+							if(sparse)
+								sblock.append(i, j, v);
+							else
+								dblock.set(i, j, v);
+							lnnz++;
+						}
+					}
+				}
+			}
+		}
+		return lnnz;
+	}
+
+	private static double readValue(ColumnReader cr, ColumnDescriptor cd) throws IOException {
+		switch(cd.getPrimitiveType().getPrimitiveTypeName()) {
+			case DOUBLE:  return cr.getDouble();
+			case FLOAT:   return cr.getFloat();
+			case INT32:   return cr.getInteger();
+			case INT64:   return cr.getLong();
+			case BOOLEAN: return cr.getBoolean() ? 1 : 0;
+			default:
+				throw new IOException("Unsupported non-numeric parquet column type for matrix read: "
+					+ cd.getPrimitiveType());
+		}
+	}
+
+	/**
+	 * Creates the requested schema of all or the projected columns, which
+	 * ensures that only the needed column chunks are read and decoded.
+	 * 
+	 * @param schema file schema
+	 * @param props  format properties with optional column projection
+	 * @return projected schema
+	 * @throws IOException if the projection is out of bounds
+	 */
+	protected static MessageType createProjectedSchema(MessageType schema, FileFormatPropertiesParquet props)
+		throws IOException
+	{
+		if(!props.hasColumnProjection())
+			return schema;
+		if(props.getColumnUpper() > schema.getFieldCount())
+			throw new IOException("Column projection " + props.getColumnLower() + ":"
+				+ props.getColumnUpper() + " out of bounds for " + schema.getFieldCount() + " columns.");
+		List<Type> fields = schema.getFields()
+			.subList((int) props.getColumnLower() - 1, (int) props.getColumnUpper());
+		return new MessageType(schema.getName(), fields);
+	}
+
+	protected static class ParquetRowGroup {
+		protected final Path file;
+		protected final int index;
+		protected final long rowOffset;
+		protected final long rowCount;
+
+		protected ParquetRowGroup(Path file, int index, long rowOffset, long rowCount) {
+			this.file = file;
+			this.index = index;
+			this.rowOffset = rowOffset;
+			this.rowCount = rowCount;
+		}
+	}
+}
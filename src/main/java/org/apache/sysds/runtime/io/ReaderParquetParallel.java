@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded matrix parquet reader, which reads and decodes the row groups
+ * of all part files in parallel into disjoint row ranges of the output block.
+ */
+public class ReaderParquetParallel extends ReaderParquet {
+	private final int _numThreads;
+
+	public ReaderParquetParallel(FileFormatPropertiesParquet props) {
+		super(props);
+		_numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+	}
+
+	@Override
+	protected long readParquetRowGroups(JobConf job, List<ParquetRowGroup> rowGroups, MessageType schema, MatrixBlock dest)
+		throws IOException
+	{
+		int numThreads = Math.min(_numThreads, rowGroups.size());
+		if(numThreads <= 1)
+			return super.readParquetRowGroups(job, rowGroups, schema, dest);
+
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try {
+			//one task per range of row groups of a file, which opens the file once
+			int maxSize = (int) Math.ceil((double) rowGroups.size() / numThreads);
+			List<Callable<Long>> tasks = new ArrayList<>();
+			for(List<ParquetRowGroup> rgs : groupRowGroupsByFile(rowGroups, maxSize))
+				tasks.add(() -> readParquetFileRowGroups(job, rgs, schema, dest));
+			long lnnz = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				lnnz += task.get();
+			return lnnz;
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of parquet input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
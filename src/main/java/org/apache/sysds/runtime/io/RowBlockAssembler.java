@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.util.HashMap;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Assembles blocks of an OOC stream, which arrive in arbitrary order, into complete row
+ * blocks (blen x clen) that are handed out in row order. This allows row-oriented writers
+ * (e.g., csv) to consume a stream without materializing the entire matrix.
+ */
+class RowBlockAssembler {
+	private final long _rlen;
+	private final long _clen;
+	private final int _blen;
+	private final int _ncblks;
+	private final HashMap<Long, MatrixBlock> _partial = new HashMap<>();
+	private final HashMap<Long, Integer> _counts = new HashMap<>();
+	private final HashMap<Long, MatrixBlock> _ready = new HashMap<>();
+	private long _next = 1;
+
+	protected RowBlockAssembler(long rlen, long clen, int blen) {
+		_rlen = rlen;
+		_clen = clen;
+		_blen = blen;
+		_ncblks = (int) Math.max(1, (clen + blen - 1) / blen);
+	}
+
+	protected void add(IndexedMatrixValue val) {
+		long rix = val.getIndexes().getRowIndex();
+		int cix = (int) val.getIndexes().getColumnIndex();
+		//compressed stream blocks (sysds.ooc.compression) are accessed row-wise
+		MatrixBlock mb = CompressedMatrixBlock.getUncompressed(val.getValue());
+		if(_ncblks == 1) {
+			_ready.put(rix, mb);
+			return;
+		}
+		MatrixBlock strip = _partial.computeIfAbsent(rix,
+			k -> new MatrixBlock(mb.getNumRows(), (int) _clen, mb.isInSparseFormat()));
+		int cl = (cix - 1) * _blen;
+		strip.copy(0, mb.getNumRows() - 1, cl, cl + mb.getNumColumns() - 1, mb, false);
+		int cnt = _counts.merge(rix, 1, Integer::sum);
+		if(cnt == _ncblks) {
+			_partial.remove(rix);
+			_counts.remove(rix);
+			strip.recomputeNonZeros();
+			_ready.put(rix, strip);
+		}
+	}
+
+	/**
+	 * Returns the next complete row block in row order, if available.
+	 *
+	 * @return next row block or null
+	 */
+	protected MatrixBlock next() {
+		MatrixBlock ret = _ready.remove(_next);
+		if(ret != null)
+			_next++;
+		return ret;
+	}
+
+	protected void checkComplete() {
+		long expected = _rlen >= 0 ? (_rlen + _blen - 1) / _blen : _next - 1;
+		if(!_partial.isEmpty() || !_ready.isEmpty() || _next - 1 != expected)
+			throw new DMLRuntimeException("Incomplete OOC stream: wrote " + (_next - 1)
+				+ " of " + expected + " row blocks.");
+	}
+}
@@ -250,7 +250,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 			// 2. Loop through OOC stream
 			IndexedMatrixValue i_val =  null;
 			while((i_val = stream.dequeue()) != LocalTaskQueue.NO_MORE_TASKS) {
-				MatrixBlock mb = (MatrixBlock) i_val.getValue();
+				MatrixBlock mb = CompressedMatrixBlock.getUncompressed(i_val.getValue());
 				MatrixIndexes ix = i_val.getIndexes();
 
 				// 3. Append (key, value) record as a new value in the file
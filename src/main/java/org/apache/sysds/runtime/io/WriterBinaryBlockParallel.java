@@ -32,6 +32,7 @@ import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
 import org.apache.sysds.runtime.instructions.ooc.OOCStream;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
@@ -211,7 +212,7 @@ public class WriterBinaryBlockParallel extends WriterBinaryBlock
 				writer = IOUtilFunctions.getSeqWriter(_path, _job, _replication);
 				IndexedMatrixValue i_val;
 				while((i_val = _stream.dequeue()) != LocalTaskQueue.NO_MORE_TASKS) {
-					MatrixBlock mb = (MatrixBlock) i_val.getValue();
+					MatrixBlock mb = CompressedMatrixBlock.getUncompressed(i_val.getValue());
 					MatrixIndexes ix = i_val.getIndexes();
 					writer.append(ix, mb);
 					totalNnz += mb.getNonZeros();
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.instructions.ooc.OOCStream;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Matrix writer for the NumPy binary format, which writes a single .npy file
+ * of little-endian doubles in C order (readable via numpy.load).
+ */
+public class WriterNPY extends MatrixWriter {
+	private static final int NPY_WRITE_BUFFER_BYTES = 8 * 1024 * 1024;
+
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz, boolean diag)
+		throws IOException, DMLRuntimeException
+	{
+		//validity check matrix dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		//core write
+		try(OutputStream os = fs.create(path, true)) {
+			writeNpyMatrixToStream(os, src);
+		}
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException
+	{
+		writeMatrixToHDFS(new MatrixBlock((int) rlen, (int) clen, true), fname, rlen, clen, blen, 0);
+	}
+
+	@Override
+	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen) {
+		throw new UnsupportedOperationException("Writing from an OOC stream is not supported for the npy format.");
+	}
+
+	protected static void writeNpyMatrixToStream(OutputStream os, MatrixBlock src)
+		throws IOException
+	{
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		os.write(NpyHeader.create(rlen, clen));
+		if(rlen == 0 || clen == 0)
+			return;
+
+		//write rows in chunks of little-endian doubles
+		int rowsPerChunk = Math.max(1, NPY_WRITE_BUFFER_BYTES / (clen * 8));
+		ByteBuffer buff = ByteBuffer.allocate(Math.min(rowsPerChunk, rlen) * clen * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		DoubleBuffer dbuff = buff.asDoubleBuffer();
+		boolean sparse = src.isInSparseFormat();
+		SparseBlock sb = sparse ? src.getSparseBlock() : null;
+		DenseBlock db = sparse ? null : src.getDenseBlock();
+		double[] row = (db == null) ? new double[clen] : null;
+		for(int i = 0; i < rlen; i++) {
+			if(db != null)
+				dbuff.put(db.values(i), db.pos(i), clen);
+			else {
+				//expand sparse (or empty) rows
+				Arrays.fill(row, 0);
+				if(sb != null && !sb.isEmpty(i)) {
+					int apos = sb.pos(i);
+					int alen = sb.size(i);
+					int[] aix = sb.indexes(i);
+					double[] avals = sb.values(i);
+					for(int j = apos; j < apos + alen; j++)
+						row[aix[j]] = avals[j];
+				}
+				dbuff.put(row, 0, clen);
+			}
+			if(!dbuff.hasRemaining() || i == rlen - 1) {
+				os.write(buff.array(), 0, dbuff.position() * 8);
+				dbuff.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.instructions.ooc.OOCStream;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Single-threaded matrix parquet writer. Each matrix column is written as a
+ * required double column C1, ..., Cn (consistent with default frame column names).
+ */
+public class WriterParquet extends MatrixWriter {
+
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz, boolean diag)
+		throws IOException, DMLRuntimeException
+	{
+		//validity check matrix dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+		if(rlen == 0 || clen == 0)
+			throw new IOException(
+				"Write of matrices with zero rows or columns not supported (" + rlen + "x" + clen + ").");
+
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		//core write (sequential/parallel)
+		writeParquetMatrixToHDFS(path, job, fs, src);
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException
+	{
+		writeMatrixToHDFS(new MatrixBlock((int) rlen, (int) clen, true), fname, rlen, clen, blen, 0);
+	}
+
+	@Override
+	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen) {
+		throw new UnsupportedOperationException("Writing from an OOC stream is not supported for the parquet format.");
+	}
+
+	protected void writeParquetMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src)
+		throws IOException
+	{
+		writeParquetMatrixToFile(path, job, src, 0, src.getNumRows());
+	}
+
+	protected static void writeParquetMatrixToFile(Path path, Configuration conf, MatrixBlock src, int rl, int ru)
+		throws IOException
+	{
+		int clen = src.getNumColumns();
+		try(ParquetWriter<double[]> writer = new MatrixParquetWriterBuilder(path, createParquetSchema(clen))
+			.withConf(conf)
+			.withCompressionCodec(ParquetWriter.DEFAULT_COMPRESSION_CODEC_NAME)
+			.withRowGroupSize((long) ParquetWriter.DEFAULT_BLOCK_SIZE)
+			.withPageSize(ParquetWriter.DEFAULT_PAGE_SIZE)
+			.withDictionaryEncoding(true)
+			.build())
+		{
+			double[] row = new double[clen];
+			if(src.isInSparseFormat()) {
+				SparseBlock sb = src.getSparseBlock();
+				for(int i = rl; i < ru; i++) {
+					Arrays.fill(row, 0);
+					if(sb != null && !sb.isEmpty(i)) {
+						int apos = sb.pos(i);
+						int alen = sb.size(i);
+						double[] avals = sb.values(i);
+						int[] aix = sb.indexes(i);
+						for(int j = apos; j < apos + alen; j++)
+							row[aix[j]] = avals[j];
+					}
+					writer.write(row);
+				}
+			}
+			else {
+				DenseBlock db = src.getDenseBlock();
+				for(int i = rl; i < ru; i++) {
+					if(db != null)
+						System.arraycopy(db.values(i), db.pos(i), row, 0, clen);
+					writer.write(row);
+				}
+			}
+		}
+	}
+
+	protected static MessageType createParquetSchema(int clen) {
+		Types.MessageTypeBuilder builder = Types.buildMessage();
+		for(int j = 0; j < clen; j++)
+			builder.required(PrimitiveTypeName.DOUBLE).named("C" + (j + 1));
+		return builder.named("MatrixSchema");
+	}
+
+	private static class MatrixParquetWriterBuilder extends ParquetWriter.Builder<double[], MatrixParquetWriterBuilder> {
+		private final MessageType _schema;
+
+		protected MatrixParquetWriterBuilder(Path path, MessageType schema) {
+			super(path);
+			_schema = schema;
+		}
+
+		@Override
+		protected MatrixParquetWriterBuilder self() {
+			return this;
+		}
+
+		@Override
+		protected WriteSupport<double[]> getWriteSupport(Configuration conf) {
+			return new MatrixRowWriteSupport(_schema);
+		}
+	}
+
+	private static class MatrixRowWriteSupport extends WriteSupport<double[]> {
+		private final MessageType _schema;
+		private RecordConsumer _consumer;
+
+		protected MatrixRowWriteSupport(MessageType schema) {
+			_schema = schema;
+		}
+
+		@Override
+		public WriteContext init(Configuration conf) {
+			return new WriteContext(_schema, new HashMap<>());
+		}
+
+		@Override
+		public void prepareForWrite(RecordConsumer consumer) {
+			_consumer = consumer;
+		}
+
+		@Override
+		public void write(double[] row) {
+			_consumer.startMessage();
+			for(int j = 0; j < row.length; j++) {
+				String name = _schema.getFieldName(j);
+				_consumer.startField(name, j);
+				_consumer.addDouble(row[j]);
+				_consumer.endField(name, j);
+			}
+			_consumer.endMessage();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.utils.stats.InfrastructureAnalyzer;
+
+/**
+ * Multi-threaded matrix parquet writer, which writes disjoint row ranges
+ * into separate part files of the output directory.
+ */
+public class WriterParquetParallel extends WriterParquet {
+
+	@Override
+	protected void writeParquetMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src)
+		throws IOException
+	{
+		//estimate output size (all columns are materialized as doubles) and number of output blocks (min 1)
+		int numPartFiles = Math.max((int) ((long) src.getNumRows() * src.getNumColumns() * 8
+			/ InfrastructureAnalyzer.getHDFSBlockSize()), 1);
+
+		//determine degree of parallelism
+		int numThreads = Math.min(OptimizerUtils.getParallelBinaryWriteParallelism(), numPartFiles);
+		numThreads = Math.min(numThreads, src.getNumRows());
+
+		//fall back to sequential write if dop is 1 (e.g., <128MB) in order to create single file
+		if( numThreads <= 1 ) {
+			super.writeParquetMatrixToHDFS(path, job, fs, src);
+			return;
+		}
+
+		//create directory for concurrent tasks
+		HDFSTool.createDirIfNotExistOnHDFS(path, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+
+		//create and execute write tasks
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try {
+			ArrayList<WriteParquetTask> tasks = new ArrayList<>();
+			int rlen = src.getNumRows();
+			int blklen = (int) Math.ceil((double) rlen / numThreads);
+			for(int i = 0; i < numThreads & i * blklen < rlen; i++) {
+				Path newPath = new Path(path, IOUtilFunctions.getPartFileName(i));
+				tasks.add(new WriteParquetTask(newPath, job, src, i * blklen, Math.min((i + 1) * blklen, rlen)));
+			}
+
+			//wait until all tasks have been executed
+			List<Future<Object>> rt = pool.invokeAll(tasks);
+			for(Future<Object> task : rt)
+				task.get();
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel write of parquet matrix.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class WriteParquetTask implements Callable<Object> {
+		private final Path _path;
+		private final JobConf _job;
+		private final MatrixBlock _src;
+		private final int _rl;
+		private final int _ru;
+
+		public WriteParquetTask(Path path, JobConf job, MatrixBlock src, int rl, int ru) {
+			_path = path;
+			_job = job;
+			_src = src;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			writeParquetMatrixToFile(_path, _job, _src, _rl, _ru);
+			return null;
+		}
+	}
+}
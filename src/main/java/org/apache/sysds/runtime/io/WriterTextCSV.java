@@ -35,6 +35,7 @@ import org.apache.hadoop.io.IOUtils;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.instructions.ooc.OOCStream;
@@ -102,142 +103,152 @@ public class WriterTextCSV extends MatrixWriter
 	protected static void writeCSVMatrixToFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int rl, int ru, FileFormatPropertiesCSV props )
 		throws IOException
 	{
-		boolean sparse = src.isInSparseFormat();
-		int clen = src.getNumColumns();
-		
 		//create buffered writer
 		BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true)));		
 		
 		try
 		{
-			//for obj reuse and preventing repeated buffer re-allocations
-			StringBuilder sb = new StringBuilder();
-			
 			props = (props==null)? new FileFormatPropertiesCSV() : props;
-			String delim = props.getDelim();
-			boolean csvsparse = props.isSparse();
 			
 			// Write header line, if needed
-			if( props.hasHeader() && rl==0 ) 
+			if( props.hasHeader() && rl==0 )
+				writeCSVHeader(br, src.getNumColumns(), props.getDelim());
+			
+			// Write data lines
+			writeCSVRows(br, src, rl, ru, props);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(br);
+		}
+	}
+
+	private static void writeCSVHeader(BufferedWriter br, long clen, String delim)
+		throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		//write row chunk-wise to prevent OOM on large number of columns
+		for( int bj=0; bj<clen; bj+=BLOCKSIZE_J )
+		{
+			for( int j=bj; j < Math.min(clen,bj+BLOCKSIZE_J); j++) 
 			{
+				sb.append("C"+ (j+1));
+				if ( j < clen-1 )
+					sb.append(delim);
+			}
+			br.write( sb.toString() );
+			sb.setLength(0);
+		}
+		sb.append('\n');
+		br.write( sb.toString() );
+	}
+
+	private static void writeCSVRows(BufferedWriter br, MatrixBlock src, int rl, int ru, FileFormatPropertiesCSV props)
+		throws IOException
+	{
+		boolean sparse = src.isInSparseFormat();
+		int clen = src.getNumColumns();
+		String delim = props.getDelim();
+		boolean csvsparse = props.isSparse();
+		
+		//for obj reuse and preventing repeated buffer re-allocations
+		StringBuilder sb = new StringBuilder();
+		
+		if( sparse ) //SPARSE
+		{	
+			SparseBlock sblock = src.getSparseBlock();
+			for(int i=rl; i < ru; i++) 
+            {
 				//write row chunk-wise to prevent OOM on large number of columns
-				for( int bj=0; bj<clen; bj+=BLOCKSIZE_J )
+				int prev_jix = -1;
+				if(    sblock!=null && i<sblock.numRows() 
+					&& !sblock.isEmpty(i) )
 				{
-					for( int j=bj; j < Math.min(clen,bj+BLOCKSIZE_J); j++) 
+					int pos = sblock.pos(i);
+					int alen = sblock.size(i);
+					int[] aix = sblock.indexes(i);
+					double[] avals = sblock.values(i);
+					
+					for(int j=pos; j<pos+alen; j++) 
 					{
-						sb.append("C"+ (j+1));
-						if ( j < clen-1 )
+						int jix = aix[j];
+						
+						// output empty fields, if needed
+						for( int j2=prev_jix; j2<jix-1; j2++ ) {
+							if( !csvsparse )
+								sb.append('0');
 							sb.append(delim);
-					}
-					br.write( sb.toString() );
-		            sb.setLength(0);	
-				}
-				sb.append('\n');
-				br.write( sb.toString() );
-	            sb.setLength(0);
-			}
-			
-			// Write data lines
-			if( sparse ) //SPARSE
-			{	
-				SparseBlock sblock = src.getSparseBlock();
-				for(int i=rl; i < ru; i++) 
-	            {
-					//write row chunk-wise to prevent OOM on large number of columns
-					int prev_jix = -1;
-					if(    sblock!=null && i<sblock.numRows() 
-						&& !sblock.isEmpty(i) )
-					{
-						int pos = sblock.pos(i);
-						int alen = sblock.size(i);
-						int[] aix = sblock.indexes(i);
-						double[] avals = sblock.values(i);
 						
-						for(int j=pos; j<pos+alen; j++) 
-						{
-							int jix = aix[j];
-							
-							// output empty fields, if needed
-							for( int j2=prev_jix; j2<jix-1; j2++ ) {
-								if( !csvsparse )
-									sb.append('0');
-								sb.append(delim);
-							
-								//flush buffered string
-					            if( j2%BLOCKSIZE_J==0 ){
-									br.write( sb.toString() );
-						            sb.setLength(0);
-					            }
-							}
-							
-							// output the value (non-zero)
-							sb.append( avals[j] );
-							if( jix < clen-1)
-								sb.append(delim);
-							br.write( sb.toString() );
-				            sb.setLength(0);
-				            
-				            //flush buffered string
-				            if( jix%BLOCKSIZE_J==0 ){
+							//flush buffered string
+				            if( j2%BLOCKSIZE_J==0 ){
 								br.write( sb.toString() );
 					            sb.setLength(0);
 				            }
-				            
-							prev_jix = jix;
-						}
-					}
-					
-					// Output empty fields at the end of the row.
-					// In case of an empty row, output (clen-1) empty fields
-					for( int bj=prev_jix+1; bj<clen; bj+=BLOCKSIZE_J )
-					{
-						for( int j = bj; j < Math.min(clen,bj+BLOCKSIZE_J); j++) {
-							if( !csvsparse )
-								sb.append('0');
-							if( j < clen-1 )
-								sb.append(delim);
 						}
+						
+						// output the value (non-zero)
+						sb.append( avals[j] );
+						if( jix < clen-1)
+							sb.append(delim);
 						br.write( sb.toString() );
-			            sb.setLength(0);	
+			            sb.setLength(0);
+			            
+			            //flush buffered string
+			            if( jix%BLOCKSIZE_J==0 ){
+							br.write( sb.toString() );
+				            sb.setLength(0);
+			            }
+			            
+						prev_jix = jix;
 					}
-
-					sb.append('\n');
-					br.write( sb.toString() ); 
-					sb.setLength(0); 
 				}
+				
+				// Output empty fields at the end of the row.
+				// In case of an empty row, output (clen-1) empty fields
+				for( int bj=prev_jix+1; bj<clen; bj+=BLOCKSIZE_J )
+				{
+					for( int j = bj; j < Math.min(clen,bj+BLOCKSIZE_J); j++) {
+						if( !csvsparse )
+							sb.append('0');
+						if( j < clen-1 )
+							sb.append(delim);
+					}
+					br.write( sb.toString() );
+		            sb.setLength(0);	
+				}
+
+				sb.append('\n');
+				br.write( sb.toString() ); 
+				sb.setLength(0); 
 			}
-			else //DENSE
+		}
+		else //DENSE
+		{
+			DenseBlock d = src.getDenseBlock();
+			for( int i=rl; i<ru; i++ ) 
 			{
-				DenseBlock d = src.getDenseBlock();
-				for( int i=rl; i<ru; i++ ) 
+				//write row chunk-wise to prevent OOM on large number of columns
+				for( int bj=0; bj<clen; bj+=BLOCKSIZE_J )
 				{
-					//write row chunk-wise to prevent OOM on large number of columns
-					for( int bj=0; bj<clen; bj+=BLOCKSIZE_J )
+					for( int j=bj; j<Math.min(clen,bj+BLOCKSIZE_J); j++ )
 					{
-						for( int j=bj; j<Math.min(clen,bj+BLOCKSIZE_J); j++ )
-						{
-							double lvalue = d!=null ? d.get(i, j) : 0;
-							if( lvalue != 0 ) //for nnz
-								sb.append(lvalue);
-							else if( !csvsparse ) 
-								sb.append('0');
-							
-							if( j != clen-1 )
-								sb.append(delim);
-						}
-						br.write( sb.toString() );
-						sb.setLength(0);
+						double lvalue = d!=null ? d.get(i, j) : 0;
+						if( lvalue != 0 ) //for nnz
+							sb.append(lvalue);
+						else if( !csvsparse ) 
+							sb.append('0');
+						
+						if( j != clen-1 )
+							sb.append(delim);
 					}
-					
-					sb.append('\n');
-					br.write( sb.toString() ); //same as append
-					sb.setLength(0); 
+					br.write( sb.toString() );
+					sb.setLength(0);
 				}
+				
+				sb.append('\n');
+				br.write( sb.toString() ); //same as append
+				sb.setLength(0); 
 			}
 		}
-		finally {
-			IOUtilFunctions.closeSilently(br);
-		}
 	}
 
 	public final void addHeaderToCSV(String srcFileName, String destFileName, long rlen, long clen) 
@@ -345,7 +356,36 @@ public class WriterTextCSV extends MatrixWriter
 	}
 
 	@Override
-	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen) {
-		throw new UnsupportedOperationException("Writing from an OOC stream is not supported for the TextCSV format.");
-	};
+	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen)
+		throws IOException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+		
+		FileFormatPropertiesCSV props = (_props==null)? new FileFormatPropertiesCSV() : _props;
+		RowBlockAssembler rows = new RowBlockAssembler(rlen, clen, blen);
+		long nnz = 0;
+		
+		//sequential write of row blocks in order, out-of-order blocks are buffered
+		try( BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true))) ) {
+			if( props.hasHeader() )
+				writeCSVHeader(br, clen, props.getDelim());
+			IndexedMatrixValue tmp = null;
+			while((tmp = stream.dequeue()) != LocalTaskQueue.NO_MORE_TASKS) {
+				rows.add(tmp);
+				for( MatrixBlock mb = rows.next(); mb != null; mb = rows.next() ) {
+					writeCSVRows(br, mb, 0, mb.getNumRows(), props);
+					//count without materializing, as the nnz of stream blocks might be unknown
+					nnz += mb.recomputeNonZeros(0, mb.getNumRows() - 1);
+				}
+			}
+		}
+		rows.checkComplete();
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+		return nnz;
+	}
 }
@@ -30,6 +30,8 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.instructions.ooc.OOCStream;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
@@ -84,64 +86,95 @@ public class WriterTextCell extends MatrixWriter
 
 	protected static void writeTextCellMatrixToFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int rl, int ru )
 		throws IOException
+	{
+		try( BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true))) )
+		{
+			writeTextCells(br, src, rl, ru, 0, 0);
+	
+			//handle empty result
+			if ( src.isEmptyBlock(false) && rl==0 )
+				br.write(IOUtilFunctions.EMPTY_TEXT_LINE);
+		}
+	}
+
+	private static void writeTextCells( BufferedWriter br, MatrixBlock src, int rl, int ru, long rowOffset, long colOffset )
+		throws IOException
 	{
 		boolean sparse = src.isInSparseFormat();
 		int clen = src.getNumColumns();
-
-		try( BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true))) )
+		
+		//for obj reuse and preventing repeated buffer re-allocations
+		StringBuilder sb = new StringBuilder();
+		
+		if( sparse ) //SPARSE
 		{
-			//for obj reuse and preventing repeated buffer re-allocations
-			StringBuilder sb = new StringBuilder();
-			
-			if( sparse ) //SPARSE
+			Iterator<IJV> iter = src.getSparseBlockIterator(rl, ru);
+			while( iter.hasNext() )
 			{
-				Iterator<IJV> iter = src.getSparseBlockIterator(rl, ru);
-				while( iter.hasNext() )
-				{
-					IJV cell = iter.next();
+				IJV cell = iter.next();
 
-					sb.append(cell.getI()+1);
-					sb.append(' ');
-					sb.append(cell.getJ()+1);
-					sb.append(' ');
-					sb.append(cell.getV());
-					sb.append('\n');
-					br.write( sb.toString() ); //same as append
-					sb.setLength(0); 
-				}
+				sb.append(cell.getI()+1+rowOffset);
+				sb.append(' ');
+				sb.append(cell.getJ()+1+colOffset);
+				sb.append(' ');
+				sb.append(cell.getV());
+				sb.append('\n');
+				br.write( sb.toString() ); //same as append
+				sb.setLength(0); 
 			}
-			else //DENSE
-			{
-				if( !src.isEmpty() ) {
-					DenseBlock d = src.getDenseBlock();
-					for( int i=rl; i<ru; i++ ) {
-						String rowIndex = Integer.toString(i+1);
-						for( int j=0; j<clen; j++ ) {
-							double lvalue = d.get(i, j);
-							if( lvalue != 0 ) //for nnz
-							{
-								sb.append(rowIndex);
-								sb.append(' ');
-								sb.append( j+1 );
-								sb.append(' ');
-								sb.append( lvalue );
-								sb.append('\n');
-								br.write( sb.toString() ); //same as append
-								sb.setLength(0); 
-							}
+		}
+		else //DENSE
+		{
+			if( !src.isEmpty() ) {
+				DenseBlock d = src.getDenseBlock();
+				for( int i=rl; i<ru; i++ ) {
+					String rowIndex = Long.toString(i+1+rowOffset);
+					for( int j=0; j<clen; j++ ) {
+						double lvalue = d.get(i, j);
+						if( lvalue != 0 ) //for nnz
+						{
+							sb.append(rowIndex);
+							sb.append(' ');
+							sb.append( j+1+colOffset );
+							sb.append(' ');
+							sb.append( lvalue );
+							sb.append('\n');
+							br.write( sb.toString() ); //same as append
+							sb.setLength(0); 
 						}
 					}
 				}
 			}
-	
-			//handle empty result
-			if ( src.isEmptyBlock(false) && rl==0 )
-				br.write(IOUtilFunctions.EMPTY_TEXT_LINE);
 		}
 	}
 
 	@Override
-	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen) {
-		throw new UnsupportedOperationException("Writing from an OOC stream is not supported for the TextCell format.");
-	};
+	public long writeMatrixFromStream(String fname, OOCStream<IndexedMatrixValue> stream, long rlen, long clen, int blen)
+		throws IOException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+		
+		//sequential write of blocks in arrival order (cells are self-describing)
+		long nnz = 0;
+		try( BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true))) ) {
+			IndexedMatrixValue tmp = null;
+			while((tmp = stream.dequeue()) != LocalTaskQueue.NO_MORE_TASKS) {
+				MatrixBlock mb = CompressedMatrixBlock.getUncompressed(tmp.getValue());
+				writeTextCells(br, mb, 0, mb.getNumRows(),
+					(tmp.getIndexes().getRowIndex() - 1) * blen, (tmp.getIndexes().getColumnIndex() - 1) * blen);
+				//count without materializing, as the nnz of stream blocks might be unknown
+				nnz += mb.recomputeNonZeros(0, mb.getNumRows() - 1);
+			}
+			//handle empty result
+			if( nnz == 0 )
+				br.write(IOUtilFunctions.EMPTY_TEXT_LINE);
+		}
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+		return nnz;
+	}
 }
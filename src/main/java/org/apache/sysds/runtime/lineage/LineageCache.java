@@ -70,10 +70,14 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class LineageCache
 {
-	private static final Map<LineageItem, LineageCacheEntry> _cache = new HashMap<>();
+	private static final Map<LineageItem, LineageCacheEntry> _cache = new ConcurrentHashMap<>();
+	private static final AtomicInteger _lockDemand = new AtomicInteger(0);
 	protected static final boolean DEBUG = false;
 
 	static {
@@ -89,6 +93,10 @@ public class LineageCache
 	//   entry objects which reduces contention and prevents deadlocks in case of
 	//   function/statement block placeholders which computation itself might be
 	//   a complex workflow of operations that accesses the cache as well.
+	//   The map itself is concurrent, such that probes of in-memory entries and
+	//   the creation of placeholders (the common case of parfor workers) do not
+	//   acquire the cache monitor at all. Such lock-free hits only record the
+	//   access, and the eviction queue is reordered in batches under the monitor.
 	
 	
 	//--------------- PUBLIC CACHE API (keep it narrow) ----------------//
@@ -105,30 +113,13 @@ public class LineageCache
 			//atomic try reuse full/partial and set placeholder, without
 			//obtaining value to avoid blocking in critical section
 			LineageCacheEntry e = null;
-			boolean reuseAll = true;
-			synchronized( _cache ) {
-				//try to reuse full or partial intermediates (CPU and FED only)
-				for (MutablePair<LineageItem,LineageCacheEntry> item : liList) {
-					if (LineageCacheConfig.getCacheType().isFullReuse())
-						//e = LineageCache.probe(item.getKey()) ? getIntern(item.getKey()) : null;
-						e = getIntern(item.getKey()); //avoid double probing (containsKey + get)
-					//TODO need to also move execution of compensation plan out of here
-					//(create lazily evaluated entry)
-					if (e == null && LineageCacheConfig.getCacheType().isPartialReuse()
-						&& !(inst instanceof ComputationSPInstruction)
-						&& !(DMLScript.USE_ACCELERATOR))
-						if( LineageRewriteReuse.executeRewrites(inst, ec) )
-							e = getIntern(item.getKey());
-					reuseAll &= (e != null);
-					item.setValue(e);
-					
-					//create a placeholder if no reuse to avoid redundancy
-					//(e.g., concurrent threads that try to start the computation)
-					if(e == null && isMarkedForCaching(inst, ec))
-						putInternPlaceholder(inst, item.getKey());
-				}
-			}
-			reuse = reuseAll;
+			if (LineageCacheConfig.getCacheType().isPartialReuse() && LineagePersistentCache.isEnabled())
+				for (MutablePair<LineageItem, LineageCacheEntry> item : liList)
+					if (!_cache.containsKey(item.getKey()))
+						getPersisted(item.getKey());
+			reuse = LineageCacheConfig.getCacheType().isPartialReuse() ?
+				withCacheLock(() -> probeOrPlaceholder(inst, ec, liList)) :
+				probeOrPlaceholderLockFree(inst, ec, liList);
 			
 			if(reuse) { //reuse
 				//put reused value into symbol table (w/ blocking on placeholders)
@@ -235,18 +226,13 @@ public class LineageCache
 			// set _distLeaf2Node for this special lineage item to 1
 			// to save it from early eviction if DAGHEIGHT policy is selected
 			li.setHeight(1);
-			LineageCacheEntry e = null;
-			synchronized(_cache) {
-				if (LineageCache.probe(li)) {
-					e = LineageCache.getIntern(li);
-					funcOutLIs.add(e);
-				}
-				else {
-					//create a placeholder if no reuse to avoid redundancy
-					//(e.g., concurrent threads that try to start the computation)
-					putIntern(li, outParams.get(i).getDataType(), null, null, 0);
-				}
-			}
+			LineageCacheEntry e = getInternLockFree(li);
+			if (e == null)
+				//create a placeholder if no reuse to avoid redundancy
+				//(e.g., concurrent threads that try to start the computation)
+				e = putPlaceholderLockFree(li, outParams.get(i).getDataType());
+			if (e != null)
+				funcOutLIs.add(e);
 			//TODO: handling of recursive calls
 			
 			if (e != null) {
@@ -528,7 +514,7 @@ public class LineageCache
 
 	public static boolean probe(LineageItem key) {
 		//TODO problematic as after probe the matrix might be kicked out of cache
-		return _cache.containsKey(key);
+		return key != null && _cache.containsKey(key);
 	}
 
 	private static boolean probeRDDDistributed(LineageItem key) {
@@ -695,83 +681,97 @@ public class LineageCache
 	
 	private static void putValueCPU(Instruction inst, List<Pair<LineageItem, Data>> liData, long computetime)
 	{
-		synchronized( _cache ) {
-			for (Pair<LineageItem, Data> entry : liData) {
-				LineageItem item = entry.getKey();
-				Data data = entry.getValue();
+		List<LineageCacheEntry> persist = withCacheLock(() -> putValueCPUIntern(inst, liData, computetime));
+		
+		//write to the persistent cache outside the critical section
+		if (persist != null)
+			for (LineageCacheEntry e : persist)
+				LineagePersistentCache.put(e._key, e.getMBValue(), e.getSOValue(), e._computeTime);
+	}
+	
+	private static List<LineageCacheEntry> putValueCPUIntern(Instruction inst, List<Pair<LineageItem, Data>> liData, long computetime)
+	{
+		//Caller should hold the monitor on _cache
+		List<LineageCacheEntry> persist = LineagePersistentCache.isEnabled() ? new ArrayList<>() : null;
+		for (Pair<LineageItem, Data> entry : liData) {
+			LineageItem item = entry.getKey();
+			Data data = entry.getValue();
 
-				if (!probe(item))
-					continue;
+			if (!probe(item))
+				continue;
 
-				LineageCacheEntry centry = _cache.get(item);
+			LineageCacheEntry centry = _cache.get(item);
 
-				if (!(data instanceof MatrixObject) && !(data instanceof ScalarObject)) {
-					// Reusable instructions can return a frame (rightIndex). Remove placeholders.
-					removePlaceholder(item);
-					continue;
-				}
+			if (!(data instanceof MatrixObject) && !(data instanceof ScalarObject)) {
+				// Reusable instructions can return a frame (rightIndex). Remove placeholders.
+				removePlaceholder(item);
+				continue;
+			}
 
-				if (data instanceof MatrixObjectFuture || inst instanceof PrefetchCPInstruction) {
-					// We don't want to call get() on the future immediately after the execution
-					// For the async. instructions, caching is handled separately by the tasks
-					removePlaceholder(item);
-					continue;
-				}
+			if (data instanceof MatrixObjectFuture || inst instanceof PrefetchCPInstruction) {
+				// We don't want to call get() on the future immediately after the execution
+				// For the async. instructions, caching is handled separately by the tasks
+				removePlaceholder(item);
+				continue;
+			}
 
-				if (data instanceof MatrixObject && ((MatrixObject) data).hasRDDHandle()) {
-					// Avoid triggering pre-matured Spark instruction chains
-					removePlaceholder(item);
-					continue;
-				}
+			if (data instanceof MatrixObject && ((MatrixObject) data).hasRDDHandle()) {
+				// Avoid triggering pre-matured Spark instruction chains
+				removePlaceholder(item);
+				continue;
+			}
 
-				if (LineageCacheConfig.isOutputFederated(inst, data)) {
-					// Do not cache federated outputs (in the coordinator)
-					// Cannot skip putting the placeholder as the above is only known after execution
-					removePlaceholder(item);
-					continue;
-				}
+			if (LineageCacheConfig.isOutputFederated(inst, data)) {
+				// Do not cache federated outputs (in the coordinator)
+				// Cannot skip putting the placeholder as the above is only known after execution
+				removePlaceholder(item);
+				continue;
+			}
 
-				MatrixBlock mb = (data instanceof MatrixObject) ? 
-						((MatrixObject)data).acquireReadAndRelease() : null;
-				long size = mb != null ? mb.getInMemorySize() : ((ScalarObject)data).getSize();
+			MatrixBlock mb = (data instanceof MatrixObject) ? 
+					((MatrixObject)data).acquireReadAndRelease() : null;
+			long size = mb != null ? mb.getInMemorySize() : ((ScalarObject)data).getSize();
 
-				//remove the placeholder if the entry is bigger than the cache.
-				if (size > LineageCacheEviction.getCacheLimit()) {
-					removePlaceholder(item);
-					continue; 
-				}
+			//remove the placeholder if the entry is bigger than the cache.
+			if (size > LineageCacheEviction.getCacheLimit()) {
+				removePlaceholder(item);
+				continue; 
+			}
 
-				//delay caching of large matrix blocks if the feature is enabled
-				if (centry.getCacheStatus() == LineageCacheStatus.EMPTY && LineageCacheConfig.isDelayedCaching()) {
-					if (data instanceof MatrixObject  //no delayed caching for scalars
-						&& !LineageCacheEviction._removelist.containsKey(centry._key) //evicted before
-						&& size > 0.05 * LineageCacheEviction.getAvailableSpace()) { //size adaptive
-						centry.setCacheStatus(LineageCacheStatus.TOCACHE);
-						continue;
-					}
+			//delay caching of large matrix blocks if the feature is enabled
+			if (centry.getCacheStatus() == LineageCacheStatus.EMPTY && LineageCacheConfig.isDelayedCaching()) {
+				if (data instanceof MatrixObject  //no delayed caching for scalars
+					&& !LineageCacheEviction._removelist.containsKey(centry._key) //evicted before
+					&& size > 0.05 * LineageCacheEviction.getAvailableSpace()) { //size adaptive
+					centry.setCacheStatus(LineageCacheStatus.TOCACHE);
+					continue;
 				}
+			}
 
-				//make space for the data
-				if (!LineageCacheEviction.isBelowThreshold(size))
-					LineageCacheEviction.makeSpace(_cache, size);
-				LineageCacheEviction.updateSize(size, true);
-
-				//place the data
-				if (data instanceof MatrixObject)
-					centry.setValue(mb, computetime);
-				else if (data instanceof ScalarObject)
-					centry.setValue((ScalarObject)data, computetime);
-				centry.setCacheStatus(LineageCacheStatus.CACHED);
+			//make space for the data
+			if (!LineageCacheEviction.isBelowThreshold(size))
+				LineageCacheEviction.makeSpace(_cache, size);
+			LineageCacheEviction.updateSize(size, true);
 
-				if (DMLScript.STATISTICS && LineageCacheEviction._removelist.containsKey(centry._key)) {
-					// Add to missed compute time
-					LineageCacheStatistics.incrementMissedComputeTime(centry._computeTime);
-				}
+			//place the data
+			if (data instanceof MatrixObject)
+				centry.setValue(mb, computetime);
+			else if (data instanceof ScalarObject)
+				centry.setValue((ScalarObject)data, computetime);
+			centry.setCacheStatus(LineageCacheStatus.CACHED);
 
-				//maintain order for eviction
-				LineageCacheEviction.addEntry(centry);
+			if (DMLScript.STATISTICS && LineageCacheEviction._removelist.containsKey(centry._key)) {
+				// Add to missed compute time
+				LineageCacheStatistics.incrementMissedComputeTime(centry._computeTime);
 			}
+
+			//maintain order for eviction
+			LineageCacheEviction.addEntry(centry);
+			if (persist != null) //detached copy, robust against eviction
+				persist.add(new LineageCacheEntry(item, centry._dt, mb,
+					(data instanceof ScalarObject) ? (ScalarObject)data : null, computetime));
 		}
+		return persist;
 	}
 	
 	private static void putValueGPU(GPUObject gpuObj, LineageItem instLI, long computetime) {
@@ -921,13 +921,15 @@ public class LineageCache
 		}
 
 		//cache either all the outputs, or none.
-		synchronized (_cache) {
+		final boolean cacheable = AllOutputsCacheable;
+		withCacheLock(() -> {
 			//move or remove placeholders 
-			if(AllOutputsCacheable)
+			if(cacheable)
 				FuncLIMap.forEach((Li, boundLI) -> mvIntern(Li, boundLI, computetime));
 			else
 				FuncLIMap.forEach((Li, boundLI) -> removePlaceholder(Li));
-		}
+			return null;
+		});
 		
 		return;
 	}
@@ -1061,21 +1063,96 @@ public class LineageCache
 	
 	//----------------- INTERNAL CACHE LOGIC IMPLEMENTATION --------------//
 
-	private static void putInternPlaceholder(Instruction inst, LineageItem key) {
-		ComputationCPInstruction cinst = inst instanceof ComputationCPInstruction ? (ComputationCPInstruction)inst : null;
-		ComputationFEDInstruction cfinst = inst instanceof ComputationFEDInstruction ? (ComputationFEDInstruction)inst : null;
-		ComputationSPInstruction cspinst = inst instanceof ComputationSPInstruction ? (ComputationSPInstruction)inst : null;
-		GPUInstruction gpuinst = inst instanceof GPUInstruction ? (GPUInstruction)inst : null;
+	private static <T> T withCacheLock(Supplier<T> task) {
+		if (!DMLScript.STATISTICS) {
+			synchronized( _cache ) {
+				return task.get();
+			}
+		}
+		//count acquisitions requested while another thread holds or awaits the monitor
+		long t0 = System.nanoTime();
+		boolean contended = _lockDemand.getAndIncrement() > 0;
+		try {
+			synchronized( _cache ) {
+				LineageCacheStatistics.incrementLockAcquires(contended, System.nanoTime() - t0);
+				return task.get();
+			}
+		}
+		finally {
+			_lockDemand.decrementAndGet();
+		}
+	}
+
+	private static boolean probeOrPlaceholder(Instruction inst, ExecutionContext ec,
+		List<MutablePair<LineageItem, LineageCacheEntry>> liList)
+	{
+		//Caller should hold the monitor on _cache
+		LineageCacheEntry e = null;
+		boolean reuseAll = true;
+		//try to reuse full or partial intermediates (CPU and FED only)
+		for (MutablePair<LineageItem,LineageCacheEntry> item : liList) {
+			if (LineageCacheConfig.getCacheType().isFullReuse())
+				//e = LineageCache.probe(item.getKey()) ? getIntern(item.getKey()) : null;
+				e = getIntern(item.getKey()); //avoid double probing (containsKey + get)
+			//TODO need to also move execution of compensation plan out of here
+			//(create lazily evaluated entry)
+			if (e == null && LineageCacheConfig.getCacheType().isPartialReuse()
+				&& !(inst instanceof ComputationSPInstruction)
+				&& !(DMLScript.USE_ACCELERATOR))
+				if( LineageRewriteReuse.executeRewrites(inst, ec) )
+					e = getIntern(item.getKey());
+			reuseAll &= (e != null);
+			item.setValue(e);
+			
+			//create a placeholder if no reuse to avoid redundancy
+			//(e.g., concurrent threads that try to start the computation)
+			if(e == null && isMarkedForCaching(inst, ec))
+				putInternPlaceholder(inst, item.getKey());
+		}
+		return reuseAll;
+	}
+
+	private static boolean probeOrPlaceholderLockFree(Instruction inst, ExecutionContext ec,
+		List<MutablePair<LineageItem, LineageCacheEntry>> liList)
+	{
+		boolean reuseAll = true;
+		for (MutablePair<LineageItem,LineageCacheEntry> item : liList) {
+			LineageCacheEntry e = getInternLockFree(item.getKey());
+			//create a placeholder if no reuse, or wait on the entry of a
+			//concurrent thread that created the placeholder in the meantime
+			if (e == null && isMarkedForCaching(inst, ec))
+				e = putPlaceholderLockFree(item.getKey(), getOutputDataType(inst));
+			reuseAll &= (e != null);
+			item.setValue(e);
+		}
+		return reuseAll;
+	}
 
-		if (cinst != null)
-			putIntern(key, cinst.output.getDataType(), null, null,  0);
-		else if (cfinst != null)
-			putIntern(key, cfinst.output.getDataType(), null, null,  0);
-		else if (cspinst != null)
-			putIntern(key, cspinst.output.getDataType(), null, null,  0);
-		else if (gpuinst != null)
-			putIntern(key, gpuinst._output.getDataType(), null, null,  0);
+	private static DataType getOutputDataType(Instruction inst) {
 		//FIXME: different o/p datatypes for MultiReturnBuiltins.
+		if (inst instanceof ComputationCPInstruction)
+			return ((ComputationCPInstruction)inst).output.getDataType();
+		else if (inst instanceof ComputationFEDInstruction)
+			return ((ComputationFEDInstruction)inst).output.getDataType();
+		else if (inst instanceof ComputationSPInstruction)
+			return ((ComputationSPInstruction)inst).output.getDataType();
+		else if (inst instanceof GPUInstruction)
+			return ((GPUInstruction)inst)._output.getDataType();
+		return null;
+	}
+
+	private static void putInternPlaceholder(Instruction inst, LineageItem key) {
+		DataType dt = getOutputDataType(inst);
+		if (dt != null)
+			putIntern(key, dt, null, null,  0);
+	}
+
+	private static LineageCacheEntry putPlaceholderLockFree(LineageItem key, DataType dt) {
+		if (dt == null)
+			return null;
+		//placeholders don't participate in eviction, hence no accounting needed;
+		//returns the existing entry if another thread was faster
+		return _cache.putIfAbsent(key, new LineageCacheEntry(key, dt, null, null, 0));
 	}
 
 	private static void putIntern(LineageItem key, DataType dt, MatrixBlock Mval, ScalarObject Sval, long computetime) {
@@ -1085,12 +1162,16 @@ public class LineageCache
 		
 		// Create a new entry.
 		LineageCacheEntry newItem = new LineageCacheEntry(key, dt, Mval, Sval, computetime);
+		long size = (Mval != null || Sval != null) ? newItem.getSize() : 0;
+		if( size > LineageCacheEviction.getCacheLimit())
+			return; //not applicable
+		
+		// Publish atomically as placeholders are also created w/o the monitor.
+		if (_cache.putIfAbsent(key, newItem) != null)
+			return;
 		
 		// Make space by removing or spilling entries.
 		if( Mval != null || Sval != null ) {
-			long size = newItem.getSize();
-			if( size > LineageCacheEviction.getCacheLimit())
-				return; //not applicable
 			if( !LineageCacheEviction.isBelowThreshold(size) )
 				LineageCacheEviction.makeSpace(_cache, size);
 			LineageCacheEviction.updateSize(size, true);
@@ -1098,8 +1179,46 @@ public class LineageCache
 		
 		// Place the entry in the weighted queue.
 		LineageCacheEviction.addEntry(newItem);
-		
-		_cache.put(key, newItem);
+	}
+	
+	private static LineageCacheEntry getInternLockFree(LineageItem key) {
+		LineageCacheEntry e = _cache.get(key);
+		if (e != null && e.getCacheStatus() != LineageCacheStatus.SPILLED && !e.isRDDPersist()) {
+			if (DMLScript.STATISTICS) {
+				LineageCacheStatistics.incrementMemHits();
+				LineageCacheStatistics.incrementLockFreeProbes();
+			}
+			// Maintain order for eviction (concurrent weighted queue)
+			if (!e.isGPUObject())
+				LineageCacheEviction.getEntry(e);
+			return e;
+		}
+		if (e == null && !LineagePersistentCache.isEnabled()) {
+			if (DMLScript.STATISTICS) {
+				if (LineageCacheEviction._removelist.containsKey(key))
+					LineageCacheStatistics.incrementDelHits();
+				LineageCacheStatistics.incrementLockFreeProbes();
+			}
+			return null;
+		}
+		// Fall back to the persistent cache of previous runs
+		if (e == null)
+			return getPersisted(key);
+		// Spilled and distributed entries need the monitor
+		return withCacheLock(() -> getIntern(key));
+	}
+	
+	private static LineageCacheEntry getPersisted(LineageItem key) {
+		// Hash the trace and read the entry outside the critical section,
+		// and only add the obtained value to the in-memory cache under the monitor
+		LineageCacheEntry pe = LineagePersistentCache.get(key);
+		if (pe == null)
+			return null;
+		return withCacheLock(() -> {
+			if (!_cache.containsKey(key))
+				putIntern(key, pe._dt, pe.getMBValue(), pe.getSOValue(), pe._computeTime);
+			return getIntern(key);
+		});
 	}
 	
 	private static LineageCacheEntry getIntern(LineageItem key) {
@@ -20,9 +20,9 @@
 package org.apache.sysds.runtime.lineage;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.hops.OptimizerUtils;
@@ -37,9 +37,12 @@ public class LineageCacheEviction
 	private static long _cachesize = 0;
 	private static long CACHE_LIMIT; //limit in bytes
 	private static long _startTimestamp = 0;
-	protected static final Map<LineageItem, Integer> _removelist = new HashMap<>();
+	protected static final Map<LineageItem, Integer> _removelist = new ConcurrentHashMap<>();
 	private static String _outdir = null;
-	private static TreeSet<LineageCacheEntry> weightedQueue = new TreeSet<>(LineageCacheConfig.LineageCacheComparator);
+	// Concurrent weighted queue, which allows reordering entries on cache hits
+	// w/o the cache lock. Victim selection and spilling still hold the cache lock.
+	private static final ConcurrentSkipListSet<LineageCacheEntry> weightedQueue =
+		new ConcurrentSkipListSet<>(LineageCacheConfig.LineageCacheComparator);
 	
 	protected static void resetEviction() {
 		// reset cache size, otherwise the cache clear leads to unusable 
@@ -78,21 +81,30 @@ public class LineageCacheEviction
 		}
 	}
 	
+	/**
+	 * Maintains the order of the weighted queue after a cache hit. This method is
+	 * safe to call w/o the cache lock: the entry is only modified while removed
+	 * from the queue, and concurrent hits on the same entry serialize on the entry.
+	 * 
+	 * @param entry the sought cache entry
+	 */
 	protected static void getEntry(LineageCacheEntry entry) {
-		// Reset the timestamp to maintain the LRU component of the scoring function
-		if (LineageCacheConfig.isTimeBased()) { 
-			if (weightedQueue.remove(entry)) {
+		boolean timeBased = LineageCacheConfig.isTimeBased();
+		boolean costNsize = LineageCacheConfig.isCostNsize();
+		if (!timeBased && !costNsize)
+			return;
+		synchronized (entry) {
+			// Entries polled by a concurrent eviction are not added again
+			if (!weightedQueue.remove(entry))
+				return;
+			// Reset the timestamp to maintain the LRU component of the scoring function
+			if (timeBased)
 				entry.updateTimestamp();
-				weightedQueue.add(entry);
-			}
-		}
-		// Scale score of the sought entry after every cache hit
-		// FIXME: avoid when called from partial reuse methods
-		if (LineageCacheConfig.isCostNsize()) {
-			if (weightedQueue.remove(entry)) {
+			// Scale score of the sought entry after every cache hit
+			// FIXME: avoid when called from partial reuse methods
+			if (costNsize)
 				entry.updateScore(true);
-				weightedQueue.add(entry);
-			}
+			weightedQueue.add(entry);
 		}
 	}
 
@@ -103,10 +115,7 @@ public class LineageCacheEviction
 		}
 
 		// Maintain miss count to increase the score if the item enters the cache again
-		if (_removelist.containsKey(e._key))
-			_removelist.replace(e._key, _removelist.get(e._key)+1);
-		else
-			_removelist.put(e._key, 1);
+		_removelist.merge(e._key, 1, Integer::sum);
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementMemDeletes();
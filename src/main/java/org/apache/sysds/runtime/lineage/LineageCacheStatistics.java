@@ -36,6 +36,15 @@ public class LineageCacheStatistics {
 	private static final LongAdder _numWritesFS     = new LongAdder();
 	private static final LongAdder _numMemDel       = new LongAdder();
 	private static final LongAdder _numRewrites     = new LongAdder();
+	// Below entries are specific to the persistent lineage cache
+	private static final LongAdder _numHitsPersist  = new LongAdder();
+	private static final LongAdder _numWritesPersist= new LongAdder();
+	private static final LongAdder _numInvalPersist = new LongAdder();
+	// Below entries are specific to the synchronization of the cache
+	private static final LongAdder _numProbesFree   = new LongAdder();
+	private static final LongAdder _numLockAcq      = new LongAdder();
+	private static final LongAdder _numLockCont     = new LongAdder();
+	private static final LongAdder _ctimeLockWait   = new LongAdder();
 	// All the time measurements are in nanoseconds
 	private static final LongAdder _ctimeFSRead     = new LongAdder();
 	private static final LongAdder _ctimeFSWrite    = new LongAdder();
@@ -69,6 +78,13 @@ public class LineageCacheStatistics {
 		_numWritesFS.reset();
 		_numMemDel.reset();
 		_numRewrites.reset();
+		_numHitsPersist.reset();
+		_numWritesPersist.reset();
+		_numInvalPersist.reset();
+		_numProbesFree.reset();
+		_numLockAcq.reset();
+		_numLockCont.reset();
+		_ctimeLockWait.reset();
 		_ctimeFSRead.reset();
 		_ctimeFSWrite.reset();
 		_ctimeSaved.reset();
@@ -275,6 +291,59 @@ public class LineageCacheStatistics {
 		_numHitsDelRdd.increment();
 	}
 
+	public static void incrementPersistHits() {
+		// Number of times found in the persistent cache.
+		_numHitsPersist.increment();
+	}
+
+	public static long getPersistHits() {
+		return _numHitsPersist.longValue();
+	}
+
+	public static void incrementPersistWrites() {
+		// Number of entries written to the persistent cache.
+		_numWritesPersist.increment();
+	}
+
+	public static long getPersistWrites() {
+		return _numWritesPersist.longValue();
+	}
+
+	public static void incrementPersistInvalidations() {
+		// Number of persistent entries removed due to modified inputs.
+		_numInvalPersist.increment();
+	}
+
+	public static long getPersistInvalidations() {
+		return _numInvalPersist.longValue();
+	}
+
+	public static void incrementLockFreeProbes() {
+		// Number of cache probes served without the global cache lock.
+		_numProbesFree.increment();
+	}
+
+	public static long getLockFreeProbes() {
+		return _numProbesFree.longValue();
+	}
+
+	public static void incrementLockAcquires(boolean contended, long waittime) {
+		// Number of global cache lock acquisitions, contended ones, and wait time.
+		_numLockAcq.increment();
+		if (contended) {
+			_numLockCont.increment();
+			_ctimeLockWait.add(waittime);
+		}
+	}
+
+	public static long getLockAcquires() {
+		return _numLockAcq.longValue();
+	}
+
+	public static long getLockContentions() {
+		return _numLockCont.longValue();
+	}
+
 	public static String displayHits() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numHitsMem.longValue());
@@ -378,6 +447,41 @@ public class LineageCacheStatistics {
 		return sb.toString();
 	}
 
+	public static String displayPersistStats() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsPersist.longValue());
+		sb.append("/");
+		sb.append(_numWritesPersist.longValue());
+		sb.append("/");
+		sb.append(_numInvalPersist.longValue());
+		return sb.toString();
+	}
+
+	public static boolean ifPersistStats() {
+		return (_numHitsPersist.longValue() + _numWritesPersist.longValue()
+			+ _numInvalPersist.longValue()) != 0;
+	}
+
+	public static String displayLockStats() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numProbesFree.longValue());
+		sb.append("/");
+		sb.append(_numLockAcq.longValue());
+		sb.append("/");
+		sb.append(_numLockCont.longValue());
+		return sb.toString();
+	}
+
+	public static String displayLockWaitTime() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%.3f", ((double)_ctimeLockWait.longValue())/1000000000)); //in sec
+		return sb.toString();
+	}
+
+	public static boolean ifLockStats() {
+		return (_numProbesFree.longValue() + _numLockAcq.longValue()) != 0;
+	}
+
 	public static boolean ifSparkStats() {
 		return (_numHitsSparkActions.longValue() + _numHitsRdd.longValue()
 		+ _numHitsRddPersist.longValue() + _numRddPersist.longValue()) != 0;
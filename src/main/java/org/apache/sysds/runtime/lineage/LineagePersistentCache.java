@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObjectFactory;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.lineage.LineageItem.LineageItemType;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.FastBufferedDataInputStream;
+import org.apache.sysds.runtime.util.FastBufferedDataOutputStream;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+
+/**
+ * Persistent lineage cache on the local file system, which survives process restarts and thus allows repeated
+ * scripts over unchanged inputs to skip already computed intermediates.
+ * 
+ * Entries are keyed by a content hash over the lineage DAG (w/o the run-specific item IDs), which includes the
+ * names and SHA-256 content hashes of all read input files. Hence, a modified input yields a different key, while
+ * rewriting an input with identical content (e.g., a new copy with a newer modification time) still allows reuse.
+ * Each entry further records the content hashes of its input files, which are validated on reuse. Content hashes
+ * are memoized per process by file name, modification time, and length to avoid rehashing unchanged inputs on
+ * every probe. Only traces that exclusively originate from persistent reads and literals qualify, as
+ * other sources (e.g., federated data or placeholders) cannot be validated. The size on disk is bounded via LRU
+ * eviction according to the last access time of the entry files.
+ */
+public class LineagePersistentCache
+{
+	private static final Log LOG = LogFactory.getLog(LineagePersistentCache.class.getName());
+	private static final String FILE_EXT = ".lin";
+	private static final int VERSION = 2;
+	private static final String CREATEVAR = "createvar";
+
+	private static String _dir = null;
+	private static long _limit = 0; //in bytes
+	private static long _size = 0; //in bytes
+	//index of entry files and their sizes, as well as the lineage
+	//hash codes of all entries for cheap probing on cache misses
+	private static final Map<String, Long> _entries = new HashMap<>();
+	private static final Set<Integer> _hashes = new HashSet<>();
+	//memoized content hashes of input files, keyed by name, mtime, and length
+	private static final Map<String, String> _inputHashes = new ConcurrentHashMap<>();
+
+	private LineagePersistentCache() {
+		//prevent instantiation via private constructor
+	}
+
+	public static boolean isEnabled() {
+		String dir = ConfigurationManager.getDMLConfig().getTextValue(DMLConfig.LINEAGECACHE_PERSIST_DIR);
+		return dir != null && !dir.trim().isEmpty();
+	}
+
+	/**
+	 * Obtains a cache entry for the given lineage item from the persistent cache, if available and if the input
+	 * files of the trace have not been modified since the entry was written. Only the index probes synchronize,
+	 * while hashing the trace and inputs as well as reading the entry happen outside the critical section.
+	 * 
+	 * @param key lineage item
+	 * @return cache entry (not yet part of the in-memory cache), or null if not available
+	 */
+	public static LineageCacheEntry get(LineageItem key) {
+		String dir = probe(key.hashCode());
+		if( dir == null )
+			return null;
+		Map<String, String> inputs = new HashMap<>();
+		String fname = getFileName(key, inputs);
+		if( fname == null || !contains(fname) )
+			return null;
+
+		long t0 = System.nanoTime();
+		File file = new File(dir, fname);
+		LineageCacheEntry ret = null;
+		try( FastBufferedDataInputStream in = new FastBufferedDataInputStream(
+			new FileInputStream(file), LocalFileUtils.BUFFER_SIZE) )
+		{
+			if( in.readInt() != VERSION )
+				throw new IOException("Unsupported version of " + file);
+			long computetime = in.readLong();
+			int numInputs = in.readInt();
+			boolean valid = numInputs == inputs.size();
+			for( int i = 0; i < numInputs; i++ ) {
+				String input = in.readUTF();
+				String hash = in.readUTF();
+				valid &= hash.equals(inputs.get(input));
+			}
+			if( valid ) {
+				if( in.readBoolean() ) {
+					MatrixBlock mb = new MatrixBlock();
+					mb.readFields(in);
+					ret = new LineageCacheEntry(key, DataType.MATRIX, mb, null, computetime);
+				}
+				else {
+					ValueType vt = ValueType.valueOf(in.readUTF());
+					ScalarObject so = ScalarObjectFactory.createScalarObject(vt, in.readUTF());
+					ret = new LineageCacheEntry(key, DataType.SCALAR, null, so, computetime);
+				}
+			}
+		}
+		catch(FileNotFoundException ex) {
+			//entry evicted by a concurrent thread or process
+			return null;
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read persistent lineage cache entry " + file + ".", ex);
+		}
+
+		if( ret == null ) {
+			//stale entry (modified inputs) or read failure
+			synchronized( LineagePersistentCache.class ) {
+				removeEntry(fname);
+			}
+			if( DMLScript.STATISTICS )
+				LineageCacheStatistics.incrementPersistInvalidations();
+			return null;
+		}
+		//maintain the access time for LRU eviction
+		file.setLastModified(System.currentTimeMillis());
+		if( DMLScript.STATISTICS ) {
+			LineageCacheStatistics.incrementPersistHits();
+			LineageCacheStatistics.incrementFSReadTime(System.nanoTime() - t0);
+		}
+		return ret;
+	}
+
+	/**
+	 * Writes the given value of a lineage item to the persistent cache, if the trace qualifies and the
+	 * computation was sufficiently expensive.
+	 * 
+	 * @param key         lineage item
+	 * @param mb          matrix value, or null
+	 * @param so          scalar value, or null
+	 * @param computetime compute time in nanoseconds
+	 */
+	public static void put(LineageItem key, MatrixBlock mb, ScalarObject so, long computetime) {
+		if( ((double) computetime) / 1000000 < LineageCacheConfig.MIN_SPILL_TIME_ESTIMATE )
+			return;
+		String dir = getDir();
+		if( dir == null )
+			return;
+		Map<String, String> inputs = new HashMap<>();
+		String fname = getFileName(key, inputs);
+		if( fname == null || contains(fname) )
+			return;
+		long estSize = (mb != null) ? mb.getExactSizeOnDisk() : 1024;
+		if( estSize > _limit )
+			return;
+
+		long t0 = System.nanoTime();
+		//write to a temporary file outside the critical section and move it to its
+		//final name, which makes entries visible atomically to concurrent processes
+		File file = new File(dir, fname);
+		File tmp = new File(dir, fname + "." + UUID.randomUUID());
+		try {
+			try( FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(
+				new FileOutputStream(tmp), LocalFileUtils.BUFFER_SIZE) )
+			{
+				out.writeInt(VERSION);
+				out.writeLong(computetime);
+				out.writeInt(inputs.size());
+				for( Map.Entry<String, String> e : inputs.entrySet() ) {
+					out.writeUTF(e.getKey());
+					out.writeUTF(e.getValue());
+				}
+				out.writeBoolean(mb != null);
+				if( mb != null )
+					mb.write(out);
+				else {
+					out.writeUTF(so.getValueType().name());
+					out.writeUTF(so.getStringValue());
+				}
+			}
+			synchronized( LineagePersistentCache.class ) {
+				if( !dir.equals(_dir) || _entries.containsKey(fname) ) {
+					LocalFileUtils.deleteFileIfExists(tmp.getAbsolutePath(), true);
+					return;
+				}
+				makeSpace(tmp.length());
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+				_entries.put(fname, file.length());
+				_hashes.add(key.hashCode());
+				_size += file.length();
+			}
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write persistent lineage cache entry " + file + ".", ex);
+			LocalFileUtils.deleteFileIfExists(tmp.getAbsolutePath(), true);
+			return;
+		}
+		if( DMLScript.STATISTICS ) {
+			LineageCacheStatistics.incrementPersistWrites();
+			LineageCacheStatistics.incrementFSWriteTime(System.nanoTime() - t0);
+		}
+	}
+
+	/**
+	 * Deletes all entries of the persistent cache.
+	 */
+	public static synchronized void clear() {
+		if( !init() )
+			return;
+		for( String fname : new ArrayList<>(_entries.keySet()) )
+			removeEntry(fname);
+		_hashes.clear();
+	}
+
+	public static synchronized long getSize() {
+		return init() ? _size : 0;
+	}
+
+	private static synchronized String probe(int hash) {
+		return (init() && _hashes.contains(hash)) ? _dir : null;
+	}
+
+	private static synchronized boolean contains(String fname) {
+		return _entries.containsKey(fname);
+	}
+
+	private static synchronized String getDir() {
+		return init() ? _dir : null;
+	}
+
+	private static boolean init() {
+		if( !isEnabled() ) {
+			_dir = null;
+			return false;
+		}
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String dir = conf.getTextValue(DMLConfig.LINEAGECACHE_PERSIST_DIR).trim();
+		_limit = (long) conf.getIntValue(DMLConfig.LINEAGECACHE_PERSIST_LIMIT) * 1024 * 1024;
+		if( dir.equals(_dir) )
+			return true;
+
+		//(re)build the index from the entry files of the directory
+		if( !LocalFileUtils.createLocalFileIfNotExist(dir) )
+			throw new DMLRuntimeException("Failed to create persistent lineage cache directory: " + dir);
+		_dir = dir;
+		_entries.clear();
+		_hashes.clear();
+		_size = 0;
+		File[] files = new File(dir).listFiles((d, name) -> name.endsWith(FILE_EXT));
+		for( File f : (files != null) ? files : new File[0] ) {
+			_entries.put(f.getName(), f.length());
+			_hashes.add(Integer.parseUnsignedInt(f.getName().substring(0, f.getName().indexOf('_')), 16));
+			_size += f.length();
+		}
+		return true;
+	}
+
+	private static void makeSpace(long spaceNeeded) {
+		if( _size + spaceNeeded <= _limit )
+			return;
+		//evict least recently used entries according to their access times
+		List<File> files = new ArrayList<>();
+		for( String fname : _entries.keySet() )
+			files.add(new File(_dir, fname));
+		files.sort(Comparator.comparingLong(File::lastModified));
+		for( int i = 0; i < files.size() && _size + spaceNeeded > _limit; i++ )
+			removeEntry(files.get(i).getName());
+	}
+
+	private static void removeEntry(String fname) {
+		Long size = _entries.remove(fname);
+		if( size != null )
+			_size -= size;
+		LocalFileUtils.deleteFileIfExists(new File(_dir, fname).getAbsolutePath(), true);
+	}
+
+	/**
+	 * Computes the name of the entry file, consisting of the lineage hash code for cheap probing and a
+	 * content hash over the lineage DAG, and collects the read input files with their content hashes.
+	 * 
+	 * @param key    lineage item
+	 * @param inputs map of input file names to content hashes (output)
+	 * @return file name, or null if the trace does not qualify for persistence
+	 */
+	private static String getFileName(LineageItem key, Map<String, String> inputs) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			byte[] digest = computeDigest(key, md, new IdentityHashMap<>(), inputs);
+			if( digest == null || inputs.isEmpty() )
+				return null;
+			return Integer.toHexString(key.hashCode()) + "_" + toHex(digest) + FILE_EXT;
+		}
+		catch(NoSuchAlgorithmException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	private static byte[] computeDigest(LineageItem li, MessageDigest md, Map<LineageItem, byte[]> memo,
+		Map<String, String> inputs)
+	{
+		if( memo.containsKey(li) )
+			return memo.get(li);
+		byte[] ret = null;
+		if( li.isLeaf() ) {
+			if( li.getType() == LineageItemType.Literal )
+				ret = digest(md, "L", li.getData());
+			else if( li.getType() == LineageItemType.Creation && CREATEVAR.equals(li.getOpcode()) ) {
+				String fname = InstructionUtils.getInstructionPartsWithValueType(li.getData())[2];
+				try {
+					String hash = getContentHash(fname);
+					inputs.put(fname, hash);
+					ret = digest(md, "C", li.getData() + hash);
+				}
+				catch(IOException ex) {
+					//non-existing input file (e.g., removed meanwhile)
+				}
+			}
+		}
+		else if( li.getType() == LineageItemType.Instruction && !li.isPlaceholder() ) {
+			byte[][] in = new byte[li.getInputs().length][];
+			for( int i = 0; i < in.length && (i == 0 || in[i-1] != null); i++ )
+				in[i] = computeDigest(li.getInputs()[i], md, memo, inputs);
+			if( in.length == 0 || in[in.length-1] != null ) {
+				md.update(li.getOpcode().getBytes(StandardCharsets.UTF_8));
+				md.update((byte) 0);
+				md.update(li.getData().getBytes(StandardCharsets.UTF_8));
+				for( byte[] b : in )
+					md.update(b);
+				ret = md.digest();
+			}
+		}
+		//dedup items, placeholders, and other sources do not qualify
+		memo.put(li, ret);
+		return ret;
+	}
+
+	private static String getContentHash(String fname) throws IOException {
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path);
+		String memoKey = fname + "_" + HDFSTool.getModificationTimeOnHDFS(fname)
+			+ "_" + HDFSTool.getFilesizeOnHDFS(path);
+		String ret = _inputHashes.get(memoKey);
+		if( ret != null )
+			return ret;
+		try {
+			//hash all parts of the input in a deterministic order
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			Path[] parts = IOUtilFunctions.getSequenceFilePaths(fs, path);
+			Arrays.sort(parts);
+			byte[] buff = new byte[LocalFileUtils.BUFFER_SIZE];
+			for( Path part : parts ) {
+				try( InputStream in = fs.open(part) ) {
+					for( int n = in.read(buff); n >= 0; n = in.read(buff) )
+						md.update(buff, 0, n);
+				}
+			}
+			ret = toHex(md.digest());
+		}
+		catch(NoSuchAlgorithmException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		_inputHashes.put(memoKey, ret);
+		return ret;
+	}
+
+	private static String toHex(byte[] digest) {
+		StringBuilder sb = new StringBuilder();
+		for( byte b : digest )
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+
+	private static byte[] digest(MessageDigest md, String type, String data) {
+		md.update(type.getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		return md.digest(data.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -59,6 +59,7 @@ import org.apache.sysds.runtime.functionobjects.Power;
 import org.apache.sysds.runtime.functionobjects.Power2;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.LeftScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.runtime.util.CommonThreadPool;
@@ -66,6 +67,10 @@ import org.apache.sysds.runtime.util.DataConverter;
 import org.apache.sysds.runtime.util.SortUtils;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
 /**
  * Library for binary cellwise operations (incl arithmetic, relational, etc). Currently,
  * we don't have dedicated support for the individual operations but for categories of
@@ -77,6 +82,10 @@ public class LibMatrixBincell {
 
 	private static final Log LOG = LogFactory.getLog(LibMatrixBincell.class.getName());
 	private static final long PAR_NUMCELL_THRESHOLD2 = 16*1024;   //Min 16K elements
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	//use SIMD kernels only if the preferred species spans multiple lanes (otherwise
+	//the vector API falls back to slower scalar emulation than the plain loops)
+	private static final boolean VECTORIZE = SPECIES.length() > 1;
 
 	public enum BinaryAccessType {
 		MATRIX_MATRIX,
@@ -900,6 +909,13 @@ public class LibMatrixBincell {
 			for(int i = rl + 1; i < ru; i++)
 				dc.set(i, c);
 		}
+		else if(b != null && getVectorOperator(op.fn) != null) {
+			final VectorOperators.Binary vop = getVectorOperator(op.fn);
+			for(int i = rl; i < ru; i++) {
+				int ix = da.pos(i);
+				nnz += vectBinary(vop, op.fn, da.values(i), b, dc.values(i), ix, 0, ix, clen);
+			}
+		}
 		else // default case (incl right empty)
 		{
 			for(int i = rl; i < ru; i++) {
@@ -1790,9 +1806,12 @@ public class LibMatrixBincell {
 		final DenseBlock da = m1.getDenseBlock();
 		final DenseBlock db = m2.getDenseBlock();
 		final DenseBlock dc = ret.getDenseBlock();
+		final VectorOperators.Binary vop = getVectorOperator(op.fn);
 		
 		if(isPM && clen >= 64)
 			return safeBinaryMMDenseDenseDensePM_Vec(da, db, dc, op, rl, ru, clen);
+		else if(vop != null)
+			return safeBinaryMMDenseDenseDenseVec(da, db, dc, vop, op, rl, ru, clen);
 		else if(da.isContiguous() && db.isContiguous() && dc.isContiguous()) {
 			if(op.fn instanceof PlusMultiply)
 				return safeBinaryMMDenseDenseDensePM(da, db, dc, op, rl, ru, clen);
@@ -1820,6 +1839,21 @@ public class LibMatrixBincell {
 		return lnnz;
 	}
 
+	private static final long safeBinaryMMDenseDenseDenseVec(DenseBlock da, DenseBlock db, DenseBlock dc,
+		VectorOperators.Binary vop, BinaryOperator op, int rl, int ru, int clen) {
+		if(da.isContiguous() && db.isContiguous() && dc.isContiguous()) {
+			//single pass over the contiguous row range
+			final int start = da.pos(rl), len = da.pos(ru) - start;
+			return vectBinary(vop, op.fn, da.values(0), db.values(0), dc.values(0), start, start, start, len);
+		}
+		long lnnz = 0;
+		for(int i = rl; i < ru; i++) {
+			int pos = da.pos(i);
+			lnnz += vectBinary(vop, op.fn, da.values(i), db.values(i), dc.values(i), pos, pos, pos, clen);
+		}
+		return lnnz;
+	}
+
 	private static final long safeBinaryMMDenseDenseDensePM(DenseBlock da, DenseBlock db, DenseBlock dc, BinaryOperator op,
 		int rl, int ru, int clen) {
 		long lnnz = 0;
@@ -2543,7 +2577,18 @@ public class LibMatrixBincell {
 		final int clen = m1.clen;
 		// compute scalar operation, incl nnz maintenance
 		long nnz = 0;
-		if(op.fn instanceof Multiply){
+		final VectorOperators.Binary vop = getVectorOperator(op.fn);
+		if(vop != null) {
+			final boolean left = op instanceof LeftScalarOperator;
+			if(da.isContiguous() && dc.isContiguous()) {
+				final int start = da.pos(rl);
+				nnz = vectBinaryScalar(vop, op, da.values(0), dc.values(0), start, start, da.pos(ru) - start, left);
+			}
+			else
+				for(int i = rl; i < ru; i++)
+					nnz += vectBinaryScalar(vop, op, da.values(i), dc.values(i), da.pos(i), dc.pos(i), clen, left);
+		}
+		else if(op.fn instanceof Multiply){
 			// in case of multiply we do not need to count nnz. since they are known by the m1 input.
 			if(clen == 1)
 				nnz = denseBinaryScalarMultiplySingleCol(da.valuesAt(0), dc.valuesAt(0), op.getConstant(), rl, ru);
@@ -2640,6 +2685,65 @@ public class LibMatrixBincell {
 		return nnz;
 	}
 
+	/**
+	 * Get the SIMD counterpart of a cellwise binary function, with the same semantics
+	 * (incl NaN and signed zero handling) as the scalar function.
+	 * 
+	 * @param fn value function
+	 * @return vector operator, or null if not supported or vectorization disabled
+	 */
+	private static VectorOperators.Binary getVectorOperator(ValueFunction fn) {
+		if(!VECTORIZE)
+			return null;
+		else if(fn instanceof Plus)
+			return VectorOperators.ADD;
+		else if(fn instanceof Minus)
+			return VectorOperators.SUB;
+		else if(fn instanceof Multiply)
+			return VectorOperators.MUL;
+		else if(fn instanceof Divide)
+			return VectorOperators.DIV;
+		else if(fn instanceof Builtin && ((Builtin) fn).getBuiltinCode() == BuiltinCode.MIN)
+			return VectorOperators.MIN;
+		else if(fn instanceof Builtin && ((Builtin) fn).getBuiltinCode() == BuiltinCode.MAX)
+			return VectorOperators.MAX;
+		return null;
+	}
+
+	private static long vectBinary(VectorOperators.Binary vop, ValueFunction fn, double[] a, double[] b,
+		double[] c, int ai, int bi, int ci, final int len) {
+		final int bn = SPECIES.loopBound(len);
+		long nnz = 0;
+		for(int j = 0; j < bn; j += SPECIES.length()) {
+			DoubleVector aVec = DoubleVector.fromArray(SPECIES, a, ai + j);
+			DoubleVector bVec = DoubleVector.fromArray(SPECIES, b, bi + j);
+			DoubleVector cVec = aVec.lanewise(vop, bVec);
+			cVec.intoArray(c, ci + j);
+			nnz += cVec.compare(VectorOperators.NE, 0).trueCount();
+		}
+		//compute rest
+		for(int j = bn; j < len; j++)
+			nnz += ((c[ci + j] = fn.execute(a[ai + j], b[bi + j])) != 0) ? 1 : 0;
+		return nnz;
+	}
+
+	private static long vectBinaryScalar(VectorOperators.Binary vop, ScalarOperator op, double[] a, double[] c,
+		int ai, int ci, final int len, boolean left) {
+		final int bn = SPECIES.loopBound(len);
+		final DoubleVector bVec = DoubleVector.broadcast(SPECIES, op.getConstant());
+		long nnz = 0;
+		for(int j = 0; j < bn; j += SPECIES.length()) {
+			DoubleVector aVec = DoubleVector.fromArray(SPECIES, a, ai + j);
+			DoubleVector cVec = left ? bVec.lanewise(vop, aVec) : aVec.lanewise(vop, bVec);
+			cVec.intoArray(c, ci + j);
+			nnz += cVec.compare(VectorOperators.NE, 0).trueCount();
+		}
+		//compute rest
+		for(int j = bn; j < len; j++)
+			nnz += ((c[ci + j] = op.executeScalar(a[ai + j])) != 0) ? 1 : 0;
+		return nnz;
+	}
+
 	private static long safeBinaryInPlace(MatrixBlock m1ret, MatrixBlock m2, BinaryOperator op) {
 		// early abort on skip and empty
 		final boolean PoM = op.fn instanceof Plus || op.fn instanceof Minus;
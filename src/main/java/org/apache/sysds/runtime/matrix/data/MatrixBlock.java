@@ -66,6 +66,7 @@ import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.DenseBlockFP64;
 import org.apache.sysds.runtime.data.DenseBlockFP64DEDUP;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
@@ -2425,7 +2426,18 @@ public class MatrixBlock extends MatrixValue implements CacheBlock<MatrixBlock>,
 		out.writeByte( BlockType.DENSE_BLOCK.ordinal() );
 		
 		DenseBlock a = getDenseBlock();
-		if( out instanceof MatrixBlockDataOutput ) { //fast serialize
+		if( a instanceof DenseBlockOffHeap ) { //row-wise copy out of off-heap memory
+			double[] avals = new double[clen];
+			for(int i=0; i<rlen; i++) {
+				((DenseBlockOffHeap) a).copyRow(i, avals, 0);
+				if( out instanceof MatrixBlockDataOutput )
+					((MatrixBlockDataOutput)out).writeDoubleArray(clen, avals);
+				else
+					for(int j=0; j<clen; j++)
+						out.writeDouble(avals[j]);
+			}
+		}
+		else if( out instanceof MatrixBlockDataOutput ) { //fast serialize
 			MatrixBlockDataOutput mout = (MatrixBlockDataOutput)out;
 			for(int i=0; i<a.numBlocks(); i++)
 				mout.writeDoubleArray(a.size(i), a.valuesAt(i));
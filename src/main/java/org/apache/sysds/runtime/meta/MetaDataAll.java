@@ -428,6 +428,14 @@ public class MetaDataAll extends DataIdentifier {
 		return null;
 	}
 
+	public static String checkHasNPYFormat(String filename) {
+		if(filename != null && (filename.toLowerCase().endsWith(".npy")
+			|| filename.toLowerCase().endsWith(".npz"))) {
+			return FileFormat.NPY.toString();
+		}
+		return null;
+	}
+
 	@Override
 	public String toString() {
 		return "MetaDataAll\n" + _metaObj + "\n" + super.toString();
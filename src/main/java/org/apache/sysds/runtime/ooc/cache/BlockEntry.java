@@ -31,6 +31,12 @@ public final class BlockEntry {
 	private Object _data;
 	private int _retainHintCount;
 	private int _referenceCount; // The number of references from different managing instances (e.g. CachingStream)
+	private int _accessCount; // The number of requests served for this block, used by the eviction policy
+	// Snapshot of the eviction order keys, only modified by OOCEvictionOrder under the scheduler lock
+	boolean _ordered;
+	int _orderClass;
+	int _orderCount;
+	long _orderSeq;
 
 	BlockEntry(BlockKey key, long size, Object data) {
 		this._key = key;
@@ -40,6 +46,7 @@ public final class BlockEntry {
 		this._data = data;
 		this._retainHintCount = 0;
 		this._referenceCount = 1;
+		this._accessCount = 0;
 	}
 
 	public BlockKey getKey() {
@@ -94,6 +101,14 @@ public final class BlockEntry {
 		return --_referenceCount;
 	}
 
+	synchronized int recordAccess() {
+		return ++_accessCount;
+	}
+
+	public synchronized int getAccessCount() {
+		return _accessCount;
+	}
+
 	synchronized void setState(BlockState state) {
 		_state = state;
 	}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.ooc.cache;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.utils.Statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-stream compression of blocks that enter the OOC cache. The first sufficiently large block of a stream
+ * serves as sample: if it does not reach the minimum compression ratio, all remaining blocks of the stream are
+ * cached uncompressed; otherwise, every block is compressed (and kept uncompressed if it individually fails).
+ * Compressed blocks are accounted with their compressed size and spilled in their compressed form.
+ */
+public class OOCBlockCompressor {
+	private static final double MIN_COMPRESSION_RATIO = 1.5;
+	private static final long MIN_SAMPLE_CELLS = 1024;
+
+	private static final int UNDECIDED = 0;
+	private static final int COMPRESS = 1;
+	private static final int SKIP = 2;
+
+	private final AtomicInteger _state = new AtomicInteger(UNDECIDED);
+
+	/**
+	 * Creates a compressor for a new stream if OOC compression is enabled.
+	 *
+	 * @return the compressor or null if disabled
+	 */
+	public static OOCBlockCompressor create() {
+		return ConfigurationManager.isOOCCompressionEnabled() ? new OOCBlockCompressor() : null;
+	}
+
+	/**
+	 * Returns the size a block accounts for in the OOC cache.
+	 *
+	 * @param value matrix block, potentially compressed
+	 * @return the size in bytes
+	 */
+	public static long getCacheSize(MatrixValue value) {
+		if(value instanceof CompressedMatrixBlock)
+			return ((CompressedMatrixBlock) value).getInMemorySize();
+		return ((MatrixBlock) value).getExactSerializedSize();
+	}
+
+	/**
+	 * Compresses the given block if the stream's sample decision allows it.
+	 *
+	 * @param imv input indexed block
+	 * @return the given block or a new indexed block with compressed value
+	 */
+	public IndexedMatrixValue compress(IndexedMatrixValue imv) {
+		if(_state.get() == SKIP || !(imv.getValue() instanceof MatrixBlock))
+			return imv;
+		MatrixBlock mb = (MatrixBlock) imv.getValue();
+		if(mb instanceof CompressedMatrixBlock || mb.isEmptyBlock(false)
+			|| (long) mb.getNumRows() * mb.getNumColumns() < MIN_SAMPLE_CELLS)
+			return imv;
+
+		long rawSize = mb.getExactSerializedSize();
+		MatrixBlock cmb = CompressedMatrixBlockFactory.compress(mb, 1).getKey();
+		boolean compressed = cmb instanceof CompressedMatrixBlock
+			&& rawSize >= MIN_COMPRESSION_RATIO * getCacheSize(cmb);
+
+		// the first decided block is the sample for the entire stream
+		_state.compareAndSet(UNDECIDED, compressed ? COMPRESS : SKIP);
+		if(!compressed)
+			return imv;
+
+		if(DMLScript.OOC_STATISTICS)
+			Statistics.incrementOOCCompressedBlocks(rawSize, getCacheSize(cmb));
+		return new IndexedMatrixValue(imv.getIndexes(), cmb);
+	}
+}
@@ -20,12 +20,12 @@
 package org.apache.sysds.runtime.ooc.cache;
 
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.instructions.ooc.OOCInstruction;
 import org.apache.sysds.runtime.instructions.ooc.OOCStream;
 import org.apache.sysds.runtime.instructions.ooc.TeeOOCInstruction;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
-import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.ooc.memory.InMemoryQueueCallback;
 import org.apache.sysds.runtime.ooc.stats.OOCEventLog;
 import org.apache.sysds.utils.Statistics;
@@ -78,6 +78,8 @@ public class OOCCacheManager {
 				Files.writeString(Path.of(DMLScript.OOC_LOG_PATH, "DiskWriteEventLog.csv"), csv);
 				csv = OOCEventLog.getCacheSizeEventsCSV();
 				Files.writeString(Path.of(DMLScript.OOC_LOG_PATH, "CacheSizeEventLog.csv"), csv);
+				csv = OOCEventLog.getCacheAccessCSV();
+				Files.writeString(Path.of(DMLScript.OOC_LOG_PATH, "CacheAccessLog.csv"), csv);
 				csv = OOCEventLog.getRunSettingsCSV();
 				Files.writeString(Path.of(DMLScript.OOC_LOG_PATH, "RunSettings.csv"), csv);
 				System.out.println("Event logs written to: " + DMLScript.OOC_LOG_PATH);
@@ -87,6 +89,9 @@ public class OOCCacheManager {
 			}
 			OOCEventLog.clear();
 		}
+		else {
+			OOCEventLog.resetCacheAccessCounters();
+		}
 	}
 
 	public static OOCCacheScheduler getCache() {
@@ -97,7 +102,8 @@ public class OOCCacheManager {
 				return scheduler;
 
 			OOCIOHandler ioHandler = new OOCMatrixIOHandler();
-			scheduler = new OOCLRUCacheScheduler(ioHandler, _evictionLimit, _hardLimit, Math.max(40000000, (long)((_hardLimit - _evictionLimit) * 0.1)));
+			scheduler = new OOCLRUCacheScheduler(ioHandler, _evictionLimit, _hardLimit, Math.max(40000000, (long)((_hardLimit - _evictionLimit) * 0.1)),
+				OOCEvictionPolicy.parse(ConfigurationManager.getOOCEvictionPolicy()));
 
 			if(_scheduler.compareAndSet(null, scheduler)) {
 				_ioHandler.set(ioHandler);
@@ -140,7 +146,7 @@ public class OOCCacheManager {
 	 */
 	public static void put(long streamId, int blockId, IndexedMatrixValue value) {
 		BlockKey key = new BlockKey(streamId, blockId);
-		getCache().put(key, value, ((MatrixBlock)value.getValue()).getExactSerializedSize());
+		getCache().put(key, value, OOCBlockCompressor.getCacheSize(value.getValue()));
 	}
 
 	/**
@@ -149,7 +155,7 @@ public class OOCCacheManager {
 	public static void putSourceBacked(long streamId, int blockId, IndexedMatrixValue value,
 		OOCIOHandler.SourceBlockDescriptor descriptor) {
 		BlockKey key = new BlockKey(streamId, blockId);
-		getCache().putSourceBacked(key, value, ((MatrixBlock) value.getValue()).getExactSerializedSize(), descriptor);
+		getCache().putSourceBacked(key, value, OOCBlockCompressor.getCacheSize(value.getValue()), descriptor);
 	}
 
 	public static void putRawSourceBacked(BlockKey key, Object data, long size, OOCIOHandler.SourceBlockDescriptor descriptor) {
@@ -158,7 +164,7 @@ public class OOCCacheManager {
 
 	public static OOCStream.QueueCallback<IndexedMatrixValue> putAndPin(long streamId, int blockId, IndexedMatrixValue value) {
 		BlockKey key = new BlockKey(streamId, blockId);
-		return new CachedQueueCallback<>(getCache().putAndPin(key, value, ((MatrixBlock)value.getValue()).getExactSerializedSize()), null);
+		return new CachedQueueCallback<>(getCache().putAndPin(key, value, OOCBlockCompressor.getCacheSize(value.getValue())), null);
 	}
 
 	public static void putRaw(BlockKey key, Object data, long size) {
@@ -176,7 +182,7 @@ public class OOCCacheManager {
 		IndexedMatrixValue value, OOCIOHandler.SourceBlockDescriptor descriptor) {
 		BlockKey key = new BlockKey(streamId, blockId);
 		return new CachedQueueCallback<>(
-			getCache().putAndPinSourceBacked(key, value, ((MatrixBlock) value.getValue()).getExactSerializedSize(),
+			getCache().putAndPinSourceBacked(key, value, OOCBlockCompressor.getCacheSize(value.getValue()),
 				descriptor), null);
 	}
 
@@ -192,6 +198,13 @@ public class OOCCacheManager {
 		getCache().prioritize(key, priority);
 	}
 
+	/**
+	 * Hints the cache that the given blocks will be requested soon, in the given order.
+	 */
+	public static void prefetch(List<BlockKey> keys) {
+		getCache().prefetch(keys);
+	}
+
 	public static CompletableFuture<OOCStream.QueueCallback<IndexedMatrixValue>> requestBlock(long streamId, long blockId) {
 		return requestBlock(new BlockKey(streamId, (int)blockId));
 	}
@@ -78,6 +78,15 @@ public interface OOCCacheScheduler {
 	 */
 	void prioritize(BlockKey key, double priority);
 
+	/**
+	 * Hints that the given blocks will be requested soon, in the given order. Implementations
+	 * may start reading evicted blocks back ahead of the request without pinning them.
+	 * @param keys the keys of the blocks expected to be requested next
+	 */
+	default void prefetch(List<BlockKey> keys) {
+		// no read-ahead by default
+	}
+
 	/**
 	 * Places a new block in the cache. Note that objects are immutable and cannot be overwritten.
 	 * The object data should now only be accessed via cache, as ownership has been transferred.
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.ooc.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Incrementally maintained eviction order of the cached entries of a scheduler. Entries are kept
+ * in a sorted set by a snapshot of their policy keys (order class, access count, access sequence),
+ * which is refreshed on insert, access and state changes, such that victim selection does not need
+ * to copy and sort the cache on every eviction run. The LRU policy directly uses the access order
+ * of the scheduler. All methods require the scheduler lock.
+ */
+public class OOCEvictionOrder {
+	private final OOCEvictionPolicy _policy;
+	private final TreeSet<BlockEntry> _entries;
+	private final List<BlockEntry> _deferred;
+	private long _clock;
+	private boolean _scanning;
+
+	public OOCEvictionOrder(OOCEvictionPolicy policy) {
+		Comparator<BlockEntry> cmp = policy.orderComparator();
+		_policy = policy;
+		_entries = cmp != null ? new TreeSet<>(cmp) : null;
+		_deferred = new ArrayList<>();
+		_clock = 0;
+		_scanning = false;
+	}
+
+	/**
+	 * Adds a newly cached entry as the most recently used one.
+	 * @param entry the cached entry
+	 */
+	public void add(BlockEntry entry) {
+		if(_entries == null)
+			return;
+		if(entry._ordered)
+			_entries.remove(entry);
+		snapshot(entry, true);
+		_entries.add(entry);
+		entry._ordered = true;
+	}
+
+	/**
+	 * Records an access of a cached entry, which makes it the most recently used one.
+	 * Entries that are not cached are ignored.
+	 * @param entry the accessed entry
+	 */
+	public void touch(BlockEntry entry) {
+		if(_entries == null || !entry._ordered)
+			return;
+		_entries.remove(entry);
+		snapshot(entry, true);
+		_entries.add(entry);
+	}
+
+	/**
+	 * Repositions a cached entry after a state change without changing its recency.
+	 * During an eviction scan, the update is deferred until {@link #endScan()}.
+	 * @param entry the updated entry
+	 */
+	public void update(BlockEntry entry) {
+		if(_entries == null || !entry._ordered)
+			return;
+		if(_scanning) {
+			_deferred.add(entry);
+			return;
+		}
+		_entries.remove(entry);
+		snapshot(entry, false);
+		_entries.add(entry);
+	}
+
+	/**
+	 * Removes an entry that is no longer cached.
+	 * @param entry the removed entry
+	 */
+	public void remove(BlockEntry entry) {
+		if(_entries == null || !entry._ordered)
+			return;
+		if(_scanning)
+			throw new IllegalStateException("Cannot remove entries during an eviction scan");
+		_entries.remove(entry);
+		entry._ordered = false;
+	}
+
+	/**
+	 * Starts an eviction scan, during which state changes of the returned entries are deferred.
+	 * @param accessOrdered the cached entries, least recently used first
+	 * @return the entries in eviction order
+	 */
+	public Iterable<BlockEntry> beginScan(Collection<BlockEntry> accessOrdered) {
+		if(_entries == null)
+			return accessOrdered;
+		_scanning = true;
+		return _entries;
+	}
+
+	/**
+	 * Ends an eviction scan and applies the deferred updates.
+	 */
+	public void endScan() {
+		_scanning = false;
+		for(BlockEntry entry : _deferred)
+			update(entry);
+		_deferred.clear();
+	}
+
+	public void clear() {
+		if(_entries == null)
+			return;
+		for(BlockEntry entry : _entries)
+			entry._ordered = false;
+		_entries.clear();
+		_deferred.clear();
+		_scanning = false;
+	}
+
+	public int size() {
+		return _entries != null ? _entries.size() : 0;
+	}
+
+	private void snapshot(BlockEntry entry, boolean accessed) {
+		entry._orderClass = _policy.orderClass(entry);
+		entry._orderCount = entry.getAccessCount();
+		if(accessed)
+			entry._orderSeq = ++_clock;
+	}
+}
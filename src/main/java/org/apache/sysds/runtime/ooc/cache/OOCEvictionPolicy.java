@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.ooc.cache;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+import java.util.Comparator;
+
+/**
+ * Victim selection of the OOC cache scheduler. The policy defines the order in which
+ * cached entries are considered for eviction, which the scheduler maintains incrementally
+ * via {@link OOCEvictionOrder}, and whether an entry should be released right away
+ * when it is unpinned under memory pressure. All methods are called while the
+ * scheduler is locked, hence access counts and states are stable during a call.
+ */
+public enum OOCEvictionPolicy {
+	/**
+	 * Least recently used first; unpinned blocks are released immediately under pressure.
+	 */
+	LRU {
+		@Override
+		public int orderClass(BlockEntry entry) {
+			return 0;
+		}
+
+		@Override
+		public Comparator<BlockEntry> orderComparator() {
+			return null; // access order of the scheduler
+		}
+
+		@Override
+		public boolean evictOnUnpin(BlockEntry entry) {
+			return true;
+		}
+	},
+
+	/**
+	 * Scan-resistant (LIRS-style) ordering: blocks accessed at most once are evicted first
+	 * in LRU order, such that a single pass over a large stream does not flush blocks that
+	 * are reused. Reused blocks are evicted in MRU order, which keeps a stable subset of a
+	 * cyclically scanned stream resident instead of evicting each block right before its
+	 * next access.
+	 */
+	SCAN {
+		@Override
+		public int orderClass(BlockEntry entry) {
+			return entry.getAccessCount() <= 1 ? 0 : 1;
+		}
+
+		@Override
+		public Comparator<BlockEntry> orderComparator() {
+			return (a, b) -> {
+				if(a._orderClass != b._orderClass)
+					return Integer.compare(a._orderClass, b._orderClass);
+				return a._orderClass == 0 ?
+					Long.compare(a._orderSeq, b._orderSeq) : Long.compare(b._orderSeq, a._orderSeq);
+			};
+		}
+
+		@Override
+		public boolean evictOnUnpin(BlockEntry entry) {
+			return entry.getAccessCount() <= 1;
+		}
+	},
+
+	/**
+	 * Cost-based ordering that compares the cost of getting a block back: blocks that are
+	 * already backed by disk or by their source file only need to be re-read and are dropped
+	 * before blocks that need a spill write in addition. Within each class, blocks with fewer
+	 * accesses go first, ties are broken in LRU order.
+	 */
+	COST {
+		@Override
+		public int orderClass(BlockEntry entry) {
+			return entry.getState().isBackedByDisk() ? 0 : 1;
+		}
+
+		@Override
+		public Comparator<BlockEntry> orderComparator() {
+			// the access sequence is unique, hence ties within equal costs retain the LRU order
+			return (a, b) -> {
+				if(a._orderClass != b._orderClass)
+					return Integer.compare(a._orderClass, b._orderClass);
+				if(a._orderCount != b._orderCount)
+					return Integer.compare(a._orderCount, b._orderCount);
+				return Long.compare(a._orderSeq, b._orderSeq);
+			};
+		}
+
+		@Override
+		public boolean evictOnUnpin(BlockEntry entry) {
+			return entry.getState().isBackedByDisk();
+		}
+	};
+
+	/**
+	 * Returns the eviction class of an entry, the primary key of the eviction order.
+	 * @param entry the cached entry
+	 * @return the order class
+	 */
+	public abstract int orderClass(BlockEntry entry);
+
+	/**
+	 * Returns the eviction order over the key snapshots maintained by {@link OOCEvictionOrder},
+	 * or null if entries are evicted in the access order of the scheduler.
+	 * @return the comparator, or null for LRU order
+	 */
+	public abstract Comparator<BlockEntry> orderComparator();
+
+	/**
+	 * Indicates if an entry that was just unpinned should be released immediately
+	 * when the cache is above its eviction limit.
+	 * @param entry the unpinned entry
+	 * @return true if the entry should be released
+	 */
+	public abstract boolean evictOnUnpin(BlockEntry entry);
+
+	public static OOCEvictionPolicy parse(String name) {
+		try {
+			return valueOf(name.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException ex) {
+			throw new DMLRuntimeException("Unsupported OOC eviction policy: " + name);
+		}
+	}
+}
@@ -54,6 +54,9 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 	private final Deque<DeferredReadRequest> _processingReadRequests;
 	private final Deque<PendingHandover> _pendingHandovers;
 	private final HashMap<BlockKey, BlockReadState> _blockReads;
+	private final HashMap<BlockKey, DeferredReadRequest> _prefetched;
+	private final OOCEvictionPolicy _policy;
+	private final OOCEvictionOrder _order;
 	private volatile long _hardLimit;
 	private long _evictionLimit;
 	private long _readBuffer;
@@ -73,13 +76,21 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 	private final AtomicBoolean _maintenanceNeedsIncr;
 
 	public OOCLRUCacheScheduler(OOCIOHandler ioHandler, long evictionLimit, long hardLimit, long readBuffer) {
+		this(ioHandler, evictionLimit, hardLimit, readBuffer, OOCEvictionPolicy.LRU);
+	}
+
+	public OOCLRUCacheScheduler(OOCIOHandler ioHandler, long evictionLimit, long hardLimit, long readBuffer,
+		OOCEvictionPolicy policy) {
 		this._ioHandler = ioHandler;
+		this._policy = policy;
+		this._order = new OOCEvictionOrder(policy);
 		this._cache = new LinkedHashMap<>(1024, 0.75f, true);
 		this._evictionCache = new  HashMap<>();
 		this._deferredReadRequests = new DeferredReadQueue();
 		this._processingReadRequests = new ArrayDeque<>();
 		this._pendingHandovers = new ArrayDeque<>();
 		this._blockReads = new HashMap<>();
+		this._prefetched = new HashMap<>();
 		this._hardLimit = hardLimit;
 		this._evictionLimit = evictionLimit;
 		this._readBuffer = readBuffer;
@@ -101,6 +112,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 		if (DMLScript.OOC_LOG_EVENTS) {
 			OOCEventLog.putRunSetting("CacheEvictionLimit", _evictionLimit);
 			OOCEventLog.putRunSetting("CacheHardLimit", _hardLimit);
+			OOCEventLog.putRunSetting("CacheEvictionPolicy", _policy);
 		}
 	}
 
@@ -127,6 +139,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 					couldPin = true;
 				}
 			}
+			recordAccess(entry, couldPin);
 		}
 
 		if (couldPin) {
@@ -210,6 +223,10 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 					}
 				}
 			}
+			if(allAvailable || !onlyIfAvailable) {
+				for(BlockEntry entry : entries)
+					recordAccess(entry, entry.getState().isAvailable());
+			}
 		}
 
 		if (allAvailable) {
@@ -253,7 +270,72 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 		_ioHandler.prioritizeRead(key, priority);
 	}
 
+	@Override
+	public void prefetch(List<BlockKey> keys) {
+		if (!this._running || keys.isEmpty() || !isWithinSoftLimits())
+			return;
+
+		List<DeferredReadRequest> requests = new ArrayList<>(keys.size());
+		synchronized(this) {
+			for(BlockKey key : keys) {
+				BlockEntry entry = _evictionCache.get(key);
+				if(entry == null || entry.getState() != BlockState.COLD || _prefetched.containsKey(key))
+					continue; // only evicted blocks need to be read ahead
+				final CompletableFuture<List<BlockEntry>> future = new CompletableFuture<>();
+				final DeferredReadRequest request = new DeferredReadRequest(future, Collections.singletonList(entry));
+				future.thenAccept(l -> onPrefetched(request));
+				_prefetched.put(key, request);
+				requests.add(request);
+			}
+		}
+
+		// Read-ahead is ranked below any demand read of the same priority
+		for(DeferredReadRequest request : requests) {
+			OOCEventLog.onPrefetchIssued();
+			scheduleDeferredRead(request, -1);
+		}
+	}
+
+	private void onPrefetched(DeferredReadRequest request) {
+		BlockEntry entry = request.getEntries().get(0);
+		synchronized(this) {
+			// Protect the block until it is consumed, unless that already happened
+			if(_prefetched.get(entry.getKey()) == request) {
+				synchronized(entry) {
+					entry.addRetainHint();
+					request.markRetainHinted(0);
+				}
+			}
+		}
+		unpin(entry);
+	}
+
+	/**
+	 * Records a request of the given entry for the eviction policy and the cache access counters.
+	 * Requires the scheduler lock.
+	 */
+	private void recordAccess(BlockEntry entry, boolean hit) {
+		entry.recordAccess();
+		_order.touch(entry);
+		if(hit)
+			OOCEventLog.onCacheHit();
+		else
+			OOCEventLog.onCacheMiss();
+		if(_prefetched.isEmpty())
+			return;
+		DeferredReadRequest prefetch = _prefetched.remove(entry.getKey());
+		if(prefetch != null) {
+			OOCEventLog.onPrefetchUsed();
+			if(prefetch.isRetainHinted(0))
+				entry.removeRetainHint();
+		}
+	}
+
 	private void scheduleDeferredRead(DeferredReadRequest deferredReadRequest) {
+		scheduleDeferredRead(deferredReadRequest, 0);
+	}
+
+	private void scheduleDeferredRead(DeferredReadRequest deferredReadRequest, double scoreOffset) {
 		synchronized(this) {
 			double score = 0;
 			int readyCount = 0;
@@ -269,7 +351,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 				score /= deferredReadRequest.getEntries().size();
 			if (!deferredReadRequest.getEntries().isEmpty())
 				score += ((double) readyCount) / deferredReadRequest.getEntries().size();
-			deferredReadRequest.setPriorityScore(score);
+			deferredReadRequest.setPriorityScore(score + scoreOffset);
 			_deferredReadRequests.add(deferredReadRequest);
 			_deferredReadCountHint = _deferredReadRequests.size();
 		}
@@ -346,6 +428,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 			BlockEntry avail = _cache.putIfAbsent(key, entry);
 			if (avail != null || _evictionCache.containsKey(key))
 				throw new IllegalStateException("Cannot overwrite existing entries: " + key);
+			_order.add(entry);
 			_cacheSize += size;
 			if(pin) {
 				_pinnedBytes += size;
@@ -376,7 +459,9 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 				return e;
 			});
 
-			if (mEntry.getValue() == null) {
+			if (mEntry.getValue() != null)
+				_order.remove(mEntry.getValue());
+			else {
 				_evictionCache.compute(key, (k, e) -> {
 					if(e == null)
 						return null;
@@ -442,7 +527,10 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 				if (entry.isPinned())
 					return; // Pin state changed so we cannot evict
 
-				if (entry.getState().isAvailable() && entry.getState().isBackedByDisk()) {
+				if (!_policy.evictOnUnpin(entry)) {
+					shouldCheckEviction = true; // Leave victim selection to the eviction scan
+				}
+				else if (entry.getState().isAvailable() && entry.getState().isBackedByDisk()) {
 					if (entry.getRetainHintCount() > 0) {
 						shouldCheckEviction = true;
 					}
@@ -452,6 +540,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 						if (cleared != entry.getSize())
 							throw new IllegalStateException();
 						_cache.remove(entry.getKey());
+						_order.remove(entry);
 						_evictionCache.put(entry.getKey(), entry);
 					}
 				}
@@ -509,6 +598,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 				e -> e.isPinned() ? 1 : 0).sum());
 		}
 		_cache.clear();
+		_order.clear();
 		_evictionCache.clear();
 		_processingReadRequests.clear();
 		while(!_pendingHandovers.isEmpty()) {
@@ -522,6 +612,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 		_deferredReadRequests.clear();
 		_deferredReadCountHint = 0;
 		_blockReads.clear();
+		_prefetched.clear();
 		_cacheSize = 0;
 		_bytesUpForEviction = 0;
 		_pinnedBytes = 0;
@@ -696,7 +787,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 			//System.out.println("[CACHE] Claiming " + (pressure + overshoot - _evictionLimit)/1000 + "kB (last claim was " + (System.currentTimeMillis() - _lastEvictRun) + "ms ago)");
 
 			// Scan for values that can be evicted
-			Collection<BlockEntry> entries = _cache.values();
+			Iterable<BlockEntry> entries = _order.beginScan(_cache.values());
 			List<BlockEntry> toRemove = new ArrayList<>();
 			upForEvictionNeedsWrite = new ArrayList<>();
 			upForEvictionNoWrite = new ArrayList<>();
@@ -734,8 +825,10 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 					break;
 			}
 
+			_order.endScan();
 			for(BlockEntry entry : toRemove) {
 				_cache.remove(entry.getKey());
+				_order.remove(entry);
 				_evictionCache.put(entry.getKey(), entry);
 			}
 
@@ -875,11 +968,37 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 					return;
 				}
 				Set<DeferredReadRequest> completedRequests = new HashSet<>();
+				List<DeferredReadRequest> removedRequests = new ArrayList<>();
+				boolean removed;
+				synchronized(this) {
+					removed = r.getState() == BlockState.REMOVED;
+					if(removed) {
+						// Forgotten while reading (e.g., an unused read-ahead), nobody can consume it anymore
+						synchronized(r) {
+							r.setDataUnsafe(null);
+						}
+						BlockReadState state = _blockReads.remove(r.getKey());
+						if(state != null) {
+							for(DeferredReadWaiter waiter : state.waiters) {
+								_processingReadRequests.remove(waiter.request);
+								removedRequests.add(waiter.request);
+							}
+						}
+					}
+				}
+				if(removed) {
+					for(DeferredReadRequest failed : removedRequests)
+						failed.getFuture().completeExceptionally(
+							new IllegalStateException("Block was removed while reading: " + r.getKey()));
+					onCacheSizeChanged(false);
+					return;
+				}
 				synchronized(this) {
 					synchronized(r) {
 						transitionMemState(r, BlockState.WARM);
 						_evictionCache.remove(r.getKey());
 						_cache.put(r.getKey(), r);
+						_order.add(r);
 					}
 
 					BlockReadState state = _blockReads.remove(r.getKey());
@@ -937,6 +1056,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 			BlockEntry tmp = _cache.remove(entry.getKey());
 			if(tmp != null && tmp != entry)
 				throw new IllegalStateException();
+			_order.remove(entry);
 			tmp = _evictionCache.put(entry.getKey(), entry);
 			if (tmp != null)
 				throw new IllegalStateException();
@@ -1026,7 +1146,18 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 		if(_pinnedEvictingBytes > _bytesUpForEviction)
 			throw new IllegalStateException(_pinnedEvictingBytes + " > " + _bytesUpForEviction);
 
+		if((newState == BlockState.COLD || newState == BlockState.REMOVED) && !_prefetched.isEmpty()) {
+			DeferredReadRequest prefetch = _prefetched.remove(entry.getKey());
+			if(prefetch != null) {
+				// Dropped before the read-ahead was consumed
+				_deferredReadRequests.remove(prefetch);
+				_deferredReadCountHint = _deferredReadRequests.size();
+				OOCEventLog.onPrefetchWasted();
+			}
+		}
+
 		entry.setState(newState);
+		_order.update(entry);
 		return _cacheSize - oldCacheSize;
 	}
 
@@ -1089,6 +1220,7 @@ public class OOCLRUCacheScheduler implements OOCCacheScheduler {
 			synchronized(this) {
 				BlockEntry entry = new BlockEntry(pending.getKey(), size, value);
 				_cache.put(pending.getKey(), entry);
+				_order.add(entry);
 				_cacheSize += size;
 			}
 			callback.releaseManagedMemory();
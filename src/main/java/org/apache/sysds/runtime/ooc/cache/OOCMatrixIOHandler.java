@@ -27,7 +27,10 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.common.Types;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheDataInput;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.io.BlockCodec;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.io.MatrixReader;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -74,6 +77,9 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 	private static final long GROUP_TARGET_BYTES = 8L * 1024 * 1024;
 	private static final long GROUP_MAX_BYTES = 16L * 1024 * 1024;
 	private static final int GROUP_MAX_COUNT = 64;
+	//flags of spilled blocks
+	private static final byte FLAG_COMPRESSED = 0x01;
+	private static final byte FLAG_ENCODED = 0x02;
 
 	private final String _spillDir;
 	private final ThreadPoolExecutor _writeExec;
@@ -92,6 +98,7 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 	private final CloseableQueue<Tuple2<BlockEntry, CompletableFuture<Void>>>[] _q;
 	private final AtomicLong _wCtr;
 	private final AtomicBoolean _started;
+	private final boolean _spillCodec;
 
 	private final int _evictCallerId = OOCEventLog.registerCaller("write");
 	private final int _readCallerId = OOCEventLog.registerCaller("read");
@@ -127,6 +134,7 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 		_q = new CloseableQueue[WRITER_SIZE];
 		_wCtr = new AtomicLong(0);
 		_started = new  AtomicBoolean(false);
+		_spillCodec = ConfigurationManager.isSpillCodecEnabled();
 	}
 
 	private synchronized void start() {
@@ -530,7 +538,7 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 
 		// Create an empty object to read data into.
 		MatrixIndexes ix = new  MatrixIndexes();
-		MatrixBlock mb = new  MatrixBlock();
+		MatrixBlock mb = null;
 
 		try (RandomAccessFile raf = new RandomAccessFile(filename, "r")) {
 			raf.seek(sloc.offset);
@@ -538,7 +546,13 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 			DataInput dis = new FastBufferedDataInputStream(Channels.newInputStream(raf.getChannel()));
 			long ioStart = DMLScript.OOC_STATISTICS ? System.nanoTime() : 0;
 			ix.readFields(dis); // 1. Read Indexes
-			mb.readFields(dis); // 2. Read Block
+			byte flags = dis.readByte(); // 2. Read Block (compressed, encoded, or plain)
+			if((flags & FLAG_COMPRESSED) != 0)
+				mb = CompressedMatrixBlock.read(dis);
+			else {
+				mb = new MatrixBlock();
+				mb.readFields((flags & FLAG_ENCODED) != 0 ? new CacheDataInput(BlockCodec.readBlock(dis)) : dis);
+			}
 			if (DMLScript.OOC_STATISTICS)
 				ioDuration = System.nanoTime() - ioStart;
 		} catch (ClosedByInterruptException ignored) {
@@ -697,7 +711,14 @@ public class OOCMatrixIOHandler implements OOCIOHandler {
 			if(imv == null)
 				return 0;
 			imv.getIndexes().write(dos); // write Indexes
-			imv.getValue().write(dos);
+			MatrixBlock mb = (MatrixBlock) imv.getValue();
+			boolean compressed = mb instanceof CompressedMatrixBlock;
+			boolean encoded = _spillCodec && !compressed && BlockCodec.isApplicable(mb.getExactSerializedSize());
+			dos.writeByte(compressed ? FLAG_COMPRESSED : encoded ? FLAG_ENCODED : 0); // write flags
+			if(encoded)
+				BlockCodec.writeBlock(dos, mb);
+			else
+				mb.write(dos);
 
 			long offsetAfter = fos.getChannel().position() + dos.getCount();
 			flushQueue.offer(new Tuple3<>(offsetBefore, offsetAfter, future));
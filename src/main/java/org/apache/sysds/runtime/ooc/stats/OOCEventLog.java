@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class OOCEventLog {
 	private static final AtomicInteger _callerCtr = new AtomicInteger(0);
@@ -39,6 +40,13 @@ public class OOCEventLog {
 	private static long[] _threadIds;
 	private static long[] _data;
 
+	// cache access counters, maintained independent of event logging
+	private static final LongAdder _cacheHits = new LongAdder();
+	private static final LongAdder _cacheMisses = new LongAdder();
+	private static final LongAdder _prefetchIssued = new LongAdder();
+	private static final LongAdder _prefetchUsed = new LongAdder();
+	private static final LongAdder _prefetchWasted = new LongAdder();
+
 	public static void setup(int maxNumEvents) {
 		_eventTypes = DMLScript.OOC_LOG_EVENTS ? new  EventType[maxNumEvents] : null;
 		_startTimestamps = DMLScript.OOC_LOG_EVENTS ? new long[maxNumEvents] : null;
@@ -110,6 +118,54 @@ public class OOCEventLog {
 		_data[idxCont] = readingReservedBytes;
 	}
 
+	public static void onCacheHit() {
+		_cacheHits.increment();
+	}
+
+	public static void onCacheMiss() {
+		_cacheMisses.increment();
+	}
+
+	public static void onPrefetchIssued() {
+		_prefetchIssued.increment();
+	}
+
+	public static void onPrefetchUsed() {
+		_prefetchUsed.increment();
+	}
+
+	public static void onPrefetchWasted() {
+		_prefetchWasted.increment();
+	}
+
+	public static long getCacheHits() {
+		return _cacheHits.longValue();
+	}
+
+	public static long getCacheMisses() {
+		return _cacheMisses.longValue();
+	}
+
+	public static long getPrefetchIssued() {
+		return _prefetchIssued.longValue();
+	}
+
+	public static long getPrefetchUsed() {
+		return _prefetchUsed.longValue();
+	}
+
+	public static long getPrefetchWasted() {
+		return _prefetchWasted.longValue();
+	}
+
+	/**
+	 * Returns the fraction of issued prefetches that were consumed before eviction.
+	 */
+	public static double getPrefetchAccuracy() {
+		long issued = _prefetchIssued.longValue();
+		return issued == 0 ? 0 : (double) _prefetchUsed.longValue() / issued;
+	}
+
 	public static void putRunSetting(String setting, Object data) {
 		_runSettings.put(setting, data);
 	}
@@ -184,6 +240,24 @@ public class OOCEventLog {
 		return sb.toString();
 	}
 
+	public static String getCacheAccessCSV() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Hits,Misses,PrefetchIssued,PrefetchUsed,PrefetchWasted,PrefetchAccuracy\n");
+		sb.append(getCacheHits());
+		sb.append(',');
+		sb.append(getCacheMisses());
+		sb.append(',');
+		sb.append(getPrefetchIssued());
+		sb.append(',');
+		sb.append(getPrefetchUsed());
+		sb.append(',');
+		sb.append(getPrefetchWasted());
+		sb.append(',');
+		sb.append(getPrefetchAccuracy());
+		sb.append('\n');
+		return sb.toString();
+	}
+
 	public static String getRunSettingsCSV() {
 		StringBuilder sb = new StringBuilder();
 		Set<Map.Entry<String, Object>> entrySet = _runSettings.entrySet();
@@ -214,6 +288,15 @@ public class OOCEventLog {
 		_logCtr.set(0);
 		_callerNames.clear();
 		_runSettings.clear();
+		resetCacheAccessCounters();
+	}
+
+	public static void resetCacheAccessCounters() {
+		_cacheHits.reset();
+		_cacheMisses.reset();
+		_prefetchIssued.reset();
+		_prefetchUsed.reset();
+		_prefetchWasted.reset();
 	}
 
 	public enum EventType {
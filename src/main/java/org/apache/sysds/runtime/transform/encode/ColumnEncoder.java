@@ -252,6 +252,34 @@ public abstract class ColumnEncoder implements Encoder, Comparable<ColumnEncoder
 		// do nothing
 	}
 
+	/**
+	 * Indicates if this encoder supports an incremental build over consecutive row blocks
+	 * (e.g., in out-of-core operations), which yields the same meta data as a single build
+	 * over all rows.
+	 *
+	 * @return true if incremental builds are supported
+	 */
+	public boolean supportsIncrementalBuild() {
+		return false;
+	}
+
+	/**
+	 * Incremental build of internal data structures from the next row block,
+	 * where row blocks are expected in row order.
+	 *
+	 * @param in input block of consecutive rows
+	 */
+	public void buildIncremental(CacheBlock<?> in) {
+		build(in);
+	}
+
+	/**
+	 * Finalizes an incremental build after all row blocks have been processed.
+	 */
+	public void finalizeIncrementalBuild() {
+		// do nothing
+	}
+
 	public void build(CacheBlock<?> in, Map<Integer, double[]> equiHeightMaxs) {
 		// do nothing
 	}
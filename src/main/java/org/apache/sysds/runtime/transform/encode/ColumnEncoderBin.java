@@ -59,6 +59,8 @@ public class ColumnEncoderBin extends ColumnEncoder {
 	// b) column min/max (for partial build)
 	private double _colMins = -1f;
 	private double _colMaxs = -1f;
+	// c) number of row blocks seen by the incremental build
+	private int _numIncrementalBlocks = 0;
 
 	protected boolean containsNull = false;
 
@@ -149,6 +151,32 @@ public class ColumnEncoderBin extends ColumnEncoder {
 	}
 
 	
+	@Override
+	public boolean supportsIncrementalBuild() {
+		//equi-height bins require the entire column
+		return _binMethod == BinMethod.EQUI_WIDTH;
+	}
+
+	@Override
+	public void buildIncremental(CacheBlock<?> in) {
+		if(!isApplicable())
+			return;
+		//track global min/max, bins are computed on finalize
+		double[] pairMinMax = getMinMaxOfCol(in, _colID, 0, -1);
+		boolean first = _numIncrementalBlocks++ == 0;
+		_colMins = first ? pairMinMax[0] : Math.min(_colMins, pairMinMax[0]);
+		_colMaxs = first ? pairMinMax[1] : Math.max(_colMaxs, pairMinMax[1]);
+		if(in instanceof FrameBlock)
+			containsNull |= ((FrameBlock) in).getColumn(_colID - 1).containsNull();
+		checkedForNull = true;
+	}
+
+	@Override
+	public void finalizeIncrementalBuild() {
+		if(isApplicable() && _numIncrementalBlocks > 0)
+			computeBins(_colMins, _colMaxs);
+	}
+
 	public void build(CacheBlock<?> in, double[] equiHeightMaxs) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		if(!isApplicable())
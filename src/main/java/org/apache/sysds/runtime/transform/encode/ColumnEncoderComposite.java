@@ -109,6 +109,26 @@ public class ColumnEncoderComposite extends ColumnEncoder {
 			columnEncoder.build(in);
 	}
 
+	@Override
+	public boolean supportsIncrementalBuild() {
+		for(ColumnEncoder columnEncoder : _columnEncoders)
+			if(!columnEncoder.supportsIncrementalBuild())
+				return false;
+		return true;
+	}
+
+	@Override
+	public void buildIncremental(CacheBlock<?> in) {
+		for(ColumnEncoder columnEncoder : _columnEncoders)
+			columnEncoder.buildIncremental(in);
+	}
+
+	@Override
+	public void finalizeIncrementalBuild() {
+		for(ColumnEncoder columnEncoder : _columnEncoders)
+			columnEncoder.finalizeIncrementalBuild();
+	}
+
 	@Override
 	public void build(CacheBlock<?> in, Map<Integer, double[]> equiHeightMaxs) {
 		if(equiHeightMaxs == null)
@@ -61,6 +61,11 @@ public class ColumnEncoderDummycode extends ColumnEncoder {
 		return TransformType.DUMMYCODE;
 	}
 
+	@Override
+	public boolean supportsIncrementalBuild() {
+		return true;
+	}
+
 	@Override
 	public void build(CacheBlock<?> in) {
 		// do nothing
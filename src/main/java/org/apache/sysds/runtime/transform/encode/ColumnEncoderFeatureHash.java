@@ -107,6 +107,11 @@ public class ColumnEncoderFeatureHash extends ColumnEncoder {
 		return codes;
 	}
 
+	@Override
+	public boolean supportsIncrementalBuild() {
+		return true;
+	}
+
 	@Override
 	public void build(CacheBlock<?> in) {
 		// do nothing (no meta data other than K)
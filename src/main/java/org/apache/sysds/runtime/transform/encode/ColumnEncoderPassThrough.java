@@ -45,6 +45,11 @@ public class ColumnEncoderPassThrough extends ColumnEncoder {
 		this(-1);
 	}
 
+	@Override
+	public boolean supportsIncrementalBuild() {
+		return true;
+	}
+
 	@Override
 	public void build(CacheBlock<?> in) {
 		// do nothing
@@ -36,6 +36,7 @@ import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.compress.estim.sample.SampleEstimatorFactory;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.ARecodeMap;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.utils.stats.TransformStatistics;
 
@@ -114,6 +115,11 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	}
 
 	private static void makeRcdMap(CacheBlock<?> in, Map<Object, Integer> map, int colID, int startRow, int blk) {
+		ARecodeMap pmap = makePrimitiveRcdMap(in, colID, startRow, blk);
+		if(pmap != null) {
+			putCodes(map, pmap);
+			return;
+		}
 		for(int row = startRow; row < getEndIndex(in.getNumRows(), startRow, blk); row++){
 			String key = in.getString(row, colID - 1);
 			if(key != null && !key.isEmpty() && !map.containsKey(key))
@@ -124,6 +130,27 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		}
 	}
 
+	/**
+	 * Builds a recode map over the native values of a frame column (primitive keys, string contents or dictionary
+	 * codes), which avoids boxing and string conversion per cell. Returns null for unsupported column types or if the
+	 * recode maps need to be sorted.
+	 */
+	private static ARecodeMap makePrimitiveRcdMap(CacheBlock<?> in, int colID, int startRow, int blk) {
+		if(SORT_RECODE_MAP || !(in instanceof FrameBlock))
+			return null;
+		return ARecodeMap.create(((FrameBlock) in).getColumn(colID - 1), startRow,
+			getEndIndex(in.getNumRows(), startRow, blk));
+	}
+
+	private static void putCodes(Map<Object, Integer> map, ARecodeMap pmap) {
+		// string keys are only materialized once per distinct value
+		for(int c = 1; c <= pmap.size(); c++) {
+			String key = pmap.getKeyString(c);
+			if(!map.containsKey(key))
+				putCode(map, key);
+		}
+	}
+
 	private long lookupRCDMap(Object key) {
 		return _rcdMap.getOrDefault(key, -1);
 	}
@@ -169,6 +196,11 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		return TransformType.RECODE;
 	}
 
+	@Override
+	public boolean supportsIncrementalBuild() {
+		return true;
+	}
+
 	@Override
 	public void build(CacheBlock<?> in) {
 		if(!isApplicable())
@@ -445,8 +477,13 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		@Override
 		public Object call() throws Exception {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-			HashMap<Object, Integer> partialMap = new HashMap<>();
-			makeRcdMap(_input, partialMap, _colID, _startRow, _blockSize);
+			// keep primitive partial maps to merge them over the native keys
+			Object partialMap = makePrimitiveRcdMap(_input, _colID, _startRow, _blockSize);
+			if(partialMap == null) {
+				HashMap<Object, Integer> tmp = new HashMap<>();
+				makeRcdMap(_input, tmp, _colID, _startRow, _blockSize);
+				partialMap = tmp;
+			}
 			synchronized(_partialMaps) {
 				_partialMaps.put(_startRow, partialMap);
 			}
@@ -476,12 +513,35 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		public Object call() throws Exception {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 			Map<Object, Integer> rcdMap = _encoder.getRcdMap();
-			_partialMaps.forEach((start_row, map) -> {
-				((HashMap<?, ?>) map).forEach((k, v) -> {
-					if(!rcdMap.containsKey(k))
-						putCode(rcdMap, k);
-				});
-			});
+			// merge in row order, and primitive partial maps without materializing keys
+			Integer[] startRows = _partialMaps.keySet().toArray(new Integer[0]);
+			Arrays.sort(startRows);
+			ARecodeMap merged = null;
+			for(Integer startRow : startRows) {
+				Object map = _partialMaps.get(startRow);
+				if(map instanceof ARecodeMap) {
+					ARecodeMap pmap = (ARecodeMap) map;
+					if(merged == null)
+						merged = pmap;
+					else if(merged.isMergeable(pmap))
+						merged.merge(pmap);
+					else {
+						putCodes(rcdMap, merged);
+						merged = pmap;
+					}
+				}
+				else {
+					if(merged != null)
+						putCodes(rcdMap, merged);
+					merged = null;
+					((HashMap<?, ?>) map).forEach((k, v) -> {
+						if(!rcdMap.containsKey(k))
+							putCode(rcdMap, k);
+					});
+				}
+			}
+			if(merged != null)
+				putCodes(rcdMap, merged);
 			_encoder._rcdMap = rcdMap;
 			if(DMLScript.STATISTICS){
 				TransformStatistics.incRecodeBuildTime(System.nanoTime() - t0);
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Cache of built transformapply encoders across calls with the same meta data frame, e.g., for scoring many small
+ * micro-batches via JMLC where building the encoders from the meta frame (parsing the spec, recode maps, bin
+ * boundaries) would otherwise dominate the apply on a few rows.
+ * 
+ * The cache is owned by a JMLC connection, shared by its prepared scripts, and cleared when the connection is closed.
+ * It is only used if enabled via {@code CACHE_TRANSFORM_ENCODERS} and only for meta frames that are pinned inputs of a
+ * prepared script. Encoders are keyed by the identity of the meta frame and embeddings, as well as the spec and column
+ * names; rebinding a pinned input invalidates its encoders, but pinned inputs must not be modified in place. Since
+ * applying an encoder updates internal state (e.g., row partitions and sparse row offsets), every key holds a pool of
+ * equivalent encoders and every apply borrows an exclusive one, which keeps concurrent applies with the same meta
+ * frame safe without locking.
+ */
+public class EncoderCache {
+	/** Maximum number of idle encoders per key, i.e., the expected number of concurrent applies */
+	private static final int MAX_POOL_SIZE = 16;
+
+	/** Maximum number of cached keys, i.e., distinct pinned meta frames in use */
+	private static final int MAX_ENTRIES = 8;
+
+	/** Encoder pools per key in least-recently-used order (encoders reference their meta frame) */
+	private final Map<Key, Queue<MultiColumnEncoder>> _cache = Collections
+		.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 4087525467385137521L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Queue<MultiColumnEncoder>> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		});
+
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * Apply the transform encoders of the given spec and meta frame to the input frame, reusing encoders built by
+	 * previous calls with the same meta frame.
+	 * 
+	 * @param spec       the transform specification as json string
+	 * @param in         the input frame
+	 * @param meta       the transform meta data frame
+	 * @param embeddings the word embeddings, or null
+	 * @param k          the parallelization degree
+	 * @return the encoded matrix
+	 */
+	public MatrixBlock apply(String spec, FrameBlock in, FrameBlock meta, MatrixBlock embeddings, int k) {
+		final String[] colnames = in.getColumnNames();
+		final Queue<MultiColumnEncoder> pool = _cache
+			.computeIfAbsent(new Key(spec, colnames, meta, embeddings), key -> new ConcurrentLinkedQueue<>());
+
+		MultiColumnEncoder encoder = pool.poll();
+		if(encoder == null) {
+			_misses.increment();
+			encoder = EncoderFactory.createEncoder(spec, colnames, in.getNumColumns(), meta, embeddings);
+		}
+		else {
+			_hits.increment();
+			encoder.resetRowPartitions();
+		}
+
+		final MatrixBlock out = encoder.apply(in, k);
+		// return the encoder only after a successful apply
+		if(pool.size() < MAX_POOL_SIZE)
+			pool.offer(encoder);
+		return out;
+	}
+
+	public long getHits() {
+		return _hits.longValue();
+	}
+
+	public long getMisses() {
+		return _misses.longValue();
+	}
+
+	/**
+	 * Remove the encoders built from the given meta frame or embeddings, e.g., once it is no longer bound.
+	 * 
+	 * @param data the meta frame or embeddings
+	 */
+	public void invalidate(Object data) {
+		synchronized(_cache) {
+			_cache.keySet().removeIf(key -> key._meta == data || key._embeddings == data);
+		}
+	}
+
+	/** Remove all cached encoders and reset the statistics. */
+	public void clear() {
+		_cache.clear();
+		_hits.reset();
+		_misses.reset();
+	}
+
+	private static final class Key {
+		private final String _spec;
+		private final String[] _colnames;
+		private final FrameBlock _meta;
+		private final MatrixBlock _embeddings;
+		private final int _hash;
+
+		private Key(String spec, String[] colnames, FrameBlock meta, MatrixBlock embeddings) {
+			_spec = spec;
+			_colnames = colnames;
+			_meta = meta;
+			_embeddings = embeddings;
+			_hash = Objects.hash(spec, Arrays.hashCode(colnames), System.identityHashCode(meta),
+				System.identityHashCode(embeddings));
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Key))
+				return false;
+			final Key that = (Key) o;
+			return _hash == that._hash && _meta == that._meta && _embeddings == that._embeddings &&
+				_spec.equals(that._spec) && Arrays.equals(_colnames, that._colnames);
+		}
+	}
+}
@@ -341,6 +341,39 @@ public class MultiColumnEncoder implements Encoder {
 		}
 	}
 
+	/**
+	 * Indicates if all encoders support an incremental build over consecutive
+	 * row blocks (see {@link #buildIncremental(CacheBlock)}).
+	 *
+	 * @return true if incremental builds are supported
+	 */
+	public boolean supportsIncrementalBuild() {
+		if(hasLegacyEncoder())
+			return false;
+		for(ColumnEncoderComposite columnEncoder : _columnEncoders)
+			if(!columnEncoder.supportsIncrementalBuild())
+				return false;
+		return true;
+	}
+
+	/**
+	 * Incremental build from the next block of consecutive rows, which allows building
+	 * the meta data of inputs that do not fit in memory. After all blocks have been
+	 * passed in row order, {@link #finalizeIncrementalBuild()} needs to be called.
+	 *
+	 * @param in input block of consecutive rows
+	 */
+	public void buildIncremental(CacheBlock<?> in) {
+		for(ColumnEncoderComposite columnEncoder : _columnEncoders)
+			columnEncoder.buildIncremental(in);
+	}
+
+	public void finalizeIncrementalBuild() {
+		for(ColumnEncoderComposite columnEncoder : _columnEncoders)
+			columnEncoder.finalizeIncrementalBuild();
+		updateAllDCEncoders();
+	}
+
 	public void legacyBuild(FrameBlock in) {
 		if(_legacyOmit != null)
 			_legacyOmit.build(in);
@@ -463,6 +496,14 @@ public class MultiColumnEncoder implements Encoder {
 		}
 	}
 
+	/**
+	 * Invalidate the row partitions derived for a previous input, which is required before reusing this encoder for
+	 * inputs of different size.
+	 */
+	void resetRowPartitions() {
+		_partitionDone = false;
+	}
+
 	private void deriveNumRowPartitions(CacheBlock<?> in, int k) {
 		int[] numBlocks = new int[2];
 		if (k == 1) { //single-threaded
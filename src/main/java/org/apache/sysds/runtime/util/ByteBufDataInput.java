@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataInput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+/**
+ * Custom DataInput to deserialize matrix blocks directly from a netty byte buffer,
+ * i.e., dense arrays are copied in bulk from the buffer memory into the block arrays.
+ */
+public class ByteBufDataInput extends ByteBufInputStream implements MatrixBlockDataInput
+{
+	private final ByteBuf _buff;
+
+	public ByteBufDataInput(ByteBuf buff) {
+		super(buff);
+		_buff = buff;
+	}
+
+	@Override
+	public long readDoubleArray(int len, double[] varr) throws IOException {
+		final int nbytes = len * 8;
+		if( _buff.readableBytes() < nbytes )
+			throw new IOException("Not enough readable bytes: "+_buff.readableBytes()+" vs "+nbytes);
+		if( _buff.nioBufferCount() == 1 ) { //bulk copy from contiguous memory
+			_buff.nioBuffer(_buff.readerIndex(), nbytes)
+				.order(ByteOrder.BIG_ENDIAN).asDoubleBuffer().get(varr, 0, len);
+			_buff.skipBytes(nbytes);
+		}
+		else {
+			for( int i=0; i<len; i++ )
+				varr[i] = _buff.readDouble();
+		}
+		long nnz = 0;
+		for( int i=0; i<len; i++ )
+			nnz += varr[i] != 0 ? 1 : 0;
+		return nnz;
+	}
+
+	@Override
+	public long readSparseRows(int rlen, long nnz, SparseBlock rows) throws IOException {
+		//counter for non-zero elements
+		long gnnz = 0;
+
+		//read all individual sparse rows from input
+		for( int i=0; i<rlen; i++ ) {
+			int lnnz = _buff.readInt();
+			if( lnnz > 0 ) { //non-zero row
+				rows.allocate(i, lnnz); //preallocate row
+				for( int j=0; j<lnnz; j++ ) //read single sparse row
+					rows.append(i, _buff.readInt(), _buff.readDouble());
+				gnnz += lnnz;
+			}
+		}
+
+		//sanity check valid number of read nnz
+		if( gnnz != nnz )
+			throw new IOException("Invalid number of read nnz: "+gnnz+" vs "+nnz);
+
+		return nnz;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * Custom DataOutput to serialize matrix blocks directly into a netty byte buffer.
+ * Dense arrays are copied in bulk into the buffer memory (one copy, no intermediate
+ * byte arrays or stream buffers), which is the common case for pooled direct buffers.
+ */
+public class ByteBufDataOutput extends ByteBufOutputStream implements MatrixBlockDataOutput
+{
+	public ByteBufDataOutput(ByteBuf buff) {
+		super(buff);
+	}
+
+	@Override
+	public void writeDoubleArray(int len, double[] varr) throws IOException {
+		final ByteBuf buff = buffer();
+		final int nbytes = len * 8;
+		buff.ensureWritable(nbytes);
+		if( buff.nioBufferCount() == 1 ) { //bulk copy into contiguous memory
+			buff.nioBuffer(buff.writerIndex(), nbytes)
+				.order(ByteOrder.BIG_ENDIAN).asDoubleBuffer().put(varr, 0, len);
+			buff.writerIndex(buff.writerIndex() + nbytes);
+		}
+		else { //e.g., composite buffers
+			for( int i=0; i<len; i++ )
+				buff.writeDouble(varr[i]);
+		}
+	}
+
+	@Override
+	public void writeSparseRows(int rlen, SparseBlock rows) throws IOException {
+		final ByteBuf buff = buffer();
+		int lrlen = Math.min(rows.numRows(), rlen);
+
+		//process existing rows
+		for( int i=0; i<lrlen; i++ ) {
+			if( !rows.isEmpty(i) ) {
+				int apos = rows.pos(i);
+				int alen = rows.size(i);
+				int[] aix = rows.indexes(i);
+				double[] avals = rows.values(i);
+				buff.ensureWritable(4 + alen * 12);
+				buff.writeInt(alen);
+				for( int j=apos; j<apos+alen; j++ ) {
+					buff.writeInt(aix[j]);
+					buff.writeDouble(avals[j]);
+				}
+			}
+			else
+				buff.writeInt(0);
+		}
+
+		//process remaining empty rows
+		for( int i=lrlen; i<rlen; i++ )
+			buff.writeInt(0);
+	}
+}
@@ -23,6 +23,7 @@ import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlockDataInput;
@@ -123,9 +124,12 @@ public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
 	
 	@Override
 	public long readDoubleArray(int len, double[] varr) throws IOException  {
+		//bulk copy into the target array, w/ explicit byte order of data input
+		_buff.slice().order(ByteOrder.BIG_ENDIAN).asDoubleBuffer().get(varr, 0, len);
+		_buff.position(_buff.position() + len*8);
 		long nnz = 0;
 		for( int i=0; i<len; i++ )
-			nnz += (varr[i] = _buff.getDouble()) != 0 ? 1 : 0;
+			nnz += varr[i] != 0 ? 1 : 0;
 		return nnz;
 	}
 
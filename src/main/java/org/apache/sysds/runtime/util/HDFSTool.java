@@ -288,6 +288,13 @@ public class HDFSTool
 		return ret;
 	}
 	
+	public static long getModificationTimeOnHDFS(String fname) 
+		throws IOException
+	{
+		Path path = new Path(fname);
+		return IOUtilFunctions.getFileSystem(path).getFileStatus(path).getModificationTime();
+	}
+	
 	private static BufferedReader setupInputFile(String filename) throws IOException {
 		Path path = new Path(filename);
 		FileSystem fs = IOUtilFunctions.getFileSystem(path);
@@ -20,6 +20,7 @@
 package org.apache.sysds.runtime.util;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.File;
@@ -31,7 +32,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -44,8 +47,16 @@ import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheDataInput;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64;
+import org.apache.sysds.runtime.data.DenseBlockLFP64;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
+import org.apache.sysds.runtime.data.DenseBlockOffHeapFP64;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.BlockCodec;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
@@ -57,6 +68,12 @@ public class LocalFileUtils
 	public static final int BUFFER_SIZE = 8192;
 	public static final int DOUBLE_BUFFERING_MIN = 100*1024;
 	
+	//big-endian header of memory-mappable dense blocks (magic, rows, cols, nnz), where the
+	//negative magic number never collides with the leading row count of serialized blocks
+	public static final int MMAP_MAGIC = 0xCAFE5D5D;
+	public static final int MMAP_HEADER_SIZE = 64;
+	public static final int CODEC_MAGIC = 0xB10CC0DE;
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -112,9 +129,46 @@ public class LocalFileUtils
 	 * @throws IOException if IOException occurs
 	 */
 	public static CacheBlock<?> readCacheBlockFromLocal(String fname, boolean matrix) throws IOException {
+		if( matrix && CacheableData.CACHING_MMAP_DENSE ) {
+			MatrixBlock ret = readMatrixBlockFromLocalMapped(fname);
+			if( ret != null ) //otherwise serialized block
+				return ret;
+		}
 		return (CacheBlock<?>) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
 	}
 	
+	/**
+	 * Reads a dense matrix block, written by {@link #writeMatrixBlockToLocalMapped(String, MatrixBlock)},
+	 * by memory-mapping the raw values and bulk-copying them into a new on-heap dense block. The restore
+	 * is not zero-copy, but compared to deserialization, it avoids the intermediate buffer, the decoding
+	 * of individual values, and the recomputation of the number of non-zeros.
+	 * 
+	 * @param fname file name to read
+	 * @return matrix block, or null if the file is not in the memory-mappable layout
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixBlockFromLocalMapped(String fname) throws IOException {
+		if(fname == null)
+			throw new IOException("Cannot read from null fname");
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(Paths.get(fname), StandardOpenOption.READ);
+			ByteBuffer header = ByteBuffer.allocate(MMAP_HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+			if( channel.read(header, 0) < MMAP_HEADER_SIZE || header.getInt(0) != MMAP_MAGIC )
+				return null;
+			int rlen = header.getInt(4);
+			int clen = header.getInt(8);
+			MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+			ret.allocateDenseBlock();
+			mapDenseBlock(channel, MapMode.READ_ONLY, rlen, clen).copyTo(ret.getDenseBlock());
+			ret.setNonZeros(header.getLong(16));
+			return ret;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+	
 	/**
 	 * Reads an arbitrary writable from local file system, using a fused buffered reader
 	 * with special support for matrix blocks.
@@ -130,6 +184,8 @@ public class LocalFileUtils
 		if(fname == null)
 			throw new IOException("Cannot read from null fname");
 		FileInputStream fis = new FileInputStream(fname);
+		if( CacheableData.CACHING_SPILL_CODEC && isEncoded(fis) )
+			return readWritableFromLocalEncoded(fis, ret);
 		DataInput in = !(ret instanceof MatrixBlock) ? 
 			new DataInputStream(new BufferedInputStream(fis, BUFFER_SIZE)) :
 			new FastBufferedDataInputStream(fis, BUFFER_SIZE);		
@@ -144,6 +200,27 @@ public class LocalFileUtils
 		return ret;
 	}
 	
+	private static boolean isEncoded(FileInputStream fis) throws IOException {
+		//positional read, which leaves the stream position unchanged
+		ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+		return fis.getChannel().read(header, 0) == Integer.BYTES
+			&& header.getInt(0) == CODEC_MAGIC;
+	}
+	
+	private static Writable readWritableFromLocalEncoded(FileInputStream fis, Writable ret) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(fis, BUFFER_SIZE));
+		try {
+			in.readInt(); //magic
+			byte[] data = BlockCodec.readBlock(in);
+			ret.readFields((ret instanceof MatrixBlock) ? new CacheDataInput(data) :
+				new DataInputStream(new ByteArrayInputStream(data)));
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+		return ret;
+	}
+	
 	/**
 	 * Reads a matrix block from an input stream, using a fused buffered reader
 	 * with special support for matrix blocks.
@@ -221,7 +298,63 @@ public class LocalFileUtils
 	 * @throws IOException if IOException occurs
 	 */
 	public static void writeCacheBlockToLocal(String fname, CacheBlock<?> cb) throws IOException {
-		writeWritableToLocal(fname, cb, cb.getInMemorySize()>=DOUBLE_BUFFERING_MIN);
+		if( CacheableData.CACHING_MMAP_DENSE && isMappable(cb) )
+			writeMatrixBlockToLocalMapped(fname, (MatrixBlock) cb);
+		else
+			writeWritableToLocal(fname, cb, cb.getInMemorySize()>=DOUBLE_BUFFERING_MIN);
+	}
+	
+	/**
+	 * Writes a dense matrix block to local file system in a memory-mappable layout of a
+	 * fixed-size header followed by the row-major values in native byte order. The values
+	 * are copied into a writable mapping of the file, which leaves the actual I/O to the OS.
+	 * 
+	 * @param fname file name to write
+	 * @param mb dense FP64 matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrixBlockToLocalMapped(String fname, MatrixBlock mb) throws IOException {
+		DenseBlock db = mb.getDenseBlock();
+		int rlen = mb.getNumRows();
+		int clen = mb.getNumColumns();
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			ByteBuffer header = ByteBuffer.allocate(MMAP_HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+			header.putInt(0, MMAP_MAGIC).putInt(4, rlen).putInt(8, clen).putLong(16, mb.getNonZeros());
+			channel.write(header, 0);
+			mapDenseBlock(channel, MapMode.READ_WRITE, rlen, clen).set(db);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+	
+	private static boolean isMappable(CacheBlock<?> cb) {
+		if( !(cb instanceof MatrixBlock) || cb.getInMemorySize() < DOUBLE_BUFFERING_MIN )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		DenseBlock db = mb.getDenseBlock();
+		return !mb.isInSparseFormat() && db != null && (db instanceof DenseBlockFP64
+			|| db instanceof DenseBlockLFP64 || db instanceof DenseBlockOffHeapFP64);
+	}
+	
+	private static DenseBlockOffHeapFP64 mapDenseBlock(FileChannel channel, MapMode mode, int rlen, int clen)
+		throws IOException
+	{
+		//map the values in the same row blocks as off-heap dense blocks,
+		//as a single mapping is limited to 2GB
+		int blen = DenseBlockOffHeap.computeBlockSize(rlen, clen, Double.BYTES);
+		int numBlocks = Math.max(1, (rlen + blen - 1) / blen);
+		ByteBuffer[] blocks = new ByteBuffer[numBlocks];
+		long offset = MMAP_HEADER_SIZE;
+		for( int bi = 0; bi < numBlocks; bi++ ) {
+			long len = (long) Math.min(blen, rlen - bi * blen) * clen * Double.BYTES;
+			blocks[bi] = channel.map(mode, offset, len).order(ByteOrder.nativeOrder());
+			offset += len;
+		}
+		return new DenseBlockOffHeapFP64(new int[] {rlen, clen}, blocks);
 	}
 	
 	/**
@@ -234,6 +367,11 @@ public class LocalFileUtils
 	 * @throws IOException if IOException occurs
 	 */
 	public static void writeWritableToLocal(String fname, Writable mb, boolean doubleBuffering) throws IOException {
+		if( CacheableData.CACHING_SPILL_CODEC && mb instanceof CacheBlock
+			&& BlockCodec.isApplicable(((CacheBlock<?>) mb).getExactSerializedSize()) ) {
+			writeCacheBlockToLocalEncoded(fname, (CacheBlock<?>) mb);
+			return;
+		}
 		OutputStream fout = doubleBuffering ?
 			new DoubleBufferingOutputStream(new FileOutputStream(fname), 2, BUFFER_SIZE) :
 			new FileOutputStream(fname);
@@ -246,6 +384,49 @@ public class LocalFileUtils
 		}
 	}
 
+	/**
+	 * Writes a matrix/frame block to local file system as a single frame of the adaptive
+	 * block codec, prefixed by a magic number, which stores the block raw if it does not
+	 * compress well.
+	 * 
+	 * @param fname file name to write
+	 * @param cb cache block (common interface to matrix block and frame block)
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeCacheBlockToLocalEncoded(String fname, CacheBlock<?> cb) throws IOException {
+		FastBufferedDataOutputStream dout = new FastBufferedDataOutputStream(new FileOutputStream(fname), BUFFER_SIZE);
+		try {
+			dout.writeInt(CODEC_MAGIC);
+			BlockCodec.writeBlock(dout, cb);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(dout);
+		}
+	}
+	
+	/**
+	 * Writes an already serialized matrix/frame block to local file system, encoded with the
+	 * adaptive block codec if configured and applicable.
+	 * 
+	 * @param fname file name to write
+	 * @param data serialized block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeSerializedBlockToLocal(String fname, byte[] data) throws IOException {
+		if( !CacheableData.CACHING_SPILL_CODEC || !BlockCodec.isApplicable(data.length) ) {
+			writeByteArrayToLocal(fname, data);
+			return;
+		}
+		FastBufferedDataOutputStream dout = new FastBufferedDataOutputStream(new FileOutputStream(fname), BUFFER_SIZE);
+		try {
+			dout.writeInt(CODEC_MAGIC);
+			BlockCodec.writeBlock(dout, data, data.length);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(dout);
+		}
+	}
+
 	public static void writeByteArrayToLocal( String fname, byte[] data )
 		throws IOException
 	{	
@@ -33,13 +33,21 @@ import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types;
 import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
+import org.apache.sysds.runtime.data.DenseBlockOffHeapFP64;
 import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
 
@@ -55,6 +63,14 @@ public class UnixPipeUtils {
 		};
 	}
 
+	private static long getAsLong(Array<?> array, int i) {
+		// typed access keeps all 64 bits, unlike getAsDouble
+		if (array instanceof LongArray)
+			return ((LongArray) array).get()[i];
+		Object v = array.get(i);
+		return (v instanceof Number) ? ((Number) v).longValue() : 0;
+	}
+
 	private static ByteBuffer newLittleEndianBuffer(byte[] buffer, int length) {
 		return ByteBuffer.wrap(buffer, 0, length).order(ByteOrder.LITTLE_ENDIAN);
 	}
@@ -287,7 +303,7 @@ public class UnixPipeUtils {
 	}
 
 	/**
-	 * Symmetric with readNumpyArrayInBatches — writes data in batches with handshake.
+	 * Symmetric with readNumpyArrayInBatches - writes data in batches with handshake.
 	 */
 	public static long writeNumpyArrayInBatches(BufferedOutputStream out, int id, int batchSize,
 												int numElem, Types.ValueType type, MatrixBlock mb)
@@ -393,8 +409,13 @@ public class UnixPipeUtils {
 	private static int fillFixedArrayFromBytes(
 			Array<?> array, Types.ValueType type, int offsetOut,
 			byte[] buffer, int currentBatchSize) {
+		return fillFixedArrayFromBuffer(array, type, offsetOut,
+			newLittleEndianBuffer(buffer, currentBatchSize), currentBatchSize);
+	}
 
-		ByteBuffer bb = newLittleEndianBuffer(buffer, currentBatchSize);
+	private static int fillFixedArrayFromBuffer(
+			Array<?> array, Types.ValueType type, int offsetOut,
+			ByteBuffer bb, int currentBatchSize) {
 
 		switch (type) {
 			case FP64 -> {
@@ -409,8 +430,15 @@ public class UnixPipeUtils {
 			}
 			case INT64 -> {
 				LongBuffer lb = bb.asLongBuffer();
-				while (lb.hasRemaining())
-					array.set(offsetOut++, lb.get());
+				if (array instanceof LongArray) {
+					int n = lb.remaining();
+					lb.get(((LongArray) array).get(), offsetOut, n);
+					offsetOut += n;
+				}
+				else {
+					while (lb.hasRemaining())
+						array.set(offsetOut++, lb.get());
+				}
 			}
 			case INT32 -> {
 				IntBuffer ib = bb.asIntBuffer();
@@ -520,7 +548,7 @@ public class UnixPipeUtils {
 				continue;
 			}
 			if (bb.remaining() < len) {
-				// Not enough bytes for full payload → rollback and stop
+				// Not enough bytes for full payload -> rollback and stop
 				bb.reset();
 				break;
 			}
@@ -550,7 +578,7 @@ public class UnixPipeUtils {
 	}
 
 	/**
-	 * Symmetric with readFrameColumnFromPipe — writes FrameBlock column data to pipe.
+	 * Symmetric with readFrameColumnFromPipe - writes FrameBlock column data to pipe.
 	 * Supports both fixed-size types and variable-length types (strings).
 	 */
 	public static long writeFrameColumnToPipe(
@@ -654,7 +682,7 @@ public class UnixPipeUtils {
 				case INT64 -> {
 					LongBuffer lb = bb.asLongBuffer();
 					for (int i = 0; i < elementsToWrite; i++) {
-						lb.put((long) array.getAsDouble(arrayIndex++));
+						lb.put(getAsLong(array, arrayIndex++));
 					}
 					bufferPos += elementsToWrite * 8;
 				}
@@ -756,4 +784,318 @@ public class UnixPipeUtils {
 
 		return new VarWriteTiming(tEncodeTotal, numStrings, totalBytesWritten);
 	}
-}
\ No newline at end of file
+
+	// ---- shared memory transfer ----
+	// Instead of streaming batches through a FIFO pipe, the producer writes the
+	// buffer once into a memory-mapped file (in /dev/shm if available) and the
+	// consumer maps the same file and decodes it directly from the page cache.
+	// The byte layouts are identical to the pipe transfer, without handshakes.
+
+	private static final String SHM_DIR = "/dev/shm";
+	private static final long MAX_MAP_BYTES = 1L << 30;
+
+	/**
+	 * Returns the directory used for shared memory transfers, i.e., /dev/shm
+	 * on Linux and the JVM temporary directory otherwise.
+	 *
+	 * @return directory for memory-mapped transfer files
+	 */
+	public static String getSharedMemoryDir() {
+		File shm = new File(SHM_DIR);
+		return shm.isDirectory() && shm.canWrite() ? SHM_DIR : System.getProperty("java.io.tmpdir");
+	}
+
+	private static MappedByteBuffer mapFile(FileChannel ch, FileChannel.MapMode mode, long pos, long len)
+		throws IOException {
+		MappedByteBuffer bb = ch.map(mode, pos, len);
+		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return bb;
+	}
+
+	/**
+	 * Reads a dense numpy array of the given value type from a memory-mapped file
+	 * into the output array, starting at the given offset.
+	 *
+	 * @param path      path of the shared memory file written by the producer
+	 * @param numElem   number of elements to read
+	 * @param type      value type of the serialized elements
+	 * @param out       output array (e.g., the values of a dense block)
+	 * @param offsetOut offset into the output array
+	 * @return number of non-zeros read
+	 * @throws IOException if the file cannot be mapped or is too small
+	 */
+	public static long readNumpyArrayFromSharedMemory(String path, int numElem,
+		Types.ValueType type, double[] out, int offsetOut) throws IOException {
+		int elemSize = getElementSize(type);
+		long totalBytes = ((long) numElem) * elemSize;
+		long maxChunk = MAX_MAP_BYTES / elemSize * elemSize;
+		BufferReader reader = getBufferReader(type);
+		try(FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			if(ch.size() < totalBytes)
+				throw new IOException("Shared memory file " + path + " has " + ch.size()
+					+ " bytes but " + totalBytes + " bytes were expected");
+			int off = offsetOut;
+			for(long pos = 0; pos < totalBytes; pos += maxChunk)
+				off = reader.readTo(out, off, mapFile(ch, FileChannel.MapMode.READ_ONLY,
+					pos, Math.min(maxChunk, totalBytes - pos)));
+		}
+		catch(Exception e) {
+			LOG.error("Error occurred while reading data from shared memory " + path, e);
+			throw e;
+		}
+		long nonZeros = 0;
+		for(int i = offsetOut; i < offsetOut + numElem; i++)
+			nonZeros += out[i] != 0 ? 1 : 0;
+		return nonZeros;
+	}
+
+	/**
+	 * Reads a dense numpy array of the given value type from a memory-mapped file into a
+	 * new matrix block. FP64 files are mapped as an off-heap dense block in the row blocks of
+	 * {@link DenseBlockOffHeap} (below 2GB per mapping) and bulk-copied into the heap dense
+	 * block, because operations access dense blocks through their double[] arrays. Other
+	 * types are decoded per heap block. Both support more than Integer.MAX_VALUE cells.
+	 *
+	 * @param path path of the shared memory file written by the producer
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param type value type of the serialized elements
+	 * @return matrix block with the number of non-zeros and format set
+	 * @throws IOException if the file cannot be mapped or is too small
+	 */
+	public static MatrixBlock readMatrixFromSharedMemory(String path, int rlen, int clen,
+		Types.ValueType type) throws IOException {
+		int elemSize = getElementSize(type);
+		long totalBytes = (long) rlen * clen * elemSize;
+		MatrixBlock mb = new MatrixBlock(rlen, clen, false);
+		if(totalBytes == 0)
+			return mb;
+		mb.allocateDenseBlock();
+		DenseBlock db = mb.getDenseBlock();
+		try(FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			if(ch.size() < totalBytes)
+				throw new IOException("Shared memory file " + path + " has " + ch.size()
+					+ " bytes but " + totalBytes + " bytes were expected");
+			if(type == Types.ValueType.FP64) {
+				int blen = DenseBlockOffHeap.computeBlockSize(rlen, clen, elemSize);
+				ByteBuffer[] blocks = new ByteBuffer[(rlen + blen - 1) / blen];
+				long pos = 0;
+				for(int bi = 0; bi < blocks.length; bi++) {
+					long len = (long) Math.min(blen, rlen - bi * blen) * clen * elemSize;
+					blocks[bi] = mapFile(ch, FileChannel.MapMode.READ_ONLY, pos, len);
+					pos += len;
+				}
+				new DenseBlockOffHeapFP64(new int[] {rlen, clen}, blocks).copyTo(db);
+			}
+			else {
+				BufferReader reader = getBufferReader(type);
+				long maxChunk = MAX_MAP_BYTES / elemSize * elemSize;
+				long pos = 0;
+				for(int bi = 0; bi < db.numBlocks(); bi++) {
+					long end = pos + (long) db.size(bi) * elemSize;
+					for(int off = 0; pos < end; pos += maxChunk)
+						off = reader.readTo(db.valuesAt(bi), off, mapFile(ch, FileChannel.MapMode.READ_ONLY,
+							pos, Math.min(maxChunk, end - pos)));
+					pos = end;
+				}
+			}
+		}
+		catch(Exception e) {
+			LOG.error("Error occurred while reading data from shared memory " + path, e);
+			throw e;
+		}
+		mb.recomputeNonZeros();
+		mb.examSparsity();
+		return mb;
+	}
+
+	/**
+	 * Symmetric with readNumpyArrayFromSharedMemory - writes the matrix block in
+	 * row-major order into a newly created memory-mapped file.
+	 *
+	 * @param path path of the shared memory file to create
+	 * @param type value type of the serialized elements
+	 * @param mb   matrix block to write
+	 * @return number of bytes written
+	 * @throws IOException if the file cannot be created or mapped
+	 */
+	public static long writeNumpyArrayToSharedMemory(String path, Types.ValueType type, MatrixBlock mb)
+		throws IOException {
+		int elemSize = getElementSize(type);
+		int rlen = mb.getNumRows();
+		int clen = mb.getNumColumns();
+		long totalBytes = (long) rlen * clen * elemSize;
+		long maxChunk = MAX_MAP_BYTES / elemSize * elemSize;
+		try(FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// dense rows are written with bulk row-segment puts (off-heap rows via copyRow),
+			// other types and sparse blocks cell-wise; chunks hold whole elements
+			DenseBlock db = mb.isInSparseFormat() ? null : mb.getDenseBlock();
+			double[] row = (db instanceof DenseBlockOffHeap) ? new double[clen] : null;
+			ByteBuffer bb = null;
+			long mapped = 0;
+			for(int r = 0; r < rlen; r++) {
+				double[] vals = (db == null) ? null : (row != null) ?
+					((DenseBlockOffHeap) db).copyRow(r, row, 0) : db.values(r);
+				int pos = (db == null || row != null) ? 0 : db.pos(r);
+				for(int c = 0; c < clen; ) {
+					if(bb == null || !bb.hasRemaining()) {
+						long len = Math.min(maxChunk, totalBytes - mapped);
+						bb = mapFile(ch, FileChannel.MapMode.READ_WRITE, mapped, len);
+						mapped += len;
+					}
+					if(vals != null && type == Types.ValueType.FP64) {
+						int n = Math.min(clen - c, bb.remaining() / elemSize);
+						bb.asDoubleBuffer().put(vals, pos + c, n);
+						bb.position(bb.position() + n * elemSize);
+						c += n;
+					}
+					else {
+						putValue(bb, type, (vals != null) ? vals[pos + c] : mb.get(r, c));
+						c++;
+					}
+				}
+			}
+			return totalBytes;
+		}
+		catch(Exception e) {
+			LOG.error("Error occurred while writing data to shared memory " + path, e);
+			throw e;
+		}
+	}
+
+	private static void putValue(ByteBuffer bb, Types.ValueType type, double v) {
+		switch(type) {
+			case FP64 -> bb.putDouble(v);
+			case FP32 -> bb.putFloat((float) v);
+			case INT64 -> bb.putLong((long) v);
+			case INT32 -> bb.putInt((int) v);
+			case UINT8 -> bb.put((byte) ((int) v & 0xFF));
+			default -> throw new UnsupportedOperationException("Unsupported type: " + type);
+		}
+	}
+
+	/**
+	 * Reads a frame column from a memory-mapped file, using the same typed layout
+	 * as readFrameColumnFromPipe (fixed-size little-endian values, or int32 length
+	 * prefixed UTF-8 strings with -1 as null marker).
+	 *
+	 * @param path       path of the shared memory file written by the producer
+	 * @param rows       number of rows of the column
+	 * @param totalBytes number of bytes of the serialized column
+	 * @param type       value type of the column
+	 * @return the decoded column
+	 * @throws IOException if the file cannot be mapped or decoded
+	 */
+	public static Array<?> readFrameColumnFromSharedMemory(String path, int rows, int totalBytes,
+		Types.ValueType type) throws IOException {
+		Array<?> array = ArrayFactory.allocate(type, rows);
+		try(FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			long size = totalBytes >= 0 ? totalBytes : ch.size();
+			if(ch.size() < size)
+				throw new IOException("Shared memory file " + path + " has " + ch.size()
+					+ " bytes but " + size + " bytes were expected");
+			if(size > Integer.MAX_VALUE)
+				throw new IOException("Frame column of " + size + " bytes exceeds the maximum mapping size");
+			ByteBuffer bb = mapFile(ch, FileChannel.MapMode.READ_ONLY, 0, size);
+			if(type != Types.ValueType.STRING) {
+				int expected = rows * getElementSize(type);
+				if(size != expected)
+					throw new IOException("Expected " + expected + " bytes but got " + size);
+				fillFixedArrayFromBuffer(array, type, 0, bb, (int) size);
+			}
+			else {
+				byte[] tmp = new byte[256];
+				for(int i = 0; i < rows; i++) {
+					int len = bb.getInt();
+					if(len < 0) {
+						array.set(i, (String) null);
+						continue;
+					}
+					if(tmp.length < len)
+						tmp = new byte[Math.max(len, tmp.length * 2)];
+					bb.get(tmp, 0, len);
+					array.set(i, new String(tmp, 0, len, StandardCharsets.UTF_8));
+				}
+			}
+		}
+		catch(Exception e) {
+			LOG.error("Error occurred while reading FrameBlock column from shared memory " + path, e);
+			throw e;
+		}
+		return array;
+	}
+
+	/**
+	 * Symmetric with readFrameColumnFromSharedMemory - writes a frame column into a
+	 * newly created memory-mapped file.
+	 *
+	 * @param path  path of the shared memory file to create
+	 * @param array frame column to write
+	 * @param type  value type of the column
+	 * @return number of bytes written
+	 * @throws IOException if the file cannot be created or mapped
+	 */
+	public static long writeFrameColumnToSharedMemory(String path, Array<?> array, Types.ValueType type)
+		throws IOException {
+		int rows = array.size();
+		byte[][] encoded = null;
+		long totalBytes;
+		if(type != Types.ValueType.STRING)
+			totalBytes = (long) rows * getElementSize(type);
+		else {
+			// encode upfront to size the mapping exactly
+			encoded = new byte[rows][];
+			totalBytes = 4L * rows;
+			for(int i = 0; i < rows; i++) {
+				Object value = array.get(i);
+				if(value != null) {
+					encoded[i] = value.toString().getBytes(StandardCharsets.UTF_8);
+					totalBytes += encoded[i].length;
+				}
+			}
+		}
+		if(totalBytes > Integer.MAX_VALUE)
+			throw new IOException("Frame column of " + totalBytes + " bytes exceeds the maximum mapping size");
+
+		try(FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer bb = mapFile(ch, FileChannel.MapMode.READ_WRITE, 0, totalBytes);
+			switch(type) {
+				case FP64 -> {
+					for(int i = 0; i < rows; i++)
+						bb.putDouble(array.getAsDouble(i));
+				}
+				case FP32 -> {
+					for(int i = 0; i < rows; i++)
+						bb.putFloat((float) array.getAsDouble(i));
+				}
+				case INT64 -> {
+					for(int i = 0; i < rows; i++)
+						bb.putLong(getAsLong(array, i));
+				}
+				case INT32 -> {
+					for(int i = 0; i < rows; i++)
+						bb.putInt((int) array.getAsDouble(i));
+				}
+				case BOOLEAN -> {
+					for(int i = 0; i < rows; i++)
+						bb.put((byte) (array.getAsDouble(i) != 0.0 ? 1 : 0));
+				}
+				case STRING -> {
+					for(int i = 0; i < rows; i++) {
+						bb.putInt(encoded[i] == null ? -1 : encoded[i].length);
+						if(encoded[i] != null)
+							bb.put(encoded[i]);
+					}
+				}
+				default -> throw new UnsupportedOperationException("Unsupported type: " + type);
+			}
+			return totalBytes;
+		}
+		catch(Exception e) {
+			LOG.error("Error occurred while writing FrameBlock column to shared memory " + path, e);
+			throw e;
+		}
+	}
+}
@@ -36,6 +36,7 @@ import org.apache.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
 import org.apache.sysds.runtime.instructions.spark.SPInstruction;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.ooc.stats.OOCEventLog;
 import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.lineage.LineageItemUtils;
@@ -233,6 +234,9 @@ public class Statistics
 	private static final LongAdder oocEvictionWriteCalls = new LongAdder();
 	private static final LongAdder oocEvictionWriteTimeNanos = new LongAdder();
 	private static final LongAdder oocEvictionWriteBytesSize = new LongAdder();
+	private static final LongAdder oocCompressedBlocks = new LongAdder();
+	private static final LongAdder oocCompressedRawBytes = new LongAdder();
+	private static final LongAdder oocCompressedBytes = new LongAdder();
 	private static final AtomicLong oocStatsStartTime = new AtomicLong(System.nanoTime());
 
 	public static long getNoOfExecutedSPInst() {
@@ -362,6 +366,10 @@ public class Statistics
 		oocEvictionWriteCalls.reset();
 		oocEvictionWriteTimeNanos.reset();
 		oocEvictionWriteBytesSize.reset();
+		oocCompressedBlocks.reset();
+		oocCompressedRawBytes.reset();
+		oocCompressedBytes.reset();
+		OOCEventLog.resetCacheAccessCounters();
 		oocStatsStartTime.set(System.nanoTime());
 	}
 
@@ -481,6 +489,16 @@ public class Statistics
 		oocEvictionWriteBytesSize.add(bytes);
 	}
 
+	public static void incrementOOCCompressedBlocks(long rawBytes, long compressedBytes) {
+		oocCompressedBlocks.increment();
+		oocCompressedRawBytes.add(rawBytes);
+		oocCompressedBytes.add(compressedBytes);
+	}
+
+	public static long getOOCCompressedBlocks() {
+		return oocCompressedBlocks.longValue();
+	}
+
 	public static String displayOOCEvictionStats() {
 		long elapsedNanos = Math.max(1, System.nanoTime() - oocStatsStartTime.get());
 		double elapsedSeconds = elapsedNanos / 1e9;
@@ -499,6 +517,15 @@ public class Statistics
 			oocLoadFromDiskCalls.longValue(), oocLoadFromDiskTimeNanos.longValue() / 1e9, oocLoadFromDiskBytesSize.longValue() / 1e9));
 		sb.append(String.format(Locale.US, "  evict writes:\t\t%d (time %.3f sec, %.3f GB)\n",
 			oocEvictionWriteCalls.longValue(), oocEvictionWriteTimeNanos.longValue() / 1e9, oocEvictionWriteBytesSize.longValue() / 1e9));
+		sb.append(String.format(Locale.US, "  cache hits/misses:\t%d/%d\n",
+			OOCEventLog.getCacheHits(), OOCEventLog.getCacheMisses()));
+		if(OOCEventLog.getPrefetchIssued() > 0)
+			sb.append(String.format(Locale.US, "  prefetches:\t\t%d (used %d, wasted %d, accuracy %.3f)\n",
+				OOCEventLog.getPrefetchIssued(), OOCEventLog.getPrefetchUsed(),
+				OOCEventLog.getPrefetchWasted(), OOCEventLog.getPrefetchAccuracy()));
+		if(oocCompressedBlocks.longValue() > 0)
+			sb.append(String.format(Locale.US, "  compressed blocks:\t%d (%.3f GB -> %.3f GB)\n",
+				oocCompressedBlocks.longValue(), oocCompressedRawBytes.longValue() / 1e9, oocCompressedBytes.longValue() / 1e9));
 		return sb.toString();
 	}
 	
@@ -1243,6 +1270,12 @@ public class Statistics
 					sb.append("LinCache Spark (Col/Loc/Dist): \t" + LineageCacheStatistics.displaySparkHits() + ".\n");
 					sb.append("LinCache Spark (Per/Unper/Del):\t" + LineageCacheStatistics.displaySparkPersist() + ".\n");
 				}
+				if (LineageCacheStatistics.ifPersistStats())
+					sb.append("LinCache persist (Hit/Wr/Inv):\t" + LineageCacheStatistics.displayPersistStats() + ".\n");
+				if (LineageCacheStatistics.ifLockStats()) {
+					sb.append("LinCache locks (Free/Acq/Cont):\t" + LineageCacheStatistics.displayLockStats() + ".\n");
+					sb.append("LinCache lock wait time: \t" + LineageCacheStatistics.displayLockWaitTime() + " sec.\n");
+				}
 				sb.append("LinCache writes (Mem/FS/Del): \t" + LineageCacheStatistics.displayWtrites() + ".\n");
 				sb.append("LinCache FStimes (Rd/Wr): \t" + LineageCacheStatistics.displayFSTime() + " sec.\n");
 				sb.append("LinCache Computetime (S/M/P): \t" + LineageCacheStatistics.displayComputeTime() + " sec.\n");
@@ -35,6 +35,9 @@ public class CodegenStatistics {
 	private static final LongAdder opCacheTotal = new LongAdder(); //count
 	private static final LongAdder planCacheHits = new LongAdder(); //count
 	private static final LongAdder planCacheTotal = new LongAdder(); //count
+	private static final LongAdder classCacheHits = new LongAdder(); //count
+	private static final LongAdder classCacheTotal = new LongAdder(); //count
+	private static final LongAdder classCacheSavedTime = new LongAdder(); //in nano
 
 
 	public static void incrementDAGCompile() {
@@ -86,6 +89,15 @@ public class CodegenStatistics {
 		planCacheTotal.increment();
 	}
 
+	public static void incrementClassCacheHits(long savedTime) {
+		classCacheHits.increment();
+		classCacheSavedTime.add(savedTime);
+	}
+
+	public static void incrementClassCacheTotal() {
+		classCacheTotal.increment();
+	}
+
 	public static long getDAGCompile() {
 		return hopCompile.longValue();
 	}
@@ -138,6 +150,18 @@ public class CodegenStatistics {
 		return planCacheTotal.longValue();
 	}
 
+	public static long getClassCacheHits() {
+		return classCacheHits.longValue();
+	}
+
+	public static long getClassCacheTotal() {
+		return classCacheTotal.longValue();
+	}
+
+	public static long getClassCacheSavedTime() {
+		return classCacheSavedTime.longValue();
+	}
+
 	public static void reset() {
 		hopCompile.reset();
 		cPlanCompile.reset();
@@ -152,6 +176,9 @@ public class CodegenStatistics {
 		opCacheTotal.reset();
 		planCacheHits.reset();
 		planCacheTotal.reset();
+		classCacheHits.reset();
+		classCacheTotal.reset();
+		classCacheSavedTime.reset();
 	}
 
 	public static String displayStatistics() {
@@ -164,6 +191,9 @@ public class CodegenStatistics {
 				String.format("%.3f", (double)getClassCompileTime()/1000000000)  + " sec.\n");
 		sb.append("Codegen enum plan cache hits:\t" + getPlanCacheHits() + "/" + getPlanCacheTotal() + ".\n");
 		sb.append("Codegen op plan cache hits:\t" + getOpCacheHits() + "/" + getOpCacheTotal() + ".\n");
+		if( getClassCacheTotal() > 0 )
+			sb.append("Codegen class cache hits:\t" + getClassCacheHits() + "/" + getClassCacheTotal() + " (saved "
+				+ String.format("%.3f", (double)getClassCacheSavedTime()/1000000000) + " sec).\n");
 		return sb.toString();
 	}
 }
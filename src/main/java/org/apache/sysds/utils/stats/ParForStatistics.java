@@ -19,6 +19,7 @@
 
 package org.apache.sysds.utils.stats;
 
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.sysds.utils.Statistics;
@@ -29,6 +30,13 @@ public class ParForStatistics {
 	private static final LongAdder optCount = new LongAdder(); //count
 	private static final LongAdder initTime = new LongAdder(); //in milli sec
 	private static final LongAdder mergeTime = new LongAdder(); //in milli sec
+	//PARFOR local execution tail stats (per parfor loop)
+	private static final LongAdder tailCount = new LongAdder(); //count
+	private static final LongAdder tailTime = new LongAdder(); //in nano sec
+	private static final LongAccumulator tailTimeMax = new LongAccumulator(Long::max, 0); //in nano sec
+	private static final LongAdder numWorkStealing = new LongAdder(); //count
+	private static final LongAdder numSteals = new LongAdder(); //count
+	private static final LongAdder numStolenIters = new LongAdder(); //count
 
 	public static synchronized void incrementOptimCount(){
 		optCount.increment();
@@ -46,6 +54,18 @@ public class ParForStatistics {
 		mergeTime.add(time);
 	}
 
+	public static void incrementTailTime( long time ) {
+		tailCount.increment();
+		tailTime.add(time);
+		tailTimeMax.accumulate(time);
+	}
+
+	public static void incrementSteals( long steals, long iters ) {
+		numWorkStealing.increment();
+		numSteals.add(steals);
+		numStolenIters.add(iters);
+	}
+
 	public static long getOptCount(){
 		return optCount.longValue();
 	}
@@ -62,24 +82,61 @@ public class ParForStatistics {
 		return mergeTime.longValue();
 	}
 
+	public static long getTailCount(){
+		return tailCount.longValue();
+	}
+
+	public static long getTailTime(){
+		return tailTime.longValue();
+	}
+
+	public static long getMaxTailTime(){
+		return tailTimeMax.longValue();
+	}
+
+	public static long getNumWorkStealingLoops(){
+		return numWorkStealing.longValue();
+	}
+
+	public static long getNumSteals(){
+		return numSteals.longValue();
+	}
+
+	public static long getNumStolenIterations(){
+		return numStolenIters.longValue();
+	}
+
 	public static void reset() {
 		optCount.reset();
 		optTime.reset();
 		initTime.reset();
 		mergeTime.reset();
+		tailCount.reset();
+		tailTime.reset();
+		tailTimeMax.reset();
+		numWorkStealing.reset();
+		numSteals.reset();
+		numStolenIters.reset();
 	}
 
 	public static String displayStatistics() {
+		StringBuilder sb = new StringBuilder();
 		if( optCount.longValue() > 0 ){
-			StringBuilder sb = new StringBuilder();
 			sb.append("ParFor loops optimized:\t\t" + getOptCount() + ".\n");
 			sb.append("ParFor optimize time:\t\t" + String.format("%.3f", ((double)getOptTime())/1000) + " sec.\n");
 			sb.append("ParFor initialize time:\t\t" + String.format("%.3f", ((double)getInitTime())/1000) + " sec.\n");
 			sb.append("ParFor result merge time:\t" + String.format("%.3f", ((double)getMergeTime())/1000) + " sec.\n");
 			sb.append("ParFor total update in-place:\t" + Statistics.getTotalUIPVar() + "/"
 				+ Statistics.getTotalLixUIP() + "/" + Statistics.getTotalLix() + "\n");
-			return sb.toString();
 		}
-		return "";
+		if( tailCount.longValue() > 0 ) {
+			sb.append("ParFor local tail (Num/Total/Max):\t" + getTailCount() + "/"
+				+ String.format("%.3f", ((double)getTailTime())/1e9) + "/"
+				+ String.format("%.3f", ((double)getMaxTailTime())/1e9) + " sec.\n");
+			if( numSteals.longValue() > 0 )
+				sb.append("ParFor work stealing (Steals/Iters):\t" + getNumSteals() + "/"
+					+ getNumStolenIterations() + ".\n");
+		}
+		return sb.toString();
 	}
 }
@@ -26,6 +26,7 @@ public class RecompileStatistics {
 	private static final LongAdder recompileTime = new LongAdder(); //in nano sec
 	private static final LongAdder recompilePred = new LongAdder(); //count
 	private static final LongAdder recompileSB = new LongAdder();   //count
+	private static final LongAdder reusedSB = new LongAdder();      //count
 
 
 	public static void incrementRecompileTime( long delta ) {
@@ -48,6 +49,10 @@ public class RecompileStatistics {
 		recompileSB.add(delta);
 	}
 
+	public static void incrementReusedSB() {
+		reusedSB.increment();
+	}
+
 	public static long getRecompileTime(){
 		return recompileTime.longValue();
 	}
@@ -60,15 +65,22 @@ public class RecompileStatistics {
 		return recompileSB.longValue();
 	}
 
+	public static long getReusedSBPlans(){
+		return reusedSB.longValue();
+	}
+
 	public static void reset() {
 		recompileTime.reset();
 		recompilePred.reset();
 		recompileSB.reset();
+		reusedSB.reset();
 	}
 
 	public static String displayStatistics() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("HOP DAGs recompiled (PRED, SB):\t" + getRecompiledPredDAGs() + "/" + getRecompiledSBDAGs() + ".\n");
+		if( getReusedSBPlans() > 0 )
+			sb.append("HOP DAG recompiled plans reused:\t" + getReusedSBPlans() + ".\n");
 		sb.append("HOP DAGs recompile time:\t" + String.format("%.3f", ((double)getRecompileTime())/1000000000) + " sec.\n");
 		return sb.toString();
 	}
@@ -24,6 +24,7 @@ __all__ = ["SystemDSContext"]
 import json
 import logging
 import os
+import shutil
 import uuid
 import socket
 import sys
@@ -77,6 +78,7 @@ class SystemDSContext(object):
     _FIFO_JAVA2PY_BASE = "java2py"
     _FIFO_PY2JAVA_PIPES = []
     _FIFO_JAVA2PY_PIPES = []
+    _SHM_PATH = None
     _data_transfer_mode = 0
     _multi_pipe_enabled = False
     _sparse_data_transfer = True
@@ -107,7 +109,8 @@ class SystemDSContext(object):
             The logging levels are as follows: 10 DEBUG, 20 INFO, 30 WARNING, 40 ERROR, 50 CRITICAL.
         :param py4j_logging_level: The logging level for Py4j to use, since all communication to the JVM is done through this,
             it can be verbose if not set high.
-        :param data_transfer_mode: default 0, 0 for py4j, 1 for using pipes (on unix systems)
+        :param data_transfer_mode: default 0, 0 for py4j, 1 for using pipes (on unix systems),
+            2 for using memory-mapped files in shared memory, e.g. /dev/shm (on unix systems)
         :param multi_pipe_enabled: default False, if True, use multiple pipes for data transfer
             only used if data_transfer_mode is 1.
             .. experimental:: This parameter is experimental and may be removed in a future version.
@@ -141,6 +144,13 @@ class SystemDSContext(object):
             )
             self._FIFO_PY2JAVA_PIPES = out_pipes
             self._FIFO_JAVA2PY_PIPES = in_pipes
+        elif os.name == "posix" and data_transfer_mode == 2:
+            shm_dir = self.java_gateway.entry_point.getSharedMemoryDir()
+            self._SHM_PATH = os.path.join(shm_dir, "systemds-" + str(uuid.uuid4()))
+            os.makedirs(self._SHM_PATH, exist_ok=True)
+            self._log.info(
+                "Data transfer: Using shared memory files in {}".format(self._SHM_PATH)
+            )
         else:
             self._log.info("Using py4j for data transfer")
             self._data_transfer_mode = 0
@@ -511,6 +521,8 @@ class SystemDSContext(object):
                 else:
                     self._log.debug("Java Gateway is not connected anymore")
                 self.__delete_tmp_files()
+            elif self._data_transfer_mode == 2:
+                shutil.rmtree(self._SHM_PATH, ignore_errors=True)
 
             self.java_gateway.shutdown()
             self.__kill_Popen(self.java_gateway.java_process)
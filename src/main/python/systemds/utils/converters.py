@@ -19,7 +19,9 @@
 #
 # -------------------------------------------------------------
 
+import mmap
 import struct
+import uuid
 from time import time
 from typing import Union
 import numpy as np
@@ -88,6 +90,40 @@ def _pipe_receive_bytes(pipe, view, offset, end, batch_size_bytes, logger):
         offset += actual_size
 
 
+def _shm_file(sds):
+    """Returns a new file path in the shared memory directory of the context."""
+    return os.path.join(sds._SHM_PATH, uuid.uuid4().hex)
+
+
+def _shm_receive_array(path, dtype, count):
+    """Maps a shared memory file written by Java into a numpy array without copying.
+
+    The file is unlinked right away, its memory is released once the array is collected.
+    """
+    try:
+        if count == 0:
+            return np.empty(0, dtype=dtype)
+        with open(path, "r+b") as f:
+            buf = mmap.mmap(f.fileno(), 0)
+        return np.frombuffer(buf, dtype=dtype, count=count)
+    finally:
+        os.remove(path)
+
+
+def _shm_encode_strings(pd_series):
+    """Encodes strings in the length-prefixed UTF-8 layout, using -1 as null marker."""
+    null_len = struct.pack("<i", -1)
+    parts = []
+    for value in pd_series.tolist():
+        if value is None or pd.isna(value):
+            parts.append(null_len)
+        else:
+            encoded = value.encode("utf-8")
+            parts.append(struct.pack("<i", len(encoded)))
+            parts.append(encoded)
+    return b"".join(parts)
+
+
 def _get_numpy_value_type(jvm, dtype):
     """Maps numpy dtype to SystemDS ValueType."""
     if dtype is np.dtype(np.uint8):
@@ -221,6 +257,14 @@ def numpy_to_matrix_block(sds, arr: Union[np.ndarray, sp.spmatrix]):
             return _transfer_matrix_block_multi_pipe(
                 sds, mv, arr, arr, total_bytes, rows, cols, value_type, ep, jvm
             )
+    elif sds._data_transfer_mode == 2:
+        # write the buffer once, Java reads the file into a heap dense block
+        path = _shm_file(sds)
+        try:
+            arr.tofile(path)
+            return ep.startReadingMbFromSharedMemory(path, rows, cols, value_type)
+        finally:
+            os.remove(path)
     else:
         # Prepare byte buffer and send data to java via Py4J
         buf = arr.tobytes()
@@ -310,6 +354,12 @@ def matrix_block_to_numpy(sds, mb: JavaObject):
             sds._log.debug("Reading is done for {}".format(format_bytes(total_bytes)))
             return arr.reshape((rows, cols))
 
+        elif sds._data_transfer_mode == 2:
+            path = _shm_file(sds)
+            ep.startWritingMbToSharedMemory(path, mb)
+            arr = _shm_receive_array(path, np.float64, rows * cols)
+            return arr.reshape((rows, cols))
+
         else:
             buf = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertMBtoPy4JDenseArr(
                 mb
@@ -405,7 +455,18 @@ def pandas_to_frame_block(sds, pd_df: pd.DataFrame):
         jc_String = jvm.java.lang.String
         jc_FrameBlock = jvm.org.apache.sysds.runtime.frame.data.FrameBlock
 
-        if sds._data_transfer_mode == 1:
+        if sds._data_transfer_mode == 2:
+            return pandas_to_frame_block_shm(
+                col_names,
+                j_colNameArray,
+                j_valueTypeArray,
+                jc_FrameBlock,
+                pd_df,
+                rows,
+                schema,
+                sds,
+            )
+        elif sds._data_transfer_mode == 1:
             return pandas_to_frame_block_pipe(
                 col_names,
                 j_colNameArray,
@@ -611,6 +672,46 @@ def pandas_to_frame_block_pipe(
     return fb
 
 
+def pandas_to_frame_block_shm(
+    col_names: list,
+    j_colNameArray,
+    j_valueTypeArray,
+    jc_FrameBlock,
+    pd_df: pd.DataFrame,
+    rows: int,
+    schema: list,
+    sds,
+):
+    ep = sds.java_gateway.entry_point
+    fb = jc_FrameBlock(
+        j_valueTypeArray,
+        j_colNameArray,
+        rows,
+    )
+
+    for i, col_name in enumerate(col_names):
+        pd_series = pd_df[col_name]
+
+        if pd_series.dtype == "string" or pd_series.dtype == "object":
+            byte_data = _shm_encode_strings(pd_series)
+        elif pd_series.dtype == "bool":
+            byte_data = pd_series.fillna(False).astype(np.uint8).to_numpy().tobytes()
+        else:
+            byte_data = pd_series.fillna("").to_numpy().tobytes()
+
+        path = _shm_file(sds)
+        try:
+            with open(path, "wb") as f:
+                f.write(byte_data)
+            ep.startReadingColFromSharedMemory(
+                path, fb, rows, len(byte_data), i, schema[i]
+            )
+        finally:
+            os.remove(path)
+
+    return fb
+
+
 def _pipe_transfer_strings(pipe, pd_series, batch_size=_DEFAULT_BATCH_SIZE_BYTES):
     """
     Streams UTF-8 encoded strings to the pipe in batches without building the full bytearray first.
@@ -808,6 +909,26 @@ def _pipe_receive_strings(
     return (strings, t_total, t_decode, t_io, num_strings, header_received)
 
 
+def _shm_receive_strings(path, num_rows, total_bytes):
+    """Decodes a length-prefixed UTF-8 string column from a shared memory file."""
+    try:
+        with open(path, "rb") as f:
+            data = f.read(total_bytes)
+    finally:
+        os.remove(path)
+    strings = []
+    pos = 0
+    for _ in range(num_rows):
+        length = struct.unpack_from("<i", data, pos)[0]
+        pos += _STRING_LENGTH_PREFIX_SIZE
+        if length < 0:
+            strings.append(None)
+        else:
+            strings.append(data[pos : pos + length].decode("utf-8"))
+            pos += length
+    return strings
+
+
 def _get_elem_size_for_type(d_type):
     """Returns the element size in bytes for a given SystemDS type."""
     return {
@@ -981,6 +1102,16 @@ def frame_block_to_pandas(sds, fb: JavaObject):
                 )
 
             fut.result()
+        elif sds._data_transfer_mode == 2:
+            path = _shm_file(sds)
+            total_bytes = ep.startWritingColToSharedMemory(path, fb, c_index)
+            if d_type == "STRING":
+                ret = _shm_receive_strings(path, num_rows, total_bytes)
+            elif d_type == "BOOLEAN":
+                ret = _shm_receive_array(path, np.uint8, num_rows).astype(bool)
+            else:
+                dtype = _get_numpy_dtype_for_type(d_type)
+                ret = _shm_receive_array(path, dtype, num_rows)
         else:
             # Use Py4J transfer (original method)
             ret = _receive_column_py4j(fb, col_array, c_index, d_type, num_rows)
@@ -0,0 +1,72 @@
+# -------------------------------------------------------------
+#
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+#
+# -------------------------------------------------------------
+
+
+import unittest
+import pandas as pd
+import numpy as np
+from systemds.context import SystemDSContext
+from tests.test_utils import timeout
+
+
+class TestSharedMemoryTransfer(unittest.TestCase):
+
+    sds: SystemDSContext = None
+
+    @classmethod
+    def setUpClass(cls):
+        cls.sds = SystemDSContext(
+            data_transfer_mode=2, logging_level=10, capture_stdout=True
+        )
+
+    @classmethod
+    def tearDownClass(cls):
+        cls.sds.close()
+
+    @timeout(60)
+    def test_matrix_roundtrip(self):
+        for dtype in [np.float64, np.float32, np.int32, np.uint8]:
+            for shape in [(1, 1), (10, 10), (100, 5)]:
+                with self.subTest(dtype=dtype, shape=shape):
+                    matrix = np.random.randint(0, 100, shape).astype(dtype)
+                    matrix_out = self.sds.from_numpy(matrix).compute()
+                    self.assertEqual(matrix.shape, matrix_out.shape)
+                    self.assertTrue(np.allclose(matrix.astype(np.float64), matrix_out))
+
+    @timeout(60)
+    def test_frame_roundtrip(self):
+        df = pd.DataFrame(
+            {
+                "s": ["alpha", None, "gamma", "\u03b4\u03ad\u03bb\u03c4\u03b1"],
+                "d": np.array([1.0, -2.5, 3.25, 4.75], dtype=np.float64),
+                "i": np.array([0, -1, 5, 42], dtype=np.int64),
+                "b": [True, False, True, False],
+            }
+        )
+        df_out = self.sds.from_pandas(df).compute()
+        self.assertEqual(list(df["s"]), list(df_out["s"]))
+        self.assertTrue(np.allclose(df["d"], df_out["d"]))
+        self.assertTrue(np.array_equal(df["i"], df_out["i"]))
+        self.assertTrue(np.array_equal(df["b"], df_out["b"]))
+
+
+if __name__ == "__main__":
+    unittest.main(exit=False)
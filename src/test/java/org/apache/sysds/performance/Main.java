@@ -31,6 +31,7 @@ import org.apache.sysds.performance.generators.FrameTransformFile;
 import org.apache.sysds.performance.generators.GenMatrices;
 import org.apache.sysds.performance.generators.IGenerate;
 import org.apache.sysds.performance.generators.MatrixFile;
+import org.apache.sysds.performance.jmlc.ScoringLatency;
 import org.apache.sysds.performance.matrix.MatrixAppend;
 import org.apache.sysds.performance.matrix.MatrixBinaryCellPerf;
 import org.apache.sysds.performance.matrix.MatrixMultiplicationPerf;
@@ -143,6 +144,9 @@ public class Main {
 			case 1009:
 				MatrixMultiplicationPerf.main(args);
 				break;
+			case 1010:
+				ScoringLatency.main(args);
+				break;
 			default:
 				break;
 		}
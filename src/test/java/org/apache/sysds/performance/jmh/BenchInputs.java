@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+
+/**
+ * Shared input construction for the JMH kernel benchmarks. Inputs are generated with a fixed seed and converted into
+ * the requested physical representation, so that dense and the different sparse block formats are compared on exactly
+ * the same values.
+ */
+public final class BenchInputs {
+
+	/** Dense representation, independent of the sparsity of the generated values. */
+	public static final String DENSE = "DENSE";
+
+	private BenchInputs() {
+		// private constructor for utility class
+	}
+
+	/**
+	 * Generate a random matrix block in the given format.
+	 * 
+	 * @param rows     number of rows
+	 * @param cols     number of columns
+	 * @param sparsity fraction of non-zero cells
+	 * @param format   either DENSE or the name of a {@link SparseBlock.Type} (e.g., MCSR, CSR, DCSR)
+	 * @param seed     random seed
+	 * @return the generated matrix block in the requested format
+	 */
+	public static MatrixBlock create(int rows, int cols, double sparsity, String format, long seed) {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, seed);
+		if(DENSE.equals(format)) {
+			if(mb.isInSparseFormat())
+				mb.sparseToDense();
+			return mb;
+		}
+		if(!mb.isInSparseFormat())
+			mb.denseToSparse(false);
+		SparseBlock.Type type = SparseBlock.Type.valueOf(format);
+		return new MatrixBlock(mb, type, true);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of {@link LibMatrixMult} for matrix-matrix, matrix-vector and transpose-self matrix multiplication
+ * over dense and sparse left-hand-side inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+public class LibMatrixMultBench {
+
+	@Param({"1000"})
+	public int rows;
+
+	@Param({"1000"})
+	public int cols;
+
+	@Param({"1.0", "0.1", "0.01"})
+	public double sparsity;
+
+	@Param({"DENSE", "MCSR", "CSR", "DCSR"})
+	public String format;
+
+	@Param({"1", "16"})
+	public int k;
+
+	private MatrixBlock left;
+	private MatrixBlock right;
+	private MatrixBlock vector;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		left = BenchInputs.create(rows, cols, sparsity, format, 7);
+		right = BenchInputs.create(cols, 100, 1.0, BenchInputs.DENSE, 13);
+		vector = BenchInputs.create(cols, 1, 1.0, BenchInputs.DENSE, 42);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMatrix() {
+		return LibMatrixMult.matrixMult(left, right, k);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixVector() {
+		return LibMatrixMult.matrixMult(left, vector, k);
+	}
+
+	@Benchmark
+	public MatrixBlock tsmmLeft() {
+		MatrixBlock ret = new MatrixBlock(cols, cols, false);
+		LibMatrixMult.matrixMultTransposeSelf(left, ret, true, k);
+		return ret;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmlc;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.sysds.api.jmlc.Connection;
+import org.apache.sysds.api.jmlc.PreparedScript;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+
+/**
+ * Per-call latency (p50/p99) of JMLC scoring of small batches, with and 
+ * without low-latency execution mode.
+ */
+public class ScoringLatency {
+
+	private static final String SCRIPT = String.join("\n",
+		"predict = function(Matrix[Double] X, Matrix[Double] W1, Matrix[Double] b1,",
+		"  Matrix[Double] W2, Matrix[Double] b2) return (Matrix[Double] P) {",
+		"  H = max(X %*% W1 + b1, 0)",
+		"  P = exp(H %*% W2 + b2)",
+		"  P = P / rowSums(P)",
+		"}",
+		"X = read(\"./tmp/X\", data_type=\"matrix\")",
+		"W1 = read(\"./tmp/W1\", data_type=\"matrix\")",
+		"b1 = read(\"./tmp/b1\", data_type=\"matrix\")",
+		"W2 = read(\"./tmp/W2\", data_type=\"matrix\")",
+		"b2 = read(\"./tmp/b2\", data_type=\"matrix\")",
+		"P = predict(X, W1, b1, W2, b2)",
+		"write(P, \"./tmp/P\")");
+
+	private final int rows;
+	private final int cols;
+	private final int hidden;
+	private final int classes;
+	private final int N;
+
+	public ScoringLatency(int N, int rows, int cols, int hidden, int classes) {
+		this.N = N;
+		this.rows = rows;
+		this.cols = cols;
+		this.hidden = hidden;
+		this.classes = classes;
+	}
+
+	public void run() throws Exception {
+		run(false);
+		run(true);
+	}
+
+	private void run(boolean lowLatency) throws Exception {
+		try(Connection conn = new Connection()) {
+			conn.setLowLatency(lowLatency);
+			PreparedScript ps = conn.prepareScript(SCRIPT,
+				new String[] {"X", "W1", "b1", "W2", "b2"}, new String[] {"P"});
+			ps.setMatrix("W1", rand(cols, hidden, 1), true);
+			ps.setMatrix("b1", rand(1, hidden, 2), true);
+			ps.setMatrix("W2", rand(hidden, classes, 3), true);
+			ps.setMatrix("b2", rand(1, classes, 4), true);
+
+			double[][][] X = new double[16][][];
+			for(int i = 0; i < X.length; i++)
+				X[i] = TestUtils.generateTestMatrix(rows, cols, -1, 1, 1.0, i + 7);
+
+			// warmup (JIT, recompiled plans, pooled blocks)
+			for(int i = 0; i < N; i++)
+				ps.executeScript(Map.of("X", X[i % X.length])).getMatrixBlock("P");
+
+			double[] times = new double[N];
+			for(int i = 0; i < N; i++) {
+				long t0 = System.nanoTime();
+				ps.executeScript(Map.of("X", X[i % X.length])).getMatrixBlock("P");
+				times[i] = (System.nanoTime() - t0) / 1e3;
+			}
+			Arrays.sort(times);
+			System.out.println(String.format(
+				"JMLC scoring %-11s rows:%4d cols:%4d rep:%6d  p50:%9.1f us  p99:%9.1f us",
+				lowLatency ? "low-latency" : "default", rows, cols, N, percentile(times, 0.50),
+				percentile(times, 0.99)));
+		}
+	}
+
+	private static MatrixBlock rand(int rows, int cols, long seed) {
+		return MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", seed);
+	}
+
+	private static double percentile(double[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+
+	public static void main(String[] args) throws Exception {
+		int N = 10000;
+		int cols = 100;
+		int[] rows = {1, 10, 100};
+		if(args.length > 1) {
+			N = Integer.parseInt(args[1]);
+			cols = Integer.parseInt(args[2]);
+			rows = Arrays.stream(args).skip(3).mapToInt(Integer::parseInt).toArray();
+		}
+		for(int r : rows)
+			new ScoringLatency(N, r, cols, 64, 10).run();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedChannelPool;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedData;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedStatistics;
+import org.apache.sysds.runtime.controlprogram.federated.FederationUtils;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FedWorkerPipelined extends FedWorkerBase {
+
+	private static final int port = startWorker();
+	private final InetSocketAddress addr;
+	private boolean oldStats;
+
+	public FedWorkerPipelined() throws Exception {
+		super(port);
+		addr = new InetSocketAddress(InetAddress.getByName("localhost"), port);
+	}
+
+	@Before
+	public void setUp() {
+		oldStats = DMLScript.STATISTICS;
+		DMLScript.STATISTICS = true;
+		FederatedStatistics.reset();
+		ConfigurationManager.getDMLConfig().setTextValue(DMLConfig.FEDERATED_PIPELINING, "true");
+	}
+
+	@After
+	public void tearDown() {
+		ConfigurationManager.getDMLConfig().setTextValue(DMLConfig.FEDERATED_PIPELINING, "false");
+		FederatedChannelPool.close();
+		DMLScript.STATISTICS = oldStats;
+	}
+
+	@Test
+	public void testManyInFlightRequests() throws Exception {
+		final int n = 200;
+		final Random r = new Random(7);
+		final double[] vals = new double[n];
+		final long[] ids = new long[n];
+		List<Future<FederatedResponse>> puts = new ArrayList<>();
+		for(int i = 0; i < n; i++) {
+			vals[i] = r.nextDouble();
+			ids[i] = FederationUtils.getNextFedDataID();
+			puts.add(FederatedData.executeFederatedOperation(addr,
+				new FederatedRequest(RequestType.PUT_VAR, null, ids[i], new DoubleObject(vals[i]))));
+		}
+		for(Future<FederatedResponse> f : puts)
+			assertTrue(f.get(10, TimeUnit.SECONDS).isSuccessful());
+
+		// issue all gets before waiting, and match responses by request
+		List<Future<FederatedResponse>> gets = new ArrayList<>();
+		for(int i = 0; i < n; i++)
+			gets.add(FederatedData.executeFederatedOperation(addr, new FederatedRequest(RequestType.GET_VAR, ids[i])));
+		for(int i = 0; i < n; i++) {
+			ScalarObject so = (ScalarObject) gets.get(i).get(10, TimeUnit.SECONDS).getData()[0];
+			assertEquals(vals[i], so.getDoubleValue(), 0);
+		}
+
+		assertEquals(2 * n, FederatedStatistics.getPipelinedRequests());
+		assertEquals(2 * n, Arrays.stream(FederatedStatistics.getRequestLatencyHistogram()).sum());
+		assertTrue(FederatedStatistics.getRequestLatencyPercentile(0.99) > 0);
+	}
+
+	@Test
+	public void testDeferredCleanup() throws Exception {
+		final long id = putDouble(3.0);
+		FederatedRequest rm = new FederatedRequest(RequestType.EXEC_INST, -1,
+			VariableCPInstruction.prepareRemoveInstruction(id).toString());
+		FederatedChannelPool.deferCleanup(addr, rm);
+		assertEquals(0, FederatedStatistics.getBatchedCleanups());
+
+		// the next request to the worker carries the pending cleanup
+		final long id2 = putDouble(4.0);
+		assertEquals(1, FederatedStatistics.getBatchedCleanups());
+		assertEquals(4.0, getDouble(id2), 0);
+
+		// cleanup and subsequent requests have no ordering guarantees
+		boolean removed = false;
+		for(int i = 0; i < 100 && !removed; i++) {
+			removed = !FederatedData.executeFederatedOperation(addr, new FederatedRequest(RequestType.GET_VAR, id))
+				.get(10, TimeUnit.SECONDS).isSuccessful();
+			if(!removed)
+				Thread.sleep(50);
+		}
+		assertTrue(removed);
+		assertFalse(FederatedStatistics.displayFedRequestLatency().isEmpty());
+	}
+}
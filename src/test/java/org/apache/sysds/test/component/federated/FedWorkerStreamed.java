@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedStatistics;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class FedWorkerStreamed extends FedWorkerBase {
+
+	private static final String confS = "src/test/resources/component/federated/stream.xml";
+
+	private final MatrixBlock mb;
+	private final boolean pipelined;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		final ArrayList<Object[]> tests = new ArrayList<>();
+		final int port = startWorker(confS);
+		// parameterized runs may execute in parallel, so statistics are enabled but never reset
+		DMLScript.STATISTICS = true;
+		final MatrixBlock dense = TestUtils.generateTestMatrixBlock(2000, 100, -1, 1, 1.0, 13);
+		final MatrixBlock sparse = TestUtils.generateTestMatrixBlock(2000, 1000, -1, 1, 0.02, 13);
+		for(boolean pipelined : new boolean[] {false, true}) {
+			tests.add(new Object[] {port, dense, pipelined});
+			tests.add(new Object[] {port, sparse, pipelined});
+		}
+		return tests;
+	}
+
+	public FedWorkerStreamed(int port, MatrixBlock mb, boolean pipelined) {
+		super(port);
+		this.mb = mb;
+		this.pipelined = pipelined;
+	}
+
+	@Before
+	public void setUp() {
+		ConfigurationManager.getDMLConfig().setTextValue(DMLConfig.FEDERATED_PIPELINING, String.valueOf(pipelined));
+	}
+
+	@After
+	public void tearDown() {
+		ConfigurationManager.getDMLConfig().setTextValue(DMLConfig.FEDERATED_PIPELINING, "false");
+	}
+
+	@Test
+	public void verifyStreamedGetMatrixBlock() {
+		final long id = putMatrixBlock(mb);
+		final MatrixBlock mbr = getMatrixBlock(id);
+		TestUtils.compareMatricesBitAvgDistance(mb, mbr, 0, 0,
+			"Not equivalent matrix block returned from federated site");
+		assertTrue(mbr.getNonZeros() == mb.getNonZeros());
+		// the worker runs in the same process, so its statistics are visible here
+		assertTrue(FederatedStatistics.getStreamedResponses() > 0);
+		assertTrue(FederatedStatistics.getStreamedChunks() > 1);
+	}
+}
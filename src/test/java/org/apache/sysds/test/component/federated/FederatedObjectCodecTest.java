@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.controlprogram.federated.FederatedObjectDecoder;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedObjectEncoder;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedPipelinedMessage;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+@RunWith(value = Parameterized.class)
+public class FederatedObjectCodecTest {
+
+	private final MatrixBlock mb;
+	private final int chunk;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		final ArrayList<Object[]> tests = new ArrayList<>();
+		final MatrixBlock dense = TestUtils.generateTestMatrixBlock(500, 300, -1, 1, 1.0, 7);
+		final MatrixBlock sparse = TestUtils.generateTestMatrixBlock(500, 300, -1, 1, 0.01, 7);
+		tests.add(new Object[] {dense, Integer.MAX_VALUE});
+		tests.add(new Object[] {dense, 4096});
+		tests.add(new Object[] {sparse, Integer.MAX_VALUE});
+		tests.add(new Object[] {sparse, 1000});
+		tests.add(new Object[] {new MatrixBlock(10, 10, true), 7});
+		return tests;
+	}
+
+	public FederatedObjectCodecTest(MatrixBlock mb, int chunk) {
+		this.mb = mb;
+		this.chunk = chunk;
+	}
+
+	@Test
+	public void testResponseRoundtrip() throws Exception {
+		FederatedResponse res = (FederatedResponse) roundtrip(
+			new FederatedResponse(ResponseType.SUCCESS, new Object[] {mb, 3L, mb}));
+		assertTrue(res.isSuccessful());
+		Object[] data = res.getData();
+		compare(mb, (MatrixBlock) data[0]);
+		assertEquals(3L, data[1]);
+		// identical objects remain shared after decoding
+		assertTrue(data[0] == data[2]);
+	}
+
+	@Test
+	public void testPipelinedRequestsRoundtrip() throws Exception {
+		MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(3, 4, 0, 1, 1.0, 3);
+		FederatedRequest[] reqs = new FederatedRequest[] {
+			new FederatedRequest(RequestType.PUT_VAR, null, 1, mb),
+			new FederatedRequest(RequestType.GET_VAR, 2),
+			new FederatedRequest(RequestType.PUT_VAR, null, 3, mb2)};
+		FederatedPipelinedMessage msg = (FederatedPipelinedMessage) roundtrip(new FederatedPipelinedMessage(42, reqs));
+		assertEquals(42, msg.getSeq());
+		FederatedRequest[] out = (FederatedRequest[]) msg.getPayload();
+		assertEquals(3, out.length);
+		compare(mb, (MatrixBlock) out[0].getParam(0));
+		assertEquals(2, out[1].getID());
+		compare(mb2, (MatrixBlock) out[2].getParam(0));
+	}
+
+	private Object roundtrip(Object msg) {
+		EmbeddedChannel enc = new EmbeddedChannel(new FederatedObjectEncoder());
+		assertTrue(enc.writeOutbound(msg));
+		ByteBuf frame = enc.readOutbound();
+		assertFalse(enc.finish());
+
+		// feed the frame in chunks to exercise the cumulation of partial frames
+		EmbeddedChannel dec = new EmbeddedChannel(new FederatedObjectDecoder());
+		while(frame.isReadable()) {
+			int len = Math.min(chunk, frame.readableBytes());
+			dec.writeInbound(Unpooled.copiedBuffer(frame.readSlice(len)));
+		}
+		frame.release();
+		Object ret = dec.readInbound();
+		assertFalse(dec.finish());
+		return ret;
+	}
+
+	private static void compare(MatrixBlock expected, MatrixBlock actual) {
+		assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		TestUtils.compareMatricesBitAvgDistance(expected, actual, 0, 0, "Not equivalent matrix block after decoding");
+	}
+}
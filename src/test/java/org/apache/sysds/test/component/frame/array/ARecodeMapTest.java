@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.test.component.frame.array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.sysds.runtime.frame.data.columns.ARecodeMap;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.junit.Test;
+
+public class ARecodeMapTest {
+
+	@Test
+	public void doubleKeys() {
+		double[] v = new double[1000];
+		Random r = new Random(7);
+		for(int i = 0; i < v.length; i++)
+			v[i] = r.nextInt(50) / 4.0;
+		v[3] = -0.0;
+		v[4] = 0.0;
+		v[5] = Double.NaN;
+		compare(ArrayFactory.create(v));
+	}
+
+	@Test
+	public void floatKeys() {
+		float[] v = new float[1000];
+		Random r = new Random(7);
+		for(int i = 0; i < v.length; i++)
+			v[i] = r.nextInt(50) / 3.0f;
+		v[5] = Float.NaN;
+		compare(ArrayFactory.create(v));
+	}
+
+	@Test
+	public void longKeys() {
+		long[] v = new long[1000];
+		Random r = new Random(7);
+		for(int i = 0; i < v.length; i++)
+			v[i] = r.nextInt(100) * 1000000007L - 5;
+		v[0] = Long.MIN_VALUE;
+		compare(ArrayFactory.create(v));
+	}
+
+	@Test
+	public void integerKeys() {
+		int[] v = new int[10000];
+		Random r = new Random(7);
+		for(int i = 0; i < v.length; i++)
+			v[i] = r.nextInt(5000) - 2500;
+		compare(ArrayFactory.create(v));
+	}
+
+	@Test
+	public void stringKeys() {
+		String[] v = new String[1000];
+		Random r = new Random(7);
+		for(int i = 0; i < v.length; i++)
+			v[i] = i % 17 == 0 ? null : i % 13 == 0 ? "" : "v" + r.nextInt(200);
+		compare(ArrayFactory.create(v));
+	}
+
+	@Test
+	public void ddcStringKeys() {
+		String[] v = new String[1000];
+		for(int i = 0; i < v.length; i++)
+			v[i] = "v" + ((i * 7) % 11);
+		Array<String> a = DDCArray.compressToDDC(ArrayFactory.create(v));
+		assertTrue(a instanceof DDCArray);
+		compare(a);
+	}
+
+	@Test
+	public void ddcDoubleKeys() {
+		double[] v = new double[1000];
+		for(int i = 0; i < v.length; i++)
+			v[i] = (i * 3) % 7;
+		Array<Double> a = DDCArray.compressToDDC(ArrayFactory.create(v));
+		assertTrue(a instanceof DDCArray);
+		compare(a);
+	}
+
+	@Test
+	public void unsupported() {
+		assertNull(ARecodeMap.create(ArrayFactory.create(new boolean[] {true, false}), 0, 2));
+	}
+
+	@Test
+	public void growAndGet() {
+		int[] v = new int[100000];
+		for(int i = 0; i < v.length; i++)
+			v[i] = i * 31;
+		ARecodeMap m = ARecodeMap.create(ArrayFactory.create(v), 0, v.length);
+		assertEquals(v.length, m.size());
+		for(int i = 0; i < v.length; i += 997)
+			assertEquals(Integer.toString(i * 31), m.getKeyString(i + 1));
+	}
+
+	private static void compare(Array<?> a) {
+		// expected codes in order of first occurrence of the string representation
+		Map<String, Integer> expected = new LinkedHashMap<>();
+		for(int i = 0; i < a.size(); i++) {
+			Object o = a.get(i);
+			String s = o == null ? null : o.toString();
+			if(s != null && !s.isEmpty())
+				expected.putIfAbsent(s, expected.size() + 1);
+		}
+
+		ARecodeMap m = ARecodeMap.create(a, 0, a.size());
+		assertCodes(expected, m);
+
+		// partial maps merged in row order yield the same codes
+		List<ARecodeMap> parts = new ArrayList<>();
+		for(int rl = 0; rl < a.size(); rl += 300)
+			parts.add(ARecodeMap.create(a, rl, Math.min(rl + 300, a.size())));
+		ARecodeMap merged = parts.get(0);
+		for(int i = 1; i < parts.size(); i++) {
+			assertTrue(merged.isMergeable(parts.get(i)));
+			merged.merge(parts.get(i));
+		}
+		assertCodes(expected, merged);
+	}
+
+	private static void assertCodes(Map<String, Integer> expected, ARecodeMap m) {
+		assertEquals(expected.size(), m.size());
+		for(Map.Entry<String, Integer> e : expected.entrySet())
+			assertEquals(e.getKey(), m.getKeyString(e.getValue()));
+	}
+}
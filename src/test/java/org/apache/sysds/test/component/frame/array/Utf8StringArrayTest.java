@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.array;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.frame.data.columns.Utf8StringArray;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class Utf8StringArrayTest {
+
+	private static String[] generate(int n, int distinct, long seed) {
+		String[] v = new String[n];
+		Random r = new Random(seed);
+		for(int i = 0; i < n; i++)
+			v[i] = i % 17 == 0 ? null : i % 23 == 0 ? "" : (i % 5 == 0 ? "ä€" : "v") + r.nextInt(distinct);
+		return v;
+	}
+
+	@Test
+	public void roundTrip() {
+		String[] v = generate(1000, 100, 7);
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		assertEquals(v.length, a.size());
+		assertArrayEquals(v, a.get());
+		assertEquals(ValueType.STRING, a.getValueType());
+		assertTrue(a.containsNull());
+		assertTrue(a.getInMemorySize() < new StringArray(v).getInMemorySize() / 2);
+	}
+
+	@Test
+	public void setOverwriteAndCompact() {
+		String[] v = generate(1000, 100, 7);
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		Random r = new Random(3);
+		for(int k = 0; k < 20000; k++) {
+			int i = r.nextInt(v.length);
+			v[i] = k % 7 == 0 ? null : "value" + r.nextInt(1000000);
+			a.set(i, v[i]);
+		}
+		assertArrayEquals(v, a.get());
+		a.append("ü");
+		assertEquals("ü", a.get(v.length));
+	}
+
+	@Test
+	public void sliceSelectAppend() {
+		String[] v = generate(500, 50, 11);
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		Array<String> s = a.slice(100, 200);
+		for(int i = 0; i < 100; i++)
+			assertEquals(v[i + 100], s.get(i));
+		Array<String> sel = a.select(new int[] {3, 17, 5});
+		assertEquals(v[3], sel.get(0));
+		assertNull(sel.get(1));
+		assertEquals(v[5], sel.get(2));
+		Array<String> app = a.append(new StringArray(new String[] {"x", null}));
+		assertEquals(502, app.size());
+		assertEquals("x", app.get(500));
+		assertNull(app.get(501));
+		assertEquals(v[499], app.get(499));
+	}
+
+	@Test
+	public void changeType() {
+		String[] v = new String[] {"1.5", null, "-3", "4e2"};
+		Array<?> d = ArrayFactory.createUtf8(v).changeType(ValueType.FP64);
+		assertEquals(1.5, (double) (Double) d.get(0), 0.0);
+		assertEquals(-3, (double) (Double) d.get(2), 0.0);
+		assertEquals(400, (double) (Double) d.get(3), 0.0);
+		Array<?> s = ArrayFactory.create(new double[] {1, 2}).changeType(ValueType.STRING);
+		assertEquals("1.0", ArrayFactory.createUtf8((String[]) s.get()).get(0));
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		String[] v = generate(1000, 100, 7);
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		a.set(3, "overwritten");
+		Array<?> back = serialize(a, v.length);
+		assertTrue(back instanceof Utf8StringArray);
+		assertTrue(a.equals(back));
+	}
+
+	@Test
+	public void ddcDictionary() throws IOException {
+		String[] v = generate(1000, 10, 7);
+		FrameBlock fb = new FrameBlock(new Array<?>[] {ArrayFactory.create(v), ArrayFactory.create(generate(1000, 1000000, 3))});
+		FrameReader.encodeStringColumns(fb);
+		assertTrue(fb.getColumn(0) instanceof DDCArray);
+		assertTrue(((DDCArray<?>) fb.getColumn(0)).getDict() instanceof Utf8StringArray);
+		assertTrue(fb.getColumn(1) instanceof Utf8StringArray);
+		for(int i = 0; i < v.length; i++)
+			assertEquals(v[i], fb.getColumn(0).get(i));
+
+		// frame block serialization keeps the encoded columns
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		fb.write(new DataOutputStream(bos));
+		FrameBlock back = new FrameBlock();
+		back.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		assertTrue(back.getColumn(1) instanceof Utf8StringArray);
+		TestUtils.compareFrames(fb, back, true);
+	}
+
+	@Test
+	public void transformEncode() {
+		String[] c1 = generate(2000, 30, 7);
+		String[] c2 = generate(2000, 30, 9);
+		FrameBlock plain = new FrameBlock(new Array<?>[] {ArrayFactory.create(c1), ArrayFactory.create(c2)});
+		FrameBlock utf8 = new FrameBlock(new Array<?>[] {ArrayFactory.createUtf8(c1), ArrayFactory.createUtf8(c2)});
+		String spec = "{ids:true, recode:[1], dummycode:[2]}";
+		MultiColumnEncoder e1 = EncoderFactory.createEncoder(spec, plain.getColumnNames(), 2, null);
+		MultiColumnEncoder e2 = EncoderFactory.createEncoder(spec, utf8.getColumnNames(), 2, null);
+		MatrixBlock o1 = e1.encode(plain, 1);
+		MatrixBlock o2 = e2.encode(utf8, 1);
+		TestUtils.compareMatrices(o1, o2, 0, "Not Equal after encode");
+		TestUtils.compareMatrices(o1, e2.apply(utf8, 1), 0, "Not Equal after apply");
+	}
+
+	@Test
+	public void byteLevelHashAndEquals() {
+		String[] v = new String[] {"", "abc", "ä€", "x\uD83D\uDE00y", "\uD83D\uDE00"};
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		for(int i = 0; i < v.length; i++) {
+			assertEquals(v[i].hashCode(), a.stringHash(i));
+			for(int j = 0; j < v.length; j++)
+				assertEquals(i == j, a.contentEquals(i, v[j]));
+			assertFalse(a.contentEquals(i, v[i] + "z"));
+		}
+		assertFalse(a.contentEquals(1, "ab"));
+	}
+
+	@Test
+	public void concurrentReadsDuringCompaction() throws Exception {
+		final int n = 2000;
+		String[] v = generate(n, 100, 7);
+		Utf8StringArray a = ArrayFactory.createUtf8(v);
+		AtomicBoolean failed = new AtomicBoolean(false);
+		Thread writer = new Thread(() -> {
+			// overwrite the first half with growing values, which repeatedly compacts the buffer
+			for(int k = 0; k < 200000; k++)
+				a.set(k % (n / 2), "overwritten" + k);
+		});
+		writer.start();
+		while(writer.isAlive())
+			for(int i = n / 2; i < n; i++)
+				if(!Objects.equals(v[i], a.get(i)))
+					failed.set(true);
+		writer.join();
+		assertFalse(failed.get());
+	}
+
+	@Test
+	public void readCsvIntoUtf8Buffers() throws IOException {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String flag = conf.getTextValue(DMLConfig.FRAME_UTF8_STRINGS);
+		try {
+			conf.setTextValue(DMLConfig.FRAME_UTF8_STRINGS, "true");
+			String csv = "a,1.5\nbc,2\nd,3\n";
+			FrameBlock fb = new FrameReaderTextCSV(new FileFormatPropertiesCSV()).readFrameFromInputStream(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+				new ValueType[] {ValueType.STRING, ValueType.FP64}, 3, 2);
+			assertTrue(fb.getColumn(0) instanceof Utf8StringArray);
+			assertEquals("bc", fb.get(1, 0));
+			assertEquals(3.0, (double) (Double) fb.get(2, 1), 0.0);
+		}
+		finally {
+			conf.setTextValue(DMLConfig.FRAME_UTF8_STRINGS, flag);
+		}
+	}
+
+	private static Array<?> serialize(Array<?> a, int nRow) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		a.write(new DataOutputStream(bos));
+		assertEquals(a.getExactSerializedSize(), bos.size());
+		return ArrayFactory.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())), nRow);
+	}
+}
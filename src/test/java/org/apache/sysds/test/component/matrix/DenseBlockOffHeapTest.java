@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.ByteBuffer;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
+import org.apache.sysds.runtime.data.DenseBlockOffHeap;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class DenseBlockOffHeapTest {
+
+	@Test
+	public void testSetGetFP64() {
+		DenseBlock db = create(ValueType.FP64, 7, 5);
+		db.set(3, 4, 1.5);
+		db.incr(3, 4, 2);
+		db.set(new int[] {6, 0}, 7);
+		assertEquals(3.5, db.get(3, 4), 0);
+		assertEquals(7, db.get(6, 0), 0);
+		assertEquals(2, db.countNonZeros());
+		assertEquals(1, db.countNonZeros(3));
+	}
+
+	@Test
+	public void testSetGetFP32() {
+		DenseBlock db = create(ValueType.FP32, 7, 5);
+		db.set(2, 1, 0.25);
+		db.fillRow(5, 3);
+		assertEquals(0.25, db.get(2, 1), 0);
+		assertEquals(3, db.get(5, 4), 0);
+		assertEquals(3, ((DenseBlockOffHeap) db).copyRow(5, new double[5], 0)[4], 0);
+		assertEquals(6, db.countNonZeros());
+	}
+
+	@Test(expected = DMLRuntimeException.class)
+	public void testValuesFailLoudly() {
+		//row arrays would be copies, so writes through them would be lost
+		create(ValueType.FP64, 7, 5).values(3)[0] = 1;
+	}
+
+	@Test(expected = DMLRuntimeException.class)
+	public void testValuesAtFailLoudly() {
+		create(ValueType.FP64, 7, 5).valuesAt(0);
+	}
+
+	@Test
+	public void testCopyFromToHeap() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(123, 17, -1, 1, 1.0, 7);
+		DenseBlock off = create(ValueType.FP64, 123, 17).set(mb.getDenseBlock());
+		assertEquals(DenseBlock.Type.OFFHEAP, DenseBlockFactory.getDenseBlockType(off));
+		for(int i = 0; i < 123; i++)
+			for(int j = 0; j < 17; j++)
+				assertEquals(mb.get(i, j), off.get(i, j), 0);
+
+		MatrixBlock ret = new MatrixBlock(123, 17, false);
+		ret.allocateDenseBlock();
+		((DenseBlockOffHeap) off).copyTo(ret.getDenseBlock());
+		ret.recomputeNonZeros();
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+
+	@Test
+	public void testSetRange() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(4, 3, 1, 2, 1.0, 3);
+		DenseBlock off = create(ValueType.FP64, 10, 10);
+		off.set(2, 6, 5, 8, mb.getDenseBlock());
+		assertEquals(12, off.countNonZeros());
+		assertEquals(mb.get(1, 2), off.get(3, 7), 0);
+		assertEquals(0, off.get(3, 8), 0);
+	}
+
+	@Test
+	public void testMatrixBlockSerialization() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 30, -1, 1, 1.0, 11);
+		MatrixBlock off = new MatrixBlock(100, 30, create(ValueType.FP64, 100, 30).set(mb.getDenseBlock()));
+		off.setNonZeros(mb.getNonZeros());
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		off.write(new DataOutputStream(bos));
+		MatrixBlock in = new MatrixBlock();
+		in.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		TestUtils.compareMatrices(mb, in, 0);
+	}
+
+	@Test
+	public void testBufferPoolOffHeap() throws Exception {
+		boolean flag = CacheableData.CACHING_OFFHEAP_DENSE;
+		try {
+			CacheableData.CACHING_OFFHEAP_DENSE = true;
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(200, 50, -1, 1, 1.0, 13);
+			ByteBuffer bb = new ByteBuffer(mb.getInMemorySize(), true);
+			bb.serializeBlock(mb);
+			assertTrue(bb.isShallow() && bb.isOffHeap());
+			MatrixBlock ret = (MatrixBlock) bb.deserializeBlock();
+			assertTrue(!(ret.getDenseBlock() instanceof DenseBlockOffHeap));
+			TestUtils.compareMatrices(mb, ret, 0);
+		}
+		finally {
+			CacheableData.CACHING_OFFHEAP_DENSE = flag;
+		}
+	}
+
+	@Test
+	public void testBufferPoolOffHeapAccounting() throws Exception {
+		boolean flag = CacheableData.CACHING_OFFHEAP_DENSE;
+		File dir = Files.createTempDirectory("offheap").toFile();
+		try {
+			CacheableData.CACHING_OFFHEAP_DENSE = true;
+			LazyWriteBuffer.init();
+			MatrixBlock mb1 = TestUtils.generateTestMatrixBlock(200, 50, -1, 1, 1.0, 13);
+			MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(200, 50, -1, 1, 1.0, 14);
+			long size = LazyWriteBuffer.getCacheBlockSize(mb1);
+			LazyWriteBuffer.setWriteBufferLimit(size + size / 2);
+			//first block fits the heap buffer, the second one is staged off-heap
+			//instead of evicting the first one, and not charged to the heap limit
+			assertEquals(0, LazyWriteBuffer.writeBlock(new File(dir, "b1").getPath(), mb1));
+			assertEquals(0, LazyWriteBuffer.writeBlock(new File(dir, "b2").getPath(), mb2));
+			assertEquals(size, LazyWriteBuffer.getWriteBufferSize());
+			assertEquals(size, LazyWriteBuffer.getOffHeapBufferSize());
+			TestUtils.compareMatrices(mb2, (MatrixBlock) LazyWriteBuffer.readBlock(new File(dir, "b2").getPath(), true), 0);
+			LazyWriteBuffer.deleteBlock(new File(dir, "b2").getPath());
+			assertEquals(0, LazyWriteBuffer.getOffHeapBufferSize());
+		}
+		finally {
+			LazyWriteBuffer.cleanup();
+			CacheableData.CACHING_OFFHEAP_DENSE = flag;
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+
+	private static DenseBlock create(ValueType vt, int rows, int cols) {
+		return DenseBlockFactory.createDenseBlock(vt, DenseBlock.Type.OFFHEAP, new int[] {rows, cols}, false);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.data.DenseBlockLDRB;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class MappedBlockLocalFileTest {
+
+	@Test
+	public void testDenseRoundTrip() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 37, -1, 1, 0.9, 7);
+		MatrixBlock ret = writeAndRead(mb);
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+
+	@Test
+	public void testDenseRoundTripMultiBlock() throws IOException {
+		int maxAlloc = DenseBlockLDRB.MAX_ALLOC;
+		try {
+			//force mappings of many small row blocks
+			DenseBlockLDRB.MAX_ALLOC = 8 * 37 * 64;
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 37, -1, 1, 1.0, 3);
+			TestUtils.compareMatrices(mb, writeAndRead(mb), 0);
+		}
+		finally {
+			DenseBlockLDRB.MAX_ALLOC = maxAlloc;
+		}
+	}
+
+	@Test
+	public void testSerializedFileNotMapped() throws IOException {
+		File f = File.createTempFile("mmap", CacheableData.CACHING_EVICTION_FILEEXTENSION);
+		try {
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 10, -1, 1, 1.0, 7);
+			LocalFileUtils.writeMatrixBlockToLocal(f.getAbsolutePath(), mb);
+			assertNull(LocalFileUtils.readMatrixBlockFromLocalMapped(f.getAbsolutePath()));
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testBigEndianHeader() throws IOException {
+		File f = File.createTempFile("mmap", CacheableData.CACHING_EVICTION_FILEEXTENSION);
+		try {
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(300, 20, -1, 1, 1.0, 7);
+			LocalFileUtils.writeMatrixBlockToLocalMapped(f.getAbsolutePath(), mb);
+			//same byte order as the leading row count of serialized blocks
+			try(DataInputStream in = new DataInputStream(new FileInputStream(f))) {
+				assertEquals(LocalFileUtils.MMAP_MAGIC, in.readInt());
+				assertEquals(300, in.readInt());
+				assertEquals(20, in.readInt());
+			}
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testCacheBlockDispatch() throws IOException {
+		boolean mmap = CacheableData.CACHING_MMAP_DENSE;
+		File f1 = File.createTempFile("mmap", CacheableData.CACHING_EVICTION_FILEEXTENSION);
+		File f2 = File.createTempFile("mmap", CacheableData.CACHING_EVICTION_FILEEXTENSION);
+		try {
+			CacheableData.CACHING_MMAP_DENSE = true;
+			MatrixBlock dense = TestUtils.generateTestMatrixBlock(500, 50, -1, 1, 1.0, 7);
+			MatrixBlock sparse = TestUtils.generateTestMatrixBlock(500, 50, -1, 1, 0.01, 7);
+			LocalFileUtils.writeCacheBlockToLocal(f1.getAbsolutePath(), dense);
+			LocalFileUtils.writeCacheBlockToLocal(f2.getAbsolutePath(), sparse);
+			assertEquals(LocalFileUtils.MMAP_HEADER_SIZE + 500 * 50 * 8, f1.length());
+			MatrixBlock ret1 = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(f1.getAbsolutePath(), true);
+			MatrixBlock ret2 = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(f2.getAbsolutePath(), true);
+			TestUtils.compareMatrices(dense, ret1, 0);
+			TestUtils.compareMatrices(sparse, ret2, 0);
+			assertTrue(ret2.isInSparseFormat());
+		}
+		finally {
+			CacheableData.CACHING_MMAP_DENSE = mmap;
+			f1.delete();
+			f2.delete();
+		}
+	}
+
+	private static MatrixBlock writeAndRead(MatrixBlock mb) throws IOException {
+		File f = File.createTempFile("mmap", CacheableData.CACHING_EVICTION_FILEEXTENSION);
+		try {
+			LocalFileUtils.writeMatrixBlockToLocalMapped(f.getAbsolutePath(), mb);
+			return LocalFileUtils.readMatrixBlockFromLocalMapped(f.getAbsolutePath());
+		}
+		finally {
+			f.delete();
+		}
+	}
+}
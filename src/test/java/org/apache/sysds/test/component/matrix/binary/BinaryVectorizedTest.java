@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix.binary;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.sysds.runtime.functionobjects.Builtin;
+import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysds.runtime.functionobjects.Divide;
+import org.apache.sysds.runtime.functionobjects.Minus;
+import org.apache.sysds.runtime.functionobjects.Multiply;
+import org.apache.sysds.runtime.functionobjects.Plus;
+import org.apache.sysds.runtime.functionobjects.ValueFunction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.LeftScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Compares the SIMD kernels of dense cellwise operations against the scalar value functions, incl special values
+ * and row lengths that are not a multiple of the vector length.
+ */
+@RunWith(value = Parameterized.class)
+public class BinaryVectorizedTest {
+
+	private final ValueFunction fn;
+	private final int cols;
+
+	public BinaryVectorizedTest(String name, ValueFunction fn, int cols) {
+		this.fn = fn;
+		this.cols = cols;
+	}
+
+	@Parameters(name = "{0}-{2}")
+	public static Collection<Object[]> data() {
+		List<Object[]> tests = new ArrayList<>();
+		ValueFunction[] fns = {Plus.getPlusFnObject(), Minus.getMinusFnObject(), Multiply.getMultiplyFnObject(),
+			Divide.getDivideFnObject(), Builtin.getBuiltinFnObject(BuiltinCode.MIN),
+			Builtin.getBuiltinFnObject(BuiltinCode.MAX)};
+		for(ValueFunction fn : fns)
+			for(int cols : new int[] {1, 7, 64, 131})
+				tests.add(new Object[] {fn.getClass().getSimpleName(), fn, cols});
+		return tests;
+	}
+
+	@Test
+	public void testMatrixMatrix() {
+		MatrixBlock a = create(11);
+		MatrixBlock b = create(13);
+		MatrixBlock ret = a.binaryOperations(new BinaryOperator(fn), b, new MatrixBlock());
+		compare(ret, a, b, false);
+	}
+
+	@Test
+	public void testMatrixRowVector() {
+		MatrixBlock a = create(11);
+		MatrixBlock b = TestUtils.generateTestMatrixBlock(1, cols, -3, 3, 1.0, 17);
+		MatrixBlock ret = a.binaryOperations(new BinaryOperator(fn), b, new MatrixBlock());
+		compare(ret, a, b, true);
+	}
+
+	@Test
+	public void testMatrixScalarRight() {
+		MatrixBlock a = create(11);
+		MatrixBlock ret = a.scalarOperations(new RightScalarOperator(fn, 2.5), new MatrixBlock());
+		for(int i = 0; i < a.getNumRows(); i++)
+			for(int j = 0; j < cols; j++)
+				assertEquals(fn.execute(a.get(i, j), 2.5), ret.get(i, j), 0);
+		assertEquals(ret.recomputeNonZeros(), ret.getNonZeros());
+	}
+
+	@Test
+	public void testMatrixScalarLeft() {
+		MatrixBlock a = create(11);
+		MatrixBlock ret = a.scalarOperations(new LeftScalarOperator(fn, 2.5), new MatrixBlock());
+		for(int i = 0; i < a.getNumRows(); i++)
+			for(int j = 0; j < cols; j++)
+				assertEquals(fn.execute(2.5, a.get(i, j)), ret.get(i, j), 0);
+		assertEquals(ret.recomputeNonZeros(), ret.getNonZeros());
+	}
+
+	private MatrixBlock create(int seed) {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(37, cols, -3, 3, 0.9, seed);
+		//special values, incl zeros for the nnz maintenance
+		mb.set(0, 0, Double.NaN);
+		mb.set(1, cols - 1, -0.0);
+		mb.set(2, 0, Double.POSITIVE_INFINITY);
+		mb.set(3, cols / 2, 0);
+		return mb;
+	}
+
+	private void compare(MatrixBlock ret, MatrixBlock a, MatrixBlock b, boolean rowVector) {
+		for(int i = 0; i < a.getNumRows(); i++)
+			for(int j = 0; j < cols; j++)
+				assertEquals(fn.execute(a.get(i, j), b.get(rowVector ? 0 : i, j)), ret.get(i, j), 0);
+		assertEquals(ret.recomputeNonZeros(), ret.getNonZeros());
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.controlprogram.caching.CacheDataOutput;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.io.BlockCodec;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlockCodecTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testZeros() throws Exception {
+		byte[] data = new byte[100000];
+		assertTrue(roundtrip(data) < data.length / 100);
+	}
+
+	@Test
+	public void testRandomBytesRaw() throws Exception {
+		byte[] data = new byte[100000];
+		new Random(7).nextBytes(data);
+		assertEquals(data.length + BlockCodec.HEADER_SIZE, roundtrip(data));
+	}
+
+	@Test
+	public void testSmallRaw() throws Exception {
+		byte[] data = new byte[BlockCodec.MIN_SIZE - 1];
+		assertEquals(data.length + BlockCodec.HEADER_SIZE, roundtrip(data));
+	}
+
+	@Test
+	public void testRepeatedPattern() throws Exception {
+		byte[] data = new byte[77777];
+		for(int i = 0; i < data.length; i++)
+			data[i] = (byte) (i % 3 + i / 5000);
+		assertTrue(roundtrip(data) < data.length / 10);
+	}
+
+	@Test
+	public void testLowCardinalityDense() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(500, 100, 0, 9, 1.0, 7));
+		assertTrue(roundtrip(serialize(mb)) < mb.getExactSerializedSize() / 2);
+	}
+
+	@Test
+	public void testSparse() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 1000, 0, 9, 0.01, 7));
+		roundtrip(serialize(mb));
+	}
+
+	@Test
+	public void testBlockMultipleChunks() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 300, 0, 9, 1.0, 5));
+		assertTrue(mb.getExactSerializedSize() > 2 * BlockCodec.CHUNK_SIZE);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		long len = BlockCodec.writeBlock(new DataOutputStream(bos), mb);
+		assertEquals(len, bos.size());
+		assertTrue(len < mb.getExactSerializedSize() / 2);
+		byte[] ret = BlockCodec.readBlock(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		assertArrayEquals(serialize(mb), ret);
+	}
+
+	@Test
+	public void testEmptyBlock() throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		BlockCodec.writeBlock(new DataOutputStream(bos), new byte[0], 0);
+		byte[] ret = BlockCodec.readBlock(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		assertEquals(0, ret.length);
+	}
+
+	@Test
+	public void testSpillFileEncoded() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 100, 0, 9, 1.0, 3));
+		File file = folder.newFile("spill.dat");
+		boolean flag = CacheableData.CACHING_SPILL_CODEC;
+		try {
+			CacheableData.CACHING_SPILL_CODEC = true;
+			LocalFileUtils.writeCacheBlockToLocal(file.getPath(), mb);
+			assertTrue(file.length() < mb.getExactSerializedSize() / 2);
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(file.getPath(), true);
+			TestUtils.compareMatrices(mb, ret, 0);
+		}
+		finally {
+			CacheableData.CACHING_SPILL_CODEC = flag;
+		}
+	}
+
+	@Test
+	public void testBinaryBlockAdaptiveCodec() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(2500, 1500, 0, 9, 0.7, 11));
+		String fname = new File(folder.getRoot(), "X.bin").getPath();
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String codec = conf.getTextValue(DMLConfig.IO_COMPRESSION_CODEC);
+		try {
+			conf.setTextValue(DMLConfig.IO_COMPRESSION_CODEC, "Adaptive");
+			MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY)
+				.writeMatrixToHDFS(mb, fname, 2500, 1500, 1000, mb.getNonZeros());
+			assertTrue(FileUtils.sizeOf(new File(fname)) < mb.getExactSerializedSize() / 2);
+			MatrixBlock ret = MatrixReaderFactory.createMatrixReader(FileFormat.BINARY)
+				.readMatrixFromHDFS(fname, 2500, 1500, 1000, mb.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, 0);
+		}
+		finally {
+			conf.setTextValue(DMLConfig.IO_COMPRESSION_CODEC, codec);
+		}
+	}
+
+	private static byte[] serialize(MatrixBlock mb) throws Exception {
+		byte[] ret = new byte[(int) mb.getExactSerializedSize()];
+		mb.write(new CacheDataOutput(ret));
+		return ret;
+	}
+
+	private static int roundtrip(byte[] data) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		int len = BlockCodec.write(new DataOutputStream(bos), data, data.length);
+		assertEquals(len, bos.size());
+		byte[] ret = BlockCodec.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		assertArrayEquals(data, ret);
+		return len;
+	}
+}
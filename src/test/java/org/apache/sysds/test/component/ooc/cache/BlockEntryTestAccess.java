@@ -31,6 +31,7 @@ final class BlockEntryTestAccess {
 	private static final Method GET_DATA_UNSAFE;
 	private static final Method SET_DATA_UNSAFE;
 	private static final Method SET_STATE;
+	private static final Method RECORD_ACCESS;
 
 	static {
 		try {
@@ -45,6 +46,9 @@ final class BlockEntryTestAccess {
 
 			SET_STATE = BlockEntry.class.getDeclaredMethod("setState", BlockState.class);
 			SET_STATE.setAccessible(true);
+
+			RECORD_ACCESS = BlockEntry.class.getDeclaredMethod("recordAccess");
+			RECORD_ACCESS.setAccessible(true);
 		}
 		catch(ReflectiveOperationException e) {
 			throw new ExceptionInInitializerError(e);
@@ -90,4 +94,14 @@ final class BlockEntryTestAccess {
 			throw new RuntimeException("Failed to call BlockEntry#setState via reflection", e);
 		}
 	}
+
+	static void recordAccess(BlockEntry entry, int times) {
+		try {
+			for(int i = 0; i < times; i++)
+				RECORD_ACCESS.invoke(entry);
+		}
+		catch(ReflectiveOperationException e) {
+			throw new RuntimeException("Failed to call BlockEntry#recordAccess via reflection", e);
+		}
+	}
 }
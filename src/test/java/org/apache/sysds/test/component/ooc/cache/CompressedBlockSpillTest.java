@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.ooc.cache;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.ooc.cache.BlockEntry;
+import org.apache.sysds.runtime.ooc.cache.BlockKey;
+import org.apache.sysds.runtime.ooc.cache.BlockState;
+import org.apache.sysds.runtime.ooc.cache.OOCBlockCompressor;
+import org.apache.sysds.runtime.ooc.cache.OOCLRUCacheScheduler;
+import org.apache.sysds.runtime.ooc.cache.OOCMatrixIOHandler;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+public class CompressedBlockSpillTest {
+	private static final int BLEN = 1000;
+	private static final int NUM_BLOCKS = 4;
+	private static final long WAIT_TIMEOUT_SEC = 10;
+
+	private OOCMatrixIOHandler _handler;
+	private OOCLRUCacheScheduler _scheduler;
+
+	@Before
+	public void setUp() {
+		_handler = new OOCMatrixIOHandler();
+		// evict all unpinned blocks
+		_scheduler = new OOCLRUCacheScheduler(_handler, 0, Long.MAX_VALUE, 40000000);
+	}
+
+	@After
+	public void tearDown() {
+		if(_scheduler != null)
+			_scheduler.shutdown();
+		if(_handler != null)
+			_handler.shutdown();
+	}
+
+	@Test
+	public void testLowCardinalityBlocksCompressed() {
+		OOCBlockCompressor compressor = new OOCBlockCompressor();
+		MatrixBlock mb = createBlock(BLEN, 100, 4, 7);
+		IndexedMatrixValue imv = compressor.compress(new IndexedMatrixValue(new MatrixIndexes(1, 1), mb));
+		Assert.assertTrue(imv.getValue() instanceof CompressedMatrixBlock);
+		Assert.assertTrue(OOCBlockCompressor.getCacheSize(imv.getValue()) < mb.getExactSerializedSize());
+		TestUtils.compareMatrices(mb, CompressedMatrixBlock.getUncompressed(imv.getValue()), 0);
+	}
+
+	@Test
+	public void testSampleDecidesForStream() {
+		OOCBlockCompressor compressor = new OOCBlockCompressor();
+		MatrixBlock dense = MatrixBlock.randOperations(BLEN, 100, 1.0, -1, 1, "uniform", 7);
+		IndexedMatrixValue imv1 = compressor.compress(new IndexedMatrixValue(new MatrixIndexes(1, 1), dense));
+		Assert.assertSame(dense, imv1.getValue());
+
+		// low-cardinality blocks of the same stream stay uncompressed
+		MatrixBlock mb = createBlock(BLEN, 100, 4, 7);
+		IndexedMatrixValue imv2 = compressor.compress(new IndexedMatrixValue(new MatrixIndexes(2, 1), mb));
+		Assert.assertSame(mb, imv2.getValue());
+	}
+
+	@Test
+	public void testCompressedSpillRoundTrip() throws Exception {
+		OOCBlockCompressor compressor = new OOCBlockCompressor();
+		MatrixBlock[] blocks = new MatrixBlock[NUM_BLOCKS];
+		for(int i = 0; i < NUM_BLOCKS; i++) {
+			blocks[i] = createBlock(BLEN, 100, 4, i + 1);
+			IndexedMatrixValue imv = compressor.compress(new IndexedMatrixValue(new MatrixIndexes(i + 1, 1), blocks[i]));
+			Assert.assertTrue(imv.getValue() instanceof CompressedMatrixBlock);
+			_scheduler.put(new BlockKey(1, i), imv, OOCBlockCompressor.getCacheSize(imv.getValue()));
+		}
+
+		// wait until blocks were spilled and dropped from memory
+		long timeout = System.currentTimeMillis() + WAIT_TIMEOUT_SEC * 1000;
+		while(_scheduler.snapshot().stream().noneMatch(e -> e.getState() == BlockState.COLD)
+			&& System.currentTimeMillis() < timeout)
+			Thread.sleep(10);
+		Assert.assertTrue(_scheduler.snapshot().stream().anyMatch(e -> e.getState() == BlockState.COLD));
+
+		for(int i = 0; i < NUM_BLOCKS; i++) {
+			BlockEntry entry = _scheduler.request(new BlockKey(1, i)).get(WAIT_TIMEOUT_SEC, TimeUnit.SECONDS);
+			IndexedMatrixValue imv = (IndexedMatrixValue) entry.getData();
+			Assert.assertTrue(imv.getValue() instanceof CompressedMatrixBlock);
+			Assert.assertEquals(i + 1, imv.getIndexes().getRowIndex());
+			TestUtils.compareMatrices(blocks[i], CompressedMatrixBlock.getUncompressed(imv.getValue()), 0);
+			_scheduler.unpin(entry);
+		}
+	}
+
+	private static MatrixBlock createBlock(int rows, int cols, int distinct, long seed) {
+		Random rand = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(rows, cols, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				mb.set(i, j, rand.nextInt(distinct) + 1);
+		mb.recomputeNonZeros();
+		return mb;
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.ooc.cache;
+
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.ooc.cache.BlockEntry;
+import org.apache.sysds.runtime.ooc.cache.BlockKey;
+import org.apache.sysds.runtime.ooc.cache.BlockState;
+import org.apache.sysds.runtime.ooc.cache.OOCEvictionOrder;
+import org.apache.sysds.runtime.ooc.cache.OOCEvictionPolicy;
+import org.apache.sysds.runtime.ooc.cache.OOCLRUCacheScheduler;
+import org.apache.sysds.runtime.ooc.cache.OOCMatrixIOHandler;
+import org.apache.sysds.runtime.ooc.stats.OOCEventLog;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class OOCEvictionPolicyTest {
+	private static final int BLEN = 500;
+	private static final int NUM_BLOCKS = 5;
+	private static final long WAIT_TIMEOUT_SEC = 10;
+
+	private OOCMatrixIOHandler _handler;
+	private OOCLRUCacheScheduler _scheduler;
+
+	@After
+	public void tearDown() {
+		if(_scheduler != null)
+			_scheduler.shutdown();
+		if(_handler != null)
+			_handler.shutdown();
+	}
+
+	@Test
+	public void testLRUOrder() {
+		List<BlockEntry> entries = createEntries(new BlockState[] {BlockState.HOT, BlockState.WARM, BlockState.HOT},
+			new int[] {3, 1, 2});
+		Assert.assertEquals(entries, evictionOrder(OOCEvictionPolicy.LRU, entries));
+		for(BlockEntry entry : entries)
+			Assert.assertTrue(OOCEvictionPolicy.LRU.evictOnUnpin(entry));
+	}
+
+	@Test
+	public void testScanResistantOrder() {
+		List<BlockEntry> entries = createEntries(new BlockState[] {BlockState.HOT, BlockState.HOT, BlockState.HOT,
+			BlockState.HOT}, new int[] {1, 2, 1, 3});
+		// single-access blocks in LRU order, then reused blocks in MRU order
+		List<BlockEntry> expected = List.of(entries.get(0), entries.get(2), entries.get(3), entries.get(1));
+		Assert.assertEquals(expected, evictionOrder(OOCEvictionPolicy.SCAN, entries));
+		Assert.assertTrue(OOCEvictionPolicy.SCAN.evictOnUnpin(entries.get(0)));
+		Assert.assertFalse(OOCEvictionPolicy.SCAN.evictOnUnpin(entries.get(1)));
+	}
+
+	@Test
+	public void testCostOrder() {
+		List<BlockEntry> entries = createEntries(new BlockState[] {BlockState.HOT, BlockState.WARM, BlockState.WARM,
+			BlockState.HOT}, new int[] {1, 2, 1, 0});
+		// blocks that only need a re-read first, then by access count
+		List<BlockEntry> expected = List.of(entries.get(2), entries.get(1), entries.get(3), entries.get(0));
+		Assert.assertEquals(expected, evictionOrder(OOCEvictionPolicy.COST, entries));
+		Assert.assertTrue(OOCEvictionPolicy.COST.evictOnUnpin(entries.get(1)));
+		Assert.assertFalse(OOCEvictionPolicy.COST.evictOnUnpin(entries.get(0)));
+	}
+
+	@Test
+	public void testIncrementalOrderUpdate() {
+		List<BlockEntry> entries = createEntries(new BlockState[] {BlockState.HOT, BlockState.HOT, BlockState.HOT},
+			new int[] {1, 1, 2});
+		OOCEvictionOrder scan = createOrder(OOCEvictionPolicy.SCAN, entries);
+		// a second access moves the block to the reused blocks as most recently used
+		BlockEntryTestAccess.recordAccess(entries.get(0), 1);
+		scan.touch(entries.get(0));
+		Assert.assertEquals(List.of(entries.get(1), entries.get(0), entries.get(2)), toList(scan.beginScan(entries)));
+		scan.endScan();
+		scan.remove(entries.get(1));
+		Assert.assertEquals(List.of(entries.get(0), entries.get(2)), toList(scan.beginScan(entries)));
+		scan.endScan();
+
+		entries = createEntries(new BlockState[] {BlockState.HOT, BlockState.HOT, BlockState.HOT}, new int[] {1, 1, 2});
+		OOCEvictionOrder cost = createOrder(OOCEvictionPolicy.COST, entries);
+		// state changes during a scan are applied at its end
+		toList(cost.beginScan(entries));
+		BlockEntryTestAccess.setState(entries.get(2), BlockState.WARM);
+		cost.update(entries.get(2));
+		Assert.assertEquals(List.of(entries.get(0), entries.get(1), entries.get(2)), toList(cost.beginScan(entries)));
+		cost.endScan();
+		Assert.assertEquals(List.of(entries.get(2), entries.get(0), entries.get(1)), toList(cost.beginScan(entries)));
+		cost.endScan();
+		Assert.assertEquals(3, cost.size());
+	}
+
+	@Test
+	public void testParsePolicy() {
+		Assert.assertEquals(OOCEvictionPolicy.SCAN, OOCEvictionPolicy.parse(" scan"));
+		Assert.assertEquals(OOCEvictionPolicy.COST, OOCEvictionPolicy.parse("COST"));
+	}
+
+	@Test
+	public void testScanPolicySpillRoundTrip() throws Exception {
+		runSpillRoundTrip(OOCEvictionPolicy.SCAN);
+	}
+
+	@Test
+	public void testCostPolicySpillRoundTrip() throws Exception {
+		runSpillRoundTrip(OOCEvictionPolicy.COST);
+	}
+
+	@Test
+	public void testPrefetchCounters() throws Exception {
+		_handler = new OOCMatrixIOHandler();
+		_scheduler = new OOCLRUCacheScheduler(_handler, 0, Long.MAX_VALUE, 40000000);
+		putBlocks();
+		waitForState(BlockState.COLD, 3);
+
+		// relax the limits such that read-ahead blocks are retained
+		_scheduler.updateLimits(1000000000000L, 2000000000000L);
+		long issued = OOCEventLog.getPrefetchIssued();
+		long used = OOCEventLog.getPrefetchUsed();
+		long wasted = OOCEventLog.getPrefetchWasted();
+		long accesses = OOCEventLog.getCacheHits() + OOCEventLog.getCacheMisses();
+
+		List<BlockKey> keys = _scheduler.snapshot().stream().filter(e -> e.getState() == BlockState.COLD)
+			.map(BlockEntry::getKey).limit(3).collect(Collectors.toList());
+		_scheduler.prefetch(keys);
+		_scheduler.prefetch(keys); // already pending, not issued twice
+		Assert.assertEquals(issued + 3, OOCEventLog.getPrefetchIssued());
+		waitForState(BlockState.WARM, 3);
+
+		// consumed read-ahead
+		BlockEntry entry = _scheduler.request(keys.get(0)).get(WAIT_TIMEOUT_SEC, TimeUnit.SECONDS);
+		checkBlock(entry, (int) keys.get(0).getSequenceNumber());
+		_scheduler.unpin(entry);
+		Assert.assertTrue(OOCEventLog.getPrefetchUsed() >= used + 1);
+		Assert.assertTrue(OOCEventLog.getCacheHits() + OOCEventLog.getCacheMisses() >= accesses + 1);
+
+		// read-ahead dropped before use
+		_scheduler.forget(keys.get(1));
+		Assert.assertTrue(OOCEventLog.getPrefetchWasted() >= wasted + 1);
+		Assert.assertTrue(OOCEventLog.getCacheAccessCSV().startsWith("Hits,Misses,"));
+	}
+
+	private void runSpillRoundTrip(OOCEvictionPolicy policy) throws Exception {
+		_handler = new OOCMatrixIOHandler();
+		_scheduler = new OOCLRUCacheScheduler(_handler, 0, Long.MAX_VALUE, 40000000, policy);
+		putBlocks();
+		waitForState(BlockState.COLD, 1);
+		for(int k = 0; k < 2; k++) {
+			for(int i = 0; i < NUM_BLOCKS; i++) {
+				BlockEntry entry = _scheduler.request(new BlockKey(1, i)).get(WAIT_TIMEOUT_SEC, TimeUnit.SECONDS);
+				checkBlock(entry, i);
+				_scheduler.unpin(entry);
+			}
+		}
+	}
+
+	private void putBlocks() throws InterruptedException {
+		for(int i = 0; i < NUM_BLOCKS; i++) {
+			Thread.sleep(10); // let each put pass the eviction debounce
+			MatrixBlock mb = new MatrixBlock(BLEN, BLEN, i + 1.0);
+			_scheduler.put(new BlockKey(1, i), new IndexedMatrixValue(new MatrixIndexes(i + 1, 1), mb),
+				mb.getExactSerializedSize());
+		}
+	}
+
+	private void checkBlock(BlockEntry entry, int i) {
+		IndexedMatrixValue imv = (IndexedMatrixValue) entry.getData();
+		Assert.assertEquals(i + 1, imv.getIndexes().getRowIndex());
+		Assert.assertEquals(i + 1.0, ((MatrixBlock) imv.getValue()).get(BLEN - 1, BLEN - 1), 0);
+	}
+
+	private void waitForState(BlockState state, int count) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + WAIT_TIMEOUT_SEC * 1000;
+		while(countState(state) < count && System.currentTimeMillis() < timeout)
+			Thread.sleep(10);
+		Assert.assertTrue("expected " + count + " blocks in state " + state, countState(state) >= count);
+	}
+
+	private long countState(BlockState state) {
+		return _scheduler.snapshot().stream().filter(e -> e.getState() == state).count();
+	}
+
+	private static List<BlockEntry> createEntries(BlockState[] states, int[] accesses) {
+		List<BlockEntry> entries = new ArrayList<>();
+		for(int i = 0; i < states.length; i++) {
+			BlockEntry entry = BlockEntryTestAccess.newBlockEntry(new BlockKey(1, i), 1000, new Object());
+			BlockEntryTestAccess.setState(entry, states[i]);
+			BlockEntryTestAccess.recordAccess(entry, accesses[i]);
+			entries.add(entry);
+		}
+		return entries;
+	}
+
+	private static OOCEvictionOrder createOrder(OOCEvictionPolicy policy, List<BlockEntry> accessOrdered) {
+		OOCEvictionOrder order = new OOCEvictionOrder(policy);
+		for(BlockEntry entry : accessOrdered)
+			order.add(entry);
+		return order;
+	}
+
+	private static List<BlockEntry> evictionOrder(OOCEvictionPolicy policy, List<BlockEntry> accessOrdered) {
+		OOCEvictionOrder order = createOrder(policy, accessOrdered);
+		List<BlockEntry> out = toList(order.beginScan(accessOrdered));
+		order.endScan();
+		return out;
+	}
+
+	private static List<BlockEntry> toList(Iterable<BlockEntry> entries) {
+		List<BlockEntry> out = new ArrayList<>();
+		entries.forEach(out::add);
+		return out;
+	}
+}
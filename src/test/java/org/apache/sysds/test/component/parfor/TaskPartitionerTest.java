@@ -68,6 +68,11 @@ public class TaskPartitionerTest extends AutomatedTestBase{
 		testTaskPartitioner(2*LocalTaskQueue.MAX_SIZE, PTaskPartitioner.FACTORING_CMAX);
 	}
 	
+	@Test
+	public void testWorkStealing() {
+		testTaskPartitioner(2*LocalTaskQueue.MAX_SIZE, PTaskPartitioner.WORK_STEALING);
+	}
+	
 	@Test
 	public void testUnknown() {
 		testTaskPartitioner(1, PTaskPartitioner.UNSPECIFIED);
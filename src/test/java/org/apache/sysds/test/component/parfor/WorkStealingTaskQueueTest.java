@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.parfor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.sysds.runtime.controlprogram.ParForProgramBlock.PTaskPartitioner;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.Task;
+import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitioner;
+import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerFactory;
+import org.apache.sysds.runtime.controlprogram.parfor.WorkStealingTaskQueue;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WorkStealingTaskQueueTest {
+	
+	@Test
+	public void testUniformCosts() throws Exception {
+		runWorkStealing(1, 10000, 1, 4, false);
+	}
+	
+	@Test
+	public void testSkewedCosts() throws Exception {
+		WorkStealingTaskQueue queue = runWorkStealing(1, 400, 1, 4, true);
+		//all expensive iterations are at the end, i.e., owned by the last worker
+		Assert.assertTrue(queue.getNumSteals() > 0);
+		Assert.assertTrue(queue.getNumStolenIterations() > 0);
+	}
+	
+	@Test
+	public void testIncrement() throws Exception {
+		runWorkStealing(7, 1003, 3, 3, true);
+	}
+	
+	@Test
+	public void testMoreWorkersThanIterations() throws Exception {
+		runWorkStealing(1, 3, 1, 8, false);
+	}
+	
+	private static WorkStealingTaskQueue runWorkStealing(int from, int to, int incr, int k, boolean skew)
+		throws Exception
+	{
+		WorkStealingTaskQueue queue = new WorkStealingTaskQueue(k);
+		TaskPartitioner partitioner = TaskPartitionerFactory.createTaskPartitioner(
+			PTaskPartitioner.WORK_STEALING, new IntObject(from), new IntObject(to),
+			new IntObject(incr), 1, k, "i");
+		AtomicIntegerArray counts = new AtomicIntegerArray(to + 1);
+		
+		ExecutorService pool = CommonThreadPool.get(k);
+		List<Future<Long>> workers = new ArrayList<>();
+		for( int w=0; w<k; w++ ) {
+			final int index = w;
+			workers.add(pool.submit(() -> {
+				long iters = 0;
+				Task t = null;
+				while((t = queue.dequeueTask(index)) != LocalTaskQueue.NO_MORE_TASKS) {
+					List<IntObject> it = t.getIterations();
+					for(long i=it.get(0).getLongValue(); i<=it.get(1).getLongValue(); i+=it.get(2).getLongValue()) {
+						counts.incrementAndGet((int)i);
+						if( skew && i > to - to/10 )
+							Thread.sleep(2);
+						iters++;
+					}
+				}
+				return iters;
+			}));
+		}
+		//seed ranges after workers started (blocked until init)
+		partitioner.createTasks(queue);
+		
+		long total = 0;
+		for( Future<Long> f : workers )
+			total += f.get();
+		pool.shutdown();
+		
+		//check all iterations executed exactly once
+		Assert.assertEquals(partitioner.getNumIterations(), total);
+		for( int i=0; i<=to; i++ )
+			Assert.assertEquals("iteration "+i, (i >= from && (i-from)%incr==0) ? 1 : 0, counts.get(i));
+		Assert.assertTrue(queue.isProcessed());
+		Assert.assertTrue(queue.getNumCreatedTasks() >= Math.min(k, total));
+		return queue;
+	}
+}
@@ -20,8 +20,11 @@
 package org.apache.sysds.test.component.utils;
 
 import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.frame.data.columns.Array;
 import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.UnixPipeUtils;
 import org.junit.Rule;
@@ -101,6 +104,22 @@ public class UnixPipeUtilsTest {
 
 			assertArrayEquals(matrixBlock.getDenseBlockValues(), output, 1e-9);
 		}
+
+		@Test
+		public void testReadWriteNumpyArraySharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "shm_test_" + type.name());
+			matrixBlock.recomputeNonZeros();
+
+			long bytes = UnixPipeUtils.writeNumpyArrayToSharedMemory(tempFile.getAbsolutePath(), type, matrixBlock);
+			org.junit.Assert.assertEquals((long) numElem * UnixPipeUtils.getElementSize(type), bytes);
+			org.junit.Assert.assertEquals(bytes, tempFile.length());
+
+			double[] output = new double[numElem + 1];
+			long nonZeros = UnixPipeUtils.readNumpyArrayFromSharedMemory(
+				tempFile.getAbsolutePath(), numElem, type, output, 1);
+			org.junit.Assert.assertEquals(matrixBlock.getNonZeros(), nonZeros);
+			assertArrayEquals(matrixBlock.getDenseBlockValues(), Arrays.copyOfRange(output, 1, numElem + 1), 1e-9);
+		}
 	}
 
 	@RunWith(Parameterized.class)
@@ -150,6 +169,19 @@ public class UnixPipeUtilsTest {
 			}
 		}
 
+		@Test
+		public void testReadWriteFrameColumnSharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "frame_shm_" + type.name());
+			Array<?> column = createColumn(type, values);
+
+			long bytesWritten = UnixPipeUtils.writeFrameColumnToSharedMemory(tempFile.getAbsolutePath(), column, type);
+			org.junit.Assert.assertEquals(bytesWritten, tempFile.length());
+
+			Array<?> read = UnixPipeUtils.readFrameColumnFromSharedMemory(
+				tempFile.getAbsolutePath(), values.length, Math.toIntExact(bytesWritten), type);
+			assertFrameColumnEquals(column, read, type);
+		}
+
 		private static Array<?> createColumn(Types.ValueType type, Object[] values) {
 			Array<?> array = ArrayFactory.allocate(type, values.length);
 			for(int i = 0; i < values.length; i++) {
@@ -464,5 +496,96 @@ public class UnixPipeUtilsTest {
 			}
 
 		}
+
+		@Test
+		public void testReadWriteSparseMatrixSharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "shm_sparse");
+			MatrixBlock mb = MatrixBlock.randOperations(50, 40, 0.05, -1, 1, "uniform", 7);
+			org.junit.Assert.assertTrue(mb.isInSparseFormat());
+
+			UnixPipeUtils.writeNumpyArrayToSharedMemory(tempFile.getAbsolutePath(), Types.ValueType.FP64, mb);
+			double[] output = new double[50 * 40];
+			long nonZeros = UnixPipeUtils.readNumpyArrayFromSharedMemory(
+				tempFile.getAbsolutePath(), output.length, Types.ValueType.FP64, output, 0);
+
+			org.junit.Assert.assertEquals(mb.getNonZeros(), nonZeros);
+			for(int i = 0; i < 50; i++)
+				for(int j = 0; j < 40; j++)
+					org.junit.Assert.assertEquals(mb.get(i, j), output[i * 40 + j], 0);
+		}
+
+		@Test
+		public void testWriteEmptyMatrixSharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "shm_empty");
+			MatrixBlock mb = new MatrixBlock(3, 4, true);
+
+			long bytes = UnixPipeUtils.writeNumpyArrayToSharedMemory(tempFile.getAbsolutePath(), Types.ValueType.FP64, mb);
+			org.junit.Assert.assertEquals(96, bytes);
+			org.junit.Assert.assertEquals(96, tempFile.length());
+		}
+
+		@Test
+		public void testReadMatrixSharedMemory() throws IOException {
+			for(Types.ValueType type : new Types.ValueType[] {Types.ValueType.FP64, Types.ValueType.INT32}) {
+				File tempFile = new File(folder.getRoot(), "shm_mb_" + type.name());
+				MatrixBlock mb = MatrixBlock.randOperations(30, 20, 0.7, -100, 100, "uniform", 11);
+				for(int i = 0; i < 30; i++)
+					for(int j = 0; j < 20; j++)
+						mb.set(i, j, Math.rint(mb.get(i, j)));
+				mb.recomputeNonZeros();
+				UnixPipeUtils.writeNumpyArrayToSharedMemory(tempFile.getAbsolutePath(), type, mb);
+				MatrixBlock read = UnixPipeUtils.readMatrixFromSharedMemory(tempFile.getAbsolutePath(), 30, 20, type);
+
+				org.junit.Assert.assertEquals(mb.getNonZeros(), read.getNonZeros());
+				for(int i = 0; i < 30; i++)
+					for(int j = 0; j < 20; j++)
+						org.junit.Assert.assertEquals(mb.get(i, j), read.get(i, j), 0);
+			}
+		}
+
+		@Test
+		public void testWriteOffHeapMatrixSharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "shm_offheap");
+			MatrixBlock mb = MatrixBlock.randOperations(25, 16, 1.0, -1, 1, "uniform", 13);
+			DenseBlock off = DenseBlockFactory.createDenseBlock(Types.ValueType.FP64,
+				DenseBlock.Type.OFFHEAP, new int[] {25, 16}, false).set(mb.getDenseBlock());
+			MatrixBlock mbOff = new MatrixBlock(25, 16, off);
+			mbOff.setNonZeros(mb.getNonZeros());
+
+			UnixPipeUtils.writeNumpyArrayToSharedMemory(tempFile.getAbsolutePath(), Types.ValueType.FP64, mbOff);
+			double[] output = new double[25 * 16];
+			UnixPipeUtils.readNumpyArrayFromSharedMemory(
+				tempFile.getAbsolutePath(), output.length, Types.ValueType.FP64, output, 0);
+			assertArrayEquals(mb.getDenseBlockValues(), output, 0);
+		}
+
+		@Test
+		public void testWriteInt64FrameColumnSharedMemory() throws IOException {
+			File tempFile = new File(folder.getRoot(), "frame_shm_int64");
+			long[] values = new long[] {(1L << 53) + 1, Long.MAX_VALUE, Long.MIN_VALUE, -7};
+			Array<?> column = new LongArray(values);
+
+			long bytes = UnixPipeUtils.writeFrameColumnToSharedMemory(
+				tempFile.getAbsolutePath(), column, Types.ValueType.INT64);
+			Array<?> read = UnixPipeUtils.readFrameColumnFromSharedMemory(
+				tempFile.getAbsolutePath(), values.length, Math.toIntExact(bytes), Types.ValueType.INT64);
+			for(int i = 0; i < values.length; i++)
+				org.junit.Assert.assertEquals(values[i], ((Long) read.get(i)).longValue());
+		}
+
+		@Test(expected = IOException.class)
+		public void testReadNumpyArraySharedMemoryTooSmall() throws IOException {
+			File tempFile = folder.newFile("shm_short");
+			try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+				fos.write(new byte[12]);
+			}
+			UnixPipeUtils.readNumpyArrayFromSharedMemory(
+				tempFile.getAbsolutePath(), 2, Types.ValueType.FP64, new double[2], 0);
+		}
+
+		@Test
+		public void testGetSharedMemoryDir() {
+			org.junit.Assert.assertTrue(new File(UnixPipeUtils.getSharedMemoryDir()).isDirectory());
+		}
 	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.codegen;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.ExecType;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.stats.CodegenStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodegenClassCacheTest extends AutomatedTestBase 
+{
+	private static final String TEST_NAME = "CodegenClassCache";
+	private static final String TEST_DIR = "functions/codegen/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + CodegenClassCacheTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemDS-config-codegen-classcache.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	private final static File   CACHE_DIR = new File("target/testTemp/" + TEST_CLASS_DIR + "classcache");
+	
+	private static final int rows = 1191;
+	private static final int cols = 31;
+	private static final double eps = Math.pow(10, -8);
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testClassCacheAcrossExecutions() {
+		ExecMode platformOld = setExecMode(ExecType.CP);
+		try
+		{
+			FileUtils.deleteQuietly(CACHE_DIR);
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-stats", "-args", input("X"), output("R") };
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 0.9, 7);
+			writeInputMatrixWithMTD("X", X, true);
+			
+			//first execution compiles and persists the classes
+			runTest(true, false, null, -1);
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertTrue(CodegenStatistics.getClassCompile() > 0);
+			Assert.assertEquals(0, CodegenStatistics.getClassCacheHits());
+			File[] files = CACHE_DIR.listFiles();
+			Assert.assertTrue(files != null && files.length > 0);
+			
+			//second execution (w/ cleared in-memory caches) loads the persisted classes
+			runTest(true, false, null, -1);
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertEquals(0, CodegenStatistics.getClassCompile());
+			Assert.assertEquals(CodegenStatistics.getClassCacheTotal(), CodegenStatistics.getClassCacheHits());
+			
+			//compare results
+			double expected = 0;
+			for( double[] row : X )
+				for( double v : row )
+					expected += v * (v+2) * (v+3) * Math.exp(v);
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromOutputDir("R");
+			Assert.assertEquals(expected, dmlfile.get(new CellIndex(1,1)), eps);
+		}
+		finally {
+			resetExecMode(platformOld);
+			FileUtils.deleteQuietly(CACHE_DIR);
+		}
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.test.functions.io.npy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.io.ReaderNPY;
+import org.apache.sysds.runtime.io.ReaderNPYParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the matrix reader and writer of the NumPy binary format, including
+ * different data types, Fortran order, npz archives, and reads from DML
+ * without metadata files.
+ */
+public class ReadWriteNPYTest extends AutomatedTestBase {
+
+	private final static String TEST_NAME = "ReadWriteNPY";
+	private final static String TEST_DIR = "functions/io/npy/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReadWriteNPYTest.class.getSimpleName() + "/";
+	private final static double eps = 1e-10;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"R"}));
+	}
+
+	@Test
+	public void testWriteReadDense() {
+		runWriteReadTest(123, 45, 0.9, false);
+	}
+
+	@Test
+	public void testWriteReadSparse() {
+		runWriteReadTest(123, 45, 0.05, false);
+	}
+
+	@Test
+	public void testWriteReadDenseParallel() {
+		//large enough for multiple read threads
+		runWriteReadTest(5000, 1000, 1.0, true);
+	}
+
+	@Test
+	public void testWriteReadEmpty() {
+		runWriteReadTest(10, 7, 0.0, true);
+	}
+
+	@Test
+	public void testReadInt32FortranOrder() {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			int[][] data = {{1, -2, 3, 0}, {5, 6, -7, 8}, {0, 10, 11, 12}};
+			ByteBuffer buf = ByteBuffer.allocate(12 * 4).order(ByteOrder.LITTLE_ENDIAN);
+			for(int j = 0; j < 4; j++)
+				for(int i = 0; i < 3; i++)
+					buf.putInt(data[i][j]);
+			String fname = input("F.npy");
+			writeFile(fname, createNpy("<i4", true, "(3, 4)", buf.array()));
+
+			MatrixBlock ret = new ReaderNPY().readMatrixFromHDFS(fname, 3, 4, -1, -1);
+			for(int i = 0; i < 3; i++)
+				for(int j = 0; j < 4; j++)
+					Assert.assertEquals(data[i][j], ret.get(i, j), eps);
+			Assert.assertEquals(10, ret.getNonZeros());
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+
+	@Test
+	public void testReadFloat32BigEndianVector() {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			float[] data = {1.5f, -2.25f, 0f, 4f, 1e6f};
+			ByteBuffer buf = ByteBuffer.allocate(data.length * 4).order(ByteOrder.BIG_ENDIAN);
+			for(float v : data)
+				buf.putFloat(v);
+			String fname = input("v.npy");
+			writeFile(fname, createNpy(">f4", false, "(5,)", buf.array()));
+
+			MatrixBlock ret = new ReaderNPYParallel().readMatrixFromHDFS(fname, -1, -1, -1, -1);
+			Assert.assertEquals(5, ret.getNumRows());
+			Assert.assertEquals(1, ret.getNumColumns());
+			for(int i = 0; i < data.length; i++)
+				Assert.assertEquals(data[i], ret.get(i, 0), eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+
+	@Test
+	public void testReadNpzStored() {
+		runNpzTest(false);
+	}
+
+	@Test
+	public void testReadNpzCompressed() {
+		runNpzTest(true);
+	}
+
+	@Test
+	public void testReadWriteDMLWithoutMetadata() {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[] {"-args", input("X.npy"), output("R")};
+
+			int rows = 321, cols = 17;
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.7, -1, 1, "uniform", 7);
+			MatrixWriterFactory.createMatrixWriter(FileFormat.NPY)
+				.writeMatrixToHDFS(mb, input("X.npy"), rows, cols, -1, mb.getNonZeros());
+			Assert.assertFalse(HDFSTool.existsFileOnHDFS(input("X.npy.mtd")));
+
+			runTest(true, false, null, -1);
+
+			MatrixBlock ret = new ReaderNPY().readMatrixFromHDFS(output("R"), rows, cols, -1, -1);
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					Assert.assertEquals(mb.get(i, j) * 2 + cols, ret.get(i, j), eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private void runWriteReadTest(int rows, int cols, double sparsity, boolean parallel) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+			String fname = output("X.npy");
+			MatrixWriterFactory.createMatrixWriter(FileFormat.NPY)
+				.writeMatrixToHDFS(mb, fname, rows, cols, -1, mb.getNonZeros());
+
+			MatrixReader reader = parallel ? new ReaderNPYParallel() :
+				MatrixReaderFactory.createMatrixReader(FileFormat.NPY);
+			MatrixBlock ret = reader.readMatrixFromHDFS(fname, rows, cols, -1, -1);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+
+	private void runNpzTest(boolean compressed) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			int rows = 40, cols = 3;
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.8, -1, 1, "uniform", 3);
+			ByteBuffer buf = ByteBuffer.allocate(rows * cols * 8).order(ByteOrder.LITTLE_ENDIAN);
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					buf.putDouble(mb.get(i, j));
+			byte[] npy = createNpy("<f8", false, "(" + rows + ", " + cols + ")", buf.array());
+
+			String fname = input(compressed ? "X2.npz" : "X1.npz");
+			try(ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(fname))) {
+				ZipEntry entry = new ZipEntry("arr_0.npy");
+				if(!compressed) {
+					CRC32 crc = new CRC32();
+					crc.update(npy);
+					entry.setMethod(ZipEntry.STORED);
+					entry.setSize(npy.length);
+					entry.setCrc(crc.getValue());
+				}
+				zos.putNextEntry(entry);
+				zos.write(npy);
+				zos.closeEntry();
+			}
+
+			MatrixBlock ret = new ReaderNPYParallel().readMatrixFromHDFS(fname, rows, cols, -1, -1);
+			TestUtils.compareMatrices(mb, ret, eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+
+	private static byte[] createNpy(String descr, boolean fortran, String shape, byte[] payload) throws IOException {
+		String header = "{'descr': '" + descr + "', 'fortran_order': " + (fortran ? "True" : "False")
+			+ ", 'shape': " + shape + ", }\n";
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		bos.write(new byte[] {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y', 1, 0});
+		bos.write(header.length() & 0xFF);
+		bos.write((header.length() >> 8) & 0xFF);
+		bos.write(header.getBytes(StandardCharsets.ISO_8859_1));
+		bos.write(payload);
+		return bos.toByteArray();
+	}
+
+	private static void writeFile(String fname, byte[] data) throws IOException {
+		try(OutputStream os = new FileOutputStream(fname)) {
+			os.write(data);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.test.functions.io.parquet;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.ReaderParquet;
+import org.apache.sysds.runtime.io.ReaderParquetParallel;
+import org.apache.sysds.runtime.io.WriterParquet;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the native matrix parquet writers and readers (dense/sparse, multiple part files
+ * and row groups), as well as the pushdown of constant column ranges of right indexing
+ * into parquet matrix reads.
+ */
+public class MatrixParquetTest extends AutomatedTestBase {
+
+	private final static String TEST_NAME = "MatrixParquetProjection";
+	private final static String TEST_DIR = "functions/io/parquet/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + MatrixParquetTest.class.getSimpleName() + "/";
+
+	private final static int rows = 1200;
+	private final static int cols = 17;
+	private final static double eps = 1e-10;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"R"}));
+	}
+
+	@Test
+	public void testWriteReadDense() {
+		runWriteReadTest(0.9, false);
+	}
+
+	@Test
+	public void testWriteReadSparse() {
+		runWriteReadTest(0.05, false);
+	}
+
+	@Test
+	public void testWriteReadDenseParallel() {
+		runWriteReadTest(0.9, true);
+	}
+
+	@Test
+	public void testWriteReadSparseParallel() {
+		runWriteReadTest(0.05, true);
+	}
+
+	@Test
+	public void testColumnProjectionReader() {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.7, -1, 1, "uniform", 7);
+			String fname = input("X");
+			new WriterParquet().writeMatrixToHDFS(mb, fname, rows, cols, 1000, mb.getNonZeros());
+
+			MatrixReader reader = new ReaderParquetParallel(new FileFormatPropertiesParquet(4, 9));
+			MatrixBlock ret = reader.readMatrixFromHDFS(fname, rows, 6, 1000, -1);
+			TestUtils.compareMatrices(mb.slice(0, rows - 1, 3, 8), ret, eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+
+	@Test
+	public void testColumnProjectionRewrite() {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			setOutputBuffering(true);
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[] {"-explain", "-args", input("X"), output("R")};
+
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.7, -1, 1, "uniform", 7);
+			new WriterParquet().writeMatrixToHDFS(mb, input("X"), rows, cols, 1000, mb.getNonZeros());
+			HDFSTool.writeMetaDataFile(input("X.mtd"), ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, 1000, mb.getNonZeros()), FileFormat.PARQUET);
+
+			String stdout = runTest(true, false, null, -1).toString();
+
+			//compare results and check the injected column projection
+			MatrixBlock ret = DataConverter.readMatrixFromHDFS(output("R"), FileFormat.BINARY, rows, 4, 1000);
+			MatrixBlock expected = mb.slice(0, rows - 1, 1, 3)
+				.append(mb.slice(0, rows - 1, 2, 2), new MatrixBlock(), true);
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < 4; j++)
+					Assert.assertEquals(expected.get(i, j) * rows, ret.get(i, j), eps);
+			Assert.assertTrue("missing column projection",
+				stdout.contains(FileFormatPropertiesParquet.toProjectionString(2, 4)));
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private void runWriteReadTest(double sparsity, boolean parallel) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+
+			//write two part files to test reads of multiple files and row groups
+			String fname = output("X");
+			HDFSTool.deleteFileIfExistOnHDFS(fname);
+			HDFSTool.createDirIfNotExistOnHDFS(fname, "777");
+			int half = rows / 2;
+			new WriterParquet().writeMatrixToHDFS(mb.slice(0, half - 1),
+				fname + "/" + IOUtilFunctions.getPartFileName(0), half, cols, 1000, -1);
+			new WriterParquet().writeMatrixToHDFS(mb.slice(half, rows - 1),
+				fname + "/" + IOUtilFunctions.getPartFileName(1), rows - half, cols, 1000, -1);
+
+			MatrixReader reader = parallel ? new ReaderParquetParallel(null) : new ReaderParquet(null);
+			MatrixBlock ret = reader.readMatrixFromHDFS(fname, rows, cols, 1000, mb.getNonZeros());
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, eps);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.jmlc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysds.api.DMLException;
+import org.apache.sysds.api.jmlc.Connection;
+import org.apache.sysds.api.jmlc.PreparedScript;
+import org.apache.sysds.api.jmlc.ResultVariables;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.stats.InfrastructureAnalyzer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JMLCConcurrentPreparedScriptTest extends AutomatedTestBase 
+{
+	//scoring script with pinned model, function call, and loop-carried temporaries
+	private static final String SCRIPT =
+		  "foo = function(Matrix[double] A, Matrix[double] B) return (Matrix[double] C) {\n"
+		+ "  while(FALSE){}\n"
+		+ "  C = A %*% B\n"
+		+ "}\n"
+		+ "X = read(\"tmp/X\", data_type=\"matrix\")\n"
+		+ "W = read(\"tmp/W\", data_type=\"matrix\")\n"
+		+ "b = read(\"tmp/b\", data_type=\"scalar\", value_type=\"double\")\n"
+		+ "R = matrix(0, nrow(X), 1)\n"
+		+ "for(i in 1:nrow(X))\n"
+		+ "  R[i,] = sum(X[i,])\n"
+		+ "P = foo(X, W) + b\n"
+		+ "out = cbind(P, R)\n"
+		+ "write(out, \"tmp/out\")";
+
+	private static final int rows = 7;
+	private static final int cols = 20;
+	private static final int classes = 3;
+
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+
+	@Test
+	public void testConcurrentExecution1T() {
+		runJMLCConcurrentTest(1, 16);
+	}
+
+	@Test
+	public void testConcurrentExecutionKT() {
+		runJMLCConcurrentTest(InfrastructureAnalyzer.getLocalParallelism(), 128);
+	}
+
+	private void runJMLCConcurrentTest(int k, int num) {
+		MatrixBlock W = DataConverter.convertToMatrixBlock(getRandomMatrix(cols, classes, -1, 1, 1.0, 7));
+		ExecutorService pool = Executors.newFixedThreadPool(k);
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(
+				SCRIPT, new String[]{"X", "W", "b"}, new String[]{"out"});
+			pscript.setMatrix("W", W, true); //pinned model shared by all calls
+
+			ArrayList<JMLCTask> tasks = new ArrayList<>();
+			for(int i=0; i<num; i++)
+				tasks.add(new JMLCTask(pscript, getRandomMatrix(rows, cols, 0, 1, 1.0, i), i));
+			List<Future<double[][]>> taskrets = pool.invokeAll(tasks);
+			for(int i=0; i<num; i++)
+				TestUtils.compareMatrices(tasks.get(i).expected(W), taskrets.get(i).get(), rows, classes+1, 1e-10);
+			
+			//shared prepared script remains usable with its own symbol table
+			pscript.setMatrix("X", tasks.get(0)._X, false);
+			pscript.setScalar("b", 0d);
+			ResultVariables rs = pscript.executeScript();
+			TestUtils.compareMatrices(tasks.get(0).expected(W), rs.getMatrix("out"), rows, classes+1, 1e-10);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = DMLException.class)
+	public void testUnspecifiedInput() throws Exception {
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(
+				SCRIPT, new String[]{"X", "W", "b"}, new String[]{"out"});
+			pscript.executeScript(Map.of("Y", 1d));
+		}
+	}
+
+	private static class JMLCTask implements Callable<double[][]> 
+	{
+		private final PreparedScript _pscript;
+		private final double[][] _X;
+		private final double _b;
+
+		protected JMLCTask(PreparedScript pscript, double[][] X, double b) {
+			_pscript = pscript;
+			_X = X;
+			_b = b;
+		}
+
+		@Override
+		public double[][] call() throws DMLException {
+			return _pscript.executeScript(Map.of("X", _X, "b", _b)).getMatrix("out");
+		}
+
+		protected double[][] expected(MatrixBlock W) {
+			double[][] ret = new double[rows][classes+1];
+			for(int i=0; i<rows; i++) {
+				for(int j=0; j<classes; j++) {
+					ret[i][j] = _b;
+					for(int l=0; l<cols; l++)
+						ret[i][j] += _X[i][l] * W.get(l, j);
+				}
+				for(int l=0; l<cols; l++)
+					ret[i][classes] += _X[i][l];
+			}
+			return ret;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.jmlc;
+
+import java.util.Map;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.api.jmlc.Connection;
+import org.apache.sysds.api.jmlc.PreparedScript;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.stats.RecompileStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JMLCLowLatencyTest extends AutomatedTestBase 
+{
+	//size-dependent plan (function w/ recompilation)
+	private static final String SCRIPT1 =
+		  "foo = function(Matrix[double] A, Matrix[double] B) return (Matrix[double] C) {\n"
+		+ "  while(FALSE){}\n"
+		+ "  C = A %*% B\n"
+		+ "}\n"
+		+ "X = read(\"tmp/X\", data_type=\"matrix\")\n"
+		+ "W = read(\"tmp/W\", data_type=\"matrix\")\n"
+		+ "out = foo(X, W) + nrow(X)\n"
+		+ "write(out, \"tmp/out\")";
+
+	//value-dependent plan (literal replacement of as.scalar and sum)
+	private static final String SCRIPT2 =
+		  "X = read(\"tmp/X\", data_type=\"matrix\")\n"
+		+ "W = read(\"tmp/W\", data_type=\"matrix\")\n"
+		+ "while(FALSE){}\n"
+		+ "out = X %*% W + as.scalar(X[1,1]) + sum(X)\n"
+		+ "write(out, \"tmp/out\")";
+
+	private static final int cols = 10;
+	private static final int classes = 3;
+
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+
+	@Test
+	public void testSizeDependentPlanReuse() {
+		runJMLCLowLatencyTest(SCRIPT1, false);
+	}
+
+	@Test
+	public void testValueDependentPlan() {
+		runJMLCLowLatencyTest(SCRIPT2, true);
+	}
+
+	@Test
+	public void testSparsityIndependentPlanReuse() {
+		runJMLCLowLatencyTest(SCRIPT1, false, true);
+	}
+
+	private void runJMLCLowLatencyTest(String script, boolean valueDep) {
+		runJMLCLowLatencyTest(script, valueDep, false);
+	}
+
+	private void runJMLCLowLatencyTest(String script, boolean valueDep, boolean varSparsity) {
+		boolean oldStats = DMLScript.STATISTICS;
+		MatrixBlock W = DataConverter.convertToMatrixBlock(getRandomMatrix(cols, classes, -1, 1, 1.0, 7));
+		try( Connection conn = new Connection() ) {
+			conn.setLowLatency(true);
+			conn.setStatistics(true);
+			PreparedScript pscript = conn.prepareScript(
+				script, new String[]{"X", "W"}, new String[]{"out"});
+			pscript.setMatrix("W", W, true);
+			long reused = RecompileStatistics.getReusedSBPlans();
+			
+			for(int i=0; i<20; i++) {
+				//equal sizes w/ different nnz (but same sparsity class) reuse the plan
+				int rows = (varSparsity || i % 2 != 0) ? 5 : 1;
+				double sparsity = !varSparsity ? 1.0 : (i % 2 == 0) ? 0.6 : 0.9;
+				double[][] X = getRandomMatrix(rows, cols, 0, 1, sparsity, i);
+				double[][] ret = pscript.executeScript(Map.of("X", X)).getMatrix("out");
+				TestUtils.compareMatrices(expected(X, W, valueDep), ret, rows, classes, 1e-10);
+			}
+			if( varSparsity )
+				Assert.assertTrue(RecompileStatistics.getReusedSBPlans() - reused >= 19);
+			else if( !valueDep )
+				Assert.assertTrue(RecompileStatistics.getReusedSBPlans() > reused);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			DMLScript.STATISTICS = oldStats;
+		}
+	}
+
+	private static double[][] expected(double[][] X, MatrixBlock W, boolean valueDep) {
+		double sum = 0;
+		for( double[] row : X )
+			for( double v : row )
+				sum += v;
+		double[][] ret = new double[X.length][classes];
+		for(int i=0; i<X.length; i++)
+			for(int j=0; j<classes; j++) {
+				ret[i][j] = valueDep ? X[0][0] + sum : X.length;
+				for(int l=0; l<cols; l++)
+					ret[i][j] += X[i][l] * W.get(l, j);
+			}
+		return ret;
+	}
+}
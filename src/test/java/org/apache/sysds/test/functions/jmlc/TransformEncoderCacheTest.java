@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.jmlc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysds.api.jmlc.Connection;
+import org.apache.sysds.api.jmlc.PreparedScript;
+import org.apache.sysds.conf.CompilerConfig.ConfigType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderCache;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransformEncoderCacheTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME1 = "transform8";
+	private final static String TEST_DIR = "functions/jmlc/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + TransformEncoderCacheTest.class.getSimpleName() + "/";
+	private final static String SPEC = "{ \"ids\": true ,\"recode\": [ 1, 2, 3 ], \"dummycode\": [ 3 ] }";
+
+	private final static int rows = 700;
+	private final static int cols = 3;
+	private final static int[] batches = new int[] {1, 5, 700, 3, 64};
+
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "Y" }) );
+	}
+
+	@Test
+	public void testMicroBatches() throws Exception {
+		runTransformEncoderCacheTest(1, true);
+	}
+
+	@Test
+	public void testMicroBatchesConcurrent() throws Exception {
+		runTransformEncoderCacheTest(4, true);
+	}
+
+	@Test
+	public void testMicroBatchesNoCache() throws Exception {
+		runTransformEncoderCacheTest(1, false);
+	}
+
+	private void runTransformEncoderCacheTest(int threads, boolean cache) throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+
+		//generate inputs and meta data
+		double[][] Xd = TestUtils.round(getRandomMatrix(rows, cols, 0.51, 7.49, 1.0, 1234));
+		String[][] Xs = FrameTransformTest.createFrameData(Xd);
+		FrameBlock M = DataConverter.convertToFrameBlock(FrameTransformTest.createRecodeMaps(Xs));
+
+		//the encoder cache is opt-in and scoped to the connection
+		Connection conn = cache ? new Connection(ConfigType.CACHE_TRANSFORM_ENCODERS) : new Connection();
+		EncoderCache encoders = conn.getEncoderCache();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			HashMap<String,String> args = new HashMap<>();
+			args.put("$TRANSFORM_SPEC", SPEC);
+			String script = conn.readScript(SCRIPT_DIR + TEST_DIR + TEST_NAME1 + ".dml");
+			PreparedScript pstmt = conn.prepareScript(script, args, new String[]{"X","M"}, new String[]{"Y"});
+			pstmt.setFrame("M", M, true);
+
+			//score the micro-batches repeatedly, in parallel via cloned scripts
+			List<Future<Boolean>> tasks = new ArrayList<>();
+			for( int t=0; t<threads; t++ ) {
+				PreparedScript ps = pstmt.clone(false);
+				tasks.add(pool.submit(() -> {
+					for( int rep=0; rep<3; rep++ )
+						for( int n : batches ) {
+							String[][] X = slice(Xs, n);
+							ps.setFrame("X", X);
+							MatrixBlock Y = ps.executeScript().getMatrixBlock("Y");
+							TestUtils.compareMatrices(expected(X, M), Y, 0, "Wrong result for batch of " + n);
+						}
+					return true;
+				}));
+			}
+			for( Future<Boolean> task : tasks )
+				Assert.assertTrue(task.get());
+
+			if( !cache ) {
+				Assert.assertEquals(0, encoders.getHits() + encoders.getMisses());
+				return;
+			}
+			//encoders are built at most once per concurrent caller and reused otherwise
+			Assert.assertTrue(encoders.getMisses() >= 1 && encoders.getMisses() <= threads);
+			Assert.assertEquals(threads * 3 * batches.length - encoders.getMisses(), encoders.getHits());
+
+			//rebinding the pinned meta frame invalidates its encoders
+			long misses = encoders.getMisses();
+			pstmt.setFrame("M", new FrameBlock(M), true);
+			pstmt.setFrame("X", slice(Xs, 5));
+			pstmt.executeScript();
+			Assert.assertEquals(misses + 1, encoders.getMisses());
+		}
+		finally {
+			pool.shutdown();
+			IOUtilFunctions.closeSilently(conn);
+		}
+
+		//closing the connection releases the cached encoders
+		Assert.assertEquals(0, encoders.getHits() + encoders.getMisses());
+	}
+
+	private static String[][] slice(String[][] X, int n) {
+		String[][] ret = new String[n][];
+		System.arraycopy(X, 0, ret, 0, n);
+		return ret;
+	}
+
+	private static MatrixBlock expected(String[][] X, FrameBlock M) {
+		FrameBlock in = DataConverter.convertToFrameBlock(X);
+		return EncoderFactory.createEncoder(SPEC, in.getColumnNames(), in.getNumColumns(), M).apply(in, 1);
+	}
+}
@@ -27,9 +27,11 @@ import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.hops.recompile.Recompiler;
 import org.apache.sysds.runtime.lineage.Lineage;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
 import org.apache.sysds.runtime.matrix.data.MatrixValue;
 import org.apache.sysds.test.TestConfiguration;
 import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class FullReuseTest extends LineageBase {
@@ -39,6 +41,7 @@ public class FullReuseTest extends LineageBase {
 	protected static final String TEST_NAME2 = "FullReuse2";
 	protected static final String TEST_NAME3 = "FullReuse3";
 	protected static final String TEST_NAME4 = "FullReuse4";
+	protected static final String TEST_NAME5 = "FullReuse5";
 	protected String TEST_CLASS_DIR = TEST_DIR + FullReuseTest.class.getSimpleName() + "/";
 	
 	@Override
@@ -48,6 +51,7 @@ public class FullReuseTest extends LineageBase {
 		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
 		addTestConfiguration(TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3));
 		addTestConfiguration(TEST_NAME4, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME4));
+		addTestConfiguration(TEST_NAME5, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME5));
 	}
 	
 	@Test
@@ -70,6 +74,12 @@ public class FullReuseTest extends LineageBase {
 		testLineageTrace(TEST_NAME4);
 	}
 	
+	@Test
+	public void testLineageTrace5() {    //concurrent parfor workers
+		testLineageTrace(TEST_NAME5);
+		Assert.assertTrue(LineageCacheStatistics.getLockFreeProbes() > 0);
+	}
+	
 	public void testLineageTrace(String testname) {
 		boolean old_simplification = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
 		boolean old_sum_product = OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES;
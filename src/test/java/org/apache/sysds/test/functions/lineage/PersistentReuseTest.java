@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.lineage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.runtime.lineage.Lineage;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class PersistentReuseTest extends LineageBase {
+
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "PersistentReuse1";
+
+	protected String TEST_CLASS_DIR = TEST_DIR + PersistentReuseTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemDS-config-persist.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	private final static String PERSIST_DIR = "target/testTemp/" + TEST_DIR + "PersistentReuseTest/persist";
+
+	private final static int rows = 800;
+	private final static int cols = 800;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+
+	@Test
+	public void testReuseAcrossRuns() throws Exception {
+		getAndLoadTestConfiguration(TEST_NAME1);
+		fullDMLScriptName = getScript();
+		FileUtils.deleteDirectory(new File(PERSIST_DIR));
+
+		List<String> proArgs = new ArrayList<>();
+		proArgs.add("-stats");
+		proArgs.add("-lineage");
+		proArgs.add(ReuseCacheType.REUSE_FULL.name().toLowerCase());
+		proArgs.add("-args");
+		proArgs.add(input("X"));
+		proArgs.add(output("R"));
+		programArgs = proArgs.toArray(new String[proArgs.size()]);
+		writeInputMatrixWithMTD("X", getRandomMatrix(rows, cols, -1, 1, 1.0, 7), true);
+
+		// first run populates the persistent cache
+		Lineage.resetInternalState();
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+		HashMap<MatrixValue.CellIndex, Double> R1 = readDMLMatrixFromOutputDir("R");
+		Assert.assertEquals(0, LineageCacheStatistics.getPersistHits());
+		Assert.assertTrue(LineageCacheStatistics.getPersistWrites() > 0);
+
+		// second run (empty in-memory cache) reuses the persisted intermediates
+		Lineage.resetInternalState();
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+		HashMap<MatrixValue.CellIndex, Double> R2 = readDMLMatrixFromOutputDir("R");
+		Assert.assertTrue(LineageCacheStatistics.getPersistHits() > 0);
+		Assert.assertEquals(0, Statistics.getCPHeavyHitterCount(Opcodes.MMULT.toString()));
+		TestUtils.compareMatrices(R1, R2, 1e-10, "Run1", "Run2");
+
+		// rewritten input with identical content still reuses the persisted entries
+		File in = new File(input("X"));
+		long mtime = in.lastModified();
+		writeInputMatrixWithMTD("X", getRandomMatrix(rows, cols, -1, 1, 1.0, 7), true);
+		in.setLastModified(Math.max(in.lastModified(), mtime + 2000));
+		Lineage.resetInternalState();
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+		Assert.assertTrue(LineageCacheStatistics.getPersistHits() > 0);
+		TestUtils.compareMatrices(R1, readDMLMatrixFromOutputDir("R"), 1e-10, "Run1", "Run3");
+
+		// modified input yields different content hashes and thus no reuse
+		writeInputMatrixWithMTD("X", getRandomMatrix(rows, cols, -1, 1, 1.0, 8), true);
+		in.setLastModified(Math.max(in.lastModified(), mtime + 4000));
+		Lineage.resetInternalState();
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+		HashMap<MatrixValue.CellIndex, Double> R4 = readDMLMatrixFromOutputDir("R");
+		Assert.assertEquals(0, LineageCacheStatistics.getPersistHits());
+		Assert.assertTrue(Statistics.getCPHeavyHitterCount(Opcodes.MMULT.toString()) > 0);
+		Assert.assertNotEquals(R1.get(new MatrixValue.CellIndex(1, 1)), R4.get(new MatrixValue.CellIndex(1, 1)));
+	}
+
+	/**
+	 * Override default configuration with custom test configuration to ensure
+	 * scratch space and local temporary directory locations are also updated.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		// Instrumentation in this test's output log to show custom configuration file used for template.
+		System.out.println("This test case overrides default configuration with " + TEST_CONF_FILE.getPath());
+		return TEST_CONF_FILE;
+	}
+}
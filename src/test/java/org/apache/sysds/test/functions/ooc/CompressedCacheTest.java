@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.ooc;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+public class CompressedCacheTest extends AutomatedTestBase
+{
+	private static final String TEST_NAME = "CompressedCache";
+	private static final String TEST_NAME2 = "CompressedCacheCsv";
+	private static final String TEST_DIR = "functions/ooc/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + CompressedCacheTest.class.getSimpleName() + "/";
+	private static final File TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, "SystemDS-config-ooc-compression.xml");
+	private static final String INPUT_NAME = "X";
+	private static final String OUTPUT_NAME = "res";
+	private final static double eps = 1e-6;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
+	}
+
+	@Test
+	public void testLowCardinalityCompressed() {
+		runCompressedCacheTest(true);
+	}
+
+	@Test
+	public void testHighCardinalityUncompressed() {
+		runCompressedCacheTest(false);
+	}
+
+	@Test
+	public void testCompressedCsvWriteSingleColBlock() {
+		runCompressedCsvWriteTest(3000, 100);
+	}
+
+	@Test
+	public void testCompressedCsvWriteMultiColBlock() {
+		runCompressedCsvWriteTest(2000, 1200);
+	}
+
+	private void runCompressedCsvWriteTest(int rows, int cols) {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME2);
+			setOutputBuffering(true);
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[] {"-stats", "-ooc", "-oocStats",
+				"-args", input(INPUT_NAME), output(OUTPUT_NAME)};
+
+			MatrixBlock mb = createLowCardinalityBlock(rows, cols, 7);
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY);
+			writer.writeMatrixToHDFS(mb, input(INPUT_NAME), rows, cols, 1000, mb.getNonZeros());
+			HDFSTool.writeMetaDataFile(input(INPUT_NAME+".mtd"), ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, 1000, mb.getNonZeros()), FileFormat.BINARY);
+
+			String stdout = runTest(true, false, null, -1).toString();
+
+			//compare the csv output of the compressed stream blocks
+			MatrixBlock ret = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME), FileFormat.CSV, rows, cols, 1000, -1);
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					Assert.assertEquals(mb.get(i, j) + 1, ret.get(i, j), eps);
+			Assert.assertTrue("missing compression of cached blocks", stdout.contains("compressed blocks:"));
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private void runCompressedCacheTest(boolean lowCardinality) {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			setOutputBuffering(true);
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[] {"-stats", "-ooc", "-oocStats",
+				"-args", input(INPUT_NAME), output(OUTPUT_NAME)};
+
+			int rows = 3000, cols = 100;
+			MatrixBlock mb = lowCardinality ? createLowCardinalityBlock(rows, cols, 7) :
+				MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 7);
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY);
+			writer.writeMatrixToHDFS(mb, input(INPUT_NAME), rows, cols, 1000, mb.getNonZeros());
+			HDFSTool.writeMetaDataFile(input(INPUT_NAME+".mtd"), ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, 1000, mb.getNonZeros()), FileFormat.BINARY);
+
+			String stdout = runTest(true, false, null, -1).toString();
+
+			//compare results and check compression of cached blocks
+			MatrixBlock ret = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME), FileFormat.BINARY, 1, 1, 1000, 1000);
+			double expected = 0;
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++) {
+					double v = mb.get(i, j) + 1;
+					expected += v + v * v;
+				}
+			Assert.assertEquals("result mismatch", expected, ret.get(0, 0), eps);
+			Assert.assertEquals("unexpected compression of cached blocks",
+				lowCardinality, stdout.contains("compressed blocks:"));
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			Assert.fail(ex.getMessage());
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private MatrixBlock createLowCardinalityBlock(int rows, int cols, long seed) {
+		return DataConverter.convertToMatrixBlock(
+			TestUtils.round(getRandomMatrix(rows, cols, 0, 3, 1.0, seed)));
+	}
+
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.ooc;
+
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class CumulativeAggregateTest extends AutomatedTestBase {
+	private final static String TEST_NAME1 = "CumulativeAggregate";
+	private final static String TEST_DIR = "functions/ooc/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + CumulativeAggregateTest.class.getSimpleName() + "/";
+	private final static double eps = 1e-8;
+	private static final String INPUT_NAME_1 = "X";
+	private static final String OUTPUT_NAME = "res";
+
+	private final static int rows = 3500;
+	private final static int cols = 1200;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+
+	@Test
+	public void testCumsumDense() {
+		runCumulativeTest("cumsum", Opcodes.UCUMKP, 1.0);
+	}
+
+	@Test
+	public void testCumsumSparse() {
+		runCumulativeTest("cumsum", Opcodes.UCUMKP, 0.05);
+	}
+
+	@Test
+	public void testCumprodDense() {
+		runCumulativeTest("cumprod", Opcodes.UCUMM, 1.0);
+	}
+
+	@Test
+	public void testCumminDense() {
+		runCumulativeTest("cummin", Opcodes.UCUMMIN, 1.0);
+	}
+
+	@Test
+	public void testCummaxSparse() {
+		runCumulativeTest("cummax", Opcodes.UCUMMAX, 0.05);
+	}
+
+	private void runCumulativeTest(String fn, Opcodes opcode, double sparsity) {
+		Types.ExecMode platformOld = setExecMode(Types.ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[] {"-explain", "-stats", "-ooc", "-args",
+				input(INPUT_NAME_1), output(OUTPUT_NAME), fn};
+
+			// values close to one keep cumulative products finite
+			MatrixBlock X = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, 0.999, 1.001, sparsity, 7));
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(Types.FileFormat.BINARY);
+			writer.writeMatrixToHDFS(X, input(INPUT_NAME_1), rows, cols, 1000, X.getNonZeros());
+			HDFSTool.writeMetaDataFile(input(INPUT_NAME_1 + ".mtd"), Types.ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, 1000, X.getNonZeros()), Types.FileFormat.BINARY);
+
+			runTest(true, false, null, -1);
+
+			//check cumulative aggregate OOC
+			Assert.assertTrue("OOC wasn't used for " + fn,
+				heavyHittersContainsString(Instruction.OOC_INST_PREFIX + opcode));
+
+			// rerun without ooc flag
+			programArgs = new String[] {"-explain", "-stats", "-args",
+				input(INPUT_NAME_1), output(OUTPUT_NAME + "_target"), fn};
+			runTest(true, false, null, -1);
+
+			// compare matrices
+			MatrixBlock ret1 = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME),
+				Types.FileFormat.BINARY, rows, cols, 1000);
+			MatrixBlock ret2 = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME + "_target"),
+				Types.FileFormat.BINARY, rows, cols, 1000);
+			TestUtils.compareMatrices(ret1, ret2, eps);
+		}
+		catch(IOException e) {
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.ooc;
+
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class RemoveEmptyTest extends AutomatedTestBase {
+	private final static String TEST_NAME1 = "RemoveEmpty";
+	private final static String TEST_NAME2 = "RemoveEmptySelect";
+	private final static String TEST_DIR = "functions/ooc/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + RemoveEmptyTest.class.getSimpleName() + "/";
+	private final static double eps = 1e-8;
+	private static final String INPUT_NAME_1 = "X";
+	private static final String INPUT_NAME_2 = "S";
+	private static final String OUTPUT_NAME = "res";
+
+	private final static int rows = 2500;
+	private final static int cols = 1200;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
+	}
+
+	@Test
+	public void testRemoveEmptyRowsDense() {
+		runRemoveEmptyTest(TEST_NAME1, "rows", 1.0);
+	}
+
+	@Test
+	public void testRemoveEmptyRowsSparse() {
+		runRemoveEmptyTest(TEST_NAME1, "rows", 0.05);
+	}
+
+	@Test
+	public void testRemoveEmptyColsDense() {
+		runRemoveEmptyTest(TEST_NAME1, "cols", 1.0);
+	}
+
+	@Test
+	public void testRemoveEmptyRowsAllEmpty() {
+		runRemoveEmptyTest(TEST_NAME1, "rows", 0.0);
+	}
+
+	@Test
+	public void testRemoveEmptyRowsSelect() {
+		runRemoveEmptyTest(TEST_NAME2, "rows", 1.0);
+	}
+
+	@Test
+	public void testRemoveEmptyColsSelect() {
+		runRemoveEmptyTest(TEST_NAME2, "cols", 0.05);
+	}
+
+	private void runRemoveEmptyTest(String testName, String margin, double sparsity) {
+		Types.ExecMode platformOld = setExecMode(Types.ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(testName);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testName + ".dml";
+			boolean select = testName.equals(TEST_NAME2);
+
+			// generate input with empty rows and columns
+			double[][] X = getRandomMatrix(rows, cols, 1, 7, sparsity, 7);
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					if(i % 3 == 0 || j % 4 == 0)
+						X[i][j] = 0;
+			writeBinaryInput(INPUT_NAME_1, DataConverter.convertToMatrixBlock(X));
+			if(select) {
+				boolean rmRows = margin.equals("rows");
+				double[][] S = TestUtils.round(getRandomMatrix(rmRows ? rows : 1, rmRows ? 1 : cols, 0, 1, 1.0, 3));
+				writeBinaryInput(INPUT_NAME_2, DataConverter.convertToMatrixBlock(S));
+			}
+
+			programArgs = select ?
+				new String[] {"-explain", "-stats", "-ooc", "-args", input(INPUT_NAME_1), input(INPUT_NAME_2),
+					output(OUTPUT_NAME), margin} :
+				new String[] {"-explain", "-stats", "-ooc", "-args", input(INPUT_NAME_1), output(OUTPUT_NAME), margin};
+			runTest(true, false, null, -1);
+
+			//check removeEmpty OOC
+			Assert.assertTrue("OOC wasn't used for removeEmpty",
+				heavyHittersContainsString(Instruction.OOC_INST_PREFIX + Opcodes.RMEMPTY));
+
+			// rerun without ooc flag
+			programArgs = select ?
+				new String[] {"-explain", "-stats", "-args", input(INPUT_NAME_1), input(INPUT_NAME_2),
+					output(OUTPUT_NAME + "_target"), margin} :
+				new String[] {"-explain", "-stats", "-args", input(INPUT_NAME_1), output(OUTPUT_NAME + "_target"), margin};
+			runTest(true, false, null, -1);
+
+			// compare matrices
+			MatrixBlock ret1 = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME),
+				Types.FileFormat.BINARY, rows, cols, 1000);
+			MatrixBlock ret2 = DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME + "_target"),
+				Types.FileFormat.BINARY, rows, cols, 1000);
+			Assert.assertEquals(ret2.getNumRows(), ret1.getNumRows());
+			Assert.assertEquals(ret2.getNumColumns(), ret1.getNumColumns());
+			TestUtils.compareMatrices(ret1, ret2, eps);
+		}
+		catch(IOException e) {
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private void writeBinaryInput(String name, MatrixBlock mb) throws IOException {
+		MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(Types.FileFormat.BINARY);
+		writer.writeMatrixToHDFS(mb, input(name), mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+		HDFSTool.writeMetaDataFile(input(name + ".mtd"), Types.ValueType.FP64,
+			new MatrixCharacteristics(mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros()),
+			Types.FileFormat.BINARY);
+	}
+}
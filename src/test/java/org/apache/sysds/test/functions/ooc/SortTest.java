@@ -38,6 +38,7 @@ import java.io.IOException;
 
 public class SortTest extends AutomatedTestBase {
 	private final static String TEST_NAME1 = "Sort";
+	private final static String TEST_NAME2 = "SortMulti";
 	private final static String TEST_DIR = "functions/ooc/";
 	private final static String TEST_CLASS_DIR = TEST_DIR + SortTest.class.getSimpleName() + "/";
 	private final static double eps = 1e-8;
@@ -53,6 +54,7 @@ public class SortTest extends AutomatedTestBase {
 		TestUtils.clearAssertionInformation();
 		TestConfiguration config = new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1);
 		addTestConfiguration(TEST_NAME1, config);
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
 	}
 
 	@Test
@@ -75,6 +77,70 @@ public class SortTest extends AutomatedTestBase {
 		runSortTest(1500, 1, true);
 	}
 
+	@Test
+	public void testSortManyRunsVector() {
+		// more sorted runs than the merge fan-in, exercises cascaded merges
+		runSortTest(20500, 1, false);
+	}
+
+	@Test
+	public void testSortMultiColumnDescDense() {
+		runSortMultiTest(3500, 1200, false);
+	}
+
+	@Test
+	public void testSortMultiColumnDescSparse() {
+		runSortMultiTest(3500, 1200, true);
+	}
+
+	private void runSortMultiTest(int rows, int cols, boolean sparse) {
+		Types.ExecMode platformOld = setExecMode(Types.ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME2);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[] {"-explain", "-stats", "-ooc", "-args",
+				input(INPUT_NAME_1), output(OUTPUT_NAME), output("ix")};
+
+			// few distinct values to exercise secondary keys and stable ties across runs
+			MatrixBlock X_mb = DataConverter.convertToMatrixBlock(TestUtils.round(
+				getRandomMatrix(rows, cols, 1, 3, sparse ? sparsity2 : sparsity1, 7)));
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(Types.FileFormat.BINARY);
+			writer.writeMatrixToHDFS(X_mb, input(INPUT_NAME_1), rows, cols, 1000, X_mb.getNonZeros());
+			HDFSTool.writeMetaDataFile(input(INPUT_NAME_1 + ".mtd"), Types.ValueType.FP64,
+				new MatrixCharacteristics(rows, cols, 1000, X_mb.getNonZeros()), Types.FileFormat.BINARY);
+
+			runTest(true, false, null, -1);
+
+			//check sort OOC
+			Assert.assertTrue("OOC wasn't used for sort",
+				heavyHittersContainsString(Instruction.OOC_INST_PREFIX + Opcodes.SORT));
+
+			// rerun without ooc flag
+			programArgs = new String[] {"-explain", "-stats", "-args",
+				input(INPUT_NAME_1), output(OUTPUT_NAME + "_target"), output("ix_target")};
+			runTest(true, false, null, -1);
+
+			// compare sorted matrices and index vectors
+			TestUtils.compareMatrices(
+				DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME), Types.FileFormat.BINARY, rows, cols, 1000),
+				DataConverter.readMatrixFromHDFS(output(OUTPUT_NAME + "_target"), Types.FileFormat.BINARY, rows, cols, 1000),
+				eps);
+			TestUtils.compareMatrices(
+				DataConverter.readMatrixFromHDFS(output("ix"), Types.FileFormat.BINARY, rows, 1, 1000),
+				DataConverter.readMatrixFromHDFS(output("ix_target"), Types.FileFormat.BINARY, rows, 1, 1000),
+				eps);
+		}
+		catch(IOException e) {
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
 	private void runSortTest(int rows, int cols, boolean sparse) {
 		Types.ExecMode platformOld = setExecMode(Types.ExecMode.SINGLE_NODE);
 
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.ooc;
+
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.common.Types;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamingWriteTest extends AutomatedTestBase {
+	private static final String TEST_NAME = "StreamingWrite";
+	private static final String TEST_DIR = "functions/ooc/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + StreamingWriteTest.class.getSimpleName() + "/";
+	private static final int ROWS = 2500;
+	private static final int COLS = 1700;
+	private static final int BLEN = 1000;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME));
+	}
+
+	@Test
+	public void testWriteCSVDense() {
+		runStreamingWriteTest(FileFormat.CSV, 1.0);
+	}
+
+	@Test
+	public void testWriteCSVSparse() {
+		runStreamingWriteTest(FileFormat.CSV, 0.05);
+	}
+
+	@Test
+	public void testWriteTextDense() {
+		runStreamingWriteTest(FileFormat.TEXT, 1.0);
+	}
+
+	@Test
+	public void testWriteTextSparse() {
+		runStreamingWriteTest(FileFormat.TEXT, 0.05);
+	}
+
+	private void runStreamingWriteTest(FileFormat fmt, double sparsity) {
+		Types.ExecMode oldPlatform = setExecMode(ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME + ".dml";
+			programArgs = new String[] {"-explain", "-stats", "-ooc",
+				"-args", input("X"), output("R"), fmt.toString()};
+
+			MatrixBlock in = MatrixBlock.randOperations(ROWS, COLS, sparsity, -1, 1, "uniform", 7);
+			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY);
+			writer.writeMatrixToHDFS(in, input("X"), ROWS, COLS, BLEN, in.getNonZeros());
+			HDFSTool.writeMetaDataFile(input("X.mtd"), ValueType.FP64,
+				new MatrixCharacteristics(ROWS, COLS, BLEN, in.getNonZeros()), FileFormat.BINARY);
+
+			runTest(true, false, null, -1);
+			Assert.assertTrue(heavyHittersContainsString(Instruction.OOC_INST_PREFIX + Opcodes.MULT2));
+
+			MatrixBlock out = DataConverter.readMatrixFromHDFS(output("R"), fmt, ROWS, COLS, BLEN);
+			double[][] expected = DataConverter.convertToDoubleMatrix(in);
+			for(double[] row : expected)
+				for(int j = 0; j < row.length; j++)
+					row[j] *= 2;
+			TestUtils.compareMatrices(expected, DataConverter.convertToDoubleMatrix(out), ROWS, COLS, 1e-10);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			resetExecMode(oldPlatform);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.ooc;
+
+import java.io.IOException;
+
+import org.apache.sysds.common.Opcodes;
+import org.apache.sysds.common.Types;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReaderFactory;
+import org.apache.sysds.runtime.io.FrameWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransformEncodeTest extends AutomatedTestBase {
+	private final static String TEST_NAME1 = "TransformEncode";
+	private final static String TEST_DIR = "functions/ooc/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + TransformEncodeTest.class.getSimpleName() + "/";
+
+	private final static int rows = 3571;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+
+	@Test
+	public void testRecode() {
+		runTransformEncodeTest("{ids: true, recode: [1, 3]}");
+	}
+
+	@Test
+	public void testRecodeDummycode() {
+		runTransformEncodeTest("{ids: true, recode: [1], dummycode: [3]}");
+	}
+
+	@Test
+	public void testBinPassThrough() {
+		runTransformEncodeTest("{ids: true, recode: [1, 3], bin: [{id: 2, method: equi-width, numbins: 7}]}");
+	}
+
+	@Test
+	public void testRecodeHashBin() {
+		runTransformEncodeTest("{ids: true, recode: [1], hash: [3], K: 5, "
+			+ "bin: [{id: 4, method: equi-width, numbins: 3}], dummycode: [4]}");
+	}
+
+	@Test
+	public void testRecodeDummycodeBinary() {
+		runTransformEncodeTest("{ids: true, recode: [1], dummycode: [3]}", FileFormat.BINARY, false);
+	}
+
+	@Test
+	public void testBinEquiHeightRejected() {
+		runTransformEncodeTest("{ids: true, recode: [1], bin: [{id: 2, method: equi-height, numbins: 3}]}",
+			FileFormat.CSV, true);
+	}
+
+	private void runTransformEncodeTest(String spec) {
+		runTransformEncodeTest(spec, FileFormat.CSV, false);
+	}
+
+	private void runTransformEncodeTest(String spec, FileFormat fmt, boolean exceptionExpected) {
+		Types.ExecMode platformOld = setExecMode(Types.ExecMode.SINGLE_NODE);
+
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+
+			//create frame with categorical and numeric columns
+			FrameBlock data = new FrameBlock(new ValueType[] {
+				ValueType.STRING, ValueType.FP64, ValueType.STRING, ValueType.FP64});
+			for(int i = 0; i < rows; i++)
+				data.appendRow(new Object[] {"c" + (i * 7 % 13), (double) (i % 101),
+					"k" + (i % 37), (double) (i * 3 % 17)});
+			FrameWriterFactory.createFrameWriter(fmt, new FileFormatPropertiesCSV())
+				.writeFrameToHDFS(data, input("F"), rows, data.getNumColumns());
+			HDFSTool.writeMetaDataFileFrame(input("F.mtd"), data.getSchema(),
+				new MatrixCharacteristics(rows, data.getNumColumns()), fmt);
+
+			//run with and without ooc backend
+			programArgs = new String[] {"-explain", "-stats", "-ooc", "-args", input("F"), spec,
+				output("X"), output("Y"), output("M")};
+			runTest(true, exceptionExpected, null, -1);
+			if(exceptionExpected)
+				return;
+			Assert.assertTrue(heavyHittersContainsString(Instruction.OOC_INST_PREFIX + Opcodes.TRANSFORMENCODE));
+
+			programArgs = new String[] {"-args", input("F"), spec,
+				output("X2"), output("Y2"), output("M2")};
+			runTest(true, false, null, -1);
+
+			MatrixBlock x1 = readMatrix("X"), x2 = readMatrix("X2");
+			TestUtils.compareMatrices(x2, x1, 1e-10);
+			TestUtils.compareMatrices(x2, readMatrix("Y"), 1e-10);
+			TestUtils.compareMatrices(x2, readMatrix("Y2"), 1e-10);
+			FrameBlock m1 = FrameReaderFactory.createFrameReader(FileFormat.CSV)
+				.readFrameFromHDFS(output("M"), -1, -1);
+			FrameBlock m2 = FrameReaderFactory.createFrameReader(FileFormat.CSV)
+				.readFrameFromHDFS(output("M2"), -1, -1);
+			TestUtils.compareFrames(m2, m1, true);
+		}
+		catch(IOException e) {
+			throw new RuntimeException(e);
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+
+	private MatrixBlock readMatrix(String name) throws IOException {
+		MatrixCharacteristics mc = readDMLMetaDataFile(name);
+		return DataConverter.readMatrixFromHDFS(output(name), FileFormat.BINARY, mc.getRows(), mc.getCols(), 1000);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.parfor.misc;
+
+import java.util.HashMap;
+
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.utils.stats.InfrastructureAnalyzer;
+import org.apache.sysds.utils.stats.ParForStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParForWorkStealingTest extends AutomatedTestBase 
+{
+	private final static String TEST_DIR = "functions/parfor/";
+	private final static String TEST_NAME1 = "parfor_workstealing";
+	private final static String TEST_NAME2 = "parfor_workstealing2";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ParForWorkStealingTest.class.getSimpleName() + "/";
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "R" }) );
+	}
+
+	@Test
+	public void testWorkStealingSkewed() {
+		runParForWorkStealingTest(97);
+	}
+	
+	@Test
+	public void testWorkStealingFewIterations() {
+		runParForWorkStealingTest(3);
+	}
+	
+	@Test
+	public void testWorkStealingDefaultOptimizer() {
+		//ensure a local parfor plan independent of the number of cores
+		int localPar = InfrastructureAnalyzer.getLocalParallelism();
+		InfrastructureAnalyzer.setLocalPar(Math.max(localPar, 4));
+		try {
+			runParForWorkStealingTest(TEST_NAME2, 97);
+			Assert.assertEquals(1, ParForStatistics.getNumWorkStealingLoops());
+		}
+		finally {
+			InfrastructureAnalyzer.setLocalPar(localPar);
+		}
+	}
+	
+	private void runParForWorkStealingTest( int n ) {
+		runParForWorkStealingTest(TEST_NAME1, n);
+	}
+	
+	private void runParForWorkStealingTest( String testname, int n ) {
+		TestConfiguration config = getTestConfiguration(testname);
+		loadTestConfiguration(config);
+		
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + testname + ".dml";
+		programArgs = new String[]{"-stats", "-args", String.valueOf(n), output("R") };
+		
+		runTest(true, false, null, -1);
+		
+		//compare with closed-form result: sum(X %*% t(X)) / (i*40) = 4 * i^3
+		HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromOutputDir("R");
+		for( int i=1; i<=n; i++ )
+			Assert.assertEquals(4 * Math.pow(i, 3), dmlfile.get(new CellIndex(i, 1)), 1e-6);
+		Assert.assertTrue(ParForStatistics.getTailCount() >= 1);
+	}
+}